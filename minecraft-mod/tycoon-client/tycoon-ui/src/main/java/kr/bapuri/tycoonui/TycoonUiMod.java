@@ -1,6 +1,7 @@
 package kr.bapuri.tycoonui;
 
 import kr.bapuri.tycoonui.key.TycoonKeybinds;
+import kr.bapuri.tycoonui.net.CodexCatalogCache;
 import kr.bapuri.tycoonui.net.UiRequestSender;
 import kr.bapuri.tycoonui.net.UiResponseHandler;
 import net.fabricmc.api.ClientModInitializer;
@@ -40,6 +41,7 @@ public class TycoonUiMod implements ClientModInitializer {
         // Initialize networking
         UiRequestSender.init();
         UiResponseHandler.register();
+        CodexCatalogCache.register();
         
         LOGGER.info("[TycoonUI] Mod initialized successfully!");
     }
@@ -291,5 +291,22 @@ public class CodexData {
         public int getRequiredCount() {
             return requiredCount;
         }
+        
+        /**
+         * 수집 여부만 바꾼 사본을 반환합니다.
+         * 
+         * <p>디스크에 캐시된 정적 정보와 서버의 진행도를 합칠 때 사용합니다.</p>
+         */
+        public Item withCollected(boolean collected) {
+            Item copy = new Item();
+            copy.id = id;
+            copy.name = name;
+            copy.category = category;
+            copy.collected = collected;
+            copy.iconMaterial = iconMaterial;
+            copy.reward = reward;
+            copy.requiredCount = requiredCount;
+            return copy;
+        }
     }
 }
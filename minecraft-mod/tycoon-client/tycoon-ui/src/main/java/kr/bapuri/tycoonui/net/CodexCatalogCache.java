@@ -0,0 +1,247 @@
+package kr.bapuri.tycoonui.net;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import kr.bapuri.tycoonui.TycoonUiMod;
+import kr.bapuri.tycoonui.model.CodexData;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ServerInfo;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 도감 정적 카탈로그(아이템 이름, 보상, 필요 수량)의 디스크 캐시입니다.
+ * 
+ * <h3>동작</h3>
+ * <ol>
+ *     <li>접속 시 서버가 CODEX_CATALOG_MANIFEST로 카테고리별 해시를 알려줍니다.</li>
+ *     <li>해시가 다른 캐시 항목은 버립니다.</li>
+ *     <li>카테고리 요청 시 캐시된 해시를 함께 보내고, 서버는 일치하면 수집한 ID 목록만 보냅니다.</li>
+ *     <li>전체 데이터를 받으면 정적 부분만 캐시에 저장합니다.</li>
+ * </ol>
+ * 
+ * <h3>저장 위치</h3>
+ * <p>{@code .minecraft/tycoon-ui/cache/<서버 주소>.json} - 서버별로 분리됩니다.</p>
+ */
+public class CodexCatalogCache {
+    
+    private static final CodexCatalogCache INSTANCE = new CodexCatalogCache();
+    
+    private static final Gson GSON = new GsonBuilder().create();
+    
+    private static final Type CACHE_TYPE = new TypeToken<Map<String, CachedCategory>>() {}.getType();
+    
+    /** 캐시 파일 저장은 렌더 스레드를 막지 않도록 단일 백그라운드 스레드에서 수행 */
+    private static final ExecutorService IO_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "TycoonUI-CatalogCache");
+        t.setDaemon(true);
+        return t;
+    });
+    
+    /** 카테고리 이름 → 캐시 항목 (현재 서버) */
+    private final Map<String, CachedCategory> categories = new ConcurrentHashMap<>();
+    
+    /** 현재 서버 키 (null이면 아직 로드 안 됨) */
+    private volatile String serverKey = null;
+    
+    private CodexCatalogCache() {
+        // 싱글톤
+    }
+    
+    public static CodexCatalogCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * 연결 해제 이벤트를 등록합니다.
+     */
+    public static void register() {
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> INSTANCE.unload());
+        TycoonUiMod.LOGGER.info("[TycoonUI] Codex catalog cache initialized");
+    }
+    
+    // ========================================================================
+    // 서버 매니페스트
+    // ========================================================================
+    
+    /**
+     * CODEX_CATALOG_MANIFEST 처리 - 해시가 다른 캐시 항목을 제거합니다.
+     * 
+     * @param data {"catalogHash": "...", "categories": {"광물": "hash", ...}}
+     */
+    public void onManifest(JsonObject data) {
+        ensureLoaded();
+        
+        JsonObject advertised = data.has("categories") ? data.getAsJsonObject("categories") : new JsonObject();
+        Map<String, String> hashes = new HashMap<>();
+        for (Map.Entry<String, JsonElement> entry : advertised.entrySet()) {
+            hashes.put(entry.getKey(), entry.getValue().getAsString());
+        }
+        
+        boolean changed = categories.entrySet().removeIf(e -> !e.getValue().hash.equals(hashes.get(e.getKey())));
+        if (changed) {
+            saveAsync();
+        }
+        
+        TycoonUiMod.LOGGER.debug("[TycoonUI] Catalog manifest received: {} categories, {} cached",
+            hashes.size(), categories.size());
+    }
+    
+    // ========================================================================
+    // 조회 / 저장
+    // ========================================================================
+    
+    /**
+     * 카테고리의 캐시 해시를 반환합니다 (요청 파라미터용).
+     * 
+     * @return 해시 또는 캐시에 없으면 null
+     */
+    public String getHash(String categoryName) {
+        ensureLoaded();
+        CachedCategory cached = categories.get(categoryName);
+        return cached != null ? cached.hash : null;
+    }
+    
+    /**
+     * 캐시된 정적 아이템에 서버 진행도를 합칩니다.
+     * 
+     * @param categoryName 카테고리 이름
+     * @param hash 서버가 보낸 카탈로그 해시
+     * @param collectedIds 수집한 아이템 ID
+     * @return 아이템 목록 또는 캐시가 없거나 해시가 다르면 null
+     */
+    public List<CodexData.Item> merge(String categoryName, String hash, Set<String> collectedIds) {
+        ensureLoaded();
+        CachedCategory cached = categories.get(categoryName);
+        if (cached == null || hash == null || !hash.equals(cached.hash)) {
+            return null;
+        }
+        
+        List<CodexData.Item> items = new ArrayList<>(cached.items.size());
+        for (CodexData.Item item : cached.items) {
+            items.add(item.withCollected(collectedIds.contains(item.getId())));
+        }
+        return items;
+    }
+    
+    /**
+     * 전체 카테고리 데이터의 정적 부분을 캐시에 저장합니다.
+     */
+    public void store(String categoryName, String hash, List<CodexData.Item> items) {
+        if (hash == null || items == null) return;
+        ensureLoaded();
+        
+        List<CodexData.Item> staticItems = new ArrayList<>(items.size());
+        for (CodexData.Item item : items) {
+            staticItems.add(item.withCollected(false));
+        }
+        categories.put(categoryName, new CachedCategory(hash, staticItems));
+        saveAsync();
+    }
+    
+    /**
+     * 메모리 캐시를 비웁니다 (서버 연결 해제 시). 디스크 파일은 유지됩니다.
+     */
+    public void unload() {
+        categories.clear();
+        serverKey = null;
+    }
+    
+    // ========================================================================
+    // 디스크 I/O
+    // ========================================================================
+    
+    private void ensureLoaded() {
+        String key = currentServerKey();
+        if (key.equals(serverKey)) return;
+        
+        categories.clear();
+        serverKey = key;
+        
+        Path path = getCachePath(key);
+        if (!Files.exists(path)) return;
+        
+        try {
+            String json = Files.readString(path, StandardCharsets.UTF_8);
+            Map<String, CachedCategory> loaded = GSON.fromJson(json, CACHE_TYPE);
+            if (loaded != null) {
+                loaded.forEach((name, cached) -> {
+                    if (cached != null && cached.hash != null && cached.items != null) {
+                        categories.put(name, cached);
+                    }
+                });
+            }
+            TycoonUiMod.LOGGER.debug("[TycoonUI] Catalog cache loaded: {} ({} categories)", key, categories.size());
+        } catch (Exception e) {
+            // 손상된 캐시는 무시 (서버에서 다시 받음)
+            TycoonUiMod.LOGGER.warn("[TycoonUI] Failed to read catalog cache: {}", e.getMessage());
+        }
+    }
+    
+    private void saveAsync() {
+        String key = serverKey;
+        if (key == null) return;
+        
+        String json = GSON.toJson(new HashMap<>(categories), CACHE_TYPE);
+        IO_EXECUTOR.execute(() -> {
+            Path path = getCachePath(key);
+            try {
+                Files.createDirectories(path.getParent());
+                Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+                Files.writeString(tmp, json, StandardCharsets.UTF_8);
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                TycoonUiMod.LOGGER.warn("[TycoonUI] Failed to write catalog cache: {}", e.getMessage());
+            }
+        });
+    }
+    
+    private static Path getCachePath(String key) {
+        return FabricLoader.getInstance()
+                .getGameDir()
+                .resolve("tycoon-ui")
+                .resolve("cache")
+                .resolve(key + ".json");
+    }
+    
+    /**
+     * 현재 접속한 서버의 캐시 키 (주소를 파일명으로 안전하게 변환)
+     */
+    private static String currentServerKey() {
+        ServerInfo server = MinecraftClient.getInstance().getCurrentServerEntry();
+        String address = server != null && server.address != null ? server.address : "local";
+        return address.toLowerCase().replaceAll("[^a-z0-9._-]", "_");
+    }
+    
+    /**
+     * 캐시 파일에 저장되는 카테고리 항목
+     */
+    private static class CachedCategory {
+        private final String hash;
+        private final List<CodexData.Item> items;
+        
+        CachedCategory(String hash, List<CodexData.Item> items) {
+            this.hash = hash;
+            this.items = items != null ? items : Collections.emptyList();
+        }
+    }
+}
@@ -50,8 +50,23 @@ public class UiRequestSender {
      * @param categoryName 카테고리 이름 (한글, 예: "광물")
      */
     public static void requestCodexCategory(String categoryName) {
+        requestCodexCategory(categoryName, CodexCatalogCache.getInstance().getHash(categoryName));
+    }
+    
+    /**
+     * 특정 카테고리의 아이템 목록을 요청합니다.
+     * 
+     * <p>캐시 해시가 서버와 일치하면 서버는 수집 여부만 보냅니다.</p>
+     * 
+     * @param categoryName 카테고리 이름 (한글, 예: "광물")
+     * @param catalogHash 디스크에 캐시된 카탈로그 해시 (nullable - 전체 데이터 요청)
+     */
+    public static void requestCodexCategory(String categoryName, String catalogHash) {
         JsonObject params = new JsonObject();
         params.addProperty("category", categoryName);
+        if (catalogHash != null) {
+            params.addProperty("catalogHash", catalogHash);
+        }
         sendRequest("REQUEST_CODEX_CATEGORY", params);
         TycoonUiMod.LOGGER.debug("[TycoonUI] Codex category requested: {}", categoryName);
     }
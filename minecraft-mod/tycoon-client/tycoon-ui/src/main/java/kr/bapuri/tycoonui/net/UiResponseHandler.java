@@ -11,7 +11,9 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.Identifier;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 서버로부터 UI 관련 응답을 수신하는 핸들러입니다.
@@ -19,6 +21,8 @@ import java.util.List;
  * <p>tycoon:ui_data 채널에서 추가 패킷 타입을 처리합니다:</p>
  * <ul>
  *     <li>CODEX_DATA</li>
+ *     <li>CODEX_CATEGORY_DATA</li>
+ *     <li>CODEX_CATALOG_MANIFEST</li>
  *     <li>ECONOMY_HISTORY</li>
  *     <li>JOB_DETAIL</li>
  * </ul>
@@ -57,6 +61,7 @@ public class UiResponseHandler {
                 switch (type) {
                     case "CODEX_DATA" -> handleCodexData(data);
                     case "CODEX_CATEGORY_DATA" -> handleCodexCategoryData(data);
+                    case "CODEX_CATALOG_MANIFEST" -> CodexCatalogCache.getInstance().onManifest(data);
                     case "ECONOMY_HISTORY" -> handleEconomyHistory(data);
                     case "JOB_DETAIL" -> handleJobDetail(data);
                     default -> TycoonUiMod.LOGGER.debug("[TycoonUI] Unknown packet type: {}", type);
@@ -80,20 +85,50 @@ public class UiResponseHandler {
      * 패킷 구조:
      * {
      *     "category": "광물",
+     *     "catalogHash": "9f2c...",
      *     "items": [
      *         {"id": "DIAMOND", "name": "다이아몬드", "collected": true, ...},
      *         ...
      *     ]
      * }
+     * 
+     * 캐시 적중 시 (progressOnly):
+     * {
+     *     "category": "광물",
+     *     "catalogHash": "9f2c...",
+     *     "progressOnly": true,
+     *     "collected": ["DIAMOND", ...]
+     * }
      */
     private static void handleCodexCategoryData(JsonObject data) {
         String categoryName = data.get("category").getAsString();
-        JsonArray itemsArray = data.getAsJsonArray("items");
+        String catalogHash = data.has("catalogHash") && !data.get("catalogHash").isJsonNull()
+            ? data.get("catalogHash").getAsString() : null;
+        CodexCatalogCache cache = CodexCatalogCache.getInstance();
         
-        List<CodexData.Item> items = new ArrayList<>();
-        for (int i = 0; i < itemsArray.size(); i++) {
-            CodexData.Item item = GSON.fromJson(itemsArray.get(i), CodexData.Item.class);
-            items.add(item);
+        List<CodexData.Item> items;
+        if (data.has("progressOnly") && data.get("progressOnly").getAsBoolean()) {
+            Set<String> collectedIds = new HashSet<>();
+            JsonArray collectedArray = data.getAsJsonArray("collected");
+            for (int i = 0; i < collectedArray.size(); i++) {
+                collectedIds.add(collectedArray.get(i).getAsString());
+            }
+            
+            items = cache.merge(categoryName, catalogHash, collectedIds);
+            if (items == null) {
+                // 캐시가 사라졌거나 해시 불일치 - 전체 데이터 재요청
+                TycoonUiMod.LOGGER.debug("[TycoonUI] Catalog cache miss, refetching: {}", categoryName);
+                UiRequestSender.requestCodexCategory(categoryName, null);
+                return;
+            }
+        } else {
+            JsonArray itemsArray = data.getAsJsonArray("items");
+            items = new ArrayList<>();
+            for (int i = 0; i < itemsArray.size(); i++) {
+                CodexData.Item item = GSON.fromJson(itemsArray.get(i), CodexData.Item.class);
+                items.add(item);
+            }
+            cache.store(categoryName, catalogHash, items);
         }
         
         UiDataHolder.getInstance().setCategoryItems(categoryName, items);
@@ -10,10 +10,13 @@ import kr.bapuri.tycoon.bootstrap.ConfigManager;
 import kr.bapuri.tycoon.bootstrap.ConfigUpdater;
 import kr.bapuri.tycoon.bootstrap.ListenerRegistry;
 import kr.bapuri.tycoon.bootstrap.ServiceRegistry;
+import kr.bapuri.tycoon.bootstrap.StartupProfiler;
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import kr.bapuri.tycoon.economy.EconomyService;
 import kr.bapuri.tycoon.economy.vault.VaultIntegration;
 import kr.bapuri.tycoon.integration.CitizensIntegration;
 import kr.bapuri.tycoon.integration.CoreProtectIntegration;
+import kr.bapuri.tycoon.integration.CoreProtectQueryService;
 import kr.bapuri.tycoon.integration.WorldGuardIntegration;
 import kr.bapuri.tycoon.item.CoreItemAuthenticator;
 import kr.bapuri.tycoon.item.CoreItemCommand;
@@ -54,6 +57,7 @@ import kr.bapuri.tycoon.codex.CodexCommand;
 import kr.bapuri.tycoon.codex.CodexRegistry;
 import kr.bapuri.tycoon.codex.CodexService;
 import kr.bapuri.tycoon.achievement.AchievementCommand;
+import kr.bapuri.tycoon.achievement.AchievementEngine;
 import kr.bapuri.tycoon.achievement.AchievementListener;
 import kr.bapuri.tycoon.achievement.AchievementRegistry;
 import kr.bapuri.tycoon.achievement.AchievementService;
@@ -70,6 +74,9 @@ import kr.bapuri.tycoon.trade.TradeListener;
 import kr.bapuri.tycoon.trade.TradeService;
 import kr.bapuri.tycoon.enhance.common.EnhanceConstants;
 import kr.bapuri.tycoon.integration.TycoonPlaceholders;
+import kr.bapuri.tycoon.leaderboard.LeaderboardCommand;
+import kr.bapuri.tycoon.leaderboard.LeaderboardMetric;
+import kr.bapuri.tycoon.leaderboard.LeaderboardService;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -161,6 +168,7 @@ public class TycoonPlugin extends JavaPlugin {
     
     // ===== Achievement System =====
     private AchievementListener achievementListener;
+    private AchievementEngine achievementEngine;
     
     // ===== Phase 3.C Antiexploit =====
     private CustomItemVanillaBlocker customItemVanillaBlocker;
@@ -169,6 +177,8 @@ public class TycoonPlugin extends JavaPlugin {
     
     // ===== Phase 3.5 World System =====
     private WorldResetScheduler worldResetScheduler;
+    private WildSpawnManager wildSpawnManager;
+    private XrayHeuristicAnalyzer xrayAnalyzer;
     private AngelChestIntegration angelChestIntegration;
     
     // ===== 세션 기반 효과 메시지 토글 =====
@@ -179,7 +189,7 @@ public class TycoonPlugin extends JavaPlugin {
     public void onEnable() {
         instance = this;
         
-        long startTime = System.currentTimeMillis();
+        StartupProfiler profiler = new StartupProfiler(getLogger());
         
         getLogger().info("========================================");
         getLogger().info("Tycoon Lite v" + getDescription().getVersion());
@@ -191,18 +201,20 @@ public class TycoonPlugin extends JavaPlugin {
             getServer().getPluginManager().disablePlugin(this);
             return;
         }
+        profiler.checkpoint("의존성 확인");
         
         // Step 2: 서비스 초기화
-        initServices();
+        initServices(profiler);
         
         // Step 3: 리스너 등록
-        initListeners();
+        profiler.stage("리스너 등록", this::initListeners);
         
         // Step 4: 명령어 등록
-        initCommands();
+        profiler.stage("명령어 등록", this::initCommands);
         
-        long loadTime = System.currentTimeMillis() - startTime;
+        long loadTime = profiler.elapsedMillis();
         getLogger().info("플러그인이 활성화되었습니다. (" + loadTime + "ms)");
+        profiler.report(getConfig().getLong("startup.slowStageMillis", 500));
     }
     
     /**
@@ -222,10 +234,36 @@ public class TycoonPlugin extends JavaPlugin {
      * - MOD COMMUNICATION LAYER:
      *   - Mod 관련 서비스/리스너는 각 initXXXSystem 내부에서 Core/Feature 서비스를 기반으로 초기화됨
      */
-    private void initServices() {
-        // Step 0: 설정 파일 자동 업데이트 (새 옵션 추가, 기존 값 유지)
+    private void initServices(StartupProfiler profiler) {
+        // 시작 풀: 설정 업데이트/YAML 파싱처럼 Bukkit API와 무관한 작업만 병렬 실행
+        YamlPrefetcher prefetcher = YamlPrefetcher.start(this);
+        try {
+            initServices(profiler, prefetcher);
+        } finally {
+            prefetcher.finish();
+        }
+    }
+    
+    private void initServices(StartupProfiler profiler, YamlPrefetcher prefetcher) {
+        // Step 0: 설정 파일 자동 업데이트 (새 옵션 추가, 기존 값 유지) - 파일별 병렬
         ConfigUpdater configUpdater = new ConfigUpdater(this);
-        configUpdater.updateAllConfigs();
+        configUpdater.updateAllConfigs(prefetcher.getPool());
+        profiler.checkpoint("설정 업데이트");
+        
+        // 기능별 YAML 사전 파싱 (아래 init 단계들이 메인 스레드에서 차례로 소비)
+        // 숫자 = 시작 중 해당 파일을 읽는 곳 수 (jobs.yml: 로더/판매/등급/광부/농부/어부)
+        prefetcher.prefetch("jobs.yml", 6);
+        prefetcher.prefetch("shops.yml");
+        prefetcher.prefetch("antiexploit.yml");
+        prefetcher.prefetch("codex.yml");
+        prefetcher.prefetch("achievements.yml");
+        prefetcher.prefetch("titles.yml");
+        prefetcher.prefetch("purchasable_titles.yml");
+        prefetcher.prefetch("cosmetics.yml");
+        prefetcher.prefetch("enchants.yml");
+        prefetcher.prefetch("lamps.yml");
+        prefetcher.prefetch("tax.yml");
+        prefetcher.prefetch("autofarm.yml");
         
         // Config
         saveDefaultConfig();
@@ -244,6 +282,7 @@ public class TycoonPlugin extends JavaPlugin {
         // [Phase 2] 자동 저장 및 스냅샷 스케줄러 시작
         playerDataManager.startAutoSave();
         playerDataManager.startSnapshotScheduler();
+        profiler.checkpoint("코어 서비스");
         
         // Integration (INTEGRATION LAYER)
         CitizensIntegration citizens = new CitizensIntegration(this);
@@ -251,6 +290,9 @@ public class TycoonPlugin extends JavaPlugin {
         CoreProtectIntegration coreProtect = new CoreProtectIntegration(this);
         
         services.setIntegrations(citizens, worldGuard, coreProtect);
+        if (coreProtect.isAvailable()) {
+            services.setCoreProtectQueryService(new CoreProtectQueryService(this, coreProtect));
+        }
         
         // [Phase 7] Lands Integration
         kr.bapuri.tycoon.integration.LandsIntegration landsIntegration = 
@@ -293,48 +335,53 @@ public class TycoonPlugin extends JavaPlugin {
             getLogger().warning("Vault 연동 실패 - 외부 플러그인에서 경제 사용 불가");
         }
         
+        profiler.checkpoint("연동/경제");
+        
         // [Phase 3.B] 상점 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initShopSystem(economyService, citizens);
+        profiler.stage("상점", () -> initShopSystem(economyService, citizens));
         
         // [Phase 3.C] 아이템 및 안티익스플로잇 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initCoreItemSystem();
-        initAntiexploitSystem();
+        profiler.stage("코어 아이템", this::initCoreItemSystem);
+        profiler.stage("안티익스플로잇", this::initAntiexploitSystem);
         
         // [Phase 3.5] 월드 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initWorldSystem();
+        profiler.stage("월드", this::initWorldSystem);
         
         // [Phase 4.A] 직업 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initJobSystem();
+        profiler.stage("직업", this::initJobSystem);
         
         // [Phase 5.A] 도감 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initCodexSystem();
+        profiler.stage("도감", this::initCodexSystem);
         
         // [Phase 5.B] 업적 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initAchievementSystem();
+        profiler.stage("업적", this::initAchievementSystem);
+        
+        // 실시간 순위표 초기화 (경제/직업/도감/업적 변경 연결) (FEATURE SYSTEMS LAYER)
+        profiler.stage("순위표", this::initLeaderboardSystem);
         
         // [Phase 5.C] 칭호 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initTitleSystem();
+        profiler.stage("칭호", this::initTitleSystem);
         
         // [Phase 5.D] 거래 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initTradeSystem();
+        profiler.stage("거래", this::initTradeSystem);
         
         // [Phase 8] 보관소 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initRecoverySystem();
+        profiler.stage("보관소", this::initRecoverySystem);
         
         // [Phase 7] 강화 시스템 초기화 (인챈트, 램프, 강화) (FEATURE SYSTEMS LAYER)
-        initEnhanceSystem();
+        profiler.stage("강화", this::initEnhanceSystem);
         
         // [Phase 5.F] PlaceholderAPI 연동 (INTEGRATION LAYER)
-        initPlaceholderAPI();
+        profiler.stage("PlaceholderAPI", this::initPlaceholderAPI);
         
         // [Migration] 아이템 마이그레이션 서비스 (온라인 마이그레이션) (FEATURE SYSTEMS LAYER)
-        initMigrationService();
+        profiler.stage("마이그레이션", this::initMigrationService);
         
         // [세금 시스템] 세금 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initTaxSystem();
+        profiler.stage("세금", this::initTaxSystem);
         
         // [자동화 팜 제한] 자동화 팜 시스템 초기화 (FEATURE SYSTEMS LAYER)
-        initAutoFarmSystem();
+        profiler.stage("자동화 팜", this::initAutoFarmSystem);
         
         getLogger().info("서비스 초기화 완료");
     }
@@ -371,8 +418,9 @@ public class TycoonPlugin extends JavaPlugin {
         registerCommand("pvpdamage", pvpCommand, pvpCommand);
         
         // WildSpawnManager 초기화 (기반암 플랫폼 + 귀환 NPC)
-        WildSpawnManager wildSpawnManager = new WildSpawnManager(this);
+        this.wildSpawnManager = new WildSpawnManager(this);
         wildSpawnManager.setWorldManager(worldManager);
+        wildSpawnManager.start();
         getLogger().info("  ✓ WildSpawnManager 초기화 완료");
         
         // AngelChest 연동 초기화 (DeathChest)
@@ -502,6 +550,11 @@ public class TycoonPlugin extends JavaPlugin {
         kr.bapuri.tycoon.job.common.AbstractJobExpService.setJobChangeCallback(player -> {
             if (player != null && player.isOnline()) {
                 modDataService.sendJobData(player);
+                // 레벨 변동은 순위표에도 반영 (다음 반영 주기)
+                LeaderboardService leaderboard = services.getLeaderboardService();
+                if (leaderboard != null) {
+                    leaderboard.markDirty(player.getUniqueId());
+                }
             }
         });
         
@@ -864,7 +917,6 @@ public class TycoonPlugin extends JavaPlugin {
     private void initAchievementSystem() {
         PlayerDataManager playerDataManager = services.getPlayerDataManager();
         EconomyService economyService = services.getEconomyService();
-        CodexService codexService = services.getCodexService();
         JobService jobService = services.getJobService();
         
         // achievements.yml 저장 (없으면 기본값 생성)
@@ -881,10 +933,17 @@ public class TycoonPlugin extends JavaPlugin {
         // ServiceRegistry에 등록
         services.setAchievementService(achievementService);
         
+        // AchievementEngine 생성 (카운터 기반 일괄 평가, 경제/도감/직업 변경 구독)
+        this.achievementEngine = new AchievementEngine(
+            this, playerDataManager, achievementService, achievementRegistry);
+        achievementService.setEngine(achievementEngine);
+        playerDataManager.addChangeListener(achievementEngine);
+        achievementEngine.start();
+        
         // AchievementListener 생성 및 등록 (레거시 방식: TycoonPlugin 참조)
-        this.achievementListener = new AchievementListener(this, achievementService);
-        achievementListener.setCodexService(codexService);
+        this.achievementListener = new AchievementListener(this, achievementService, achievementEngine);
         achievementListener.setJobService(jobService);
+        achievementListener.setWorldManager(services.getWorldManager());
         getServer().getPluginManager().registerEvents(achievementListener, this);
         
         // AchievementCommand 등록
@@ -899,6 +958,36 @@ public class TycoonPlugin extends JavaPlugin {
         getLogger().info("✓ 업적 시스템 초기화 완료 (" + achievementRegistry.getCount() + "개 업적, 바닐라 연동 활성화)");
     }
     
+    /**
+     * 실시간 순위표 초기화
+     * 
+     * - leaderboard.dat 요약에서 복원 (없으면 플레이어 파일 비동기 스캔)
+     * - 경제/직업/도감/업적 서비스에 연결해 증분 갱신
+     */
+    private void initLeaderboardSystem() {
+        LeaderboardService leaderboardService = new LeaderboardService(this, services.getPlayerDataManager());
+        services.setLeaderboardService(leaderboardService);
+        
+        services.getEconomyService().setLeaderboardService(leaderboardService);
+        if (services.getJobService() != null) {
+            services.getJobService().setLeaderboardService(leaderboardService);
+        }
+        if (services.getCodexService() != null) {
+            services.getCodexService().setLeaderboardService(leaderboardService);
+        }
+        if (services.getAchievementService() != null) {
+            services.getAchievementService().setLeaderboardService(leaderboardService);
+        }
+        
+        getServer().getPluginManager().registerEvents(leaderboardService, this);
+        leaderboardService.start();
+        
+        LeaderboardCommand leaderboardCommand = new LeaderboardCommand(leaderboardService);
+        registerCommand("leaderboard", leaderboardCommand, leaderboardCommand);
+        
+        getLogger().info("✓ 순위표 초기화 완료 (" + LeaderboardMetric.values().length + "개 지표)");
+    }
+    
     /**
      * [Phase 5.C] 칭호 시스템 초기화
      */
@@ -1007,7 +1096,7 @@ public class TycoonPlugin extends JavaPlugin {
         getServer().getPluginManager().registerEvents(tradeListener, this);
         
         // TradeCommand 등록
-        TradeCommand tradeCommand = new TradeCommand(tradeService);
+        TradeCommand tradeCommand = new TradeCommand(this, tradeService);
         // [Phase 8 버그수정] TradeGui 주입 - 수락 시 GUI 열기
         tradeCommand.setTradeGui(tradeGui);
         registerCommand("trade", tradeCommand, tradeCommand);
@@ -1267,8 +1356,12 @@ public class TycoonPlugin extends JavaPlugin {
             services.getPlayerDataManager(),
             services.getTitleService()
         );
+        placeholders.setLeaderboardService(services.getLeaderboardService());
         
         if (placeholders.tryRegister()) {
+            // 값 캐시 무효화 (데이터 변경 알림 + 퇴장)
+            services.getPlayerDataManager().addChangeListener(placeholders);
+            getServer().getPluginManager().registerEvents(placeholders, this);
             getLogger().info("✓ PlaceholderAPI 연동 완료 (%tycoon_...)");
         }
     }
@@ -1278,8 +1371,7 @@ public class TycoonPlugin extends JavaPlugin {
      * config.yml의 migration.enabled=true일 때만 활성화
      */
     private void initMigrationService() {
-        kr.bapuri.tycoon.migration.ItemMigrationService migrationService = 
-            new kr.bapuri.tycoon.migration.ItemMigrationService(this);
+        this.migrationService = new kr.bapuri.tycoon.migration.ItemMigrationService(this);
         migrationService.initialize();
         
         if (migrationService.isEnabled()) {
@@ -1287,9 +1379,13 @@ public class TycoonPlugin extends JavaPlugin {
         }
     }
     
+    // ===== 아이템 마이그레이션 필드 =====
+    private kr.bapuri.tycoon.migration.ItemMigrationService migrationService;
+    
     // ===== 세금 시스템 필드 =====
     private kr.bapuri.tycoon.tax.TaxScheduler taxScheduler;
     private kr.bapuri.tycoon.tax.VillagerRegistry villagerRegistry;
+    private kr.bapuri.tycoon.tax.IncomeLedger incomeLedger;
     
     // ===== 자동화 팜 제한 시스템 필드 =====
     private kr.bapuri.tycoon.antiexploit.AutoFarmTracker autoFarmTracker;
@@ -1300,6 +1396,7 @@ public class TycoonPlugin extends JavaPlugin {
      * - TaxConfig: 설정 로드
      * - VillagerRegistry: 마을별 주민 등록
      * - IncomeTaxService: 소득세 계산
+     * - IncomeLedger: 세금 주기별 소득 장부
      * - LandTaxService: 토지세 계산
      * - TaxScheduler: 주기적 징수
      */
@@ -1346,9 +1443,28 @@ public class TycoonPlugin extends JavaPlugin {
                 landsIntegration, economyService, playerDataManager);
         
         // TaxScheduler 생성 및 시작
-        taxScheduler = new kr.bapuri.tycoon.tax.TaxScheduler(
-            this, taxConfig, landTaxService, villagerRegistry, 
-            landsIntegration, playerDataManager);
+        if (taxConfig.isScheduledIncomeTaxEnabled()) {
+            // IncomeLedger 로드 (없으면 기존 간격 소득 이관) 및 입금 기록 연결
+            incomeLedger = new kr.bapuri.tycoon.tax.IncomeLedger(this);
+            if (!incomeLedger.load()) {
+                incomeLedger.seedFromPlayerData(playerDataManager);
+            }
+            incomeLedger.start();
+            economyService.setIncomeLedger(incomeLedger);
+            
+            // VipService 생성 (VIP 세금 할인)
+            kr.bapuri.tycoon.tax.VipService vipService = new kr.bapuri.tycoon.tax.VipService(this, taxConfig);
+            
+            taxScheduler = new kr.bapuri.tycoon.tax.TaxScheduler(
+                this, taxConfig, landTaxService, incomeTaxService, vipService, economyService,
+                villagerRegistry, landsIntegration, playerDataManager);
+            taxScheduler.setIncomeLedger(incomeLedger);
+        } else {
+            // 주기 징수 비활성화 - 토지세만 (장부 없음)
+            taxScheduler = new kr.bapuri.tycoon.tax.TaxScheduler(
+                this, taxConfig, landTaxService, villagerRegistry, 
+                landsIntegration, playerDataManager);
+        }
         taxScheduler.start();
         
         // 명령어 등록
@@ -1545,7 +1661,7 @@ public class TycoonPlugin extends JavaPlugin {
         // antiexploit.yml 로드
         saveResource("antiexploit.yml", false);
         File configFile = new File(getDataFolder(), "antiexploit.yml");
-        antiexploitConfig = YamlConfiguration.loadConfiguration(configFile);
+        antiexploitConfig = YamlPrefetcher.load(configFile);
         
         // CustomItemVanillaBlocker 초기화
         CoreItemAuthenticator coreItemAuth = services.getCoreItemAuthenticator();
@@ -1576,11 +1692,13 @@ public class TycoonPlugin extends JavaPlugin {
         getLogger().info("  [SCAFFOLD] AfkDampenSystem 기반 등록 (미구현)");
         getLogger().info("  [SCAFFOLD] AntiFarmSystem 기반 등록 (미구현)");
         
-        // [SCAFFOLD] Phase 3.C.4 X-ray 휴리스틱 - 나중에 구현 예정
-        XrayHeuristicAnalyzer xrayAnalyzer = new XrayHeuristicAnalyzer();
+        // [Phase 3.C.4] X-ray 휴리스틱 (스트리밍 분석)
+        this.xrayAnalyzer = new XrayHeuristicAnalyzer(this, services.getWorldManager());
+        getServer().getPluginManager().registerEvents(xrayAnalyzer, this);
         XrayCommand xrayCommand = new XrayCommand(xrayAnalyzer);
+        services.getCoreProtectQueryService().ifPresent(xrayCommand::setCoreProtectQueries);
         registerCommand("xray", xrayCommand, xrayCommand);
-        getLogger().info("  [SCAFFOLD] XrayHeuristicAnalyzer 기반 등록 (미구현)");
+        getLogger().info("  ✓ XrayHeuristicAnalyzer 등록 (" + (xrayAnalyzer.isEnabled() ? "활성화" : "비활성화") + ")");
         
         getLogger().info("✓ Antiexploit 시스템 초기화 완료");
     }
@@ -1785,47 +1903,6 @@ public class TycoonPlugin extends JavaPlugin {
                 // TODO: titles.yml 리로드 추가
                 // services.getTitleService().getRegistry().reload();
                 
-                // [Phase 4] enchants.yml 리로드
-                boolean enchantsReloaded = false;
-                boolean lampsReloaded = false;
-                
-                if (services.getEnchantRegistry() != null) {
-                    try {
-                        services.getEnchantRegistry().reload();
-                        getLogger().info("[Reload] enchants.yml 리로드 완료");
-                        enchantsReloaded = true;
-                    } catch (Exception e) {
-                        getLogger().severe("[Reload] enchants.yml 리로드 실패: " + e.getMessage());
-                        e.printStackTrace();
-                    }
-                }
-                
-                // [Phase 4] lamps.yml 리로드
-                if (services.getLampRegistry() != null) {
-                    try {
-                        services.getLampRegistry().reload();
-                        getLogger().info("[Reload] lamps.yml 리로드 완료");
-                        lampsReloaded = true;
-                    } catch (Exception e) {
-                        getLogger().severe("[Reload] lamps.yml 리로드 실패: " + e.getMessage());
-                        e.printStackTrace();
-                    }
-                }
-                
-                // [Phase 3.B] shops.yml 리로드
-                boolean shopsReloaded = false;
-                ShopService reloadShopService = services.getShopService();
-                if (reloadShopService != null) {
-                    try {
-                        int[] result = reloadShopService.reload();
-                        getLogger().info("[Reload] shops.yml 리로드 완료 (성공: " + result[0] + ", 실패: " + result[1] + ")");
-                        shopsReloaded = result[1] == 0;
-                    } catch (Exception e) {
-                        getLogger().severe("[Reload] shops.yml 리로드 실패: " + e.getMessage());
-                        e.printStackTrace();
-                    }
-                }
-                
                 // [2026-01-31] specialShops (config.yml) 리로드
                 boolean specialShopsReloaded = false;
                 if (services.getSpecialItemShop() != null) {
@@ -1841,12 +1918,78 @@ public class TycoonPlugin extends JavaPlugin {
                     }
                 }
                 
-                // 실행자에게 결과 표시
-                sender.sendMessage("§a설정이 리로드되었습니다.");
-                sender.sendMessage("§7- enchants.yml: " + (enchantsReloaded ? "§a✓" : "§c✗ (콘솔 확인)"));
-                sender.sendMessage("§7- lamps.yml: " + (lampsReloaded ? "§a✓" : "§c✗ (콘솔 확인)"));
-                sender.sendMessage("§7- shops.yml: " + (shopsReloaded ? "§a✓" : "§c✗ (콘솔 확인)"));
-                sender.sendMessage("§7- specialShops: " + (specialShopsReloaded ? "§a✓" : "§c✗ (콘솔 확인)"));
+                // [Phase 4] enchants.yml / lamps.yml, [Phase 3.B] shops.yml 리로드
+                // 파일 파싱은 비동기로 하고, 메인 스레드에서 스냅샷을 한 번에 교체
+                // (파싱 중에도 인챈트/램프 효과와 상점 거래는 기존 설정으로 계속 동작, 실패한 파일은 기존 설정 유지)
+                sender.sendMessage("§7enchants.yml / lamps.yml / shops.yml 읽는 중...");
+                final boolean specialShopsDone = specialShopsReloaded;
+                getServer().getScheduler().runTaskAsynchronously(this, () -> {
+                    kr.bapuri.tycoon.enhance.enchant.CustomEnchantRegistry.Snapshot enchants = null;
+                    kr.bapuri.tycoon.enhance.lamp.LampRegistry.Snapshot lamps = null;
+                    YamlConfiguration shops = null;
+                    
+                    if (services.getEnchantRegistry() != null) {
+                        try {
+                            enchants = services.getEnchantRegistry().prepare();
+                        } catch (Exception e) {
+                            getLogger().severe("[Reload] enchants.yml 리로드 실패: " + e.getMessage());
+                            e.printStackTrace();
+                        }
+                    }
+                    if (services.getLampRegistry() != null) {
+                        try {
+                            lamps = services.getLampRegistry().prepare();
+                        } catch (Exception e) {
+                            getLogger().severe("[Reload] lamps.yml 리로드 실패: " + e.getMessage());
+                            e.printStackTrace();
+                        }
+                    }
+                    if (services.getShopService() != null) {
+                        try {
+                            shops = services.getShopService().prepareReload();
+                        } catch (Exception e) {
+                            getLogger().severe("[Reload] shops.yml 리로드 실패: " + e.getMessage());
+                            e.printStackTrace();
+                        }
+                    }
+                    
+                    final kr.bapuri.tycoon.enhance.enchant.CustomEnchantRegistry.Snapshot preparedEnchants = enchants;
+                    final kr.bapuri.tycoon.enhance.lamp.LampRegistry.Snapshot preparedLamps = lamps;
+                    final YamlConfiguration preparedShops = shops;
+                    getServer().getScheduler().runTask(this, () -> {
+                        boolean enchantsReloaded = false;
+                        boolean lampsReloaded = false;
+                        boolean shopsReloaded = false;
+                        
+                        if (preparedEnchants != null) {
+                            services.getEnchantRegistry().publish(preparedEnchants);
+                            getLogger().info("[Reload] enchants.yml 리로드 완료");
+                            enchantsReloaded = true;
+                        }
+                        if (preparedLamps != null) {
+                            services.getLampRegistry().publish(preparedLamps);
+                            getLogger().info("[Reload] lamps.yml 리로드 완료");
+                            lampsReloaded = true;
+                        }
+                        if (preparedShops != null) {
+                            try {
+                                int[] result = services.getShopService().reload(preparedShops);
+                                getLogger().info("[Reload] shops.yml 리로드 완료 (성공: " + result[0] + ", 실패: " + result[1] + ")");
+                                shopsReloaded = result[1] == 0;
+                            } catch (Exception e) {
+                                getLogger().severe("[Reload] shops.yml 리로드 실패: " + e.getMessage());
+                                e.printStackTrace();
+                            }
+                        }
+                        
+                        // 실행자에게 결과 표시
+                        sender.sendMessage("§a설정이 리로드되었습니다.");
+                        sender.sendMessage("§7- enchants.yml: " + (enchantsReloaded ? "§a✓" : "§c✗ (콘솔 확인)"));
+                        sender.sendMessage("§7- lamps.yml: " + (lampsReloaded ? "§a✓" : "§c✗ (콘솔 확인)"));
+                        sender.sendMessage("§7- shops.yml: " + (shopsReloaded ? "§a✓" : "§c✗ (콘솔 확인)"));
+                        sender.sendMessage("§7- specialShops: " + (specialShopsDone ? "§a✓" : "§c✗ (콘솔 확인)"));
+                    });
+                });
                 return true;
             }
             
@@ -2115,6 +2258,9 @@ public class TycoonPlugin extends JavaPlugin {
         if (taxScheduler != null) {
             taxScheduler.stop();
         }
+        if (incomeLedger != null) {
+            incomeLedger.shutdown();
+        }
         if (villagerRegistry != null) {
             villagerRegistry.shutdown();
         }
@@ -2129,11 +2275,31 @@ public class TycoonPlugin extends JavaPlugin {
             worldResetScheduler.stop();
         }
         
+        // X-ray 분석기 종료 (대기 중인 의심 로그 기록)
+        if (xrayAnalyzer != null) {
+            xrayAnalyzer.shutdown();
+        }
+        
+        // 야생 랜덤 스폰 풀 정지 (청크 티켓 해제)
+        if (wildSpawnManager != null) {
+            wildSpawnManager.shutdown();
+        }
+        
         // [Phase 8] AngelChest 연동 종료
         if (angelChestIntegration != null) {
             angelChestIntegration.shutdown();
         }
         
+        // [Migration] 일괄 마이그레이션 진행 상황 저장
+        if (migrationService != null) {
+            migrationService.shutdown();
+        }
+        
+        // 업적 일괄 평가 태스크 정지
+        if (achievementEngine != null) {
+            achievementEngine.shutdown();
+        }
+        
         if (services != null) {
             // [Phase 3.B] 상점 시스템 종료
             ShopService shopService = services.getShopService();
@@ -2141,6 +2307,15 @@ public class TycoonPlugin extends JavaPlugin {
                 shopService.shutdown();
             }
             
+            // 거래 기록 로그 종료 (대기 중인 쓰기 완료)
+            TradeService tradeService = services.getTradeService();
+            if (tradeService != null) {
+                tradeService.getHistoryManager().shutdown();
+            }
+            
+            // CoreProtect 비동기 조회 종료
+            services.getCoreProtectQueryService().ifPresent(CoreProtectQueryService::shutdown);
+            
             // [BC Shop] BC 상점 시스템 종료
             BCShopService bcShopService = services.getBCShopService();
             if (bcShopService != null) {
@@ -2156,6 +2331,17 @@ public class TycoonPlugin extends JavaPlugin {
                 recoveryManager.saveAll();
             }
             
+            // 대기 중인 직업 경험치 반영 (saveAll 전)
+            if (services.getJobRegistry() != null) {
+                services.getJobRegistry().flushAllPendingExp();
+            }
+            
+            // 순위표 요약 저장 (경험치 반영 후, 언로드 전)
+            LeaderboardService leaderboardService = services.getLeaderboardService();
+            if (leaderboardService != null) {
+                leaderboardService.shutdown();
+            }
+            
             // [Phase 2] 스케줄러 중지
             services.getPlayerDataManager().stopAutoSave();
             services.getPlayerDataManager().stopSnapshotScheduler();
@@ -13,10 +13,18 @@ public class Achievement {
     private final int targetValue;           // 달성 목표값 (0 = 즉시 달성형)
     private final long bottCoinReward;       // BottCoin 보상
     private final String titleReward;        // 칭호 보상 (LuckPerms 그룹명, null = 없음)
+    private final AchievementCounter counter; // 진행도 카운터 (null = 직접 해금/진행도 관리)
     
     public Achievement(String id, String name, String description, 
                        AchievementType type, AchievementTier tier, 
                        int targetValue, long bottCoinReward, String titleReward) {
+        this(id, name, description, type, tier, targetValue, bottCoinReward, titleReward, null);
+    }
+    
+    public Achievement(String id, String name, String description, 
+                       AchievementType type, AchievementTier tier, 
+                       int targetValue, long bottCoinReward, String titleReward,
+                       AchievementCounter counter) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -25,6 +33,7 @@ public class Achievement {
         this.targetValue = targetValue;
         this.bottCoinReward = bottCoinReward;
         this.titleReward = titleReward;
+        this.counter = counter;
     }
     
     public String getId() {
@@ -59,6 +68,14 @@ public class Achievement {
         return titleReward;
     }
     
+    /**
+     * 진행도 카운터 (AchievementEngine이 카운터 변경 시 일괄 평가)
+     * @return null이면 카운터와 무관한 업적
+     */
+    public AchievementCounter getCounter() {
+        return counter;
+    }
+    
     public boolean hasTitleReward() {
         return titleReward != null && !titleReward.isEmpty();
     }
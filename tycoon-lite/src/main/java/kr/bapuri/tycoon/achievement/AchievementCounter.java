@@ -0,0 +1,84 @@
+package kr.bapuri.tycoon.achievement;
+
+import kr.bapuri.tycoon.player.PlayerTycoonData;
+
+/**
+ * AchievementCounter - 업적 진행도의 기준이 되는 카운터
+ *
+ * achievements.yml의 counter 키로 업적과 연결한다.
+ * (예: counter: blocks_mined, target: 1000 → 야생 광석 1000개 채굴 시 해금)
+ *
+ * - 누적형(stored): 이벤트마다 증가, PlayerTycoonData 업적 진행도에 "counter:<id>" 키로 저장
+ * - 조회형: 이미 다른 시스템이 관리하는 값을 그대로 읽음 (도감 수, 누적 수입, 직업 레벨)
+ */
+public enum AchievementCounter {
+
+    BLOCKS_MINED("blocks_mined", "채굴한 광석", true),
+    FISH_CAUGHT("fish_caught", "낚은 물고기", true),
+    PVP_KILLS("pvp_kills", "PvP 처치", true),
+    BD_EARNED("bd_earned", "누적 BD 수입", false),
+    CODEX_REGISTERED("codex_registered", "도감 등록 수", false),
+    JOB_LEVEL("job_level", "직업 레벨", false);
+
+    private static final AchievementCounter[] VALUES = values();
+
+    private final String id;
+    private final String displayName;
+    private final boolean stored;
+
+    AchievementCounter(String id, String displayName, boolean stored) {
+        this.id = id;
+        this.displayName = displayName;
+        this.stored = stored;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * 누적형 여부 (false면 다른 시스템의 값을 조회)
+     */
+    public boolean isStored() {
+        return stored;
+    }
+
+    /**
+     * 누적형 카운터의 저장 키 (achievements.progress 하위)
+     */
+    public String getStorageKey() {
+        return "counter:" + id;
+    }
+
+    /**
+     * 현재 카운터 값
+     */
+    public long read(PlayerTycoonData data) {
+        return switch (this) {
+            case BLOCKS_MINED, FISH_CAUGHT, PVP_KILLS -> data.getAchievementProgress(getStorageKey());
+            case BD_EARNED -> data.getLifetimeEarned();
+            case CODEX_REGISTERED -> data.getCodexCount();
+            case JOB_LEVEL -> Math.max(
+                    data.getTier1Job() != null ? data.getTier1JobLevel() : 0,
+                    data.getTier2Job() != null ? data.getTier2JobLevel() : 0);
+        };
+    }
+
+    /**
+     * id 또는 enum 이름으로 조회
+     * @return 없으면 null
+     */
+    public static AchievementCounter fromId(String id) {
+        if (id == null) return null;
+        for (AchievementCounter counter : VALUES) {
+            if (counter.id.equalsIgnoreCase(id) || counter.name().equalsIgnoreCase(id)) {
+                return counter;
+            }
+        }
+        return null;
+    }
+}
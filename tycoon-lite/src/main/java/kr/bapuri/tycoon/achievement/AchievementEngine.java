@@ -0,0 +1,204 @@
+package kr.bapuri.tycoon.achievement;
+
+import kr.bapuri.tycoon.player.PlayerChangeListener;
+import kr.bapuri.tycoon.player.PlayerDataManager;
+import kr.bapuri.tycoon.player.PlayerTycoonData;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * AchievementEngine - 카운터 기반 업적 진행 엔진
+ *
+ * 이벤트 핸들러는 카운터만 올리고(record) 어떤 카운터가 바뀌었는지만 표시한다(touch).
+ * 해금 판정은 틱마다 한 번 일괄로 수행하며, 바뀐 카운터에 연결된 업적만
+ * target 오름차순으로 훑다가 현재값을 넘는 target에서 멈춘다.
+ * → 업적 수가 늘어도 이벤트 처리 비용은 그대로
+ *
+ * 입력 경로:
+ * - record(): 채굴/낚시/PvP 처치 (누적형, 메인 스레드)
+ * - onPlayerChange(): 경제/도감/직업 변경 알림 → 조회형 카운터 touch (스레드 무관)
+ * - touchAll(): 접속 시 소급 평가
+ *
+ * 주의: 해금(보상/메시지)은 온라인 플레이어만 평가. 오프라인이면 다음 접속 시 소급 평가.
+ */
+public class AchievementEngine implements PlayerChangeListener {
+
+    private final Plugin plugin;
+    private final Logger logger;
+    private final PlayerDataManager dataManager;
+    private final AchievementService achievementService;
+    private final AchievementRegistry registry;
+
+    // 평가 대기 중인 (플레이어 → 바뀐 카운터)
+    private final Map<UUID, Set<AchievementCounter>> dirty = new ConcurrentHashMap<>();
+
+    private BukkitTask evaluateTask;
+
+    public AchievementEngine(Plugin plugin, PlayerDataManager dataManager,
+                             AchievementService achievementService, AchievementRegistry registry) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        this.dataManager = dataManager;
+        this.achievementService = achievementService;
+        this.registry = registry;
+    }
+
+    // ========== 시작/종료 ==========
+
+    /**
+     * 일괄 평가 태스크 시작
+     */
+    public void start() {
+        long interval = Math.max(1L, plugin.getConfig().getLong("achievements.evaluateIntervalTicks", 1L));
+        evaluateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::evaluatePending, interval, interval);
+        logger.info("[AchievementEngine] 시작 - 평가 주기 " + interval + "틱, 카운터 업적 "
+                + countCounterAchievements() + "개");
+    }
+
+    public void shutdown() {
+        if (evaluateTask != null) {
+            evaluateTask.cancel();
+            evaluateTask = null;
+        }
+        dirty.clear();
+    }
+
+    // ========== 이벤트 입력 ==========
+
+    /**
+     * 누적형 카운터 증가 (메인 스레드)
+     */
+    public void record(Player player, AchievementCounter counter, int amount) {
+        if (amount <= 0) return;
+        if (counter.isStored()) {
+            if (registry.getByCounter(counter).isEmpty()) {
+                return; // 연결된 업적이 없으면 저장하지 않음
+            }
+            PlayerTycoonData data = dataManager.get(player);
+            data.incrementAchievementProgress(counter.getStorageKey(), amount);
+            data.markDirty();
+        }
+        touch(player.getUniqueId(), counter);
+    }
+
+    /**
+     * 카운터 변경 표시 (다음 평가 틱에 해당 카운터 업적만 확인)
+     */
+    public void touch(UUID uuid, AchievementCounter counter) {
+        dirty.compute(uuid, (key, counters) -> {
+            Set<AchievementCounter> set = counters != null ? counters : EnumSet.noneOf(AchievementCounter.class);
+            set.add(counter);
+            return set;
+        });
+    }
+
+    /**
+     * 모든 카운터 평가 예약 (접속 시 소급 체크)
+     */
+    public void touchAll(UUID uuid) {
+        dirty.compute(uuid, (key, counters) -> EnumSet.allOf(AchievementCounter.class));
+    }
+
+    @Override
+    public void onPlayerChange(UUID uuid, Kind kind) {
+        switch (kind) {
+            case ECONOMY -> touch(uuid, AchievementCounter.BD_EARNED);
+            case CODEX -> touch(uuid, AchievementCounter.CODEX_REGISTERED);
+            case JOB -> touch(uuid, AchievementCounter.JOB_LEVEL);
+            default -> {}
+        }
+    }
+
+    // ========== 일괄 평가 ==========
+
+    /**
+     * 대기 중인 플레이어/카운터 평가 (메인 스레드, 틱마다)
+     */
+    private void evaluatePending() {
+        if (dirty.isEmpty()) return;
+
+        Iterator<UUID> it = dirty.keySet().iterator();
+        while (it.hasNext()) {
+            UUID uuid = it.next();
+            Set<AchievementCounter> counters = dirty.remove(uuid);
+            if (counters == null) continue;
+
+            Player player = Bukkit.getPlayer(uuid);
+            if (player == null || !player.isOnline()) continue;
+
+            PlayerTycoonData data = dataManager.get(player);
+            for (AchievementCounter counter : counters) {
+                evaluate(player, data, counter);
+            }
+        }
+    }
+
+    private void evaluate(Player player, PlayerTycoonData data, AchievementCounter counter) {
+        List<Achievement> dependents = registry.getByCounter(counter);
+        if (dependents.isEmpty()) return;
+
+        long value = counter.read(data);
+        for (Achievement ach : dependents) {
+            if (ach.getTargetValue() > value) {
+                break;
+            }
+            if (!data.hasAchievementUnlocked(ach.getId())) {
+                achievementService.unlock(player, ach);
+            }
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 업적 진행도 (카운터 업적이면 카운터 값, int 범위로 제한)
+     */
+    public int getProgress(PlayerTycoonData data, Achievement ach) {
+        return (int) Math.min(Integer.MAX_VALUE, ach.getCounter().read(data));
+    }
+
+    // ========== 레거시 진행도 이전 ==========
+
+    /**
+     * 업적별 진행도만 있던 데이터를 누적형 카운터로 이전
+     * (예: pvp_10_kills 진행도 7 → counter:pvp_kills = 7)
+     */
+    public void seedLegacyProgress(Player player) {
+        PlayerTycoonData data = dataManager.get(player);
+        for (AchievementCounter counter : AchievementCounter.values()) {
+            if (!counter.isStored() || data.getAchievementProgress(counter.getStorageKey()) > 0) {
+                continue;
+            }
+            int seed = 0;
+            for (Achievement ach : registry.getByCounter(counter)) {
+                seed = Math.max(seed, data.getAchievementProgress(ach.getId()));
+                if (data.hasAchievementUnlocked(ach.getId())) {
+                    seed = Math.max(seed, ach.getTargetValue());
+                }
+            }
+            if (seed > 0) {
+                data.setAchievementProgress(counter.getStorageKey(), seed);
+                data.markDirty();
+            }
+        }
+    }
+
+    private int countCounterAchievements() {
+        int count = 0;
+        for (AchievementCounter counter : AchievementCounter.values()) {
+            count += registry.getByCounter(counter).size();
+        }
+        return count;
+    }
+}
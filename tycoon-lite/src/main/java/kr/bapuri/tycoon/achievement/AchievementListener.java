@@ -1,20 +1,29 @@
 package kr.bapuri.tycoon.achievement;
 
 import kr.bapuri.tycoon.TycoonPlugin;
-import kr.bapuri.tycoon.codex.CodexService;
 import kr.bapuri.tycoon.job.JobService;
 import kr.bapuri.tycoon.job.JobType;
+import kr.bapuri.tycoon.job.miner.MinerListener;
+import kr.bapuri.tycoon.world.WorldManager;
+import kr.bapuri.tycoon.world.WorldType;
+import org.bukkit.GameMode;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerFishEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 
 /**
  * AchievementListener - 업적 트리거 리스너
  * 
- * Codex, Job, PvP 이벤트를 감지하여 업적 진행/해금
+ * Codex, Job, PvP, 채굴, 낚시 이벤트를 감지하여 업적 진행/해금
+ * 
+ * 카운터 업적(채굴/낚시/PvP/도감/직업 레벨/누적 수입)은 AchievementEngine에
+ * 카운터만 기록하고, 해금 판정은 엔진이 틱마다 일괄 수행한다.
+ * 즉시 해금형 업적(첫 직업, 승급, 첫 PvP 승리 등)만 여기서 바로 처리한다.
  * 
  * [버그수정] 레거시 방식 적용:
  * - TycoonPlugin 참조로 다른 서비스에서 이 리스너 접근 가능
@@ -25,24 +34,26 @@ public class AchievementListener implements Listener {
     
     private final TycoonPlugin plugin;
     private final AchievementService achievementService;
+    private final AchievementEngine engine;
     
     // Optional dependencies (setter 주입)
-    private CodexService codexService;
     private JobService jobService;
+    private WorldManager worldManager;
     
-    public AchievementListener(TycoonPlugin plugin, AchievementService achievementService) {
+    public AchievementListener(TycoonPlugin plugin, AchievementService achievementService, AchievementEngine engine) {
         this.plugin = plugin;
         this.achievementService = achievementService;
-    }
-    
-    public void setCodexService(CodexService codexService) {
-        this.codexService = codexService;
+        this.engine = engine;
     }
     
     public void setJobService(JobService jobService) {
         this.jobService = jobService;
     }
     
+    public void setWorldManager(WorldManager worldManager) {
+        this.worldManager = worldManager;
+    }
+    
     // ========== PlayerJoin 소급 체크 ==========
     
     /**
@@ -77,36 +88,49 @@ public class AchievementListener implements Listener {
             achievementService.tryUnlock(killer, "pvp_first_kill");
         }
         
-        // 진행형 PvP 업적
-        achievementService.addProgress(killer, "pvp_10_kills", 1);
-        achievementService.addProgress(killer, "pvp_50_kills", 1);
-        achievementService.addProgress(killer, "pvp_100_kills", 1);
+        // 진행형 PvP 업적 (pvp_kills 카운터)
+        engine.record(killer, AchievementCounter.PVP_KILLS, 1);
     }
     
-    // ========== Codex 연동 (외부 호출용) ==========
+    // ========== 채굴/낚시 카운터 ==========
     
     /**
-     * Codex 등록 후 호출 - 도감 업적 진행도 갱신 (내부용)
-     * CodexService에서 등록 성공 시 호출해야 함
+     * 채굴 카운터 - MinerListener와 같은 기준 (Wild 월드 광석만)
+     * 설치한 블록을 다시 캐는 반복 파밍 방지
      */
-    public void onCodexRegistered(Player player) {
-        if (codexService == null) return;
-        
-        int collected = codexService.getCollectedCount(player);
-        onCodexRegister(player, collected);
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        Player player = event.getPlayer();
+        if (player.getGameMode() == GameMode.CREATIVE) {
+            return;
+        }
+        if (!MinerListener.isOre(event.getBlock().getType())) {
+            return;
+        }
+        if (worldManager == null || worldManager.getWorldType(event.getBlock().getWorld()) != WorldType.WILD) {
+            return;
+        }
+        engine.record(player, AchievementCounter.BLOCKS_MINED, 1);
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFishCaught(PlayerFishEvent event) {
+        if (event.getState() != PlayerFishEvent.State.CAUGHT_FISH) {
+            return;
+        }
+        engine.record(event.getPlayer(), AchievementCounter.FISH_CAUGHT, 1);
     }
     
+    // ========== Codex 연동 (외부 호출용) ==========
+    
     /**
      * Codex 등록 시 호출 (레거시 호환 - CodexService에서 직접 호출)
+     * 도감 수는 플레이어 데이터에서 읽으므로 카운터 평가만 예약
      * @param player 플레이어
      * @param newCount 도감 등록 후 총 개수
      */
     public void onCodexRegister(Player player, int newCount) {
-        // 진행형 업적 갱신
-        achievementService.setProgress(player, "codex_10", newCount);
-        achievementService.setProgress(player, "codex_25", newCount);
-        achievementService.setProgress(player, "codex_50", newCount);
-        achievementService.setProgress(player, "codex_100", newCount);
+        engine.touch(player.getUniqueId(), AchievementCounter.CODEX_REGISTERED);
     }
     
     // ========== Job 연동 (외부 호출용) ==========
@@ -122,11 +146,8 @@ public class AchievementListener implements Listener {
      * 직업 레벨업 후 호출
      */
     public void onJobLevelUp(Player player, JobType jobType, int newLevel) {
-        // 레벨 10 업적
-        achievementService.setProgress(player, "job_level_10", newLevel);
-        
-        // 레벨 25 업적
-        achievementService.setProgress(player, "job_level_25", newLevel);
+        // 레벨 업적 (job_level 카운터)
+        engine.touch(player.getUniqueId(), AchievementCounter.JOB_LEVEL);
         
         // 만렙 체크 (50 가정)
         if (newLevel >= 50) {
@@ -152,17 +173,15 @@ public class AchievementListener implements Listener {
      * 플레이어 로그인 시 소급 체크
      */
     public void checkRetroactiveAchievements(Player player) {
-        // Codex 진행도 체크
-        if (codexService != null) {
-            onCodexRegistered(player);
-        }
+        // 업적별 진행도 → 카운터 이전 후 모든 카운터 평가 예약
+        engine.seedLegacyProgress(player);
+        engine.touchAll(player.getUniqueId());
         
-        // Job 레벨 체크
+        // 만렙 업적 (즉시 해금형)
         if (jobService != null) {
             JobType currentJob = jobService.getTier1Job(player);
-            if (currentJob != null) {
-                int level = jobService.getLevel(player, currentJob);
-                onJobLevelUp(player, currentJob, level);
+            if (currentJob != null && jobService.getLevel(player, currentJob) >= 50) {
+                achievementService.tryUnlock(player, "job_max_level");
             }
         }
     }
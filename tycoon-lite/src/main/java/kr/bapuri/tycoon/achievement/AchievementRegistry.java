@@ -1,13 +1,11 @@
 package kr.bapuri.tycoon.achievement;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -24,6 +22,7 @@ import java.util.logging.Logger;
  *     target: 10
  *     bottcoin: 1
  *     title: null
+ *     counter: codex_registered   # 선택 - 진행도 카운터 (AchievementCounter id)
  */
 public class AchievementRegistry {
     
@@ -31,6 +30,8 @@ public class AchievementRegistry {
     private final Logger logger;
     private final Map<String, Achievement> achievements = new LinkedHashMap<>();
     private final Map<AchievementType, List<Achievement>> byType = new EnumMap<>(AchievementType.class);
+    // 카운터별 업적 (target 오름차순 - 평가 시 target > 현재값에서 중단)
+    private final Map<AchievementCounter, List<Achievement>> byCounter = new EnumMap<>(AchievementCounter.class);
     
     public AchievementRegistry(Plugin plugin) {
         this.plugin = plugin;
@@ -51,6 +52,7 @@ public class AchievementRegistry {
     private void loadFromConfig() {
         achievements.clear();
         byType.clear();
+        byCounter.clear();
         
         // 타입별 리스트 초기화
         for (AchievementType type : AchievementType.values()) {
@@ -63,13 +65,11 @@ public class AchievementRegistry {
             plugin.saveResource("achievements.yml", false);
         }
         
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(achFile);
+        YamlConfiguration config = YamlPrefetcher.load(achFile);
         
         // 기본값 로드 (jar 내부)
-        InputStream defaultStream = plugin.getResource("achievements.yml");
-        if (defaultStream != null) {
-            YamlConfiguration defaults = YamlConfiguration.loadConfiguration(
-                new InputStreamReader(defaultStream, StandardCharsets.UTF_8));
+        YamlConfiguration defaults = YamlPrefetcher.loadResource(plugin, "achievements.yml");
+        if (defaults != null) {
             config.setDefaults(defaults);
         }
         
@@ -91,6 +91,7 @@ public class AchievementRegistry {
             int target = achSection.getInt("target", 0);
             long bottcoin = achSection.getLong("bottcoin", 0);
             String titleReward = achSection.getString("title", null);
+            String counterStr = achSection.getString("counter", null);
             
             AchievementType type;
             AchievementTier tier;
@@ -107,18 +108,46 @@ public class AchievementRegistry {
                 tier = AchievementTier.NORMAL;
             }
             
+            AchievementCounter counter = null;
+            if (counterStr != null && !counterStr.isEmpty()) {
+                counter = AchievementCounter.fromId(counterStr);
+                if (counter == null) {
+                    logger.warning("[AchievementRegistry] 알 수 없는 카운터: " + counterStr + " (id=" + id + ")");
+                } else if (target <= 0) {
+                    logger.warning("[AchievementRegistry] 카운터 업적은 target이 필요합니다 (id=" + id + ") - 카운터 무시");
+                    counter = null;
+                }
+            } else if (target > 0) {
+                // counter 키가 없는 기존 설정 파일 호환 (타입 기본 카운터)
+                counter = defaultCounter(type);
+            }
+            
             // 보상이 0이면 기본값 사용
             if (bottcoin <= 0) {
                 bottcoin = tier.getDefaultBottCoinReward();
             }
             
-            Achievement ach = new Achievement(id, name, description, type, tier, target, bottcoin, titleReward);
+            Achievement ach = new Achievement(id, name, description, type, tier, target, bottcoin, titleReward, counter);
             registerAchievement(ach);
         }
         
         logger.info("[AchievementRegistry] 업적 로드 완료: " + achievements.size() + "개");
     }
     
+    /**
+     * counter 키가 없는 진행형 업적의 기본 카운터
+     * @return 타입에 대응하는 카운터가 없으면 null
+     */
+    private static AchievementCounter defaultCounter(AchievementType type) {
+        return switch (type) {
+            case CODEX -> AchievementCounter.CODEX_REGISTERED;
+            case JOB -> AchievementCounter.JOB_LEVEL;
+            case PVP -> AchievementCounter.PVP_KILLS;
+            case ECONOMY -> AchievementCounter.BD_EARNED;
+            default -> null;
+        };
+    }
+    
     /**
      * 기본 업적 로드 (yml 파일 없을 때)
      */
@@ -126,15 +155,16 @@ public class AchievementRegistry {
         // CODEX 업적
         registerAchievement(new Achievement(
             "codex_10", "초보 수집가", "도감에 10개의 아이템을 등록했습니다!",
-            AchievementType.CODEX, AchievementTier.NORMAL, 10, 1, null
+            AchievementType.CODEX, AchievementTier.NORMAL, 10, 1, null, AchievementCounter.CODEX_REGISTERED
         ));
         registerAchievement(new Achievement(
             "codex_50", "수집가", "도감에 50개의 아이템을 등록했습니다!",
-            AchievementType.CODEX, AchievementTier.RARE, 50, 5, "title_collector"
+            AchievementType.CODEX, AchievementTier.RARE, 50, 5, "title_collector", AchievementCounter.CODEX_REGISTERED
         ));
         registerAchievement(new Achievement(
             "codex_100", "도감 마스터", "도감에 100개의 아이템을 등록했습니다!",
-            AchievementType.CODEX, AchievementTier.LEGENDARY, 100, 10, "title_codex_master"
+            AchievementType.CODEX, AchievementTier.LEGENDARY, 100, 10, "title_codex_master",
+            AchievementCounter.CODEX_REGISTERED
         ));
         
         // JOB 업적
@@ -144,7 +174,7 @@ public class AchievementRegistry {
         ));
         registerAchievement(new Achievement(
             "job_level_10", "견습생 탈출", "직업 레벨 10을 달성했습니다!",
-            AchievementType.JOB, AchievementTier.NORMAL, 10, 1, null
+            AchievementType.JOB, AchievementTier.NORMAL, 10, 1, null, AchievementCounter.JOB_LEVEL
         ));
         
         // PVP 업적
@@ -159,6 +189,16 @@ public class AchievementRegistry {
     private void registerAchievement(Achievement ach) {
         achievements.put(ach.getId(), ach);
         byType.get(ach.getType()).add(ach);
+        
+        if (ach.getCounter() != null) {
+            List<Achievement> list = byCounter.computeIfAbsent(ach.getCounter(), c -> new ArrayList<>());
+            // target 오름차순 유지 (같은 target은 등록 순서)
+            int index = list.size();
+            while (index > 0 && list.get(index - 1).getTargetValue() > ach.getTargetValue()) {
+                index--;
+            }
+            list.add(index, ach);
+        }
     }
     
     /**
@@ -182,6 +222,13 @@ public class AchievementRegistry {
         return byType.getOrDefault(type, Collections.emptyList());
     }
     
+    /**
+     * 카운터에 연결된 업적 (target 오름차순)
+     */
+    public List<Achievement> getByCounter(AchievementCounter counter) {
+        return byCounter.getOrDefault(counter, Collections.emptyList());
+    }
+    
     public boolean exists(String id) {
         return achievements.containsKey(id);
     }
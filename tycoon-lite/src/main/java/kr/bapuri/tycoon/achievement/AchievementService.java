@@ -2,6 +2,7 @@ package kr.bapuri.tycoon.achievement;
 
 import kr.bapuri.tycoon.economy.CurrencyType;
 import kr.bapuri.tycoon.economy.EconomyService;
+import kr.bapuri.tycoon.player.PlayerChangeListener;
 import kr.bapuri.tycoon.player.PlayerDataManager;
 import kr.bapuri.tycoon.player.PlayerTycoonData;
 import org.bukkit.Sound;
@@ -22,6 +23,7 @@ import java.util.logging.Logger;
  * - PlayerDataManager: 플레이어 데이터
  * - AchievementRegistry: 업적 정의
  * - EconomyService: 보상 지급 (setter 주입)
+ * - AchievementEngine: 카운터 업적 진행도/일괄 평가 (setter 주입)
  * - TitleService: 칭호 부여 (Phase 5.C에서 연결)
  */
 public class AchievementService {
@@ -32,6 +34,8 @@ public class AchievementService {
     
     // setter 주입
     private EconomyService economyService;
+    private kr.bapuri.tycoon.leaderboard.LeaderboardService leaderboardService;
+    private AchievementEngine engine;
     
     // Phase 5.C에서 연결할 칭호 부여 콜백
     private TitleGrantCallback titleGrantCallback;
@@ -46,6 +50,18 @@ public class AchievementService {
         this.economyService = economyService;
     }
     
+    public void setLeaderboardService(kr.bapuri.tycoon.leaderboard.LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+    
+    public void setEngine(AchievementEngine engine) {
+        this.engine = engine;
+    }
+    
+    public AchievementEngine getEngine() {
+        return engine;
+    }
+    
     /**
      * 칭호 부여 콜백 설정 (Phase 5.C에서 LuckPerms 연동)
      */
@@ -72,7 +88,7 @@ public class AchievementService {
         
         // 진행형 업적이면 진행도 체크
         if (ach.isProgressive()) {
-            int progress = data.getAchievementProgress(achievementId);
+            int progress = getProgress(data, ach);
             if (progress < ach.getTargetValue()) {
                 return false;
             }
@@ -84,6 +100,7 @@ public class AchievementService {
     
     /**
      * 업적 진행도 증가 및 자동 해금 체크
+     * (카운터 업적은 AchievementEngine.record() 사용)
      */
     public void addProgress(Player player, String achievementId, int amount) {
         Achievement ach = registry.get(achievementId);
@@ -127,15 +144,21 @@ public class AchievementService {
     }
     
     /**
-     * 실제 업적 해금 처리
+     * 실제 업적 해금 처리 (AchievementEngine 일괄 평가에서도 호출)
      */
-    private boolean unlock(Player player, Achievement ach) {
+    boolean unlock(Player player, Achievement ach) {
         PlayerTycoonData data = dataManager.get(player);
         
         if (!data.unlockAchievement(ach.getId())) {
             return false;
         }
         
+        // 순위표 반영 + 변경 알림
+        if (leaderboardService != null) {
+            leaderboardService.update(data);
+        }
+        dataManager.notifyChange(player.getUniqueId(), PlayerChangeListener.Kind.ACHIEVEMENT);
+        
         // BottCoin 보상
         if (economyService != null && ach.getBottCoinReward() > 0) {
             economyService.depositBottCoin(player, ach.getBottCoinReward());
@@ -190,7 +213,16 @@ public class AchievementService {
      * 업적 진행도 조회
      */
     public int getProgress(Player player, String achievementId) {
-        return dataManager.get(player).getAchievementProgress(achievementId);
+        Achievement ach = registry.get(achievementId);
+        PlayerTycoonData data = dataManager.get(player);
+        return ach != null ? getProgress(data, ach) : data.getAchievementProgress(achievementId);
+    }
+    
+    private int getProgress(PlayerTycoonData data, Achievement ach) {
+        if (engine != null && ach.getCounter() != null) {
+            return engine.getProgress(data, ach);
+        }
+        return data.getAchievementProgress(ach.getId());
     }
     
     /**
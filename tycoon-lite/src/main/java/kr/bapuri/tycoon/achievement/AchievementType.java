@@ -9,6 +9,7 @@ public enum AchievementType {
     CODEX("도감", "§a"),      // 도감 관련
     JOB("직업", "§e"),        // 직업 관련
     PVP("PvP", "§4"),         // PvP 관련
+    ECONOMY("경제", "§6"),    // 수입 관련
     VANILLA("마인크래프트", "§b"); // 마인크래프트 바닐라 업적
     
     private final String displayName;
@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.antiexploit;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -7,9 +8,6 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -56,13 +54,11 @@ public class AutoFarmConfig {
     public void load() {
         saveDefaultConfig();
         configFile = new File(plugin.getDataFolder(), "autofarm.yml");
-        config = YamlConfiguration.loadConfiguration(configFile);
+        config = YamlPrefetcher.load(configFile);
 
         // 기본값 병합
-        InputStream defaultStream = plugin.getResource("autofarm.yml");
-        if (defaultStream != null) {
-            YamlConfiguration defaultConfig = YamlConfiguration.loadConfiguration(
-                    new InputStreamReader(defaultStream, StandardCharsets.UTF_8));
+        YamlConfiguration defaultConfig = YamlPrefetcher.loadResource(plugin, "autofarm.yml");
+        if (defaultConfig != null) {
             config.setDefaults(defaultConfig);
         }
 
@@ -1,23 +1,28 @@
 package kr.bapuri.tycoon.antiexploit;
 
+import kr.bapuri.tycoon.integration.CoreProtectQueryService;
+import kr.bapuri.tycoon.integration.CoreProtectQueryService.BlockChange;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.Material;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * /xray 명령어 - X-ray 탐지 시스템 관리
  * 
- * [SCAFFOLD] 나중에 구현 예정
- * 
  * 사용법:
- *   /xray inspect <player> - 플레이어 세션 정보 조회
+ *   /xray inspect <player> [hours] - 실시간 분석 통계 + 최근 채굴 기록 (CoreProtect, 비동기)
  *   /xray toggle          - 시스템 활성화/비활성화
  *   /xray status          - 시스템 상태 확인
  * 
@@ -25,11 +30,21 @@ import java.util.stream.Collectors;
  */
 public class XrayCommand implements CommandExecutor, TabCompleter {
 
+    private static final int DEFAULT_INSPECT_HOURS = 24;
+    private static final int MAX_INSPECT_HOURS = 720;
+
     private final XrayHeuristicAnalyzer analyzer;
+    
+    // CoreProtect 조회 (setter로 주입, 없으면 inspect 비활성)
+    private CoreProtectQueryService coreProtectQueries;
 
     public XrayCommand(XrayHeuristicAnalyzer analyzer) {
         this.analyzer = analyzer;
     }
+    
+    public void setCoreProtectQueries(CoreProtectQueryService coreProtectQueries) {
+        this.coreProtectQueries = coreProtectQueries;
+    }
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
@@ -46,21 +61,19 @@ public class XrayCommand implements CommandExecutor, TabCompleter {
         String subCommand = args[0].toLowerCase();
 
         switch (subCommand) {
-            case "inspect" -> {
-                sender.sendMessage(ChatColor.YELLOW + "[XrayAnalyzer] 아직 구현되지 않았습니다. (SCAFFOLD)");
-            }
+            case "inspect" -> inspect(sender, args);
             case "toggle" -> {
                 boolean newState = !analyzer.isEnabled();
                 analyzer.setEnabled(newState);
                 sender.sendMessage(ChatColor.YELLOW + "[XrayAnalyzer] " +
-                        (newState ? ChatColor.GREEN + "활성화됨" : ChatColor.RED + "비활성화됨") +
-                        ChatColor.GRAY + " (SCAFFOLD - 실제 기능 없음)");
+                        (newState ? ChatColor.GREEN + "활성화됨" : ChatColor.RED + "비활성화됨"));
             }
             case "status" -> {
                 sender.sendMessage(ChatColor.GOLD + "=== X-ray 탐지 상태 ===");
                 sender.sendMessage(ChatColor.WHITE + "활성화: " +
                         (analyzer.isEnabled() ? ChatColor.GREEN + "예" : ChatColor.RED + "아니오"));
-                sender.sendMessage(ChatColor.GRAY + "(SCAFFOLD - 실제 기능 없음)");
+                sender.sendMessage(ChatColor.WHITE + "분석 중인 플레이어: " + ChatColor.YELLOW
+                        + analyzer.getTrackedPlayerCount() + "명");
             }
             default -> showHelp(sender);
         }
@@ -68,12 +81,115 @@ public class XrayCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    /**
+     * CoreProtect 채굴 기록 요약 (DB 조회는 비동기, 결과만 메인 스레드에서 출력)
+     */
+    private void inspect(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(ChatColor.RED + "사용법: /xray inspect <player> [hours]");
+            return;
+        }
+        if (coreProtectQueries == null) {
+            sender.sendMessage(ChatColor.RED + "[XrayAnalyzer] CoreProtect가 없어 조회할 수 없습니다.");
+            return;
+        }
+        
+        String target = args[1];
+        showLiveStats(sender, target);
+        
+        int hours = DEFAULT_INSPECT_HOURS;
+        if (args.length >= 3) {
+            try {
+                hours = Math.max(1, Math.min(MAX_INSPECT_HOURS, Integer.parseInt(args[2])));
+            } catch (NumberFormatException e) {
+                sender.sendMessage(ChatColor.RED + "시간은 숫자로 입력하세요.");
+                return;
+            }
+        }
+        
+        int hoursFinal = hours;
+        sender.sendMessage(ChatColor.GRAY + "[XrayAnalyzer] " + target + " 최근 " + hours + "시간 기록 조회 중...");
+        coreProtectQueries.runOnMain(coreProtectQueries.lookupPlayer(target, hours * 3600),
+                changes -> showInspectResult(sender, target, hoursFinal, changes),
+                error -> sender.sendMessage(ChatColor.RED + "[XrayAnalyzer] 조회 실패: " + error.getMessage()));
+    }
+    
+    /**
+     * 실시간 분석 통계 (접속 중 플레이어만)
+     */
+    private void showLiveStats(CommandSender sender, String target) {
+        Player online = Bukkit.getPlayerExact(target);
+        Map<String, Object> info = online != null ? analyzer.getSessionInfo(online.getUniqueId()) : Map.of();
+        if (info.isEmpty()) {
+            sender.sendMessage(ChatColor.GRAY + "[XrayAnalyzer] 실시간 분석 기록 없음");
+            return;
+        }
+        sender.sendMessage(ChatColor.GOLD + "=== " + target + " 실시간 분석 ===");
+        sender.sendMessage(ChatColor.WHITE + "점수: " + ChatColor.YELLOW + info.get("score")
+                + ChatColor.GRAY + " (블록 " + info.get("totalBlocks") + ", " + info.get("windowSeconds") + "초)");
+        sender.sendMessage(ChatColor.WHITE + "희귀 광맥: " + ChatColor.AQUA + info.get("rareFinds")
+                + ChatColor.GRAY + String.format(" (%.2f%%, 노출 %s, 3분내 %s)",
+                        (double) info.get("rareOreRate") * 100, info.get("exposedRareFinds"),
+                        info.get("recentRareOres_3min")));
+        sender.sendMessage(ChatColor.WHITE + "직선 채굴: " + ChatColor.YELLOW + info.get("maxStraightLine")
+                + ChatColor.GRAY + String.format(" / 터널 효율 %.1f%% / 평균 Y %s",
+                        (double) info.get("tunnelEfficiency") * 100, info.get("averageY")));
+    }
+    
+    private void showInspectResult(CommandSender sender, String target, int hours, List<BlockChange> changes) {
+        int totalBreaks = 0;
+        int stoneBreaks = 0;
+        Map<Material, Integer> ores = new EnumMap<>(Material.class);
+        
+        for (BlockChange change : changes) {
+            if (!change.isBreak() || change.type() == null) continue;
+            totalBreaks++;
+            Material type = change.type();
+            if (isOre(type)) {
+                ores.merge(type, 1, Integer::sum);
+            } else if (isStoneLike(type)) {
+                stoneBreaks++;
+            }
+        }
+        
+        int rare = ores.getOrDefault(Material.DIAMOND_ORE, 0)
+                + ores.getOrDefault(Material.DEEPSLATE_DIAMOND_ORE, 0)
+                + ores.getOrDefault(Material.EMERALD_ORE, 0)
+                + ores.getOrDefault(Material.DEEPSLATE_EMERALD_ORE, 0)
+                + ores.getOrDefault(Material.ANCIENT_DEBRIS, 0);
+        
+        sender.sendMessage(ChatColor.GOLD + "=== " + target + " 채굴 기록 (최근 " + hours + "시간) ===");
+        sender.sendMessage(ChatColor.WHITE + "파괴 블록: " + ChatColor.YELLOW + totalBreaks
+                + ChatColor.GRAY + " (석재류 " + stoneBreaks + ")");
+        if (totalBreaks == 0) {
+            return;
+        }
+        sender.sendMessage(ChatColor.WHITE + "희귀 광물: " + ChatColor.AQUA + rare + ChatColor.GRAY
+                + String.format(" (%.2f%%)", rare * 100.0 / totalBreaks));
+        
+        ores.entrySet().stream()
+                .sorted(Map.Entry.<Material, Integer>comparingByValue().reversed())
+                .limit(8)
+                .forEach(entry -> sender.sendMessage(ChatColor.GRAY + " - " + entry.getKey().name().toLowerCase()
+                        + ": " + ChatColor.WHITE + entry.getValue()));
+    }
+    
+    private static boolean isOre(Material type) {
+        return type.name().endsWith("_ORE") || type == Material.ANCIENT_DEBRIS;
+    }
+    
+    private static boolean isStoneLike(Material type) {
+        return switch (type) {
+            case STONE, DEEPSLATE, TUFF, GRANITE, DIORITE, ANDESITE, NETHERRACK, BLACKSTONE, BASALT -> true;
+            default -> false;
+        };
+    }
+
     private void showHelp(CommandSender sender) {
         sender.sendMessage(ChatColor.GOLD + "=== X-ray 탐지 명령어 ===");
-        sender.sendMessage(ChatColor.YELLOW + "/xray inspect <player>" + ChatColor.WHITE + " - 플레이어 세션 조회");
+        sender.sendMessage(ChatColor.YELLOW + "/xray inspect <player> [hours]" + ChatColor.WHITE + " - 최근 채굴 기록 조회");
         sender.sendMessage(ChatColor.YELLOW + "/xray toggle" + ChatColor.WHITE + " - 시스템 활성화/비활성화");
         sender.sendMessage(ChatColor.YELLOW + "/xray status" + ChatColor.WHITE + " - 시스템 상태 확인");
-        sender.sendMessage(ChatColor.GRAY + "(SCAFFOLD - 실제 기능 미구현)");
     }
 
     @Override
@@ -88,7 +204,12 @@ public class XrayCommand implements CommandExecutor, TabCompleter {
                     .collect(Collectors.toList());
         }
 
-        // inspect의 플레이어 자동완성은 나중에 구현
+        if (args.length == 2 && args[0].equalsIgnoreCase("inspect")) {
+            return Bukkit.getOnlinePlayers().stream()
+                    .map(p -> p.getName())
+                    .filter(name -> name.toLowerCase().startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        }
 
         return Collections.emptyList();
     }
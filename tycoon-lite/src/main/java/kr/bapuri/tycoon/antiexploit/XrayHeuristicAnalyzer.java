@@ -1,101 +1,632 @@
 package kr.bapuri.tycoon.antiexploit;
 
+import kr.bapuri.tycoon.world.WorldManager;
+import kr.bapuri.tycoon.world.WorldType;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 
-import java.util.Collections;
-import java.util.Map;
-import java.util.UUID;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
 /**
- * XrayHeuristicAnalyzer - 휴리스틱 기반 X-ray 탐지 시스템
- * 
- * [SCAFFOLD] 나중에 구현 예정
+ * XrayHeuristicAnalyzer - 휴리스틱 기반 X-ray 탐지 (스트리밍 엔진)
+ *
  * - Paper Anti-Xray(engine-mode: 2) 보완책
- * - 의심스러운 채굴 패턴 분석
- * - 자동 처벌 없음, 운영자 알림만
- * 
- * 탐지 지표 (TODO):
- * 1. 희귀 광물 발견율 (다이아/에메/고대잔해)
- * 2. 직선 채굴 패턴
- * 3. 급속 희귀 광물 발견
- * 4. 터널 효율성
- * 5. Y 레벨 집중도
- * 
- * 현재: stub 구현 (기능 없음)
- * 
+ * - 자동 처벌 없음, 운영자 알림 + 의심 로그만
+ *
+ * 구조:
+ * - 플레이어별 고정 크기 ring buffer (블록 종류, Y, 시각, 플래그) - primitive 배열
+ * - 블록 파괴마다 O(1)로 누적 통계 갱신 (window에서 밀려나는 항목은 차감)
+ * - 파괴 처리 중 객체 할당 없음 (통계 객체는 플레이어당 최초 1회)
+ *
+ * 탐지 지표:
+ * 1. 희귀 광물 발견율 (광맥 단위, 다이아/에메/고대잔해)
+ * 2. 직선 채굴 패턴 (같은 방향 연속 채굴 길이)
+ * 3. 급속 희귀 광물 발견 (3분 내 발견 수)
+ * 4. 터널 효율성 (광석 / 석재)
+ * 5. 미노출 광맥 비율 (동굴 공기/액체에 닿지 않은 광맥만 찾아냄)
+ *
+ * 의심 점수는 data/xray_suspicion.log 에 한 줄 TSV로 주기 기록.
+ *
  * @see docs/reference/PAPER_ANTIXRAY_GUIDE.md Paper 설정 가이드
  */
-public class XrayHeuristicAnalyzer {
+public class XrayHeuristicAnalyzer implements Listener {
+
+    // 블록 분류 (Material.ordinal() 인덱스)
+    private static final byte KIND_IGNORED = 0;
+    private static final byte KIND_FILLER = 1;
+    private static final byte KIND_ORE = 2;
+    private static final byte KIND_RARE = 3;
+    private static final byte[] KIND_BY_MATERIAL = new byte[Material.values().length];
+
+    // ring 항목 플래그
+    private static final byte FLAG_RARE_FIND = 1;     // 새 광맥 발견
+    private static final byte FLAG_STRAIGHT = 2;      // 직전과 같은 방향 채굴
+    private static final byte FLAG_EXPOSED = 4;       // 동굴 공기/액체에 노출된 광맥
+
+    private static final long RAPID_WINDOW_MS = TimeUnit.MINUTES.toMillis(3);
+    private static final int RAPID_SLOTS = 16;
+    private static final int VEIN_RADIUS = 2;           // 이전 희귀 광물과 이 거리 이내면 같은 광맥
+    private static final long LOG_MIN_INTERVAL_MS = 60_000L;
+    private static final int LOG_BUFFER = 512;
+
+    static {
+        for (Material material : Material.values()) {
+            String name = material.name();
+            byte kind = KIND_IGNORED;
+            switch (material) {
+                case DIAMOND_ORE, DEEPSLATE_DIAMOND_ORE, EMERALD_ORE, DEEPSLATE_EMERALD_ORE, ANCIENT_DEBRIS ->
+                        kind = KIND_RARE;
+                case STONE, DEEPSLATE, TUFF, GRANITE, DIORITE, ANDESITE, CALCITE,
+                     NETHERRACK, BLACKSTONE, BASALT, SMOOTH_BASALT ->
+                        kind = KIND_FILLER;
+                default -> {
+                    if (name.endsWith("_ORE")) kind = KIND_ORE;
+                }
+            }
+            KIND_BY_MATERIAL[material.ordinal()] = kind;
+        }
+    }
+
+    private final Plugin plugin;
+    private final WorldManager worldManager;
+    private final Logger logger;
+    private final File logFile;
 
     private boolean enabled = false;
 
+    // 설정
+    private final Set<String> enabledWorldNames = new HashSet<>();
+    private int windowSize = 256;
+    private double rareFindRateThreshold = 0.03;
+    private int straightLineThreshold = 25;
+    private int rapidOreFindThreshold = 4;
+    private double tunnelEfficiencyThreshold = 0.08;
+    private long sessionTimeoutMs = TimeUnit.MINUTES.toMillis(10);
+    private long alertCooldownMs = TimeUnit.MINUTES.toMillis(15);
+    private int minBlocksForAnalysis = 50;
+    private int alertScore = 60;
+    private int logScore = 40;
+
+    // 플레이어별 통계 (메인 스레드 전용)
+    private final Map<UUID, MinerStats> stats = new HashMap<>();
+
+    // 의심 로그 대기열 (primitive ring, flush 시에만 복사)
+    private final long[] logMsb = new long[LOG_BUFFER];
+    private final long[] logLsb = new long[LOG_BUFFER];
+    private final long[] logTime = new long[LOG_BUFFER];
+    private final int[] logScoreValue = new int[LOG_BUFFER];
+    private final int[] logRare = new int[LOG_BUFFER];
+    private final int[] logTotal = new int[LOG_BUFFER];
+    private final byte[] logSignals = new byte[LOG_BUFFER];
+    private int logCount = 0;
+    private int logDropped = 0;
+
+    private final ExecutorService logWriter;
+    private BukkitTask flushTask;
+
+    public XrayHeuristicAnalyzer(Plugin plugin, WorldManager worldManager) {
+        this.plugin = plugin;
+        this.worldManager = worldManager;
+        this.logger = plugin.getLogger();
+        this.logFile = new File(plugin.getDataFolder(), "data/xray_suspicion.log");
+        this.logWriter = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Tycoon-XrayLog");
+            t.setDaemon(true);
+            return t;
+        });
+
+        loadConfig();
+        flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flushLog, 600L, 600L);
+    }
+
     /**
      * 시스템 활성화 여부
-     * 
-     * @return 활성화 상태 (현재 항상 false)
      */
     public boolean isEnabled() {
         return enabled;
     }
 
     /**
-     * 시스템 활성화/비활성화
-     * 
-     * TODO: 나중에 구현
-     * - 활성화 시 BlockBreakEvent 리스너 등록
-     * - 비활성화 시 리스너 해제 및 세션 정리
-     * 
-     * @param enabled 활성화 여부
+     * 시스템 활성화/비활성화 (비활성화 시 통계 초기화)
      */
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
-        // stub - 나중에 리스너 등록/해제 구현
+        if (!enabled) {
+            stats.clear();
+        }
+    }
+
+    // ========== 이벤트 ==========
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        if (!enabled) return;
+
+        Block block = event.getBlock();
+        byte kind = KIND_BY_MATERIAL[block.getType().ordinal()];
+        if (kind == KIND_IGNORED) return;
+
+        World world = block.getWorld();
+        if (!enabledWorldNames.contains(world.getName())) return;
+
+        Player player = event.getPlayer();
+        if (hasBypass(player)) return;
+
+        MinerStats s = stats.get(player.getUniqueId());
+        if (s == null) {
+            s = new MinerStats(windowSize);
+            stats.put(player.getUniqueId(), s);
+        }
+
+        long now = System.currentTimeMillis();
+        if (s.lastBreakAt != 0 && now - s.lastBreakAt > sessionTimeoutMs) {
+            s.reset();
+        }
+
+        int x = block.getX();
+        int y = block.getY();
+        int z = block.getZ();
+        byte flags = 0;
+
+        // 희귀 광물: 광맥 단위 발견 + 노출 여부
+        if (kind == KIND_RARE) {
+            boolean sameVein = s.hasLastRare
+                    && Math.abs(x - s.lastRareX) <= VEIN_RADIUS
+                    && Math.abs(y - s.lastRareY) <= VEIN_RADIUS
+                    && Math.abs(z - s.lastRareZ) <= VEIN_RADIUS;
+            if (!sameVein) {
+                flags |= FLAG_RARE_FIND;
+                if (isExposed(world, x, y, z)) {
+                    flags |= FLAG_EXPOSED;
+                }
+            }
+            s.hasLastRare = true;
+            s.lastRareX = x;
+            s.lastRareY = y;
+            s.lastRareZ = z;
+        }
+
+        // 직선 채굴: 가까운 연속 파괴가 같은 수평 방향이면 연장
+        if (s.lastBreakAt != 0) {
+            int dx = Integer.signum(x - s.lastX);
+            int dz = Integer.signum(z - s.lastZ);
+            int manhattan = Math.abs(x - s.lastX) + Math.abs(y - s.lastY) + Math.abs(z - s.lastZ);
+            if (manhattan <= 2 && (dx != 0 || dz != 0)) {
+                if (dx == s.lastDirX && dz == s.lastDirZ) {
+                    flags |= FLAG_STRAIGHT;
+                    s.straightRun++;
+                } else {
+                    s.straightRun = 0;
+                }
+                s.lastDirX = dx;
+                s.lastDirZ = dz;
+            } else if (manhattan > 2) {
+                s.straightRun = 0;
+            }
+            if (s.straightRun > s.maxStraightRun) {
+                s.maxStraightRun = s.straightRun;
+            }
+        }
+        s.lastX = x;
+        s.lastY = y;
+        s.lastZ = z;
+        s.lastBreakAt = now;
+
+        s.push(kind, flags, y, now);
+
+        if ((flags & FLAG_RARE_FIND) != 0) {
+            s.recordRareFind(now);
+        }
+
+        if (s.count >= minBlocksForAnalysis) {
+            evaluate(player, s, now);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        stats.remove(event.getPlayer().getUniqueId());
+    }
+
+    // ========== 판정 ==========
+
+    /**
+     * 누적 통계로 의심 점수 계산 (O(1))
+     */
+    private void evaluate(Player player, MinerStats s, long now) {
+        int score = 0;
+        byte signals = 0;
+
+        int mined = s.fillerCount + s.oreCount + s.rareCount;
+        double rareRate = mined == 0 ? 0 : (double) s.rareFinds / mined;
+        if (rareRate > rareFindRateThreshold) {
+            score += Math.min(35, (int) (35 * rareRate / (rareFindRateThreshold * 2)));
+            signals |= 1;
+        }
+
+        if (s.maxStraightRun >= straightLineThreshold) {
+            score += 15;
+            signals |= 2;
+        }
+
+        int rapid = s.rareFindsWithin(now, RAPID_WINDOW_MS);
+        if (rapid >= rapidOreFindThreshold) {
+            score += 20;
+            signals |= 4;
+        }
+
+        double efficiency = s.fillerCount == 0 ? 0 : (double) (s.oreCount + s.rareFinds) / s.fillerCount;
+        if (efficiency > tunnelEfficiencyThreshold) {
+            score += 10;
+            signals |= 8;
+        }
+
+        // 미노출 광맥만 찾는 패턴 (광맥 3개 이상일 때)
+        if (s.rareFinds >= 3 && s.exposedRareFinds * 5 < s.rareFinds) {
+            score += 20;
+            signals |= 16;
+        }
+
+        s.lastScore = score;
+        s.lastSignals = signals;
+
+        if (score >= logScore && (score != s.lastLoggedScore || now - s.lastLoggedAt >= LOG_MIN_INTERVAL_MS)
+                && now - s.lastLoggedAt >= LOG_MIN_INTERVAL_MS / 4) {
+            enqueueLog(player.getUniqueId(), now, score, s.rareFinds, mined, signals);
+            s.lastLoggedScore = score;
+            s.lastLoggedAt = now;
+        }
+
+        if (score >= alertScore && now - s.lastAlertAt >= alertCooldownMs) {
+            s.lastAlertAt = now;
+            alertAdmins(player, s, score, rapid, rareRate);
+        }
     }
 
     /**
-     * 특정 플레이어의 현재 채굴 세션 정보 조회
-     * 
-     * TODO: 나중에 구현
-     * - totalBlocks, rareOres, allOres
-     * - rareOreRate, tunnelEfficiency
-     * - maxStraightLine, diamondLevelRatio
-     * - recentRareOres_3min
-     * 
+     * 광맥이 동굴 공기/액체에 닿아 있는지 (플레이어가 판 자리는 AIR, 자연 동굴은 CAVE_AIR)
+     */
+    private boolean isExposed(World world, int x, int y, int z) {
+        return isNaturalOpening(world.getType(x + 1, y, z))
+                || isNaturalOpening(world.getType(x - 1, y, z))
+                || isNaturalOpening(world.getType(x, y + 1, z))
+                || isNaturalOpening(world.getType(x, y - 1, z))
+                || isNaturalOpening(world.getType(x, y, z + 1))
+                || isNaturalOpening(world.getType(x, y, z - 1));
+    }
+
+    private static boolean isNaturalOpening(Material type) {
+        return type == Material.CAVE_AIR || type == Material.WATER || type == Material.LAVA;
+    }
+
+    private void alertAdmins(Player suspect, MinerStats s, int score, int rapid, double rareRate) {
+        String message = ChatColor.RED + "[X-ray 의심] " + ChatColor.WHITE + suspect.getName()
+                + ChatColor.GRAY + " 점수 " + ChatColor.YELLOW + score
+                + ChatColor.GRAY + String.format(" (희귀 %d/%d, %.1f%%, 직선 %d, 3분내 %d)",
+                        s.rareFinds, s.fillerCount + s.oreCount + s.rareCount, rareRate * 100,
+                        s.maxStraightRun, rapid);
+        for (Player online : Bukkit.getOnlinePlayers()) {
+            if (online.hasPermission("tycoon.admin.xray")) {
+                online.sendMessage(message);
+            }
+        }
+        logger.info("[XrayAnalyzer] 의심 알림: " + suspect.getName() + " (점수 " + score + ")");
+    }
+
+    // ========== 의심 로그 ==========
+
+    private void enqueueLog(UUID uuid, long time, int score, int rare, int total, byte signals) {
+        if (logCount == LOG_BUFFER) {
+            logDropped++;
+            return;
+        }
+        int i = logCount++;
+        logMsb[i] = uuid.getMostSignificantBits();
+        logLsb[i] = uuid.getLeastSignificantBits();
+        logTime[i] = time;
+        logScoreValue[i] = score;
+        logRare[i] = rare;
+        logTotal[i] = total;
+        logSignals[i] = signals;
+    }
+
+    /**
+     * 대기 중인 의심 기록을 파일에 추가 (문자열 변환/IO는 로그 스레드)
+     * 형식: epochSec \t uuid \t score \t signals(bit) \t rareFinds/mined
+     */
+    private void flushLog() {
+        if (logCount == 0) return;
+
+        int n = logCount;
+        long[] msb = Arrays.copyOf(logMsb, n);
+        long[] lsb = Arrays.copyOf(logLsb, n);
+        long[] time = Arrays.copyOf(logTime, n);
+        int[] score = Arrays.copyOf(logScoreValue, n);
+        int[] rare = Arrays.copyOf(logRare, n);
+        int[] total = Arrays.copyOf(logTotal, n);
+        byte[] signals = Arrays.copyOf(logSignals, n);
+        int dropped = logDropped;
+        logCount = 0;
+        logDropped = 0;
+
+        logWriter.execute(() -> {
+            try {
+                Files.createDirectories(logFile.getParentFile().toPath());
+                try (BufferedWriter writer = Files.newBufferedWriter(logFile.toPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (int i = 0; i < n; i++) {
+                        writer.write(Long.toString(time[i] / 1000));
+                        writer.write('\t');
+                        writer.write(new UUID(msb[i], lsb[i]).toString());
+                        writer.write('\t');
+                        writer.write(Integer.toString(score[i]));
+                        writer.write('\t');
+                        writer.write(Integer.toBinaryString(signals[i] & 0xFF));
+                        writer.write('\t');
+                        writer.write(rare[i] + "/" + total[i]);
+                        writer.newLine();
+                    }
+                    if (dropped > 0) {
+                        writer.write("# " + Instant.now().getEpochSecond() + " dropped " + dropped);
+                        writer.newLine();
+                    }
+                }
+            } catch (IOException e) {
+                logger.warning("[XrayAnalyzer] 의심 로그 기록 실패: " + e.getMessage());
+            }
+        });
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 특정 플레이어의 현재 채굴 통계 (window 기준)
+     *
      * @param playerUuid 플레이어 UUID
-     * @return 세션 정보 맵 (현재 빈 맵)
+     * @return 통계 맵 (기록 없으면 빈 맵)
      */
     public Map<String, Object> getSessionInfo(UUID playerUuid) {
-        return Collections.emptyMap(); // stub
+        MinerStats s = stats.get(playerUuid);
+        if (s == null) {
+            return Collections.emptyMap();
+        }
+        long now = System.currentTimeMillis();
+        int mined = s.fillerCount + s.oreCount + s.rareCount;
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("totalBlocks", mined);
+        info.put("rareFinds", s.rareFinds);
+        info.put("exposedRareFinds", s.exposedRareFinds);
+        info.put("allOres", s.oreCount + s.rareCount);
+        info.put("rareOreRate", mined == 0 ? 0.0 : (double) s.rareFinds / mined);
+        info.put("tunnelEfficiency", s.fillerCount == 0 ? 0.0 : (double) (s.oreCount + s.rareFinds) / s.fillerCount);
+        info.put("maxStraightLine", s.maxStraightRun);
+        info.put("straightSteps", s.straightSteps);
+        info.put("averageY", s.count == 0 ? 0 : (int) (s.sumY / s.count));
+        info.put("recentRareOres_3min", s.rareFindsWithin(now, RAPID_WINDOW_MS));
+        info.put("avgTimeToRareSec", s.avgRareIntervalMs / 1000);
+        info.put("score", s.lastScore);
+        info.put("windowSeconds", s.count == 0 ? 0 : (now - s.oldestTime()) / 1000);
+        return info;
+    }
+
+    public int getTrackedPlayerCount() {
+        return stats.size();
     }
 
     /**
      * 플레이어에게 bypass 권한이 있는지 확인
-     * 
-     * @param player 플레이어
-     * @return bypass 여부 (현재 항상 true = 분석 안 함)
      */
     public boolean hasBypass(Player player) {
-        return true; // stub - 모든 플레이어 bypass
+        return player.hasPermission("tycoon.xray.bypass");
     }
 
     /**
-     * 설정 리로드
-     * 
-     * TODO: 나중에 구현
-     * - antiexploit.yml에서 임계값 로드
+     * 설정 리로드 (config.yml → xrayAnalyzer)
      */
     public void loadConfig() {
-        // stub - 나중에 구현
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("xrayAnalyzer");
+        if (section == null) {
+            return;
+        }
+
+        enabled = section.getBoolean("enabled", false);
+        windowSize = Math.max(32, section.getInt("windowSize", 256));
+        rareFindRateThreshold = section.getDouble("diamondFindRateThreshold", 0.03);
+        straightLineThreshold = section.getInt("straightLineMineThreshold", 25);
+        rapidOreFindThreshold = section.getInt("rapidOreFindThreshold", 4);
+        tunnelEfficiencyThreshold = section.getDouble("tunnelEfficiencyThreshold", 0.08);
+        sessionTimeoutMs = TimeUnit.MINUTES.toMillis(section.getInt("sessionTimeoutMinutes", 10));
+        alertCooldownMs = TimeUnit.MINUTES.toMillis(section.getInt("alertCooldownMinutes", 15));
+        minBlocksForAnalysis = section.getInt("minBlocksForAnalysis", 50);
+        alertScore = section.getInt("alertScore", 60);
+        logScore = section.getInt("logScore", 40);
+
+        // 월드 타입 키(wild) 또는 실제 월드 이름
+        enabledWorldNames.clear();
+        for (String entry : section.getStringList("enabledWorlds")) {
+            WorldType type = WorldType.fromConfigKey(entry);
+            if (type != null && worldManager != null) {
+                enabledWorldNames.add(worldManager.getWorldName(type));
+                if (type == WorldType.WILD) {
+                    enabledWorldNames.add(worldManager.getWildNetherName());
+                }
+            } else {
+                enabledWorldNames.add(entry);
+            }
+        }
+
+        // window 크기가 바뀌면 기존 통계는 폐기
+        stats.clear();
+
+        logger.info("[XrayAnalyzer] 설정 로드 (enabled=" + enabled + ", worlds=" + enabledWorldNames
+                + ", window=" + windowSize + ")");
     }
 
     /**
-     * 시스템 종료
-     * 
-     * TODO: 나중에 구현
-     * - 로그 파일 닫기
-     * - 세션 정리
+     * 시스템 종료 (대기 로그 기록)
      */
     public void shutdown() {
-        // stub - 나중에 구현
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flushLog();
+        logWriter.shutdown();
+        try {
+            logWriter.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stats.clear();
+    }
+
+    // ========== 내부 클래스 ==========
+
+    /**
+     * 플레이어별 채굴 통계 - 고정 크기 ring buffer + 누적값
+     */
+    private static final class MinerStats {
+        private final byte[] kinds;
+        private final byte[] flags;
+        private final int[] ys;
+        private final long[] times;
+        private int head;       // 다음 기록 위치
+        int count;              // window 내 항목 수
+
+        // window 누적값 (push/evict 시 O(1) 갱신)
+        int fillerCount;
+        int oreCount;
+        int rareCount;
+        int rareFinds;
+        int exposedRareFinds;
+        int straightSteps;
+        long sumY;
+
+        // 직선 채굴 (maxStraightRun은 세션 최대값)
+        int lastX, lastY, lastZ;
+        int lastDirX, lastDirZ;
+        int straightRun;
+        int maxStraightRun;
+        long lastBreakAt;
+
+        // 광맥
+        boolean hasLastRare;
+        int lastRareX, lastRareY, lastRareZ;
+
+        // 희귀 발견 시각 (3분 내 발견 수 계산용)
+        private final long[] rareTimes = new long[RAPID_SLOTS];
+        private int rareHead;
+        long lastRareAt;
+        long avgRareIntervalMs;
+
+        // 판정/알림 상태
+        int lastScore;
+        byte lastSignals;
+        int lastLoggedScore = -1;
+        long lastLoggedAt;
+        long lastAlertAt;
+
+        MinerStats(int capacity) {
+            kinds = new byte[capacity];
+            flags = new byte[capacity];
+            ys = new int[capacity];
+            times = new long[capacity];
+        }
+
+        void push(byte kind, byte flag, int y, long time) {
+            if (count == kinds.length) {
+                evict(head);
+            } else {
+                count++;
+            }
+            kinds[head] = kind;
+            flags[head] = flag;
+            ys[head] = y;
+            times[head] = time;
+            apply(kind, flag, y, 1);
+            head = (head + 1) % kinds.length;
+        }
+
+        long oldestTime() {
+            return times[count == times.length ? head : 0];
+        }
+
+        private void evict(int index) {
+            apply(kinds[index], flags[index], ys[index], -1);
+        }
+
+        private void apply(byte kind, byte flag, int y, int sign) {
+            switch (kind) {
+                case KIND_FILLER -> fillerCount += sign;
+                case KIND_ORE -> oreCount += sign;
+                case KIND_RARE -> rareCount += sign;
+                default -> { }
+            }
+            if ((flag & FLAG_RARE_FIND) != 0) rareFinds += sign;
+            if ((flag & FLAG_EXPOSED) != 0) exposedRareFinds += sign;
+            if ((flag & FLAG_STRAIGHT) != 0) straightSteps += sign;
+            sumY += (long) y * sign;
+        }
+
+        void recordRareFind(long now) {
+            if (lastRareAt != 0) {
+                long interval = now - lastRareAt;
+                // 지수 이동 평균 (최근 발견에 가중)
+                avgRareIntervalMs = avgRareIntervalMs == 0 ? interval : (avgRareIntervalMs * 3 + interval) / 4;
+            }
+            lastRareAt = now;
+            rareTimes[rareHead] = now;
+            rareHead = (rareHead + 1) % RAPID_SLOTS;
+        }
+
+        int rareFindsWithin(long now, long windowMs) {
+            int n = 0;
+            for (long t : rareTimes) {
+                if (t != 0 && now - t <= windowMs) n++;
+            }
+            return n;
+        }
+
+        void reset() {
+            head = 0;
+            count = 0;
+            fillerCount = oreCount = rareCount = 0;
+            rareFinds = exposedRareFinds = straightSteps = 0;
+            sumY = 0;
+            straightRun = maxStraightRun = 0;
+            lastDirX = lastDirZ = 0;
+            lastBreakAt = 0;
+            hasLastRare = false;
+            Arrays.fill(rareTimes, 0L);
+            rareHead = 0;
+            lastRareAt = 0;
+            avgRareIntervalMs = 0;
+            lastScore = 0;
+            lastSignals = 0;
+            lastLoggedScore = -1;
+        }
     }
 }
@@ -10,6 +10,8 @@ import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -71,22 +73,39 @@ public class ConfigUpdater {
      * @return 업데이트된 파일 수
      */
     public int updateAllConfigs() {
-        int updatedCount = 0;
-        
+        return updateAllConfigs(Runnable::run);
+    }
+    
+    /**
+     * 모든 설정 파일 업데이트 실행 (파일별 병렬)
+     * 파일끼리 서로 의존하지 않으므로 startup 풀에서 동시에 검사/병합한다.
+     * 
+     * @param executor 파일별 작업을 실행할 Executor
+     * @return 업데이트된 파일 수
+     */
+    public int updateAllConfigs(Executor executor) {
         logger.info("[ConfigUpdater] 설정 파일 업데이트 검사 시작...");
         
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
         for (Map.Entry<String, Integer> entry : CONFIG_VERSIONS.entrySet()) {
             String fileName = entry.getKey();
             int latestVersion = entry.getValue();
             
-            try {
-                boolean updated = updateConfig(fileName, latestVersion);
-                if (updated) {
-                    updatedCount++;
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return updateConfig(fileName, latestVersion);
+                } catch (Exception e) {
+                    logger.log(Level.SEVERE, "[ConfigUpdater] " + fileName + " 업데이트 실패 (원본 유지)", e);
+                    // 실패해도 다른 파일 계속 처리
+                    return false;
                 }
-            } catch (Exception e) {
-                logger.log(Level.SEVERE, "[ConfigUpdater] " + fileName + " 업데이트 실패 (원본 유지)", e);
-                // 실패해도 다른 파일 계속 처리
+            }, executor));
+        }
+        
+        int updatedCount = 0;
+        for (CompletableFuture<Boolean> future : futures) {
+            if (future.join()) {
+                updatedCount++;
             }
         }
         
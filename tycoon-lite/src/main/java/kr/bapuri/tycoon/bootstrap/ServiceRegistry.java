@@ -5,6 +5,7 @@ import kr.bapuri.tycoon.economy.EconomyService;
 import kr.bapuri.tycoon.economy.vault.VaultIntegration;
 import kr.bapuri.tycoon.integration.CitizensIntegration;
 import kr.bapuri.tycoon.integration.CoreProtectIntegration;
+import kr.bapuri.tycoon.integration.CoreProtectQueryService;
 import kr.bapuri.tycoon.integration.LandsIntegration;
 import kr.bapuri.tycoon.integration.LandsListener;
 import kr.bapuri.tycoon.integration.WorldGuardIntegration;
@@ -17,6 +18,7 @@ import kr.bapuri.tycoon.job.common.GradeBonusConfig;
 import kr.bapuri.tycoon.job.common.SellService;
 import kr.bapuri.tycoon.codex.CodexService;
 import kr.bapuri.tycoon.achievement.AchievementService;
+import kr.bapuri.tycoon.leaderboard.LeaderboardService;
 import kr.bapuri.tycoon.title.LuckPermsTitleService;
 import kr.bapuri.tycoon.bcshop.BCShopService;
 import kr.bapuri.tycoon.trade.TradeService;
@@ -94,6 +96,7 @@ public class ServiceRegistry {
     private CitizensIntegration citizensIntegration;
     private WorldGuardIntegration worldGuardIntegration;
     private CoreProtectIntegration coreProtectIntegration;
+    private CoreProtectQueryService coreProtectQueryService;
     private LandsIntegration landsIntegration;
     private LandsListener landsListener;
     
@@ -122,6 +125,9 @@ public class ServiceRegistry {
     // ===== Phase 5.B 업적 시스템 =====
     private AchievementService achievementService;
     
+    // ===== 순위표 =====
+    private LeaderboardService leaderboardService;
+    
     // ===== Phase 5.C 칭호 시스템 =====
     private LuckPermsTitleService titleService;
     
@@ -213,6 +219,17 @@ public class ServiceRegistry {
                 .filter(CoreProtectIntegration::isAvailable);
     }
     
+    public void setCoreProtectQueryService(CoreProtectQueryService coreProtectQueryService) {
+        this.coreProtectQueryService = coreProtectQueryService;
+    }
+    
+    /**
+     * CoreProtect 비동기 조회 서비스 (CoreProtect 없으면 empty)
+     */
+    public Optional<CoreProtectQueryService> getCoreProtectQueryService() {
+        return Optional.ofNullable(coreProtectQueryService);
+    }
+    
     public void setLandsIntegration(LandsIntegration lands) {
         this.landsIntegration = lands;
     }
@@ -347,6 +364,16 @@ public class ServiceRegistry {
         return achievementService;
     }
     
+    // ===== 순위표 =====
+    
+    public void setLeaderboardService(LeaderboardService service) {
+        this.leaderboardService = service;
+    }
+    
+    public LeaderboardService getLeaderboardService() {
+        return leaderboardService;
+    }
+    
     // ===== Phase 5.C 칭호 시스템 =====
     
     public void setTitleService(LuckPermsTitleService service) {
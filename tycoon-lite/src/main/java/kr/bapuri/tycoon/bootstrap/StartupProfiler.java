@@ -0,0 +1,82 @@
+package kr.bapuri.tycoon.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * StartupProfiler - 시작 단계별 소요 시간 측정
+ *
+ * onEnable의 각 init 단계를 stage()로 감싸 실행 시간을 기록하고,
+ * 마지막에 report()로 느린 단계부터 표 형태로 출력한다.
+ * 지역 변수를 이어 쓰는 구간은 checkpoint()로 직전 기록 이후 시간을 남긴다.
+ * (크래시 후 재시작이 느릴 때 어느 단계가 병목인지 바로 확인용)
+ *
+ * 단계가 예외를 던지면 기록 후 그대로 전파한다. (기존 init 실패 동작 유지)
+ */
+public class StartupProfiler {
+
+    private final Logger logger;
+    private final long startNanos = System.nanoTime();
+    private final List<Stage> stages = new ArrayList<>();
+    private long lastMark = startNanos;
+
+    private record Stage(String name, long nanos, boolean failed) {}
+
+    public StartupProfiler(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * 단계 실행 및 시간 기록
+     */
+    public void stage(String name, Runnable task) {
+        long begin = System.nanoTime();
+        boolean failed = true;
+        try {
+            task.run();
+            failed = false;
+        } finally {
+            lastMark = System.nanoTime();
+            stages.add(new Stage(name, lastMark - begin, failed));
+        }
+    }
+
+    /**
+     * 직전 stage/checkpoint 이후 경과 시간을 하나의 단계로 기록
+     */
+    public void checkpoint(String name) {
+        long now = System.nanoTime();
+        stages.add(new Stage(name, now - lastMark, false));
+        lastMark = now;
+    }
+
+    /**
+     * 시작부터 현재까지 경과 시간 (ms)
+     */
+    public long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+
+    /**
+     * 단계별 소요 시간 출력 (느린 순)
+     *
+     * @param slowThresholdMs 이 값 이상인 단계는 WARNING으로 강조
+     */
+    public void report(long slowThresholdMs) {
+        long totalNanos = System.nanoTime() - startNanos;
+        List<Stage> sorted = new ArrayList<>(stages);
+        sorted.sort(Comparator.comparingLong(Stage::nanos).reversed());
+
+        logger.info("[Startup] 단계별 소요 시간 (총 " + totalNanos / 1_000_000L + "ms, " + stages.size() + "단계)");
+        for (Stage stage : sorted) {
+            long ms = stage.nanos() / 1_000_000L;
+            double percent = totalNanos > 0 ? stage.nanos() * 100.0 / totalNanos : 0;
+            String line = String.format("[Startup]   %-24s %6dms %5.1f%%%s",
+                    stage.name(), ms, percent, stage.failed() ? " (실패)" : "");
+            logger.log(ms >= slowThresholdMs ? Level.WARNING : Level.INFO, line);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package kr.bapuri.tycoon.bootstrap;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * YamlPrefetcher - 시작 시 YAML 병렬 사전 파싱
+ *
+ * onEnable의 init 단계들은 각자 jobs.yml, codex.yml, enchants.yml 등을
+ * 메인 스레드에서 순서대로 파싱한다. 파싱 자체는 Bukkit API와 무관하므로
+ * 시작 직후 startup 풀에서 한꺼번에 파싱해 두고, 각 레지스트리는
+ * 자기 차례에 결과만 가져간다. (Bukkit 등록은 기존대로 메인 스레드)
+ *
+ * 사용법:
+ * - 시작: YamlPrefetcher.start(plugin) → prefetch("jobs.yml", 6) ...
+ * - 소비: YamlPrefetcher.load(file) / YamlPrefetcher.loadResource(plugin, "jobs.yml")
+ *   (사전 파싱본이 없거나 파일이 바뀌었으면 즉시 파싱 - 기존 동작과 동일)
+ * - 종료: finish() → 남은 작업 취소, 적중률 로그, 풀 종료
+ *
+ * 주의:
+ * - 파싱본은 한 번만 내준다 (setDefaults 등 소비자가 수정할 수 있으므로 공유 금지)
+ *   같은 파일을 여러 곳에서 읽으면 copies로 개수만큼 파싱해 둔다.
+ * - 리로드 등 시작 이후 호출은 active 인스턴스가 없으므로 항상 즉시 파싱
+ */
+public class YamlPrefetcher {
+
+    private static volatile YamlPrefetcher active;
+
+    private final Plugin plugin;
+    private final Logger logger;
+    private final ExecutorService pool;
+
+    // 파일 절대 경로 / 리소스 이름 → 소비 대기 중인 파싱본
+    private final Map<String, Deque<CompletableFuture<Parsed>>> files = new ConcurrentHashMap<>();
+    private final Map<String, Deque<CompletableFuture<YamlConfiguration>>> resources = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * 파싱 시점의 파일 상태 (소비 시 변경 여부 확인용)
+     */
+    private record Parsed(YamlConfiguration config, long lastModified, long length) {}
+
+    private YamlPrefetcher(Plugin plugin, int threads) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        this.pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Tycoon-Startup");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 시작 풀 생성 및 활성화
+     */
+    public static YamlPrefetcher start(Plugin plugin) {
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        YamlPrefetcher prefetcher = new YamlPrefetcher(plugin, threads);
+        active = prefetcher;
+        return prefetcher;
+    }
+
+    /**
+     * startup 풀 (다른 시작 작업도 같은 풀에서 병렬 실행)
+     */
+    public ExecutorService getPool() {
+        return pool;
+    }
+
+    // ========== 사전 파싱 ==========
+
+    /**
+     * 데이터 폴더의 YAML은 copies개, jar 기본값은 1개 사전 파싱
+     *
+     * @param fileName 예: "jobs.yml"
+     * @param copies 시작 중 이 파일을 읽는 소비자 수
+     */
+    public void prefetch(String fileName, int copies) {
+        Deque<CompletableFuture<YamlConfiguration>> resourceQueue =
+                resources.computeIfAbsent(fileName, k -> new ArrayDeque<>());
+        synchronized (resourceQueue) {
+            resourceQueue.add(CompletableFuture.supplyAsync(() -> parseResource(plugin, fileName), pool));
+        }
+
+        File file = new File(plugin.getDataFolder(), fileName);
+        if (!file.exists()) {
+            // saveResource 전 - 소비자가 직접 생성 후 파싱
+            return;
+        }
+        Deque<CompletableFuture<Parsed>> fileQueue =
+                files.computeIfAbsent(file.getAbsolutePath(), k -> new ArrayDeque<>());
+        for (int i = 0; i < copies; i++) {
+            CompletableFuture<Parsed> parsed = CompletableFuture.supplyAsync(() -> {
+                long lastModified = file.lastModified();
+                long length = file.length();
+                return new Parsed(YamlConfiguration.loadConfiguration(file), lastModified, length);
+            }, pool);
+            synchronized (fileQueue) {
+                fileQueue.add(parsed);
+            }
+        }
+    }
+
+    public void prefetch(String fileName) {
+        prefetch(fileName, 1);
+    }
+
+    // ========== 소비 ==========
+
+    /**
+     * YamlConfiguration.loadConfiguration(file) 대체
+     * 시작 중이고 사전 파싱본이 유효하면 그것을, 아니면 즉시 파싱
+     */
+    public static YamlConfiguration load(File file) {
+        YamlPrefetcher prefetcher = active;
+        if (prefetcher != null) {
+            YamlConfiguration config = prefetcher.takeFile(file);
+            if (config != null) {
+                return config;
+            }
+        }
+        return YamlConfiguration.loadConfiguration(file);
+    }
+
+    /**
+     * jar 내장 리소스 파싱 (기본값 병합용)
+     * @return 리소스가 없으면 null
+     */
+    public static YamlConfiguration loadResource(Plugin plugin, String resourceName) {
+        YamlPrefetcher prefetcher = active;
+        if (prefetcher != null) {
+            CompletableFuture<YamlConfiguration> future = poll(prefetcher.resources.get(resourceName));
+            if (future != null) {
+                YamlConfiguration config = prefetcher.await(future, resourceName);
+                if (config != null) {
+                    prefetcher.hits.incrementAndGet();
+                    return config;
+                }
+            }
+            prefetcher.misses.incrementAndGet();
+        }
+        return parseResource(plugin, resourceName);
+    }
+
+    private YamlConfiguration takeFile(File file) {
+        CompletableFuture<Parsed> future = poll(files.get(file.getAbsolutePath()));
+        if (future == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        Parsed parsed = await(future, file.getName());
+        if (parsed == null
+                || parsed.lastModified() != file.lastModified()
+                || parsed.length() != file.length()) {
+            // 파싱 이후 ConfigUpdater/saveResource 등으로 파일이 바뀜
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return parsed.config();
+    }
+
+    private static <T> CompletableFuture<T> poll(Deque<CompletableFuture<T>> queue) {
+        if (queue == null) return null;
+        synchronized (queue) {
+            return queue.poll();
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future, String name) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            logger.log(Level.WARNING, "[YamlPrefetcher] 사전 파싱 실패 (직접 파싱): " + name, e.getCause());
+            return null;
+        }
+    }
+
+    private static YamlConfiguration parseResource(Plugin plugin, String resourceName) {
+        try (InputStream is = plugin.getResource(resourceName)) {
+            if (is == null) return null;
+            return YamlConfiguration.loadConfiguration(new InputStreamReader(is, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // ========== 종료 ==========
+
+    /**
+     * 시작 완료 - 남은 사전 파싱 취소 및 풀 종료
+     */
+    public void finish() {
+        if (active == this) {
+            active = null;
+        }
+        int unused = 0;
+        for (Deque<CompletableFuture<Parsed>> queue : files.values()) {
+            synchronized (queue) {
+                for (CompletableFuture<Parsed> future : queue) {
+                    future.cancel(false);
+                    unused++;
+                }
+                queue.clear();
+            }
+        }
+        for (Deque<CompletableFuture<YamlConfiguration>> queue : resources.values()) {
+            synchronized (queue) {
+                queue.forEach(future -> future.cancel(false));
+                queue.clear();
+            }
+        }
+        pool.shutdownNow();
+
+        logger.info("[YamlPrefetcher] 사전 파싱 적중 " + hits.get() + "회, 직접 파싱 " + misses.get()
+                + "회" + (unused > 0 ? ", 미사용 " + unused + "개" : ""));
+    }
+}
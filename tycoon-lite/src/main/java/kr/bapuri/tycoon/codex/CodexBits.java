@@ -0,0 +1,130 @@
+package kr.bapuri.tycoon.codex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CodexBits - 플레이어 도감 등록 상태 (CodexIndex 번호 기준 비트셋)
+ *
+ * 문자열 Set 대신 long 배열 하나로 보관한다.
+ * - 등록 여부: 비트 1개 확인
+ * - 등록 수: popcount (Long.bitCount)
+ * - 카테고리 진행도: CodexRegistry 카테고리 마스크와 AND 후 popcount
+ * - 저장 스냅샷: long[] 복사 (문자열 복사 없음)
+ *
+ * 스레드 안전하지 않음 - 기존 Set과 동일하게 메인 스레드에서만 수정.
+ */
+public final class CodexBits {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] words = EMPTY;
+
+    // ========== 조회 ==========
+
+    public boolean get(int ordinal) {
+        if (ordinal < 0) return false;
+        int index = ordinal >>> 6;
+        return index < words.length && (words[index] & (1L << ordinal)) != 0;
+    }
+
+    public int cardinality() {
+        return popcount(words);
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 마스크 중 등록된 개수
+     */
+    public int countIn(long[] mask) {
+        int n = Math.min(words.length, mask.length);
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            count += Long.bitCount(words[i] & mask[i]);
+        }
+        return count;
+    }
+
+    /**
+     * 마스크 전체가 등록되었는지
+     */
+    public boolean containsAll(long[] mask) {
+        for (int i = 0; i < mask.length; i++) {
+            long have = i < words.length ? words[i] : 0L;
+            if ((have & mask[i]) != mask[i]) return false;
+        }
+        return true;
+    }
+
+    // ========== 수정 ==========
+
+    /**
+     * @return 새로 켜졌으면 true
+     */
+    public boolean set(int ordinal) {
+        int index = ordinal >>> 6;
+        if (index >= words.length) {
+            words = Arrays.copyOf(words, index + 1);
+        }
+        long bit = 1L << ordinal;
+        if ((words[index] & bit) != 0) return false;
+        words[index] |= bit;
+        return true;
+    }
+
+    /**
+     * @return 켜져 있었으면 true
+     */
+    public boolean clear(int ordinal) {
+        if (!get(ordinal)) return false;
+        words[ordinal >>> 6] &= ~(1L << ordinal);
+        return true;
+    }
+
+    public void clearAll() {
+        words = EMPTY;
+    }
+
+    // ========== 스냅샷/변환 ==========
+
+    /**
+     * 저장용 복사본 (비동기 저장 스레드로 넘길 때 사용)
+     */
+    public long[] snapshot() {
+        return words.clone();
+    }
+
+    public static int popcount(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 비트 → 아이템 이름 목록 (번호 순서)
+     */
+    public static List<String> toNames(long[] words) {
+        List<String> result = new ArrayList<>(popcount(words));
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                int ordinal = (i << 6) + Long.numberOfTrailingZeros(word);
+                String name = CodexIndex.nameOf(ordinal);
+                if (name != null) {
+                    result.add(name);
+                }
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+}
@@ -142,10 +142,7 @@ public class CodexCommand implements CommandExecutor, TabCompleter {
             List<CodexRule> rules = registry.getByCategory(catKey);
 
             int catTotal = rules.size();
-            int catUnlocked = 0;
-            for (CodexRule r : rules) {
-                if (codexService.isUnlocked(player, r.getMaterial())) catUnlocked++;
-            }
+            int catUnlocked = codexService.getCategoryProgress(player.getUniqueId(), catKey);
 
             double catPercent = (catTotal == 0) ? 0.0 : (catUnlocked * 100.0 / catTotal);
             boolean complete = catUnlocked == catTotal;
@@ -33,6 +33,11 @@ import java.util.*;
  * Phase 7 개선사항:
  * - 카테고리별 자연스러운 그리드 배치 (새 줄에서 시작)
  * - 클릭 쿨다운으로 빠른 클릭 버그 방지
+ * 
+ * 렌더링 캐시:
+ * - 도감 아이템은 (규칙, 등록 여부, 진행도)별 템플릿을 한 번만 만들고 복제해서 사용
+ * - 배치 목록은 카탈로그 해시가 바뀔 때만 재계산
+ * - 화면을 프레임 배열로 만든 뒤 직전 프레임과 달라진 슬롯만 인벤토리에 반영
  */
 public class CodexGuiManager implements Listener {
 
@@ -72,11 +77,45 @@ public class CodexGuiManager implements Listener {
     // 클릭 쿨다운 (빠른 클릭 버그 방지)
     private final Map<UUID, Long> lastClickTime = new HashMap<>();
     private static final long CLICK_COOLDOWN_MS = 200;
+    
+    // ========== 렌더링 캐시 (메인 스레드 전용) ==========
+    
+    private static final int MAX_ITEM_TEMPLATES = 4096;
+    
+    // 수집도감 표시 순서 (카탈로그 해시가 바뀌면 재계산)
+    private List<Material> collectionLayout = List.of();
+    private String layoutCatalogHash;
+    
+    // 도감 아이템 템플릿 (규칙 + 등록 여부 + 진행도)
+    private final Map<ItemTemplateKey, ItemStack> itemTemplates = new HashMap<>();
+    
+    // 고정 아이템
+    private final ItemStack borderItem;
+    private final ItemStack collectionTabActive;
+    private final ItemStack collectionTabInactive;
+    private final ItemStack rewardTabActive;
+    private final ItemStack rewardTabInactive;
+    private final ItemStack milestoneHeader;
+    private final ItemStack categoryHeader;
 
     public CodexGuiManager(JavaPlugin plugin, CodexService codexService, PlayerDataManager dataManager) {
         this.plugin = plugin;
         this.codexService = codexService;
         this.dataManager = dataManager;
+        
+        this.borderItem = createItem(Material.GRAY_STAINED_GLASS_PANE, " ", null);
+        this.collectionTabActive = createItem(Material.WRITABLE_BOOK, "§a§l▶ 수집도감",
+            Arrays.asList("", "§7클릭하여 도감 목록 보기"));
+        this.collectionTabInactive = createItem(Material.BOOK, "§7수집도감",
+            Arrays.asList("", "§7클릭하여 도감 목록 보기"));
+        this.rewardTabActive = createItem(Material.CHEST, "§d§l▶ 보상",
+            Arrays.asList("", "§7클릭하여 보상 목록 보기"));
+        this.rewardTabInactive = createItem(Material.ENDER_CHEST, "§7보상",
+            Arrays.asList("", "§7클릭하여 보상 목록 보기"));
+        this.milestoneHeader = createItem(Material.GOLD_INGOT, "§6§l마일스톤 보상",
+            Arrays.asList("", "§7도감 수집 개수에 따른 보상"));
+        this.categoryHeader = createItem(Material.DIAMOND, "§b§l카테고리 완성 보상",
+            Arrays.asList("", "§7카테고리별 전체 수집 보상"));
     }
 
     /**
@@ -109,54 +148,61 @@ public class CodexGuiManager implements Listener {
 
     /**
      * GUI 렌더링
+     * 
+     * 프레임 배열에 화면 전체를 그린 뒤 직전 프레임과 다른 슬롯만 반영
      */
     private void renderGui(Player player, Inventory inv, GuiSession session) {
-        inv.clear();
+        ItemStack[] frame = new ItemStack[GUI_SIZE];
 
         // 테두리 채우기
-        ItemStack border = createItem(Material.GRAY_STAINED_GLASS_PANE, " ", null);
-        for (int i = 0; i < 9; i++) inv.setItem(i, border);
-        for (int i = 45; i < 54; i++) inv.setItem(i, border);
+        for (int i = 0; i < 9; i++) frame[i] = borderItem;
+        for (int i = 45; i < 54; i++) frame[i] = borderItem;
 
         // 탭 버튼
-        renderTabs(inv, session.tab);
+        renderTabs(frame, session.tab);
 
         // 진행도 표시
-        renderProgress(player, inv);
+        renderProgress(player, frame);
 
         // 탭별 컨텐츠
         if (session.tab == TabType.COLLECTION) {
-            renderCollectionTab(player, inv, session);
+            renderCollectionTab(player, frame, session);
         } else {
-            renderRewardTab(player, inv, session);
+            renderRewardTab(player, frame, session);
+        }
+        
+        applyFrame(inv, session, frame);
+    }
+    
+    /**
+     * 직전 프레임과 달라진 슬롯만 인벤토리에 반영
+     * (템플릿은 같은 인스턴스를 재사용하므로 대부분 참조 비교로 끝남)
+     */
+    private void applyFrame(Inventory inv, GuiSession session, ItemStack[] frame) {
+        ItemStack[] shown = session.shown;
+        for (int i = 0; i < GUI_SIZE; i++) {
+            if (!Objects.equals(frame[i], shown[i])) {
+                inv.setItem(i, frame[i] != null ? frame[i].clone() : null);
+            }
         }
+        session.shown = frame;
     }
 
     /**
      * 탭 버튼 렌더링
      */
-    private void renderTabs(Inventory inv, TabType currentTab) {
+    private void renderTabs(ItemStack[] frame, TabType currentTab) {
         boolean isCollection = (currentTab == TabType.COLLECTION);
-        ItemStack collectionTab = createItem(
-            isCollection ? Material.WRITABLE_BOOK : Material.BOOK,
-            isCollection ? "§a§l▶ 수집도감" : "§7수집도감",
-            Arrays.asList("", "§7클릭하여 도감 목록 보기")
-        );
-        inv.setItem(SLOT_TAB_COLLECTION, collectionTab);
+        frame[SLOT_TAB_COLLECTION] = isCollection ? collectionTabActive : collectionTabInactive;
 
         boolean isReward = (currentTab == TabType.REWARD);
-        ItemStack rewardTab = createItem(
-            isReward ? Material.CHEST : Material.ENDER_CHEST,
-            isReward ? "§d§l▶ 보상" : "§7보상",
-            Arrays.asList("", "§7클릭하여 보상 목록 보기")
-        );
-        inv.setItem(SLOT_TAB_REWARD, rewardTab);
+        frame[SLOT_TAB_REWARD] = isReward ? rewardTabActive : rewardTabInactive;
     }
 
     /**
      * 진행도 표시
      */
-    private void renderProgress(Player player, Inventory inv) {
+    private void renderProgress(Player player, ItemStack[] frame) {
         int collected = codexService.getCollectedCount(player);
         int total = codexService.getTotalCount();
         double percent = codexService.getProgressPercent(player.getUniqueId());
@@ -173,7 +219,7 @@ public class CodexGuiManager implements Listener {
                 "§f진행률: §a" + String.format("%.1f", percent) + "%"
             )
         );
-        inv.setItem(SLOT_PROGRESS, progress);
+        frame[SLOT_PROGRESS] = progress;
     }
     
     private String buildProgressBar(double percent) {
@@ -186,123 +232,130 @@ public class CodexGuiManager implements Listener {
     }
 
     /**
-     * 수집도감 탭 렌더링 (카테고리별 자연스러운 배치)
-     * 
-     * 개선사항: 각 카테고리가 새 줄에서 시작하여 시각적 구분
+     * 수집도감 탭 렌더링 (카테고리 순서대로 배치)
      */
-    private void renderCollectionTab(Player player, Inventory inv, GuiSession session) {
-        CodexRegistry registry = codexService.getRegistry();
-        
-        // 카테고리별로 아이템 + 슬롯 위치 계산
-        List<SlotItem> allItems = new ArrayList<>();
-        int currentRow = 0;
-        int currentCol = 0;
-        
-        for (String category : registry.getCategoryOrder()) {
-            List<CodexRule> rules = registry.getByCategory(category);
-            if (rules.isEmpty()) continue;
-            
-            // 새 카테고리는 새 줄에서 시작 (첫 카테고리 제외)
-            if (!allItems.isEmpty() && currentCol > 0) {
-                currentRow++;
-                currentCol = 0;
-            }
-            
-            for (CodexRule rule : rules) {
-                if (currentRow >= ITEMS_ROWS) {
-                    // 페이지 넘어감
-                    currentRow = 0;
-                    currentCol = 0;
-                }
-                
-                int slot = ITEMS_START_SLOT + (currentRow * ITEMS_PER_ROW) + currentCol;
-                allItems.add(new SlotItem(slot, rule, category));
-                
-                currentCol++;
-                if (currentCol >= ITEMS_PER_ROW) {
-                    currentCol = 0;
-                    currentRow++;
-                }
-            }
-        }
+    private void renderCollectionTab(Player player, ItemStack[] frame, GuiSession session) {
+        List<Material> layout = getCollectionLayout();
 
         // 페이지 계산
         int itemsPerPage = ITEMS_ROWS * ITEMS_PER_ROW; // 36
-        int totalPages = (int) Math.ceil(allItems.size() / (double) itemsPerPage);
+        int totalPages = (int) Math.ceil(layout.size() / (double) itemsPerPage);
         if (totalPages < 1) totalPages = 1;
         if (session.page > totalPages) session.page = totalPages;
         if (session.page < 1) session.page = 1;
 
         // 현재 페이지 아이템만 렌더링
         int startIdx = (session.page - 1) * itemsPerPage;
-        int endIdx = Math.min(startIdx + itemsPerPage, allItems.size());
+        int endIdx = Math.min(startIdx + itemsPerPage, layout.size());
+        
+        // 인벤토리는 한 번만 훑어서 재료별 수량 집계
+        Map<Material, Integer> vanillaCounts = countVanillaItems(player);
 
         for (int i = startIdx; i < endIdx; i++) {
-            SlotItem si = allItems.get(i);
-            int displaySlot = ITEMS_START_SLOT + (i - startIdx);
+            Material mat = layout.get(i);
+            CodexRule rule = codexService.getRule(mat);
+            if (rule == null) continue;
             
-            CodexRule rule = si.rule;
-            Material mat = rule.getMaterial();
             boolean unlocked = codexService.isUnlocked(player, mat);
             int required = Math.max(rule.getRequiredCount(), 1);
-            int playerHas = countVanillaItems(player, mat);
-
-            ItemStack item = new ItemStack(mat, 1);
-            ItemMeta meta = item.getItemMeta();
-            if (meta != null) {
-                String name = rule.getKoreanDisplayName();
-                if (unlocked) {
-                    meta.setDisplayName(ICON_CHECK + " §a" + name);
+            int progress = unlocked ? 0 : Math.min(vanillaCounts.getOrDefault(mat, 0), required);
+
+            frame[ITEMS_START_SLOT + (i - startIdx)] = getItemTemplate(rule, unlocked, progress, required);
+        }
+
+        // 페이지 네비게이션
+        renderPageNavigation(frame, session.page, totalPages);
+        
+        // 세션에 페이지 정보 저장
+        session.totalPages = totalPages;
+    }
+    
+    /**
+     * 수집도감 표시 순서 (카탈로그가 바뀌었을 때만 재계산, 템플릿도 함께 폐기)
+     */
+    private List<Material> getCollectionLayout() {
+        CodexRegistry registry = codexService.getRegistry();
+        String catalogHash = registry.getCatalogHash();
+        if (catalogHash != null && catalogHash.equals(layoutCatalogHash)) {
+            return collectionLayout;
+        }
+        
+        List<Material> layout = new ArrayList<>();
+        for (String category : registry.getCategoryOrder()) {
+            for (CodexRule rule : registry.getByCategory(category)) {
+                layout.add(rule.getMaterial());
+            }
+        }
+        collectionLayout = List.copyOf(layout);
+        layoutCatalogHash = catalogHash;
+        itemTemplates.clear();
+        return collectionLayout;
+    }
+    
+    /**
+     * 도감 아이템 템플릿 조회 (없으면 생성)
+     */
+    private ItemStack getItemTemplate(CodexRule rule, boolean unlocked, int progress, int required) {
+        ItemTemplateKey key = new ItemTemplateKey(rule, unlocked, progress);
+        ItemStack template = itemTemplates.get(key);
+        if (template == null) {
+            if (itemTemplates.size() >= MAX_ITEM_TEMPLATES) {
+                itemTemplates.clear();
+            }
+            template = buildCollectionItem(rule, unlocked, progress, required);
+            itemTemplates.put(key, template);
+        }
+        return template;
+    }
+    
+    private ItemStack buildCollectionItem(CodexRule rule, boolean unlocked, int progress, int required) {
+        ItemStack item = new ItemStack(rule.getMaterial(), 1);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            String name = rule.getKoreanDisplayName();
+            if (unlocked) {
+                meta.setDisplayName(ICON_CHECK + " §a" + name);
+            } else {
+                meta.setDisplayName("§7" + name);
+            }
+
+            List<String> lore = new ArrayList<>();
+            lore.add("§8카테고리: " + rule.getCategory());
+            lore.add("");
+            
+            if (unlocked) {
+                lore.add("§a§l등록 완료!");
+                // 등록된 아이템에 인챈트 글로우 효과 추가
+                meta.addEnchant(Enchantment.DURABILITY, 1, true);
+            } else {
+                String progressColor = progress >= required ? "§a" : "§c";
+                lore.add("§f진행도: " + progressColor + progress + "§7/" + required);
+                
+                if (rule.isConsumeOnRegister()) {
+                    lore.add("§7(등록 시 아이템 소멸)");
                 } else {
-                    meta.setDisplayName("§7" + name);
+                    lore.add("§7(등록 시 아이템 유지)");
                 }
-
-                List<String> lore = new ArrayList<>();
-                lore.add("§8카테고리: " + rule.getCategory());
-                lore.add("");
                 
-                if (unlocked) {
-                    lore.add("§a§l등록 완료!");
-                    // 등록된 아이템에 인챈트 글로우 효과 추가
-                    meta.addEnchant(Enchantment.DURABILITY, 1, true);
+                lore.add("");
+                if (progress >= required) {
+                    lore.add("§e클릭하여 등록!");
                 } else {
-                    int progress = Math.min(playerHas, required);
-                    String progressColor = progress >= required ? "§a" : "§c";
-                    lore.add("§f진행도: " + progressColor + progress + "§7/" + required);
-                    
-                    if (rule.isConsumeOnRegister()) {
-                        lore.add("§7(등록 시 아이템 소멸)");
-                    } else {
-                        lore.add("§7(등록 시 아이템 유지)");
-                    }
-                    
-                    lore.add("");
-                    if (progress >= required) {
-                        lore.add("§e클릭하여 등록!");
-                    } else {
-                        lore.add("§c아이템이 부족합니다.");
-                    }
+                    lore.add("§c아이템이 부족합니다.");
                 }
-
-                meta.setLore(lore);
-                meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES, ItemFlag.HIDE_ENCHANTS);
-                item.setItemMeta(meta);
             }
 
-            inv.setItem(displaySlot, item);
+            meta.setLore(lore);
+            meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES, ItemFlag.HIDE_ENCHANTS);
+            item.setItemMeta(meta);
         }
-
-        // 페이지 네비게이션
-        renderPageNavigation(inv, session.page, totalPages);
-        
-        // 세션에 페이지 정보 저장
-        session.totalPages = totalPages;
+        return item;
     }
 
     /**
      * 보상 탭 렌더링
      */
-    private void renderRewardTab(Player player, Inventory inv, GuiSession session) {
+    private void renderRewardTab(Player player, ItemStack[] frame, GuiSession session) {
         UUID uuid = player.getUniqueId();
         PlayerTycoonData data = dataManager.get(player);
         int collected = codexService.getCollectedCount(player);
@@ -311,12 +364,7 @@ public class CodexGuiManager implements Listener {
         int slot = 9;
         
         // ===== 마일스톤 보상 섹션 =====
-        ItemStack milestoneHeader = createItem(
-            Material.GOLD_INGOT,
-            "§6§l마일스톤 보상",
-            Arrays.asList("", "§7도감 수집 개수에 따른 보상")
-        );
-        inv.setItem(slot++, milestoneHeader);
+        frame[slot++] = milestoneHeader;
         slot++; // 공백
         
         // 마일스톤 목록 (정렬)
@@ -367,18 +415,13 @@ public class CodexGuiManager implements Listener {
             }
             
             ItemStack item = createItem(mat, "§e" + milestone + "개 마일스톤", lore);
-            inv.setItem(slot++, item);
+            frame[slot++] = item;
         }
         
         // ===== 카테고리 완성 보상 섹션 =====
         slot = 36; // 4번째 줄부터 (마일스톤이 2줄 차지)
         
-        ItemStack categoryHeader = createItem(
-            Material.DIAMOND,
-            "§b§l카테고리 완성 보상",
-            Arrays.asList("", "§7카테고리별 전체 수집 보상")
-        );
-        inv.setItem(slot++, categoryHeader);
+        frame[slot++] = categoryHeader;
         slot++; // 공백
         
         for (String category : registry.getCategoryOrder()) {
@@ -413,17 +456,17 @@ public class CodexGuiManager implements Listener {
                     "§d보상: " + CurrencyType.BOTTCOIN.format(catReward)
                 )
             );
-            inv.setItem(slot++, item);
+            frame[slot++] = item;
         }
 
         // 페이지 네비게이션 (현재 1페이지만)
-        renderPageNavigation(inv, 1, 1);
+        renderPageNavigation(frame, 1, 1);
     }
 
     /**
      * 페이지 네비게이션 렌더링
      */
-    private void renderPageNavigation(Inventory inv, int currentPage, int totalPages) {
+    private void renderPageNavigation(ItemStack[] frame, int currentPage, int totalPages) {
         // 이전 페이지
         if (currentPage > 1) {
             ItemStack prev = createItem(
@@ -431,7 +474,7 @@ public class CodexGuiManager implements Listener {
                 "§e◀ 이전 페이지",
                 Arrays.asList("§7페이지 " + (currentPage - 1))
             );
-            inv.setItem(SLOT_PREV_PAGE, prev);
+            frame[SLOT_PREV_PAGE] = prev;
         }
 
         // 페이지 정보
@@ -440,7 +483,7 @@ public class CodexGuiManager implements Listener {
             "§f페이지 " + currentPage + " / " + totalPages,
             null
         );
-        inv.setItem(SLOT_PAGE_INFO, pageInfo);
+        frame[SLOT_PAGE_INFO] = pageInfo;
 
         // 다음 페이지
         if (currentPage < totalPages) {
@@ -449,7 +492,7 @@ public class CodexGuiManager implements Listener {
                 "§e다음 페이지 ▶",
                 Arrays.asList("§7페이지 " + (currentPage + 1))
             );
-            inv.setItem(SLOT_NEXT_PAGE, next);
+            frame[SLOT_NEXT_PAGE] = next;
         }
     }
 
@@ -588,12 +631,30 @@ public class CodexGuiManager implements Listener {
         int count = 0;
         for (ItemStack item : player.getInventory().getContents()) {
             if (item == null || item.getType() != mat) continue;
-            if (item.hasItemMeta() && item.getItemMeta().hasCustomModelData()) continue;
-            if (item.hasItemMeta() && item.getItemMeta().hasDisplayName()) continue;
+            if (!isVanillaItem(item)) continue;
             count += item.getAmount();
         }
         return count;
     }
+    
+    /**
+     * 순수 바닐라 아이템 재료별 수량 (인벤토리 1회 순회)
+     */
+    private Map<Material, Integer> countVanillaItems(Player player) {
+        Map<Material, Integer> counts = new EnumMap<>(Material.class);
+        for (ItemStack item : player.getInventory().getContents()) {
+            if (item == null || item.getType().isAir()) continue;
+            if (!isVanillaItem(item)) continue;
+            counts.merge(item.getType(), item.getAmount(), Integer::sum);
+        }
+        return counts;
+    }
+    
+    private boolean isVanillaItem(ItemStack item) {
+        if (!item.hasItemMeta()) return true;
+        ItemMeta meta = item.getItemMeta();
+        return !meta.hasCustomModelData() && !meta.hasDisplayName();
+    }
 
     // ========== 내부 타입 ==========
 
@@ -607,6 +668,7 @@ public class CodexGuiManager implements Listener {
         TabType tab;
         int page;
         int totalPages = 1;
+        ItemStack[] shown = new ItemStack[GUI_SIZE]; // 마지막으로 반영한 프레임
 
         GuiSession(UUID playerUuid, TabType tab, int page) {
             this.playerUuid = playerUuid;
@@ -616,18 +678,9 @@ public class CodexGuiManager implements Listener {
     }
     
     /**
-     * 슬롯-아이템 매핑용 내부 클래스
+     * 도감 아이템 템플릿 키 (규칙은 리로드 시 새 인스턴스이므로 참조 비교)
      */
-    private static class SlotItem {
-        final int slot;
-        final CodexRule rule;
-        final String category;
-        
-        SlotItem(int slot, CodexRule rule, String category) {
-            this.slot = slot;
-            this.rule = rule;
-            this.category = category;
-        }
+    private record ItemTemplateKey(CodexRule rule, boolean unlocked, int progress) {
     }
     
     /**
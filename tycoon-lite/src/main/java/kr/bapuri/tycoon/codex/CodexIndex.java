@@ -0,0 +1,68 @@
+package kr.bapuri.tycoon.codex;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CodexIndex - 도감 아이템 이름 ↔ 비트 번호(ordinal) 매핑
+ *
+ * 플레이어 도감 진행도(CodexBits)의 각 비트가 어떤 아이템인지 정한다.
+ * 번호는 한 번 정해지면 서버가 꺼질 때까지 바뀌지 않는다 (추가만 가능).
+ * - CodexRegistry가 로드 시 codex.yml 순서대로 먼저 번호를 받는다
+ * - codex.yml에서 빠진 아이템도 플레이어 데이터에 남아 있으면 뒤에 번호를 받는다
+ * - 리로드로 아이템이 추가되면 새 번호만 늘어나므로 기존 비트는 그대로 유효
+ *
+ * 번호는 저장하지 않는다. 디스크에는 기존처럼 이름 목록(codex.unlocked)으로 저장하므로
+ * codex.yml을 수정해도 저장 데이터가 어긋나지 않는다.
+ */
+public final class CodexIndex {
+
+    private static final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[0];
+
+    private CodexIndex() {}
+
+    /**
+     * 이름의 번호 (없으면 새로 부여)
+     */
+    public static int ordinalOf(String name) {
+        Integer ordinal = ordinals.get(name);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        synchronized (CodexIndex.class) {
+            ordinal = ordinals.get(name);
+            if (ordinal != null) {
+                return ordinal;
+            }
+            String[] current = names;
+            String[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = name;
+            names = grown;
+            ordinals.put(name, current.length);
+            return current.length;
+        }
+    }
+
+    /**
+     * 이미 부여된 번호 조회
+     * @return 없으면 -1 (아무도 등록하지 않은 아이템)
+     */
+    public static int find(String name) {
+        Integer ordinal = ordinals.get(name);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * 번호에 해당하는 이름
+     */
+    public static String nameOf(int ordinal) {
+        String[] current = names;
+        return ordinal >= 0 && ordinal < current.length ? current[ordinal] : null;
+    }
+
+    public static int size() {
+        return names.length;
+    }
+}
@@ -0,0 +1,101 @@
+package kr.bapuri.tycoon.codex;
+
+import kr.bapuri.tycoon.player.PlayerTycoonData;
+
+/**
+ * CodexProgress - 플레이어별 도감 집계 (카테고리별 등록 수 + 다음 마일스톤)
+ *
+ * 도감 화면(GUI/모드/명령어)이 열릴 때마다 전체 아이템을 훑지 않도록
+ * 등록/해제 시점에 카테고리 카운터를 ±1 갱신한다.
+ * → 요약 화면은 O(카테고리 수)
+ *
+ * 생명주기:
+ * - CodexService.getProgress()가 처음 필요할 때 마스크 popcount로 생성
+ * - PlayerTycoonData의 도감 등록/해제가 onUnlocked/onLocked 호출
+ * - 마일스톤 수령 상태가 바뀌면 다음 마일스톤만 다시 계산
+ * - codex.yml 리로드로 generation이 바뀌면 다음 조회 때 새로 생성
+ *
+ * 저장하지 않는 캐시 (PlayerTycoonData 언로드 시 함께 사라짐). 메인 스레드 전용.
+ */
+public final class CodexProgress {
+
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private final int generation;
+    private final long[][] masks;           // 카테고리 순서 (CodexRegistry.getCategoryOrder)
+    private final int[] counts;
+    private final int[] milestoneTargets;   // 오름차순
+    private int nextMilestone = UNKNOWN;
+
+    CodexProgress(int generation, long[][] masks, int[] milestoneTargets, PlayerTycoonData data) {
+        this.generation = generation;
+        this.masks = masks;
+        this.milestoneTargets = milestoneTargets;
+        this.counts = new int[masks.length];
+        for (int i = 0; i < masks.length; i++) {
+            counts[i] = data.countCodexIn(masks[i]);
+        }
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    // ========== 카테고리 ==========
+
+    /**
+     * 카테고리 등록 수
+     * @param categoryIndex CodexRegistry.getCategoryIndex() (-1이면 0)
+     */
+    public int getCategoryCount(int categoryIndex) {
+        return categoryIndex >= 0 && categoryIndex < counts.length ? counts[categoryIndex] : 0;
+    }
+
+    // ========== 등록/해제 반영 ==========
+
+    public void onUnlocked(int ordinal) {
+        adjust(ordinal, 1);
+    }
+
+    public void onLocked(int ordinal) {
+        adjust(ordinal, -1);
+    }
+
+    private void adjust(int ordinal, int delta) {
+        if (ordinal < 0) return;
+        int word = ordinal >>> 6;
+        long bit = 1L << ordinal;
+        for (int i = 0; i < masks.length; i++) {
+            long[] mask = masks[i];
+            if (word < mask.length && (mask[word] & bit) != 0) {
+                counts[i] += delta;
+            }
+        }
+    }
+
+    // ========== 마일스톤 ==========
+
+    /**
+     * 아직 수령하지 않은 가장 낮은 마일스톤
+     * @return 모두 수령했으면 -1
+     */
+    public int getNextMilestone(PlayerTycoonData data) {
+        if (nextMilestone == UNKNOWN) {
+            nextMilestone = -1;
+            for (int target : milestoneTargets) {
+                if (!data.hasClaimedCodexMilestone(target)) {
+                    nextMilestone = target;
+                    break;
+                }
+            }
+        }
+        return nextMilestone;
+    }
+
+    /**
+     * 마일스톤 수령 상태 변경 시 호출
+     */
+    public void invalidateMilestone() {
+        nextMilestone = UNKNOWN;
+    }
+}
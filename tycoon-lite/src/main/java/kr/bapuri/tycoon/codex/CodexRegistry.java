@@ -1,14 +1,16 @@
 package kr.bapuri.tycoon.codex;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
+import kr.bapuri.tycoon.player.PlayerTycoonData;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -31,9 +33,14 @@ import java.util.logging.Logger;
  *   25:
  *     bottcoin: 10
  *     bd: 1000
+ * 
+ * 각 아이템은 로드 순서대로 CodexIndex 번호를 받고, 카테고리별 비트 마스크를 미리 만들어 둔다.
+ * (플레이어 진행도 = CodexBits & 마스크 popcount)
  */
 public class CodexRegistry {
 
+    private static final long[] EMPTY_MASK = new long[0];
+
     private final Plugin plugin;
     private final Logger logger;
 
@@ -43,6 +50,14 @@ public class CodexRegistry {
     private final Map<String, List<CodexRule>> byCategory = new LinkedHashMap<>();
     // 카테고리 순서 유지
     private final List<String> categoryOrder = new ArrayList<>();
+    // category -> CodexIndex 비트 마스크 (진행도 집계용)
+    private final Map<String, long[]> categoryMasks = new HashMap<>();
+    private final Map<String, Integer> categoryIndex = new HashMap<>();
+    private long[][] orderedMasks = new long[0][];
+    private int[] milestoneTargets = new int[0];
+    
+    // 로드할 때마다 증가 (플레이어별 CodexProgress 재생성 기준)
+    private int generation = 0;
     
     // 마일스톤 보상 (count -> MilestoneReward)
     private final Map<Integer, MilestoneReward> milestones = new LinkedHashMap<>();
@@ -53,6 +68,10 @@ public class CodexRegistry {
     
     // [2026-02-01] 보상 버전 (소급적용용)
     private int configVersion = 1;
+    
+    // 카테고리별 정적 카탈로그 해시 (모드 클라이언트 캐시 검증용)
+    private final Map<String, String> categoryHashes = new LinkedHashMap<>();
+    private String catalogHash = "";
 
     public CodexRegistry(Plugin plugin) {
         this.plugin = plugin;
@@ -82,6 +101,34 @@ public class CodexRegistry {
         return byCategory.getOrDefault(category, Collections.emptyList());
     }
     
+    /**
+     * 카테고리 아이템 비트 마스크 (CodexIndex 번호 기준, 수정 금지)
+     * @return 알 수 없는 카테고리면 빈 배열
+     */
+    public long[] getCategoryMask(String category) {
+        return categoryMasks.getOrDefault(category, EMPTY_MASK);
+    }
+    
+    /**
+     * 카테고리 순번 (getCategoryOrder 기준)
+     * @return 알 수 없는 카테고리면 -1
+     */
+    public int getCategoryIndex(String category) {
+        Integer index = categoryIndex.get(category);
+        return index != null ? index : -1;
+    }
+    
+    public int getGeneration() {
+        return generation;
+    }
+    
+    /**
+     * 현재 카탈로그 기준 플레이어 집계 생성 (마스크 popcount)
+     */
+    CodexProgress newProgress(PlayerTycoonData data) {
+        return new CodexProgress(generation, orderedMasks, milestoneTargets, data);
+    }
+    
     public Map<Integer, MilestoneReward> getMilestones() {
         return Collections.unmodifiableMap(milestones);
     }
@@ -107,6 +154,43 @@ public class CodexRegistry {
     public int getConfigVersion() {
         return configVersion;
     }
+    
+    /**
+     * 카테고리의 정적 카탈로그 해시
+     * 
+     * <p>아이템 ID, 한글 이름, 필요 수량, 보상이 바뀌면 해시도 바뀝니다.
+     * 클라이언트 모드는 이 값으로 디스크 캐시의 유효성을 판단합니다.</p>
+     * 
+     * @return 해시 문자열 (알 수 없는 카테고리면 null)
+     */
+    public String getCategoryHash(String category) {
+        return categoryHashes.get(category);
+    }
+    
+    /**
+     * 카테고리명 → 카탈로그 해시 (카테고리 순서 유지)
+     */
+    public Map<String, String> getCategoryHashes() {
+        return Collections.unmodifiableMap(categoryHashes);
+    }
+    
+    /**
+     * 전체 도감 카탈로그 해시 (카테고리 해시들의 조합)
+     */
+    public String getCatalogHash() {
+        return catalogHash;
+    }
+    
+    /**
+     * 도감 아이템 표시 보상 (override가 있으면 사용, 없으면 defaults 값)
+     */
+    public long resolveReward(CodexRule rule) {
+        if (rule == null) return 0;
+        if (rule.hasRewardOverride()) {
+            return rule.getRewardOverride();
+        }
+        return rule.isConsumeOnRegister() ? defaultConsumeReward : defaultKeepReward;
+    }
 
     // ========== Config Loading ==========
     
@@ -122,6 +206,9 @@ public class CodexRegistry {
         byCategory.clear();
         categoryOrder.clear();
         milestones.clear();
+        categoryHashes.clear();
+        categoryMasks.clear();
+        categoryIndex.clear();
         
         // codex.yml 파일 로드
         File codexFile = new File(plugin.getDataFolder(), "codex.yml");
@@ -129,13 +216,11 @@ public class CodexRegistry {
             plugin.saveResource("codex.yml", false);
         }
         
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(codexFile);
+        YamlConfiguration config = YamlPrefetcher.load(codexFile);
         
         // 기본값 로드 (jar 내부)
-        InputStream defaultStream = plugin.getResource("codex.yml");
-        if (defaultStream != null) {
-            YamlConfiguration defaults = YamlConfiguration.loadConfiguration(
-                new InputStreamReader(defaultStream, StandardCharsets.UTF_8));
+        YamlConfiguration defaults = YamlPrefetcher.loadResource(plugin, "codex.yml");
+        if (defaults != null) {
             config.setDefaults(defaults);
         }
         
@@ -148,6 +233,13 @@ public class CodexRegistry {
         // 마일스톤 로드
         loadMilestones(config);
         
+        // 카테고리 비트 마스크 계산
+        computeMasks();
+        generation++;
+        
+        // 카탈로그 해시 계산 (클라이언트 캐시 검증용)
+        computeCatalogHashes();
+        
         logger.info("[CodexRegistry] Loaded rules: " + ruleMap.size() 
             + ", categories: " + categoryOrder.size()
             + ", milestones: " + milestones.size()
@@ -258,6 +350,7 @@ public class CodexRegistry {
             
             ruleMap.put(mat, rule);
             byCategory.get(category).add(rule);
+            CodexIndex.ordinalOf(mat.name());
         }
     }
     
@@ -314,6 +407,68 @@ public class CodexRegistry {
         milestones.put(200, new MilestoneReward(100, 5000));
     }
     
+    /**
+     * 카테고리별 비트 마스크 + 마일스톤 목표 계산 (CodexProgress 생성용)
+     * 
+     * <p>CodexIndex 번호는 추가만 되므로 리로드 후에도 기존 플레이어 비트와 그대로 맞는다.</p>
+     */
+    private void computeMasks() {
+        int words = (CodexIndex.size() + 63) >>> 6;
+        long[][] ordered = new long[categoryOrder.size()][];
+        for (String category : categoryOrder) {
+            long[] mask = new long[words];
+            for (CodexRule rule : byCategory.getOrDefault(category, Collections.emptyList())) {
+                int ordinal = CodexIndex.ordinalOf(rule.getMaterial().name());
+                mask[ordinal >>> 6] |= 1L << ordinal;
+            }
+            int index = categoryIndex.size();
+            categoryIndex.put(category, index);
+            ordered[index] = mask;
+            categoryMasks.put(category, mask);
+        }
+        orderedMasks = ordered;
+        milestoneTargets = milestones.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+    
+    /**
+     * 카테고리별 정적 데이터 해시 계산
+     * 
+     * <p>클라이언트로 전송되는 정적 필드(id, name, requiredCount, reward)만 포함합니다.
+     * 플레이어별 진행도는 해시에 들어가지 않습니다.</p>
+     */
+    private void computeCatalogHashes() {
+        StringBuilder all = new StringBuilder();
+        for (String category : categoryOrder) {
+            StringBuilder sb = new StringBuilder(category).append('\n');
+            for (CodexRule rule : byCategory.getOrDefault(category, Collections.emptyList())) {
+                sb.append(rule.getMaterial().name()).append('|')
+                  .append(rule.getKoreanDisplayName()).append('|')
+                  .append(Math.max(rule.getRequiredCount(), 1)).append('|')
+                  .append(resolveReward(rule)).append('\n');
+            }
+            String hash = sha256Hex(sb.toString());
+            categoryHashes.put(category, hash);
+            all.append(category).append('=').append(hash).append('\n');
+        }
+        catalogHash = sha256Hex(all.toString());
+    }
+    
+    private static String sha256Hex(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            // 앞 8바이트(16자)면 캐시 검증에 충분
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", bytes[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 지원됨
+            return Integer.toHexString(text.hashCode());
+        }
+    }
+    
     private Material parseMaterial(String matName, String category) {
         try {
             return Material.valueOf(matName.toUpperCase().trim());
@@ -8,6 +8,7 @@ import kr.bapuri.tycoon.enhance.enchant.EnchantBookFactory;
 import kr.bapuri.tycoon.enhance.lamp.LampItemFactory;
 import kr.bapuri.tycoon.enhance.lamp.LampType;
 import kr.bapuri.tycoon.enhance.upgrade.ProtectionScrollFactory;
+import kr.bapuri.tycoon.player.PlayerChangeListener;
 import kr.bapuri.tycoon.player.PlayerDataManager;
 import kr.bapuri.tycoon.player.PlayerTycoonData;
 import org.bukkit.Material;
@@ -43,6 +44,7 @@ public class CodexService {
     
     // setter 주입 (순환 의존성 방지)
     private EconomyService economyService;
+    private kr.bapuri.tycoon.leaderboard.LeaderboardService leaderboardService;
     
     // [Phase 1 동기화] 도감 등록 콜백 (모드 연동용)
     private CodexRegisterCallback registerCallback;
@@ -80,6 +82,13 @@ public class CodexService {
         this.economyService = economyService;
     }
 
+    /**
+     * 순위표 설정 (등록 수 변경 시 즉시 반영)
+     */
+    public void setLeaderboardService(kr.bapuri.tycoon.leaderboard.LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
     // ========== Getters ==========
 
     public CodexRegistry getRegistry() {
@@ -139,7 +148,7 @@ public class CodexService {
      * 플레이어가 수집한 도감 아이템 ID 목록 (Material 이름)
      */
     public Set<String> getCollectedItems(UUID uuid) {
-        return new HashSet<>(dataManager.get(uuid).getUnlockedCodex());
+        return dataManager.get(uuid).getUnlockedCodex();
     }
 
     // ========== 도감 등록 ==========
@@ -170,6 +179,7 @@ public class CodexService {
         // 3) 관리자 권한 체크 (조건 무시)
         if (adminService.hasPrivilege(uuid, AdminPrivilege.CODEX_IGNORE_REQUIREMENTS)) {
             data.unlockCodex(mat);
+            notifyCodexChanged(data);
             giveBottCoinReward(player, calculateReward(rule), rule.getKoreanDisplayName());
             checkAndGrantMilestones(player, data);
             checkAndGrantCategoryCompletion(player, data, rule.getCategory());
@@ -201,6 +211,7 @@ public class CodexService {
 
         // 6) 도감 등록
         data.unlockCodex(mat);
+        notifyCodexChanged(data);
         
         // [Phase 8] 등록 로그
         logger.info("[Codex] " + player.getName() + " 도감 등록: " + rule.getKoreanDisplayName() 
@@ -334,6 +345,7 @@ public class CodexService {
         }
 
         data.unlockCodex(mat);
+        notifyCodexChanged(data);
 
         if (!dataManager.isOnline(uuid)) {
             dataManager.saveAndUnload(uuid);
@@ -358,6 +370,7 @@ public class CodexService {
         }
 
         data.unlockCodex(mat);
+        notifyCodexChanged(data);
 
         long bottCoinReward = calculateReward(rule);
         giveBottCoinReward(player, bottCoinReward, rule.getKoreanDisplayName());
@@ -384,6 +397,7 @@ public class CodexService {
         }
 
         data.lockCodex(mat);
+        notifyCodexChanged(data);
 
         if (!dataManager.isOnline(uuid)) {
             dataManager.saveAndUnload(uuid);
@@ -402,6 +416,7 @@ public class CodexService {
 
         int count = data.getCodexCount();
         data.resetCodex();
+        notifyCodexChanged(data);
 
         if (!dataManager.isOnline(uuid)) {
             dataManager.saveAndUnload(uuid);
@@ -437,9 +452,20 @@ public class CodexService {
             }
         }
         
+        notifyCodexChanged(data);
         return registered;
     }
 
+    /**
+     * 순위표 반영 + 변경 알림 (오프라인 관리자 수정은 곧바로 언로드되므로 즉시 반영)
+     */
+    private void notifyCodexChanged(PlayerTycoonData data) {
+        if (leaderboardService != null) {
+            leaderboardService.update(data);
+        }
+        dataManager.notifyChange(data.getUuid(), PlayerChangeListener.Kind.CODEX);
+    }
+
     /**
      * 도감 규칙 정보 조회
      */
@@ -494,6 +520,11 @@ public class CodexService {
      */
     private void checkAndGrantMilestones(Player player, PlayerTycoonData data) {
         int collected = data.getCodexCount();
+        
+        // 가장 낮은 미수령 마일스톤도 아직이면 스킵 (대부분의 등록)
+        int next = getProgress(data).getNextMilestone(data);
+        if (next < 0 || collected < next) return;
+        
         Map<Integer, CodexRegistry.MilestoneReward> milestones = registry.getMilestones();
         
         for (Map.Entry<Integer, CodexRegistry.MilestoneReward> entry : milestones.entrySet()) {
@@ -853,14 +884,13 @@ public class CodexService {
         // 이미 수령한 카테고리면 스킵
         if (data.hasClaimedCodexCategory(category)) return;
         
-        // 해당 카테고리의 모든 아이템이 등록되었는지 확인
+        // 해당 카테고리의 모든 아이템이 등록되었는지 확인 (카테고리 집계)
         List<CodexRule> categoryRules = registry.getByCategory(category);
         if (categoryRules == null || categoryRules.isEmpty()) return;
         
-        for (CodexRule rule : categoryRules) {
-            if (!data.isCodexUnlocked(rule.getMaterial())) {
-                return; // 아직 미등록 아이템이 있음
-            }
+        int progress = getProgress(data).getCategoryCount(registry.getCategoryIndex(category));
+        if (progress < categoryRules.size()) {
+            return; // 아직 미등록 아이템이 있음
         }
         
         // 카테고리 완성!
@@ -887,20 +917,25 @@ public class CodexService {
     // ========== 진행도 조회 ==========
 
     /**
-     * 특정 카테고리의 진행도 계산
+     * 플레이어 도감 집계 (카테고리별 등록 수, 다음 마일스톤)
+     * 
+     * <p>없거나 codex.yml 리로드 이후면 새로 만들고, 이후 등록/해제는 PlayerTycoonData가 반영합니다.</p>
+     */
+    public CodexProgress getProgress(PlayerTycoonData data) {
+        CodexProgress progress = data.getCodexProgress();
+        if (progress == null || progress.getGeneration() != registry.getGeneration()) {
+            progress = registry.newProgress(data);
+            data.setCodexProgress(progress);
+        }
+        return progress;
+    }
+
+    /**
+     * 특정 카테고리의 진행도
      */
     public int getCategoryProgress(UUID uuid, String category) {
         PlayerTycoonData data = dataManager.get(uuid);
-        List<CodexRule> rules = registry.getByCategory(category);
-        if (rules == null) return 0;
-        
-        int count = 0;
-        for (CodexRule rule : rules) {
-            if (data.isCodexUnlocked(rule.getMaterial())) {
-                count++;
-            }
-        }
-        return count;
+        return getProgress(data).getCategoryCount(registry.getCategoryIndex(category));
     }
 
     /**
@@ -909,7 +944,8 @@ public class CodexService {
     public boolean isCategoryComplete(UUID uuid, String category) {
         List<CodexRule> rules = registry.getByCategory(category);
         if (rules == null || rules.isEmpty()) return false;
-        return getCategoryProgress(uuid, category) == rules.size();
+        PlayerTycoonData data = dataManager.get(uuid);
+        return data.hasAllCodex(registry.getCategoryMask(category));
     }
 
     /**
@@ -0,0 +1,156 @@
+package kr.bapuri.tycoon.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * AliasSampler - 가중치 랜덤 선택기 (Walker alias 테이블)
+ *
+ * 누적 확률을 앞에서부터 훑는 방식(O(n)) 대신, 설정 로드 시 한 번 테이블을 만들고
+ * 선택은 난수 2개로 끝낸다(O(1)). 불변 객체이므로 여러 스레드에서 그대로 공유하며,
+ * 기본 sample()은 ThreadLocalRandom을 사용해 공유 Random 경합이 없다.
+ *
+ * 사용 예:
+ * <pre>{@code
+ * AliasSampler<TierConfig> sampler = AliasSampler.of(tiers, tier -> tier.weight);
+ * TierConfig tier = sampler.sample();
+ * }</pre>
+ *
+ * 가중치가 0 이하인 항목은 제외하며, 유효한 항목이 없으면 sample()은 null을 반환한다.
+ */
+public final class AliasSampler<T> {
+
+    private static final AliasSampler<?> EMPTY =
+            new AliasSampler<>(Collections.emptyList(), new double[0], new int[0], 0);
+
+    private final List<T> items;
+    private final double[] probability;
+    private final int[] alias;
+    private final double totalWeight;
+
+    private AliasSampler(List<T> items, double[] probability, int[] alias, double totalWeight) {
+        this.items = items;
+        this.probability = probability;
+        this.alias = alias;
+        this.totalWeight = totalWeight;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> AliasSampler<T> empty() {
+        return (AliasSampler<T>) EMPTY;
+    }
+
+    /**
+     * 항목 목록과 가중치 함수로 테이블 생성
+     */
+    public static <T> AliasSampler<T> of(List<? extends T> candidates, ToDoubleFunction<? super T> weightOf) {
+        List<T> items = new ArrayList<>(candidates.size());
+        double[] weights = new double[candidates.size()];
+        double total = 0;
+        for (T candidate : candidates) {
+            double weight = weightOf.applyAsDouble(candidate);
+            if (!(weight > 0) || Double.isInfinite(weight)) {
+                continue;
+            }
+            weights[items.size()] = weight;
+            items.add(candidate);
+            total += weight;
+        }
+        if (items.isEmpty()) {
+            return empty();
+        }
+        return build(items, Arrays.copyOf(weights, items.size()), total);
+    }
+
+    /**
+     * Vose 방식 테이블 구성 - 평균 이하(small)와 초과(large) 칸을 짝지어 채운다
+     */
+    private static <T> AliasSampler<T> build(List<T> items, double[] weights, double total) {
+        int n = items.size();
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // 부동소수점 오차로 남은 칸은 자기 자신 100%
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+
+        return new AliasSampler<>(Collections.unmodifiableList(items), probability, alias, total);
+    }
+
+    // ========== 선택 ==========
+
+    /**
+     * 가중치 비례 랜덤 선택 (ThreadLocalRandom)
+     * @return 항목이 없으면 null
+     */
+    public T sample() {
+        return sample(ThreadLocalRandom.current());
+    }
+
+    public T sample(RandomGenerator random) {
+        int n = items.size();
+        if (n == 0) return null;
+        int column = random.nextInt(n);
+        return random.nextDouble() < probability[column] ? items.get(column) : items.get(alias[column]);
+    }
+
+    // ========== 조회 ==========
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 선택 가능한 항목 (가중치 0 이하 제외, 입력 순서 유지)
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+}
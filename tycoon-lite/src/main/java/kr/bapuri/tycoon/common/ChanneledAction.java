@@ -1,6 +1,7 @@
 package kr.bapuri.tycoon.common;
 
 import org.bukkit.Location;
+import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
 
 import java.util.UUID;
@@ -25,7 +26,11 @@ public class ChanneledAction {
     private final Consumer<Player> onCancel;    // 취소 시 콜백
     
     private boolean cancelled = false;
-    private int taskId = -1;                 // BukkitScheduler Task ID
+    
+    // 공용 티커 상태 (ChanneledActionManager 전용)
+    int slot = -1;                           // 액션 배열 내 위치
+    BossBar bossBar;                         // 진행률 표시
+    int shownSeconds = -1;                   // 마지막으로 BossBar에 표시한 남은 시간
 
     public ChanneledAction(Player player, String actionId, String displayName, 
                            int durationSeconds, Consumer<Player> onComplete, Consumer<Player> onCancel) {
@@ -77,14 +82,6 @@ public class ChanneledAction {
         return cancelled;
     }
 
-    public int getTaskId() {
-        return taskId;
-    }
-
-    public void setTaskId(int taskId) {
-        this.taskId = taskId;
-    }
-
     public void setCancelled(boolean cancelled) {
         this.cancelled = cancelled;
     }
@@ -95,7 +92,14 @@ public class ChanneledAction {
      * 남은 채널링 시간 (초)
      */
     public int getRemainingSeconds() {
-        long elapsed = System.currentTimeMillis() - startTime;
+        return getRemainingSeconds(System.currentTimeMillis());
+    }
+    
+    /**
+     * 남은 채널링 시간 (초) - 기준 시각 지정 (티커에서 한 번 읽은 시각 공유)
+     */
+    int getRemainingSeconds(long now) {
+        long elapsed = now - startTime;
         int remaining = durationSeconds - (int)(elapsed / 1000);
         return Math.max(0, remaining);
     }
@@ -104,7 +108,11 @@ public class ChanneledAction {
      * 채널링 완료 시간이 지났는지
      */
     public boolean isExpired() {
-        return System.currentTimeMillis() >= startTime + (durationSeconds * 1000L);
+        return isExpired(System.currentTimeMillis());
+    }
+    
+    boolean isExpired(long now) {
+        return now >= startTime + (durationSeconds * 1000L);
     }
 
     /**
@@ -5,12 +5,14 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 
 /**
  * ChanneledActionListener - 채널링 이벤트 리스너
  * 
- * 피격, 퇴장 이벤트 감지 후 채널링 취소 처리
+ * 피격, 이동, 텔레포트, 퇴장 이벤트 감지 후 채널링 취소 처리
  */
 public class ChanneledActionListener implements Listener {
 
@@ -34,6 +36,30 @@ public class ChanneledActionListener implements Listener {
         }
     }
 
+    /**
+     * 플레이어 이동 시 채널링 취소 (시선 회전만 한 경우 무시)
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        if (!event.hasChangedPosition()) return;
+        
+        Player player = event.getPlayer();
+        if (actionManager.isChanneling(player)) {
+            actionManager.onPlayerMoved(player.getUniqueId(), event.getTo());
+        }
+    }
+
+    /**
+     * 텔레포트 시 채널링 취소 (PlayerMoveEvent 핸들러로는 전달되지 않음)
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        Player player = event.getPlayer();
+        if (actionManager.isChanneling(player)) {
+            actionManager.onPlayerMoved(player.getUniqueId(), event.getTo());
+        }
+    }
+
     /**
      * 플레이어 퇴장 시 채널링 정리
      */
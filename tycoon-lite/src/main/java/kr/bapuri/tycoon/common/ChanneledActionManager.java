@@ -2,6 +2,7 @@ package kr.bapuri.tycoon.common;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.Location;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
@@ -9,9 +10,10 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -19,17 +21,27 @@ import java.util.function.Consumer;
  * 
  * 특징:
  * - 플레이어당 하나의 채널링 액션만 허용
- * - 피격/이동 시 자동 취소
+ * - 피격/이동 시 자동 취소 (ChanneledActionListener 이벤트 기반)
  * - BossBar로 진행률 표시
  * - 완료/취소 콜백 지원
+ *
+ * 모든 액션은 하나의 공용 티커가 압축 배열을 순회하며 처리한다.
+ * (액션마다 스케줄러 태스크를 만들지 않음, 액션이 없으면 티커 정지)
+ * BossBar는 표시 초가 바뀐 경우에만 갱신한다.
+ * 메인 스레드 전용.
  */
 public class ChanneledActionManager {
 
     private final Plugin plugin;
-    private final Map<UUID, ChanneledAction> activeActions = new ConcurrentHashMap<>();
-    private final Map<UUID, BossBar> bossBars = new ConcurrentHashMap<>();
+    private final Map<UUID, ChanneledAction> activeActions = new HashMap<>();
+
+    // 공용 티커 대상 (0..actionCount-1 구간만 유효, 제거 시 마지막 원소로 채움)
+    private ChanneledAction[] actions = new ChanneledAction[16];
+    private int actionCount = 0;
+    private BukkitTask ticker;
     
     private static final double MOVE_TOLERANCE = 0.5; // 이동 허용 오차 (블록)
+    private static final long TICK_INTERVAL = 5L;      // 공용 티커 주기 (틱)
 
     public ChanneledActionManager(Plugin plugin) {
         this.plugin = plugin;
@@ -71,14 +83,11 @@ public class ChanneledActionManager {
         );
         bossBar.setProgress(1.0);
         bossBar.addPlayer(player);
-        bossBars.put(uuid, bossBar);
-        
-        // 진행률 업데이트 스케줄러
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            updateChanneling(uuid);
-        }, 20L, 20L); // 1초마다 업데이트
+        action.bossBar = bossBar;
+        action.shownSeconds = durationSeconds;
         
-        action.setTaskId(task.getTaskId());
+        // 공용 티커에 등록
+        addToTicker(action);
         
         player.sendMessage(ChatColor.GOLD + "[채널링] " + ChatColor.WHITE + displayName + 
             "을(를) 시작합니다. (" + durationSeconds + "초)");
@@ -98,17 +107,7 @@ public class ChanneledActionManager {
         if (action == null) return;
         
         action.setCancelled(true);
-        
-        // 스케줄러 취소
-        if (action.getTaskId() != -1) {
-            Bukkit.getScheduler().cancelTask(action.getTaskId());
-        }
-        
-        // BossBar 제거
-        BossBar bossBar = bossBars.remove(uuid);
-        if (bossBar != null) {
-            bossBar.removeAll();
-        }
+        detach(action);
         
         // 취소 콜백
         Player player = Bukkit.getPlayer(uuid);
@@ -129,40 +128,70 @@ public class ChanneledActionManager {
         cancelChanneling(player.getUniqueId(), reason);
     }
 
-    // ========== 업데이트 ==========
+    // ========== 공용 티커 ==========
+
+    private void addToTicker(ChanneledAction action) {
+        if (actionCount == actions.length) {
+            actions = Arrays.copyOf(actions, actionCount * 2);
+        }
+        action.slot = actionCount;
+        actions[actionCount++] = action;
+        
+        if (ticker == null) {
+            ticker = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, TICK_INTERVAL, TICK_INTERVAL);
+        }
+    }
 
     /**
-     * 채널링 진행률 업데이트 (매 초마다 호출)
+     * 티커 배열/BossBar에서 분리 (swap-remove)
      */
-    private void updateChanneling(UUID uuid) {
-        ChanneledAction action = activeActions.get(uuid);
-        if (action == null || action.isCancelled()) return;
-        
-        Player player = Bukkit.getPlayer(uuid);
-        if (player == null || !player.isOnline()) {
-            cancelChanneling(uuid, "접속 종료");
-            return;
+    private void detach(ChanneledAction action) {
+        int slot = action.slot;
+        if (slot >= 0 && slot < actionCount && actions[slot] == action) {
+            ChanneledAction last = actions[--actionCount];
+            actions[slot] = last;
+            last.slot = slot;
+            actions[actionCount] = null;
         }
+        action.slot = -1;
         
-        // 이동 체크
-        if (action.hasMovedFrom(player.getLocation(), MOVE_TOLERANCE)) {
-            cancelChanneling(uuid, "이동");
-            return;
+        if (action.bossBar != null) {
+            action.bossBar.removeAll();
+            action.bossBar = null;
         }
         
-        // 진행률 업데이트
-        int remaining = action.getRemainingSeconds();
-        BossBar bossBar = bossBars.get(uuid);
-        if (bossBar != null) {
-            double progress = (double) remaining / action.getDurationSeconds();
-            bossBar.setProgress(Math.max(0, progress));
-            bossBar.setTitle(ChatColor.GOLD + action.getDisplayName() + " " + 
-                ChatColor.WHITE + "(" + remaining + "초)");
+        if (actionCount == 0 && ticker != null) {
+            ticker.cancel();
+            ticker = null;
         }
+    }
+
+    /**
+     * 전체 채널링 진행률/완료 처리 (TICK_INTERVAL마다 1회)
+     * 이동/피격 취소는 이벤트에서 처리하므로 여기서는 시간만 본다
+     */
+    private void tick() {
+        long now = System.currentTimeMillis();
         
-        // 완료 체크
-        if (remaining <= 0 || action.isExpired()) {
-            completeChanneling(uuid);
+        // 역순 순회: 완료로 swap-remove 되어도 미방문 원소를 건너뛰지 않음
+        for (int i = actionCount - 1; i >= 0; i--) {
+            if (i >= actionCount) continue; // 콜백에서 여러 액션이 정리된 경우
+            ChanneledAction action = actions[i];
+            
+            if (action.isExpired(now)) {
+                completeChanneling(action.getPlayerUuid());
+                continue;
+            }
+            
+            // 표시 초가 바뀐 경우에만 BossBar 갱신
+            int remaining = action.getRemainingSeconds(now);
+            if (remaining != action.shownSeconds && action.bossBar != null) {
+                action.shownSeconds = remaining;
+                double progress = (double) remaining / action.getDurationSeconds();
+                action.bossBar.setProgress(Math.max(0, Math.min(1, progress)));
+                action.bossBar.setTitle(ChatColor.GOLD + action.getDisplayName() + " " +
+                    ChatColor.WHITE + "(" + remaining + "초)");
+            }
         }
     }
 
@@ -173,16 +202,7 @@ public class ChanneledActionManager {
         ChanneledAction action = activeActions.remove(uuid);
         if (action == null) return;
         
-        // 스케줄러 취소
-        if (action.getTaskId() != -1) {
-            Bukkit.getScheduler().cancelTask(action.getTaskId());
-        }
-        
-        // BossBar 제거
-        BossBar bossBar = bossBars.remove(uuid);
-        if (bossBar != null) {
-            bossBar.removeAll();
-        }
+        detach(action);
         
         // 완료 콜백
         Player player = Bukkit.getPlayer(uuid);
@@ -238,20 +258,24 @@ public class ChanneledActionManager {
         }
     }
 
+    /**
+     * 플레이어 이동 시 호출 (ChanneledActionListener에서 위치 변경 시에만 호출)
+     */
+    public void onPlayerMoved(UUID uuid, Location to) {
+        ChanneledAction action = activeActions.get(uuid);
+        if (action != null && action.hasMovedFrom(to, MOVE_TOLERANCE)) {
+            cancelChanneling(uuid, "이동");
+        }
+    }
+
     /**
      * 플레이어 퇴장 시 호출
      */
     public void onPlayerQuit(UUID uuid) {
         ChanneledAction action = activeActions.remove(uuid);
         if (action != null) {
-            if (action.getTaskId() != -1) {
-                Bukkit.getScheduler().cancelTask(action.getTaskId());
-            }
-        }
-        
-        BossBar bossBar = bossBars.remove(uuid);
-        if (bossBar != null) {
-            bossBar.removeAll();
+            action.setCancelled(true);
+            detach(action);
         }
     }
 
@@ -259,18 +283,21 @@ public class ChanneledActionManager {
      * 모든 채널링 정리 (서버 종료 시)
      */
     public void cleanup() {
-        for (UUID uuid : activeActions.keySet()) {
-            ChanneledAction action = activeActions.get(uuid);
-            if (action != null && action.getTaskId() != -1) {
-                Bukkit.getScheduler().cancelTask(action.getTaskId());
+        for (int i = 0; i < actionCount; i++) {
+            ChanneledAction action = actions[i];
+            if (action.bossBar != null) {
+                action.bossBar.removeAll();
+                action.bossBar = null;
             }
+            action.slot = -1;
+            actions[i] = null;
         }
+        actionCount = 0;
         activeActions.clear();
         
-        for (BossBar bossBar : bossBars.values()) {
-            bossBar.removeAll();
+        if (ticker != null) {
+            ticker.cancel();
+            ticker = null;
         }
-        bossBars.clear();
     }
 }
-
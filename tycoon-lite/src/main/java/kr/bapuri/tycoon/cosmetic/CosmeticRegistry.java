@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.cosmetic;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.configuration.ConfigurationSection;
@@ -7,9 +8,6 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -50,13 +48,11 @@ public class CosmeticRegistry {
             plugin.saveResource("cosmetics.yml", false);
         }
         
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(cosmeticsFile);
+        YamlConfiguration config = YamlPrefetcher.load(cosmeticsFile);
         
         // 기본값 로드
-        InputStream defaultStream = plugin.getResource("cosmetics.yml");
-        if (defaultStream != null) {
-            YamlConfiguration defaults = YamlConfiguration.loadConfiguration(
-                new InputStreamReader(defaultStream, StandardCharsets.UTF_8));
+        YamlConfiguration defaults = YamlPrefetcher.loadResource(plugin, "cosmetics.yml");
+        if (defaults != null) {
             config.setDefaults(defaults);
         }
         
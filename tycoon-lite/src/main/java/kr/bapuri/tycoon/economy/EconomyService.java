@@ -2,6 +2,7 @@ package kr.bapuri.tycoon.economy;
 
 import kr.bapuri.tycoon.admin.AdminPrivilege;
 import kr.bapuri.tycoon.admin.AdminService;
+import kr.bapuri.tycoon.player.PlayerChangeListener;
 import kr.bapuri.tycoon.player.PlayerDataManager;
 import kr.bapuri.tycoon.player.PlayerTycoonData;
 import org.bukkit.Bukkit;
@@ -39,6 +40,12 @@ public class EconomyService {
     // [세금 시스템] 소득세 서비스 (지연 초기화)
     private kr.bapuri.tycoon.tax.IncomeTaxService incomeTaxService;
     
+    // [세금 시스템] 간격 소득 장부 (입금 시 기록)
+    private volatile kr.bapuri.tycoon.tax.IncomeLedger incomeLedger;
+    
+    // 순위표 (잔액/누적 수입 변경 시 갱신 표시)
+    private kr.bapuri.tycoon.leaderboard.LeaderboardService leaderboardService;
+    
     /**
      * [슈퍼관리자 무한 돈] 표시 금액
      * - 슈퍼관리자의 잔액 조회 시 항상 이 값 반환
@@ -69,10 +76,18 @@ public class EconomyService {
         logger.info("[EconomyService] 경제 변동 콜백 등록됨 (모드 연동)");
     }
     
+    /**
+     * 순위표 설정 (TycoonPlugin에서 호출)
+     */
+    public void setLeaderboardService(kr.bapuri.tycoon.leaderboard.LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+    
     /**
      * 경제 변동 알림 (콜백 호출)
      */
     private void notifyEconomyChange(UUID uuid) {
+        markStatsChanged(uuid);
         if (economyChangeCallback != null) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null && player.isOnline()) {
@@ -80,6 +95,16 @@ public class EconomyService {
             }
         }
     }
+    
+    /**
+     * 순위표 갱신 표시 + 변경 알림 (오프라인 플레이어 포함, 관리자 변경도 반영)
+     */
+    private void markStatsChanged(UUID uuid) {
+        if (leaderboardService != null) {
+            leaderboardService.markDirty(uuid);
+        }
+        dataManager.notifyChange(uuid, PlayerChangeListener.Kind.ECONOMY);
+    }
 
     // ================================================================================
     // BD (기본 화폐) 메서드
@@ -133,6 +158,9 @@ public class EconomyService {
         
         // [v2] 3시간 간격 소득 누적 (소득세 계산용)
         data.addIntervalIncome(amount);
+        if (incomeLedger != null) {
+            incomeLedger.record(uuid, amount);
+        }
         
         logger.logTransaction(uuid, data.getPlayerName(), CurrencyType.BD, 
                 "DEPOSIT", before, after, reason, source);
@@ -158,6 +186,13 @@ public class EconomyService {
         this.incomeTaxService = service;
     }
 
+    /**
+     * 간격 소득 장부 설정 (세금 시스템 초기화 시)
+     */
+    public void setIncomeLedger(kr.bapuri.tycoon.tax.IncomeLedger incomeLedger) {
+        this.incomeLedger = incomeLedger;
+    }
+
     /**
      * 소득세가 적용되는 BD 입금
      * 
@@ -490,6 +525,9 @@ public class EconomyService {
             if (txnId != null && !txnId.isEmpty()) {
                 dataManager.save(uuid);
             }
+            
+            // 모드에 경제 변동 알림
+            notifyEconomyChange(uuid);
         } else {
             logger.logInsufficientFunds(uuid, data.getPlayerName(), CurrencyType.BD, 
                     amount, before, reason, source);
@@ -621,6 +659,8 @@ public class EconomyService {
         data.addMoney(amount);
         long after = data.getMoney();
         
+        markStatsChanged(uuid);
+        
         logger.logAdminAction(uuid, data.getPlayerName(), CurrencyType.BD, 
                 "DEPOSIT", before, after, reason);
     }
@@ -642,6 +682,8 @@ public class EconomyService {
         data.setMoney(newBalance);
         long after = data.getMoney();
         
+        markStatsChanged(uuid);
+        
         logger.logAdminAction(uuid, data.getPlayerName(), CurrencyType.BD, 
                 "WITHDRAW", before, after, reason);
         
@@ -656,6 +698,8 @@ public class EconomyService {
         long before = data.getMoney();
         data.setMoney(money);
         
+        markStatsChanged(uuid);
+        
         logger.logAdminAction(uuid, data.getPlayerName(), CurrencyType.BD, 
                 "SET", before, money, reason);
     }
@@ -669,6 +713,8 @@ public class EconomyService {
         data.addBottCoin(amount);
         long after = data.getBottCoin();
         
+        markStatsChanged(uuid);
+        
         logger.logAdminAction(uuid, data.getPlayerName(), CurrencyType.BOTTCOIN, 
                 "DEPOSIT", before, after, reason);
     }
@@ -690,6 +736,8 @@ public class EconomyService {
         data.setBottCoin(newBalance);
         long after = data.getBottCoin();
         
+        markStatsChanged(uuid);
+        
         logger.logAdminAction(uuid, data.getPlayerName(), CurrencyType.BOTTCOIN, 
                 "WITHDRAW", before, after, reason);
         
@@ -704,6 +752,8 @@ public class EconomyService {
         long before = data.getBottCoin();
         data.setBottCoin(bottCoin);
         
+        markStatsChanged(uuid);
+        
         logger.logAdminAction(uuid, data.getPlayerName(), CurrencyType.BOTTCOIN, 
                 "SET", before, bottCoin, reason);
     }
@@ -1,11 +1,11 @@
 package kr.bapuri.tycoon.enhance.enchant;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -14,17 +14,33 @@ import java.util.logging.Logger;
  * 
  * enchants.yml에서 인챈트 설정을 로드하고 관리
  * (기존 config.yml의 enhance.enchants 섹션도 호환성 지원)
+ * 
+ * 리로드는 새 Snapshot을 만든 뒤 참조 하나만 교체한다 (copy-on-write).
+ * - prepare(): 파일 읽기 + 파싱 (비동기 스레드에서 호출 가능, 현재 설정에 영향 없음)
+ * - publish(): 완성된 스냅샷으로 교체 (메인 스레드)
+ * 조회 메서드는 호출 시점의 스냅샷 하나만 읽으므로 리로드 중에도 반쯤 바뀐 설정을 보지 않는다.
+ * 파싱 중 예외가 나면 기존 설정이 그대로 유지된다.
  */
 public class CustomEnchantRegistry {
 
     private final JavaPlugin plugin;
     private final Logger logger;
     
-    // 인챈트 데이터 저장소
-    private final Map<String, CustomEnchantData> enchantDataMap = new HashMap<>();
-    
-    // global 설정: 효과 발동 메시지 표시 여부
-    private boolean showEffectMessages = true;
+    // 현재 설정 (리로드 시 통째로 교체)
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 인챈트 설정 스냅샷 (발행 후 수정하지 않음)
+     * 
+     * @param enchants 인챈트 ID → 데이터
+     * @param enabled 활성화된 인챈트 (enchants 순서)
+     * @param showEffectMessages 효과 발동 메시지 표시 여부
+     */
+    public record Snapshot(Map<String, CustomEnchantData> enchants,
+                           List<CustomEnchantData> enabled,
+                           boolean showEffectMessages) {
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), Collections.emptyList(), true);
+    }
 
     public CustomEnchantRegistry(JavaPlugin plugin) {
         this.plugin = plugin;
@@ -32,19 +48,40 @@ public class CustomEnchantRegistry {
     }
 
     /**
-     * 인챈트 설정 로드/리로드
+     * 인챈트 설정 로드/리로드 (파싱 + 교체)
+     */
+    public void reload() {
+        publish(prepare());
+    }
+    
+    /**
+     * 기존 메서드명 호환성 유지 (내부적으로 reload 호출)
+     */
+    public void loadFromConfig() {
+        reload();
+    }
+    
+    /**
+     * 새 스냅샷 교체
+     */
+    public void publish(Snapshot next) {
+        snapshot = next;
+        logLoadResult(next);
+    }
+    
+    /**
+     * 인챈트 설정 파싱 (현재 설정은 건드리지 않음)
      * 
      * 우선순위:
      * 1. enchants.yml 파일이 있으면 사용
      * 2. config.yml의 enhance.enchants 섹션이 있으면 경고 후 사용 (호환성)
      * 3. 둘 다 없으면 기본 enchants.yml 생성
      */
-    public void reload() {
-        enchantDataMap.clear();
-        
+    public Snapshot prepare() {
         // 모든 CustomEnchant에 대해 기본 데이터 생성
+        Map<String, CustomEnchantData> enchants = new LinkedHashMap<>();
         for (CustomEnchant enchant : CustomEnchant.values()) {
-            enchantDataMap.put(enchant.getId(), new CustomEnchantData(enchant));
+            enchants.put(enchant.getId(), new CustomEnchantData(enchant));
         }
         
         File enchantFile = new File(plugin.getDataFolder(), "enchants.yml");
@@ -52,8 +89,7 @@ public class CustomEnchantRegistry {
         // Case 1: enchants.yml 존재
         if (enchantFile.exists()) {
             logger.info("[Enchant] enchants.yml에서 설정 로드");
-            loadFromYamlFile(enchantFile);
-            return;
+            return loadFromYamlFile(enchantFile, enchants);
         }
         
         // Case 2: config.yml의 기존 설정 확인 (호환성)
@@ -66,57 +102,43 @@ public class CustomEnchantRegistry {
             logger.warning("[Enchant] 호환성을 위해 기존 설정을 사용합니다.");
             logger.warning("[Enchant] enchants.yml로 마이그레이션을 권장합니다.");
             logger.warning("================================================");
-            loadFromConfigSection(oldSection);
+            loadFromConfigSection(oldSection, enchants);
             // showEffectMessages는 config.yml에서 로드
-            this.showEffectMessages = plugin.getConfig()
-                .getBoolean("enhance.showEnchantMessages", true);
-            logLoadResult();
-            return;
+            return freeze(enchants, plugin.getConfig().getBoolean("enhance.showEnchantMessages", true));
         }
         
         // Case 3: 기본 파일 생성
         logger.info("[Enchant] 기본 enchants.yml 생성");
         plugin.saveResource("enchants.yml", false);
-        loadFromYamlFile(enchantFile);
-    }
-    
-    /**
-     * 기존 메서드명 호환성 유지 (내부적으로 reload 호출)
-     */
-    public void loadFromConfig() {
-        reload();
+        return loadFromYamlFile(enchantFile, enchants);
     }
     
     /**
      * enchants.yml 파일에서 로드
      */
-    private void loadFromYamlFile(File file) {
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+    private Snapshot loadFromYamlFile(File file, Map<String, CustomEnchantData> enchants) {
+        YamlConfiguration config = YamlPrefetcher.load(file);
         
         // 기본값 병합 (jar 내부)
-        InputStream defaultStream = plugin.getResource("enchants.yml");
-        if (defaultStream != null) {
-            YamlConfiguration defaults = YamlConfiguration.loadConfiguration(
-                new InputStreamReader(defaultStream, StandardCharsets.UTF_8));
+        YamlConfiguration defaults = YamlPrefetcher.loadResource(plugin, "enchants.yml");
+        if (defaults != null) {
             config.setDefaults(defaults);
         }
         
-        // global 설정
-        this.showEffectMessages = config.getBoolean("global.showEffectMessages", true);
-        
         // 인챈트 섹션 로드
         ConfigurationSection section = config.getConfigurationSection("enchants");
         if (section != null) {
-            loadFromConfigSection(section);
+            loadFromConfigSection(section, enchants);
         }
         
-        logLoadResult();
+        // global 설정
+        return freeze(enchants, config.getBoolean("global.showEffectMessages", true));
     }
     
     /**
      * ConfigurationSection에서 인챈트 설정 로드
      */
-    private void loadFromConfigSection(ConfigurationSection enchantsSection) {
+    private void loadFromConfigSection(ConfigurationSection enchantsSection, Map<String, CustomEnchantData> enchants) {
         for (String enchantId : enchantsSection.getKeys(false)) {
             CustomEnchant enchant = CustomEnchant.fromId(enchantId);
             if (enchant == null) {
@@ -127,19 +149,31 @@ public class CustomEnchantRegistry {
             ConfigurationSection section = enchantsSection.getConfigurationSection(enchantId);
             if (section == null) continue;
             
-            CustomEnchantData data = enchantDataMap.get(enchantId);
+            CustomEnchantData data = enchants.get(enchantId);
             loadEnchantData(data, section);
         }
     }
     
+    /**
+     * 파싱 결과를 불변 스냅샷으로 고정
+     */
+    private Snapshot freeze(Map<String, CustomEnchantData> enchants, boolean showEffectMessages) {
+        List<CustomEnchantData> enabled = new ArrayList<>();
+        for (CustomEnchantData data : enchants.values()) {
+            if (data.isEnabled()) {
+                enabled.add(data);
+            }
+        }
+        return new Snapshot(Collections.unmodifiableMap(enchants),
+                Collections.unmodifiableList(enabled), showEffectMessages);
+    }
+    
     /**
      * 로드 결과 로그 출력
      */
-    private void logLoadResult() {
-        long enabledCount = enchantDataMap.values().stream()
-            .filter(CustomEnchantData::isEnabled).count();
-        logger.info("[Enchant] 인챈트 로드 완료: " + enabledCount + "/" 
-            + enchantDataMap.size() + "개 활성화");
+    private void logLoadResult(Snapshot loaded) {
+        logger.info("[Enchant] 인챈트 로드 완료: " + loaded.enabled().size() + "/" 
+            + loaded.enchants().size() + "개 활성화");
     }
 
     /**
@@ -187,11 +221,18 @@ public class CustomEnchantRegistry {
 
     // ========== 조회 메서드 ==========
 
+    /**
+     * 현재 설정 스냅샷 (여러 값을 일관되게 읽어야 할 때)
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
     /**
      * 인챈트 ID로 데이터 조회
      */
     public CustomEnchantData getData(String enchantId) {
-        return enchantDataMap.get(enchantId);
+        return snapshot.enchants().get(enchantId);
     }
 
     /**
@@ -199,27 +240,21 @@ public class CustomEnchantRegistry {
      */
     public CustomEnchantData getData(CustomEnchant enchant) {
         if (enchant == null) return null;
-        return enchantDataMap.get(enchant.getId());
+        return snapshot.enchants().get(enchant.getId());
     }
 
     /**
      * 모든 인챈트 데이터
      */
     public Collection<CustomEnchantData> getAllData() {
-        return Collections.unmodifiableCollection(enchantDataMap.values());
+        return snapshot.enchants().values();
     }
 
     /**
-     * 활성화된 인챈트만
+     * 활성화된 인챈트만 (읽기 전용)
      */
     public List<CustomEnchantData> getEnabledEnchants() {
-        List<CustomEnchantData> enabled = new ArrayList<>();
-        for (CustomEnchantData data : enchantDataMap.values()) {
-            if (data.isEnabled()) {
-                enabled.add(data);
-            }
-        }
-        return enabled;
+        return snapshot.enabled();
     }
 
     /**
@@ -227,8 +262,8 @@ public class CustomEnchantRegistry {
      */
     public List<CustomEnchantData> getEnabledByCategory(CustomEnchant.EnchantCategory category) {
         List<CustomEnchantData> result = new ArrayList<>();
-        for (CustomEnchantData data : enchantDataMap.values()) {
-            if (data.isEnabled() && data.getEnchant().getCategory() == category) {
+        for (CustomEnchantData data : snapshot.enabled()) {
+            if (data.getEnchant().getCategory() == category) {
                 result.add(data);
             }
         }
@@ -239,14 +274,14 @@ public class CustomEnchantRegistry {
      * 인챈트 존재 여부
      */
     public boolean exists(String enchantId) {
-        return enchantDataMap.containsKey(enchantId);
+        return snapshot.enchants().containsKey(enchantId);
     }
 
     /**
      * 인챈트 활성화 여부
      */
     public boolean isEnabled(String enchantId) {
-        CustomEnchantData data = enchantDataMap.get(enchantId);
+        CustomEnchantData data = snapshot.enchants().get(enchantId);
         return data != null && data.isEnabled();
     }
 
@@ -254,7 +289,7 @@ public class CustomEnchantRegistry {
      * 모든 인챈트 ID 목록
      */
     public Set<String> getAllIds() {
-        return Collections.unmodifiableSet(enchantDataMap.keySet());
+        return snapshot.enchants().keySet();
     }
 
     /**
@@ -262,10 +297,8 @@ public class CustomEnchantRegistry {
      */
     public List<String> getEnabledIds() {
         List<String> ids = new ArrayList<>();
-        for (CustomEnchantData data : enchantDataMap.values()) {
-            if (data.isEnabled()) {
-                ids.add(data.getId());
-            }
+        for (CustomEnchantData data : snapshot.enabled()) {
+            ids.add(data.getId());
         }
         return ids;
     }
@@ -274,6 +307,6 @@ public class CustomEnchantRegistry {
      * 효과 발동 메시지 표시 여부
      */
     public boolean isShowEffectMessages() {
-        return showEffectMessages;
+        return snapshot.showEffectMessages();
     }
 }
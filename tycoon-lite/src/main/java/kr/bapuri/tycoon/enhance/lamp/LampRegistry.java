@@ -1,11 +1,12 @@
 package kr.bapuri.tycoon.enhance.lamp;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
+import kr.bapuri.tycoon.common.AliasSampler;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -17,55 +18,81 @@ import java.util.logging.Logger;
  * 
  * Phase 6: 레거시 복사
  * Phase 3: lamps.yml 분리
+ * 
+ * 리로드는 CustomEnchantRegistry와 같은 방식 (prepare → publish, 스냅샷 참조 하나만 교체).
+ * 효과 선택 테이블도 스냅샷에 포함되므로 가중치/활성 여부와 항상 같은 버전이다.
  */
 public class LampRegistry {
 
     private final JavaPlugin plugin;
     private final Logger logger;
 
-    // 램프 타입별 가격 (specialShops에서 관리, 여기서는 기본값만)
-    private final Map<LampType, Long> lampPrices = new HashMap<>();
-    
-    // 효과별 가중치 (확률)
-    private final Map<String, Double> effectWeights = new HashMap<>();
-    
-    // 효과 활성화 여부
-    private final Map<String, Boolean> effectEnabled = new HashMap<>();
-    
-    // global 설정: 효과 발동 메시지 표시 여부
-    private boolean showEffectMessages = true;
+    // 현재 설정 (리로드 시 통째로 교체)
+    private volatile Snapshot snapshot;
+
+    /**
+     * 램프 설정 스냅샷 (발행 후 수정하지 않음)
+     * 
+     * @param lampPrices 램프 타입별 가격 (specialShops에서 관리, 여기서는 기본값만)
+     * @param effectWeights 효과별 가중치 (확률)
+     * @param effectEnabled 효과 활성화 여부
+     * @param effectSamplers 램프 타입별 효과 선택 테이블
+     * @param showEffectMessages 효과 발동 메시지 표시 여부
+     */
+    public record Snapshot(Map<LampType, Long> lampPrices,
+                           Map<String, Double> effectWeights,
+                           Map<String, Boolean> effectEnabled,
+                           Map<LampType, AliasSampler<LampEffect>> effectSamplers,
+                           boolean showEffectMessages) {}
 
     public LampRegistry(JavaPlugin plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
+        // reload() 전 조회 대비 - enum 기본값
+        this.snapshot = freeze(new EnumMap<>(LampType.class), defaultWeights(), defaultEnabled(), true);
     }
 
     /**
-     * 설정 리로드 (lamps.yml 우선, config.yml 폴백)
+     * 설정 리로드 (파싱 + 교체)
      */
     public void reload() {
-        lampPrices.clear();
-        effectWeights.clear();
-        effectEnabled.clear();
-        
+        publish(prepare());
+    }
+    
+    /**
+     * 기존 loadFromConfig() 호환 - reload() 호출
+     */
+    public void loadFromConfig() {
+        reload();
+    }
+    
+    /**
+     * 새 스냅샷 교체
+     */
+    public void publish(Snapshot next) {
+        snapshot = next;
+        logLoadResult(next);
+    }
+    
+    /**
+     * 램프 설정 파싱 (lamps.yml 우선, config.yml 폴백 - 현재 설정은 건드리지 않음)
+     */
+    public Snapshot prepare() {
         // 기본값 초기화
+        Map<LampType, Long> lampPrices = new EnumMap<>(LampType.class);
         for (LampType type : LampType.values()) {
             lampPrices.put(type, 10000L);
         }
-        for (LampEffect effect : LampEffect.values()) {
-            effectWeights.put(effect.getId(), effect.getRarity().getWeight());
-            // 기본적으로 LampEffect.isDisabled() 값 사용
-            effectEnabled.put(effect.getId(), !effect.isDisabled());
-        }
+        Map<String, Double> effectWeights = defaultWeights();
+        Map<String, Boolean> effectEnabled = defaultEnabled();
         
         File lampsFile = new File(plugin.getDataFolder(), "lamps.yml");
         
         // Case 1: lamps.yml 존재 → 새 파일 사용
         if (lampsFile.exists()) {
             logger.info("[Lamp] lamps.yml에서 설정 로드");
-            loadFromYamlFile(lampsFile);
-            logLoadResult();
-            return;
+            boolean showMessages = loadFromYamlFile(lampsFile, effectWeights, effectEnabled);
+            return freeze(lampPrices, effectWeights, effectEnabled, showMessages);
         }
         
         // Case 2: lamps.yml 없음 → config.yml 기존 설정 확인
@@ -81,64 +108,70 @@ public class LampRegistry {
             logger.warning("[Lamp]   2. config.yml의 enhance.lamps 내용 복사");
             logger.warning("[Lamp]   3. config.yml에서 enhance.lamps 섹션 삭제");
             logger.warning("================================================");
-            loadFromConfigSection(oldSection);
+            loadFromConfigSection(oldSection, effectWeights, effectEnabled);
             // showEffectMessages는 config.yml에서 로드
-            this.showEffectMessages = plugin.getConfig()
-                .getBoolean("enhance.showLampMessages", true);
-            logLoadResult();
-            return;
+            return freeze(lampPrices, effectWeights, effectEnabled,
+                    plugin.getConfig().getBoolean("enhance.showLampMessages", true));
         }
         
         // Case 3: 둘 다 없음 → 기본 파일 생성
         logger.info("[Lamp] 기본 lamps.yml 생성");
         plugin.saveResource("lamps.yml", false);
-        loadFromYamlFile(lampsFile);
-        logLoadResult();
+        boolean showMessages = loadFromYamlFile(lampsFile, effectWeights, effectEnabled);
+        return freeze(lampPrices, effectWeights, effectEnabled, showMessages);
     }
     
-    /**
-     * 기존 loadFromConfig() 호환 - reload() 호출
-     */
-    public void loadFromConfig() {
-        reload();
+    private static Map<String, Double> defaultWeights() {
+        Map<String, Double> weights = new HashMap<>();
+        for (LampEffect effect : LampEffect.values()) {
+            weights.put(effect.getId(), effect.getRarity().getWeight());
+        }
+        return weights;
+    }
+    
+    private static Map<String, Boolean> defaultEnabled() {
+        Map<String, Boolean> enabled = new HashMap<>();
+        for (LampEffect effect : LampEffect.values()) {
+            // 기본적으로 LampEffect.isDisabled() 값 사용
+            enabled.put(effect.getId(), !effect.isDisabled());
+        }
+        return enabled;
     }
     
     /**
      * lamps.yml 파일에서 로드
+     * @return global.showEffectMessages
      */
-    private void loadFromYamlFile(File file) {
-        try (InputStreamReader reader = new InputStreamReader(
-                new FileInputStream(file), StandardCharsets.UTF_8)) {
-            YamlConfiguration config = YamlConfiguration.loadConfiguration(reader);
-            
-            // global 설정
-            this.showEffectMessages = config.getBoolean("global.showEffectMessages", true);
-            
-            // 효과 섹션 로드
-            ConfigurationSection effectsSection = config.getConfigurationSection("effects");
-            if (effectsSection != null) {
-                loadEffectsFromSection(effectsSection);
-            }
-        } catch (IOException e) {
-            logger.warning("[Lamp] lamps.yml 로드 실패: " + e.getMessage());
+    private boolean loadFromYamlFile(File file, Map<String, Double> effectWeights, Map<String, Boolean> effectEnabled) {
+        YamlConfiguration config = YamlPrefetcher.load(file);
+        
+        // 효과 섹션 로드
+        ConfigurationSection effectsSection = config.getConfigurationSection("effects");
+        if (effectsSection != null) {
+            loadEffectsFromSection(effectsSection, effectWeights, effectEnabled);
         }
+        
+        // global 설정
+        return config.getBoolean("global.showEffectMessages", true);
     }
     
     /**
      * config.yml의 enhance.lamps 섹션에서 로드 (마이그레이션 폴백)
      */
-    private void loadFromConfigSection(ConfigurationSection lampsSection) {
+    private void loadFromConfigSection(ConfigurationSection lampsSection,
+                                       Map<String, Double> effectWeights, Map<String, Boolean> effectEnabled) {
         // 효과 설정 로드
         ConfigurationSection effectsSection = lampsSection.getConfigurationSection("effects");
         if (effectsSection != null) {
-            loadEffectsFromSection(effectsSection);
+            loadEffectsFromSection(effectsSection, effectWeights, effectEnabled);
         }
     }
     
     /**
      * 효과 섹션에서 enabled/weight 로드
      */
-    private void loadEffectsFromSection(ConfigurationSection effectsSection) {
+    private void loadEffectsFromSection(ConfigurationSection effectsSection,
+                                        Map<String, Double> effectWeights, Map<String, Boolean> effectEnabled) {
         for (String effectId : effectsSection.getKeys(false)) {
             LampEffect effect = LampEffect.fromId(effectId);
             if (effect != null) {
@@ -151,42 +184,70 @@ public class LampRegistry {
         }
     }
     
+    /**
+     * 파싱 결과 고정 + 램프 타입별 효과 선택 테이블 구성 (활성 효과 + 가중치 반영)
+     */
+    private static Snapshot freeze(Map<LampType, Long> lampPrices, Map<String, Double> effectWeights,
+                                   Map<String, Boolean> effectEnabled, boolean showEffectMessages) {
+        Map<LampType, AliasSampler<LampEffect>> samplers = new EnumMap<>(LampType.class);
+        for (LampType type : LampType.values()) {
+            samplers.put(type, AliasSampler.of(availableEffects(type, effectEnabled),
+                    effect -> effectWeights.getOrDefault(effect.getId(), 10.0)));
+        }
+        return new Snapshot(Collections.unmodifiableMap(lampPrices),
+                Collections.unmodifiableMap(effectWeights),
+                Collections.unmodifiableMap(effectEnabled),
+                Collections.unmodifiableMap(samplers),
+                showEffectMessages);
+    }
+
     /**
      * 로드 결과 로그
      */
-    private void logLoadResult() {
-        long enabledCount = effectEnabled.values().stream().filter(b -> b).count();
-        logger.info("[Lamp] 램프 설정 로드 완료 - 효과: " + effectEnabled.size() + "개 (활성: " + enabledCount + "개)");
-        logger.info("[Lamp] 효과 메시지 표시: " + (showEffectMessages ? "ON" : "OFF"));
+    private void logLoadResult(Snapshot loaded) {
+        long enabledCount = loaded.effectEnabled().values().stream().filter(b -> b).count();
+        logger.info("[Lamp] 램프 설정 로드 완료 - 효과: " + loaded.effectEnabled().size() + "개 (활성: " + enabledCount + "개)");
+        logger.info("[Lamp] 효과 메시지 표시: " + (loaded.showEffectMessages() ? "ON" : "OFF"));
     }
 
     // ========== 조회 메서드 ==========
 
+    /**
+     * 현재 설정 스냅샷 (여러 값을 일관되게 읽어야 할 때)
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
     /**
      * 램프 가격
      */
     public long getLampPrice(LampType type) {
-        return lampPrices.getOrDefault(type, 10000L);
+        return snapshot.lampPrices().getOrDefault(type, 10000L);
     }
 
     /**
      * 효과 가중치
      */
     public double getEffectWeight(String effectId) {
-        return effectWeights.getOrDefault(effectId, 10.0);
+        return snapshot.effectWeights().getOrDefault(effectId, 10.0);
     }
 
     /**
      * 효과 활성화 여부
      */
     public boolean isEffectEnabled(String effectId) {
-        return effectEnabled.getOrDefault(effectId, true);
+        return snapshot.effectEnabled().getOrDefault(effectId, true);
     }
 
     /**
      * 특정 램프 타입에 사용 가능한 활성화된 효과 목록
      */
     public List<LampEffect> getAvailableEffects(LampType lampType) {
+        return availableEffects(lampType, snapshot.effectEnabled());
+    }
+    
+    private static List<LampEffect> availableEffects(LampType lampType, Map<String, Boolean> effectEnabled) {
         List<LampEffect> available = new ArrayList<>();
         
         for (LampEffect effect : LampEffect.values()) {
@@ -197,7 +258,7 @@ public class LampRegistry {
             }
             
             // 활성화 여부 체크
-            if (!isEffectEnabled(effect.getId())) {
+            if (!effectEnabled.getOrDefault(effect.getId(), true)) {
                 continue;
             }
             
@@ -211,28 +272,14 @@ public class LampRegistry {
      * 가중치 기반 랜덤 효과 선택
      */
     public LampEffect rollRandomEffect(LampType lampType) {
-        List<LampEffect> available = getAvailableEffects(lampType);
-        if (available.isEmpty()) return null;
-
-        // 가중치 총합 계산
-        double totalWeight = 0;
-        for (LampEffect effect : available) {
-            totalWeight += getEffectWeight(effect.getId());
+        Snapshot current = snapshot;
+        AliasSampler<LampEffect> sampler = current.effectSamplers().get(lampType);
+        if (sampler != null && !sampler.isEmpty()) {
+            return sampler.sample();
         }
-
-        // 가중치 기반 랜덤 선택
-        double roll = Math.random() * totalWeight;
-        double cumulative = 0;
-
-        for (LampEffect effect : available) {
-            cumulative += getEffectWeight(effect.getId());
-            if (roll < cumulative) {
-                return effect;
-            }
-        }
-
-        // 기본값
-        return available.get(available.size() - 1);
+        // 가중치가 모두 0인 경우 - 기존과 같이 마지막 효과
+        List<LampEffect> available = availableEffects(lampType, current.effectEnabled());
+        return available.isEmpty() ? null : available.get(available.size() - 1);
     }
 
     /**
@@ -253,6 +300,6 @@ public class LampRegistry {
      * 효과 발동 메시지 표시 여부
      */
     public boolean isShowEffectMessages() {
-        return showEffectMessages;
+        return snapshot.showEffectMessages();
     }
 }
@@ -125,7 +125,7 @@ public class JobExpProcessor implements EffectProcessor {
         if (wisdomMultiplier > 1.0 && baseXp > 0) {
             long wisdomBonus = (long) (baseXp * (wisdomMultiplier - 1.0));
             // WISDOM 보너스를 실제로 지급
-            expService.addExp(player, wisdomBonus);
+            expService.queueExp(player, wisdomBonus);
             totalXp += wisdomBonus;
         }
         
@@ -154,7 +154,7 @@ public class JobExpProcessor implements EffectProcessor {
         if (wisdomMultiplier > 1.0 && baseXp > 0) {
             long wisdomBonus = (long) (baseXp * (wisdomMultiplier - 1.0));
             // WISDOM 보너스를 실제로 지급
-            expService.addExp(player, wisdomBonus);
+            expService.queueExp(player, wisdomBonus);
             totalXp += wisdomBonus;
         }
         
@@ -15,6 +15,9 @@ import java.util.logging.Logger;
  * 블록 변경 이력을 조회하는 헬퍼 메서드 제공:
  * - 특정 블록의 변경 이력 조회
  * - 특정 플레이어의 활동 조회
+ * 
+ * 아래 lookup* 메서드는 DB를 동기 조회하므로 메인 스레드에서 호출 금지.
+ * 명령어/안티익스플로잇에서는 CoreProtectQueryService(비동기 + 캐시)를 사용.
  */
 public class CoreProtectIntegration {
     
@@ -65,6 +68,10 @@ public class CoreProtectIntegration {
         return available && api != null;
     }
     
+    CoreProtectAPI getApi() {
+        return api;
+    }
+    
     /**
      * 특정 블록의 변경 이력 조회
      * 
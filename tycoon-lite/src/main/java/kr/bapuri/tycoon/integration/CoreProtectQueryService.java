@@ -0,0 +1,246 @@
+package kr.bapuri.tycoon.integration;
+
+import net.coreprotect.CoreProtectAPI;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * CoreProtectQueryService - CoreProtect 비동기 조회 서비스
+ *
+ * CoreProtect 조회는 DB 쿼리라 메인 스레드에서 호출하면 서버가 멈춘다.
+ * 이 서비스는:
+ * - 제한된 스레드 풀 + 제한된 대기열에서 조회 (가득 차면 즉시 실패)
+ * - String[] 대신 BlockChange 레코드로 결과 반환
+ * - 같은 조회는 짧은 TTL 동안 캐시 (진행 중인 조회도 공유)
+ * - runOnMain()으로 결과를 메인 스레드에서 받을 수 있음
+ *
+ * 사용 예:
+ *   queries.lookupPlayer(name, 3600).thenAccept(...)
+ *   queries.runOnMain(queries.lookupBlock(block, 86400), changes -> ..., error -> ...)
+ */
+public class CoreProtectQueryService {
+
+    private final Plugin plugin;
+    private final CoreProtectIntegration integration;
+    private final Logger logger;
+
+    private final ThreadPoolExecutor executor;
+    private final Map<QueryKey, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final long cacheTtlMs;
+    private final int maxCacheEntries;
+
+    public CoreProtectQueryService(Plugin plugin, CoreProtectIntegration integration) {
+        this.plugin = plugin;
+        this.integration = integration;
+        this.logger = Logger.getLogger("TycoonLite.CoreProtect");
+
+        int threads = Math.max(1, plugin.getConfig().getInt("coreProtectQuery.threads", 2));
+        int maxQueued = Math.max(1, plugin.getConfig().getInt("coreProtectQuery.maxQueued", 64));
+        this.cacheTtlMs = Math.max(0, plugin.getConfig().getInt("coreProtectQuery.cacheTtlSeconds", 30)) * 1000L;
+        this.maxCacheEntries = Math.max(16, plugin.getConfig().getInt("coreProtectQuery.maxCacheEntries", 256));
+
+        AtomicInteger threadId = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxQueued), r -> {
+                    Thread t = new Thread(r, "Tycoon-CoreProtect-" + threadId.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        logger.info("[CoreProtect] 비동기 조회 서비스 시작 (스레드 " + threads + ", 대기열 " + maxQueued
+                + ", 캐시 " + (cacheTtlMs / 1000) + "초)");
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 특정 블록의 변경 이력 (최신순)
+     */
+    public CompletableFuture<List<BlockChange>> lookupBlock(Block block, int seconds) {
+        if (block == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        QueryKey key = new QueryKey(QueryType.BLOCK,
+                block.getWorld().getName() + ":" + block.getX() + ":" + block.getY() + ":" + block.getZ(),
+                0, seconds);
+        return query(key, () -> integration.lookupBlock(block, seconds));
+    }
+
+    /**
+     * 특정 플레이어의 최근 활동 (최신순)
+     */
+    public CompletableFuture<List<BlockChange>> lookupPlayer(String playerName, int seconds) {
+        if (playerName == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        QueryKey key = new QueryKey(QueryType.PLAYER, playerName.toLowerCase(), 0, seconds);
+        return query(key, () -> integration.lookupPlayer(playerName, seconds));
+    }
+
+    /**
+     * 특정 위치 주변의 변경 이력 (최신순)
+     */
+    public CompletableFuture<List<BlockChange>> lookupRadius(Location location, int radius, int seconds) {
+        if (location == null || location.getWorld() == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        // 호출 스레드에서 복사 (원본 Location 변경 영향 차단)
+        Location center = location.clone();
+        QueryKey key = new QueryKey(QueryType.RADIUS,
+                center.getWorld().getName() + ":" + center.getBlockX() + ":" + center.getBlockY() + ":" + center.getBlockZ(),
+                radius, seconds);
+        return query(key, () -> integration.lookupRadius(center, radius, seconds));
+    }
+
+    // ========== 메인 스레드 콜백 ==========
+
+    /**
+     * 결과를 메인 스레드에서 처리
+     *
+     * @param future 조회 결과
+     * @param onSuccess 성공 시 (메인 스레드)
+     * @param onError 실패 시 (메인 스레드, nullable)
+     */
+    public <T> void runOnMain(CompletableFuture<T> future, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        future.whenComplete((result, error) -> {
+            if (!plugin.isEnabled()) return;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (error == null) {
+                    onSuccess.accept(result);
+                } else if (onError != null) {
+                    onError.accept(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                }
+            });
+        });
+    }
+
+    // ========== 생명주기 ==========
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        cache.clear();
+    }
+
+    // ========== 내부 ==========
+
+    private CompletableFuture<List<BlockChange>> query(QueryKey key, Supplier<List<String[]>> lookup) {
+        long now = System.currentTimeMillis();
+
+        CacheEntry cached = cache.get(key);
+        if (cached != null && cached.expiresAt > now && !cached.future.isCompletedExceptionally()) {
+            return cached.future;
+        }
+
+        CompletableFuture<List<BlockChange>> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> parse(lookup.get()), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("CoreProtect 조회 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요."));
+        }
+
+        if (cacheTtlMs > 0) {
+            if (cache.size() >= maxCacheEntries) {
+                evictExpired(now);
+            }
+            cache.put(key, new CacheEntry(future, now + cacheTtlMs));
+            // 실패한 조회는 캐시하지 않음
+            future.whenComplete((r, e) -> {
+                if (e != null) cache.remove(key);
+            });
+        }
+        return future;
+    }
+
+    private void evictExpired(long now) {
+        cache.entrySet().removeIf(entry -> entry.getValue().expiresAt <= now);
+        // 그래도 넘치면 전체 비움 (TTL이 짧아 손실 적음)
+        if (cache.size() >= maxCacheEntries) {
+            cache.clear();
+        }
+    }
+
+    private List<BlockChange> parse(List<String[]> raw) {
+        if (raw == null) {
+            throw new IllegalStateException("CoreProtect 조회 실패 (로그 확인)");
+        }
+        CoreProtectAPI api = integration.getApi();
+        List<BlockChange> changes = new ArrayList<>(raw.size());
+        for (String[] row : raw) {
+            try {
+                CoreProtectAPI.ParseResult parsed = api.parseResult(row);
+                changes.add(new BlockChange(
+                        parsed.getTimestamp(),
+                        parsed.getPlayer(),
+                        parsed.worldName(),
+                        parsed.getX(), parsed.getY(), parsed.getZ(),
+                        parsed.getType(),
+                        Action.fromId(parsed.getActionId()),
+                        parsed.isRolledBack()));
+            } catch (Exception e) {
+                logger.fine("[CoreProtect] 결과 파싱 스킵: " + e.getMessage());
+            }
+        }
+        return Collections.unmodifiableList(changes);
+    }
+
+    // ========== 결과 타입 ==========
+
+    /**
+     * 블록 변경 기록
+     *
+     * @param timestamp 시각 (epoch millis)
+     * @param type 블록 타입 (알 수 없으면 null)
+     */
+    public record BlockChange(long timestamp, String player, String world,
+                              int x, int y, int z, Material type,
+                              Action action, boolean rolledBack) {
+
+        public boolean isBreak() {
+            return action == Action.BREAK;
+        }
+
+        public boolean isPlace() {
+            return action == Action.PLACE;
+        }
+    }
+
+    public enum Action {
+        BREAK, PLACE, INTERACT, KILL, OTHER;
+
+        static Action fromId(int id) {
+            return switch (id) {
+                case 0 -> BREAK;
+                case 1 -> PLACE;
+                case 2 -> INTERACT;
+                case 3 -> KILL;
+                default -> OTHER;
+            };
+        }
+    }
+
+    private enum QueryType { BLOCK, PLAYER, RADIUS }
+
+    private record QueryKey(QueryType type, String subject, int radius, int seconds) {}
+
+    private record CacheEntry(CompletableFuture<List<BlockChange>> future, long expiresAt) {}
+}
@@ -4,14 +4,23 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
@@ -26,14 +35,43 @@ import java.util.logging.Logger;
  * Note: Lands API 7.x 기준으로 리플렉션 호출
  * - getArea(Location) 사용 (getLand가 아님)
  * - Area에서 Land 정보 획득: area.getLand()
+ * - 메서드는 초기화 시 MethodHandle로 한 번만 해석 (LandsHandles)
+ * - getPlotAt은 청크 단위 캐시 사용 (Lands 땅 변경 이벤트로 무효화)
  */
 public class LandsIntegration {
 
+    /** 청크 캐시 최대 항목 수 (초과 시 전체 비움 - 야생 청크 누적 방지) */
+    private static final int CHUNK_CACHE_LIMIT = 50_000;
+    
+    /** 캐시 무효화에 사용하는 Lands 이벤트 (버전별 패키지 차이 대응) */
+    private static final String[] INVALIDATION_EVENTS = {
+        "me.angeschossen.lands.api.events.LandCreateEvent",
+        "me.angeschossen.lands.api.events.LandDeleteEvent",
+        "me.angeschossen.lands.api.events.LandRenameEvent",
+        "me.angeschossen.lands.api.events.LandOwnerChangeEvent",
+        "me.angeschossen.lands.api.events.ChunkPostClaimEvent",
+        "me.angeschossen.lands.api.events.ChunkDeleteEvent",
+        "me.angeschossen.lands.api.events.land.LandCreateEvent",
+        "me.angeschossen.lands.api.events.land.LandDeleteEvent",
+        "me.angeschossen.lands.api.events.land.LandRenameEvent",
+        "me.angeschossen.lands.api.events.land.claiming.ChunkPostClaimEvent",
+        "me.angeschossen.lands.api.events.land.claiming.ChunkDeleteEvent"
+    };
+    
+    /** 클레임되지 않은 청크 표시용 (Optional.empty 캐싱) */
+    private static final PlotInfo WILDERNESS = new PlotInfo("", null, "", 0);
+
     private final JavaPlugin plugin;
     private final Logger logger;
     private Object landsApi; // 리플렉션으로 접근
+    private LandsHandles handles; // 초기화 시 한 번 해석한 MethodHandle
     private volatile boolean available = false;
     
+    // 월드 UUID → (청크 키 → 땅 정보)
+    // Lands 생성/클레임/해제/삭제 이벤트에서 전체 무효화
+    private final Map<UUID, ConcurrentHashMap<Long, PlotInfo>> chunkCache = new ConcurrentHashMap<>();
+    private volatile boolean chunkCacheEnabled = false;
+    
     // 에러 로깅 제어 - 동일 에러 반복 방지
     private final AtomicBoolean errorLogged = new AtomicBoolean(false);
 
@@ -59,17 +97,59 @@ public class LandsIntegration {
             java.lang.reflect.Method ofMethod = landsIntegrationClass.getMethod("of", Plugin.class);
             landsApi = ofMethod.invoke(null, plugin);
             
-            // API 메서드 존재 여부 검증 (getArea)
-            landsApi.getClass().getMethod("getArea", Location.class);
+            // API 메서드 해석 (getArea 없으면 NoSuchMethodException)
+            handles = LandsHandles.resolve(landsIntegrationClass, landsApi);
             
             available = true;
             logger.info("[LandsIntegration] Lands 연동 활성화됨 (v" + landsPlugin.getDescription().getVersion() + ")");
+            
+            registerInvalidationListeners();
         } catch (NoSuchMethodException e) {
-            logger.warning("[LandsIntegration] Lands API 버전이 호환되지 않습니다. getArea(Location) 메서드 없음.");
+            logger.warning("[LandsIntegration] Lands API 버전이 호환되지 않습니다. " + e.getMessage() + " 메서드 없음.");
         } catch (Exception e) {
             logger.warning("[LandsIntegration] Lands API 초기화 실패: " + e.getMessage());
         }
     }
+    
+    /**
+     * Lands 땅 변경 이벤트 구독 (청크 캐시 무효화)
+     * 
+     * 이벤트 클래스를 하나도 찾지 못하면 캐시를 쓰지 않음 (오래된 땅 정보 방지)
+     */
+    @SuppressWarnings("unchecked")
+    private void registerInvalidationListeners() {
+        Listener listener = new Listener() {};
+        EventExecutor executor = (l, event) -> invalidateChunkCache();
+        int registered = 0;
+        
+        for (String className : INVALIDATION_EVENTS) {
+            try {
+                Class<?> eventClass = Class.forName(className);
+                if (!Event.class.isAssignableFrom(eventClass)) continue;
+                Bukkit.getPluginManager().registerEvent((Class<? extends Event>) eventClass, listener,
+                        EventPriority.MONITOR, executor, plugin, true);
+                registered++;
+            } catch (ClassNotFoundException ignored) {
+                // 해당 버전에 없는 이벤트
+            } catch (Exception e) {
+                logger.fine("[LandsIntegration] 이벤트 등록 실패: " + className + " - " + e.getMessage());
+            }
+        }
+        
+        chunkCacheEnabled = registered > 0;
+        if (chunkCacheEnabled) {
+            logger.info("[LandsIntegration] 청크 캐시 활성화 (무효화 이벤트 " + registered + "개)");
+        } else {
+            logger.warning("[LandsIntegration] Lands 이벤트를 찾지 못해 청크 캐시 비활성화");
+        }
+    }
+    
+    /**
+     * 청크 캐시 전체 무효화 (땅 생성/클레임/해제/삭제 시)
+     */
+    public void invalidateChunkCache() {
+        chunkCache.clear();
+    }
 
     /**
      * Lands 사용 가능 여부
@@ -81,65 +161,93 @@ public class LandsIntegration {
     /**
      * API 오류 발생 시 비활성화 및 로깅 (한 번만)
      */
-    private void disableOnError(String context, Exception e) {
+    private void disableOnError(String context, Throwable e) {
         if (errorLogged.compareAndSet(false, true)) {
             logger.warning("[LandsIntegration] " + context + " 실패로 Lands 연동 비활성화: " + e.getMessage());
             logger.warning("[LandsIntegration] Lands 플러그인 버전을 확인하거나 업데이트하세요.");
             available = false;
+            chunkCache.clear();
         }
     }
 
     /**
      * 특정 위치의 땅 정보 조회
      * Lands API 7.x: getArea(Location) → Area → Area.getLand() → Land
+     * 
+     * 같은 청크의 반복 조회는 청크 캐시에서 바로 반환
      */
     public Optional<PlotInfo> getPlotAt(Location location) {
-        if (!isAvailable()) {
+        if (!isAvailable() || location == null || location.getWorld() == null) {
             return Optional.empty();
         }
-
+        
+        if (!chunkCacheEnabled) {
+            PlotInfo plot = lookupPlot(location);
+            return plot == WILDERNESS || plot == null ? Optional.empty() : Optional.of(plot);
+        }
+        
+        ConcurrentHashMap<Long, PlotInfo> worldCache = 
+                chunkCache.computeIfAbsent(location.getWorld().getUID(), k -> new ConcurrentHashMap<>());
+        long key = chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        
+        PlotInfo plot = worldCache.get(key);
+        if (plot == null) {
+            plot = lookupPlot(location);
+            if (plot == null) {
+                return Optional.empty(); // 조회 실패는 캐싱하지 않음
+            }
+            if (worldCache.size() >= CHUNK_CACHE_LIMIT) {
+                worldCache.clear();
+            }
+            worldCache.put(key, plot);
+        }
+        return plot == WILDERNESS ? Optional.empty() : Optional.of(plot);
+    }
+    
+    /**
+     * Lands API 직접 조회
+     * 
+     * @return 땅 정보, 클레임되지 않았으면 WILDERNESS, 오류 시 null
+     */
+    private PlotInfo lookupPlot(Location location) {
         try {
-            // landsApi.getArea(location) 리플렉션 호출
-            java.lang.reflect.Method getAreaMethod = landsApi.getClass().getMethod("getArea", Location.class);
-            Object area = getAreaMethod.invoke(landsApi, location);
-            
+            Object area = handles.getArea(location);
             if (area == null) {
                 // 클레임되지 않은 땅
-                return Optional.empty();
+                return WILDERNESS;
             }
 
-            // area.getLand() → Land 객체 획득
-            Object land = area.getClass().getMethod("getLand").invoke(area);
+            Object land = handles.areaGetLand(area);
             if (land == null) {
-                return Optional.empty();
-            }
-
-            // Land에서 정보 추출
-            String name = (String) land.getClass().getMethod("getName").invoke(land);
-            UUID ownerId = (UUID) land.getClass().getMethod("getOwnerUID").invoke(land);
-            
-            // 소유자 이름 조회 (Bukkit OfflinePlayer 사용)
-            String ownerName = getPlayerName(ownerId);
-            
-            // 땅 크기 (청크 수) - MemberHolder.getChunksAmount()
-            long size = 0;
-            try {
-                Object sizeObj = land.getClass().getMethod("getChunksAmount").invoke(land);
-                size = sizeObj instanceof Long ? (Long) sizeObj : ((Number) sizeObj).longValue();
-            } catch (Exception ignored) {
-                // getSize() fallback (deprecated)
-                try {
-                    Object sizeObj = land.getClass().getMethod("getSize").invoke(land);
-                    size = sizeObj instanceof Long ? (Long) sizeObj : ((Number) sizeObj).longValue();
-                } catch (Exception ignored2) {}
+                return WILDERNESS;
             }
 
-            return Optional.of(new PlotInfo(name, ownerId, ownerName, size));
-        } catch (Exception e) {
+            return toPlotInfo(land);
+        } catch (Throwable e) {
             disableOnError("땅 조회", e);
-            return Optional.empty();
+            return null;
         }
     }
+    
+    /**
+     * Land 객체 → PlotInfo
+     */
+    private PlotInfo toPlotInfo(Object land) throws Throwable {
+        String name = handles.landGetName(land);
+        UUID ownerId = handles.landGetOwner(land);
+        
+        // 소유자 이름 조회 (Bukkit OfflinePlayer 사용)
+        String ownerName = getPlayerName(ownerId);
+        
+        // 땅 크기 (청크 수) - MemberHolder.getChunksAmount() 또는 getSize()
+        long size = handles.landGetSize(land);
+
+        return new PlotInfo(name, ownerId, ownerName, size);
+    }
+    
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX & 0xFFFFFFFFL) | (((long) chunkZ & 0xFFFFFFFFL) << 32);
+    }
 
     /**
      * 플레이어가 해당 위치에서 빌드 권한이 있는지 확인
@@ -151,17 +259,15 @@ public class LandsIntegration {
 
         try {
             // getArea(location) → Area
-            java.lang.reflect.Method getAreaMethod = landsApi.getClass().getMethod("getArea", Location.class);
-            Object area = getAreaMethod.invoke(landsApi, location);
+            Object area = handles.getArea(location);
             
             if (area == null) {
                 return true; // 클레임되지 않은 땅 → 허용
             }
 
             // area.isTrusted(UUID) 확인
-            java.lang.reflect.Method isTrustedMethod = area.getClass().getMethod("isTrusted", UUID.class);
-            return (Boolean) isTrustedMethod.invoke(area, player.getUniqueId());
-        } catch (Exception e) {
+            return handles.areaIsTrusted(area, player.getUniqueId());
+        } catch (Throwable e) {
             disableOnError("권한 체크", e);
             return true; // 에러 시 기본 허용
         }
@@ -176,21 +282,9 @@ public class LandsIntegration {
         }
 
         try {
-            java.lang.reflect.Method getLandPlayerMethod = landsApi.getClass().getMethod("getLandPlayer", UUID.class);
-            Object landPlayer = getLandPlayerMethod.invoke(landsApi, playerId);
-            
-            if (landPlayer == null) {
-                return 0;
-            }
-            
-            java.lang.reflect.Method getLandsMethod = landPlayer.getClass().getMethod("getLands");
-            Object lands = getLandsMethod.invoke(landPlayer);
-            
-            if (lands instanceof java.util.Collection) {
-                return ((java.util.Collection<?>) lands).size();
-            }
-            return 0;
-        } catch (Exception e) {
+            java.util.Collection<?> lands = handles.getLands(playerId);
+            return lands != null ? lands.size() : 0;
+        } catch (Throwable e) {
             disableOnError("땅 개수 조회", e);
             return 0;
         }
@@ -214,45 +308,21 @@ public class LandsIntegration {
         }
 
         try {
-            java.lang.reflect.Method getLandPlayerMethod = landsApi.getClass().getMethod("getLandPlayer", UUID.class);
-            Object landPlayer = getLandPlayerMethod.invoke(landsApi, playerId);
-            
-            if (landPlayer == null) {
-                return Collections.emptyList();
-            }
-            
-            java.lang.reflect.Method getLandsMethod = landPlayer.getClass().getMethod("getLands");
-            Object lands = getLandsMethod.invoke(landPlayer);
-            
-            if (!(lands instanceof java.util.Collection)) {
+            java.util.Collection<?> lands = handles.getLands(playerId);
+            if (lands == null) {
                 return Collections.emptyList();
             }
 
-            List<PlotInfo> result = new ArrayList<>();
-            for (Object land : (java.util.Collection<?>) lands) {
+            List<PlotInfo> result = new ArrayList<>(lands.size());
+            for (Object land : lands) {
                 try {
-                    String name = (String) land.getClass().getMethod("getName").invoke(land);
-                    UUID ownerId = (UUID) land.getClass().getMethod("getOwnerUID").invoke(land);
-                    String ownerName = getPlayerName(ownerId);
-                    
-                    long size = 0;
-                    try {
-                        Object sizeObj = land.getClass().getMethod("getChunksAmount").invoke(land);
-                        size = sizeObj instanceof Long ? (Long) sizeObj : ((Number) sizeObj).longValue();
-                    } catch (Exception ignored) {
-                        try {
-                            Object sizeObj = land.getClass().getMethod("getSize").invoke(land);
-                            size = sizeObj instanceof Long ? (Long) sizeObj : ((Number) sizeObj).longValue();
-                        } catch (Exception ignored2) {}
-                    }
-                    
-                    result.add(new PlotInfo(name, ownerId, ownerName, size));
-                } catch (Exception ignored) {
+                    result.add(toPlotInfo(land));
+                } catch (Throwable ignored) {
                     // 개별 Land 처리 실패 시 스킵
                 }
             }
             return result;
-        } catch (Exception e) {
+        } catch (Throwable e) {
             disableOnError("소유 Land 조회", e);
             return Collections.emptyList();
         }
@@ -269,30 +339,14 @@ public class LandsIntegration {
 
         try {
             // landsApi.getLand(landName) 호출
-            java.lang.reflect.Method getLandMethod = landsApi.getClass().getMethod("getLand", String.class);
-            Object land = getLandMethod.invoke(landsApi, landName);
+            Object land = handles.getLand(landName);
             
             if (land == null) {
                 return Optional.empty();
             }
 
-            String name = (String) land.getClass().getMethod("getName").invoke(land);
-            UUID ownerId = (UUID) land.getClass().getMethod("getOwnerUID").invoke(land);
-            String ownerName = getPlayerName(ownerId);
-            
-            long size = 0;
-            try {
-                Object sizeObj = land.getClass().getMethod("getChunksAmount").invoke(land);
-                size = sizeObj instanceof Long ? (Long) sizeObj : ((Number) sizeObj).longValue();
-            } catch (Exception ignored) {
-                try {
-                    Object sizeObj = land.getClass().getMethod("getSize").invoke(land);
-                    size = sizeObj instanceof Long ? (Long) sizeObj : ((Number) sizeObj).longValue();
-                } catch (Exception ignored2) {}
-            }
-
-            return Optional.of(new PlotInfo(name, ownerId, ownerName, size));
-        } catch (Exception e) {
+            return Optional.of(toPlotInfo(land));
+        } catch (Throwable e) {
             disableOnError("Land 이름 조회", e);
             return Optional.empty();
         }
@@ -437,9 +491,8 @@ public class LandsIntegration {
      */
     private Object getLandObject(String landName) {
         try {
-            java.lang.reflect.Method getLandMethod = landsApi.getClass().getMethod("getLand", String.class);
-            return getLandMethod.invoke(landsApi, landName);
-        } catch (Exception e) {
+            return handles.getLand(landName);
+        } catch (Throwable e) {
             return null;
         }
     }
@@ -548,6 +601,134 @@ public class LandsIntegration {
         return name != null ? name : "Unknown";
     }
 
+    /**
+     * Lands API MethodHandle 묶음
+     * 
+     * 초기화 시 API 인터페이스(Area, Land, LandPlayer)에서 한 번만 해석하고,
+     * 이후 조회는 getMethod() 탐색 없이 바로 호출합니다.
+     * 인터페이스 타입은 API 메서드의 반환 타입으로 얻으므로 클래스명을 하드코딩하지 않습니다.
+     */
+    private static final class LandsHandles {
+        private static final MethodType OBJ_OBJ = MethodType.methodType(Object.class, Object.class);
+        
+        private final MethodHandle getArea;          // (Location) → Area
+        private final MethodHandle getLand;          // (String) → Land (nullable)
+        private final MethodHandle getLandPlayer;    // (UUID) → LandPlayer (nullable)
+        private final MethodHandle areaGetLand;      // Area → Land
+        private final MethodHandle areaIsTrusted;    // (Area, UUID) → boolean
+        private final MethodHandle landGetName;      // Land → String
+        private final MethodHandle landGetOwner;     // Land → UUID
+        private final MethodHandle landGetSize;      // Land → Number (nullable)
+        private final MethodHandle landPlayerLands;  // LandPlayer → Collection (nullable)
+        
+        private LandsHandles(MethodHandle getArea, MethodHandle getLand, MethodHandle getLandPlayer,
+                             MethodHandle areaGetLand, MethodHandle areaIsTrusted,
+                             MethodHandle landGetName, MethodHandle landGetOwner, MethodHandle landGetSize,
+                             MethodHandle landPlayerLands) {
+            this.getArea = getArea;
+            this.getLand = getLand;
+            this.getLandPlayer = getLandPlayer;
+            this.areaGetLand = areaGetLand;
+            this.areaIsTrusted = areaIsTrusted;
+            this.landGetName = landGetName;
+            this.landGetOwner = landGetOwner;
+            this.landGetSize = landGetSize;
+            this.landPlayerLands = landPlayerLands;
+        }
+        
+        static LandsHandles resolve(Class<?> apiClass, Object api) throws ReflectiveOperationException {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            
+            // getArea는 필수, 이름/플레이어 조회는 없으면 해당 기능만 비활성화
+            java.lang.reflect.Method getAreaMethod = apiClass.getMethod("getArea", Location.class);
+            java.lang.reflect.Method getLandMethod = findMethod(apiClass, "getLand", String.class);
+            java.lang.reflect.Method getLandPlayerMethod = findMethod(apiClass, "getLandPlayer", UUID.class);
+            
+            Class<?> areaClass = getAreaMethod.getReturnType();
+            Class<?> landClass = areaClass.getMethod("getLand").getReturnType();
+            java.lang.reflect.Method landPlayerLandsMethod = getLandPlayerMethod != null
+                    ? findMethod(getLandPlayerMethod.getReturnType(), "getLands") : null;
+            
+            // 땅 크기: getChunksAmount() 우선, 없으면 getSize() (deprecated)
+            java.lang.reflect.Method sizeMethod;
+            try {
+                sizeMethod = landClass.getMethod("getChunksAmount");
+            } catch (NoSuchMethodException e) {
+                sizeMethod = landClass.getMethod("getSize");
+            }
+            
+            return new LandsHandles(
+                lookup.unreflect(getAreaMethod).bindTo(api).asType(MethodType.methodType(Object.class, Location.class)),
+                getLandMethod != null
+                        ? lookup.unreflect(getLandMethod).bindTo(api).asType(MethodType.methodType(Object.class, String.class))
+                        : null,
+                getLandPlayerMethod != null
+                        ? lookup.unreflect(getLandPlayerMethod).bindTo(api).asType(MethodType.methodType(Object.class, UUID.class))
+                        : null,
+                lookup.unreflect(areaClass.getMethod("getLand")).asType(OBJ_OBJ),
+                lookup.unreflect(areaClass.getMethod("isTrusted", UUID.class))
+                        .asType(MethodType.methodType(boolean.class, Object.class, UUID.class)),
+                lookup.unreflect(landClass.getMethod("getName")).asType(MethodType.methodType(String.class, Object.class)),
+                lookup.unreflect(landClass.getMethod("getOwnerUID")).asType(MethodType.methodType(UUID.class, Object.class)),
+                lookup.unreflect(sizeMethod).asType(OBJ_OBJ),
+                landPlayerLandsMethod != null ? lookup.unreflect(landPlayerLandsMethod).asType(OBJ_OBJ) : null
+            );
+        }
+        
+        private static java.lang.reflect.Method findMethod(Class<?> type, String name, Class<?>... params) {
+            try {
+                return type.getMethod(name, params);
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+        
+        Object getArea(Location location) throws Throwable {
+            return (Object) getArea.invokeExact(location);
+        }
+        
+        Object getLand(String name) throws Throwable {
+            if (getLand == null) return null;
+            return (Object) getLand.invokeExact(name);
+        }
+        
+        Object areaGetLand(Object area) throws Throwable {
+            return (Object) areaGetLand.invokeExact(area);
+        }
+        
+        boolean areaIsTrusted(Object area, UUID playerId) throws Throwable {
+            return (boolean) areaIsTrusted.invokeExact(area, playerId);
+        }
+        
+        String landGetName(Object land) throws Throwable {
+            return (String) landGetName.invokeExact(land);
+        }
+        
+        UUID landGetOwner(Object land) throws Throwable {
+            return (UUID) landGetOwner.invokeExact(land);
+        }
+        
+        long landGetSize(Object land) {
+            try {
+                Object size = (Object) landGetSize.invokeExact(land);
+                return size instanceof Number ? ((Number) size).longValue() : 0L;
+            } catch (Throwable ignored) {
+                return 0L;
+            }
+        }
+        
+        /**
+         * 플레이어 소유 Land 목록 (LandPlayer 없으면 null)
+         */
+        java.util.Collection<?> getLands(UUID playerId) throws Throwable {
+            if (getLandPlayer == null || landPlayerLands == null) return null;
+            Object landPlayer = (Object) getLandPlayer.invokeExact(playerId);
+            if (landPlayer == null) return null;
+            Object lands = (Object) landPlayerLands.invokeExact(landPlayer);
+            return lands instanceof java.util.Collection ? (java.util.Collection<?>) lands : null;
+        }
+    }
+
     /**
      * 클라이언트 모드용 PlotInfo 데이터 클래스
      */
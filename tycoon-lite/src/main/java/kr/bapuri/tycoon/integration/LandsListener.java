@@ -191,17 +191,18 @@ public class LandsListener implements Listener {
     /**
      * 플레이어 이동 시 땅 변경 감지
      * 
-     * 성능 최적화: 블록 단위 이동만 체크
+     * 성능 최적화: 청크 경계를 넘을 때만 체크 (Lands 클레임은 청크 단위)
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
         Location from = event.getFrom();
         Location to = event.getTo();
         
-        // 블록 단위 이동이 아니면 무시
+        // 같은 청크 내 이동이면 땅이 바뀔 수 없으므로 무시
         if (to == null) return;
-        if (from.getBlockX() == to.getBlockX() && 
-            from.getBlockZ() == to.getBlockZ()) {
+        if ((from.getBlockX() >> 4) == (to.getBlockX() >> 4) && 
+            (from.getBlockZ() >> 4) == (to.getBlockZ() >> 4) &&
+            from.getWorld() == to.getWorld()) {
             return;
         }
         
@@ -3,6 +3,9 @@ package kr.bapuri.tycoon.integration;
 import kr.bapuri.tycoon.economy.EconomyService;
 import kr.bapuri.tycoon.job.JobService;
 import kr.bapuri.tycoon.job.JobType;
+import kr.bapuri.tycoon.leaderboard.LeaderboardMetric;
+import kr.bapuri.tycoon.leaderboard.LeaderboardService;
+import kr.bapuri.tycoon.player.PlayerChangeListener;
 import kr.bapuri.tycoon.player.PlayerDataManager;
 import kr.bapuri.tycoon.player.PlayerTycoonData;
 import kr.bapuri.tycoon.title.LuckPermsTitleService;
@@ -11,13 +14,20 @@ import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.Statistic;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
@@ -49,11 +59,25 @@ import java.util.logging.Logger;
  * 업적:
  * - %tycoon_achievement_count% : 해금된 업적 수
  * 
+ * 순위 (지표: bd, bc, earned, job, job2, codex, achievement):
+ * - %tycoon_rank_<지표>% : 내 순위 (순위 밖이면 -)
+ * - %tycoon_top_<지표>_<n>_name% : n위 이름
+ * - %tycoon_top_<지표>_<n>_value% : n위 값
+ * - %tycoon_top_<지표>_<n>_value_formatted% : n위 값 (단위 포함)
+ * 
  * 기타:
  * - %tycoon_playtime% : 플레이타임 (분)
  * - %tycoon_playtime_hours% : 플레이타임 (시간)
+ * 
+ * 캐시:
+ * - 스코어보드/TAB이 매 틱 가까이 조회하므로 온라인 플레이어의 경제/직업/칭호/도감/업적 값은
+ *   포맷된 문자열 스냅샷으로 캐시 (조회 경로는 ConcurrentHashMap.get 한 번, 잠금 없음)
+ * - 스냅샷은 맵 잠금 밖에서 만든 뒤 putIfAbsent/replace로 설치 (재계산 중 변경 알림이 오면 설치 취소)
+ * - 경제/직업/칭호/도감/업적 변경 알림(PlayerDataManager.notifyChange) 시 해당 플레이어 스냅샷 폐기
+ * - 알림이 누락된 변경 경로 대비로 placeholders.cacheMaxAgeMillis 경과 시 재계산
+ * - 플레이타임, 순위, 오프라인 플레이어는 캐시하지 않음
  */
-public class TycoonPlaceholders extends PlaceholderExpansion {
+public class TycoonPlaceholders extends PlaceholderExpansion implements PlayerChangeListener, Listener {
     
     private final Plugin plugin;
     private final EconomyService economyService;
@@ -62,8 +86,58 @@ public class TycoonPlaceholders extends PlaceholderExpansion {
     private final LuckPermsTitleService titleService;
     private final Logger logger;
     
+    // setter 주입 (순위 플레이스홀더)
+    private LeaderboardService leaderboardService;
+    
     private static final NumberFormat NUMBER_FORMAT = NumberFormat.getNumberInstance(Locale.KOREA);
     
+    // ========== 값 캐시 ==========
+    
+    private final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> generations = new ConcurrentHashMap<>(); // 변경 알림 횟수
+    private final long cacheMaxAgeMillis;
+    
+    /**
+     * 플레이어별 포맷 완료 값 (불변)
+     */
+    private record Snapshot(
+            String money, String moneyFormatted,
+            String bottCoin, String bottCoinFormatted,
+            String jobName, String jobId, String jobLevel, String jobExp, String jobGrade,
+            String titlePrefix, String titleId,
+            String codexCount, String achievementCount,
+            long createdAt) {
+        
+        static final Set<String> KEYS = Set.of(
+                "money", "bd", "money_formatted", "bd_formatted",
+                "bottcoin", "bc", "bottcoin_formatted", "bc_formatted",
+                "job", "job_name", "job_id", "job_level", "job_exp", "job_grade",
+                "title", "title_name", "title_id",
+                "codex_count", "achievement_count");
+        
+        /**
+         * @return 캐시 대상이 아닌 키면 null
+         */
+        String get(String key) {
+            return switch (key) {
+                case "money", "bd" -> money;
+                case "money_formatted", "bd_formatted" -> moneyFormatted;
+                case "bottcoin", "bc" -> bottCoin;
+                case "bottcoin_formatted", "bc_formatted" -> bottCoinFormatted;
+                case "job", "job_name" -> jobName;
+                case "job_id" -> jobId;
+                case "job_level" -> jobLevel;
+                case "job_exp" -> jobExp;
+                case "job_grade" -> jobGrade;
+                case "title", "title_name" -> titlePrefix;
+                case "title_id" -> titleId;
+                case "codex_count" -> codexCount;
+                case "achievement_count" -> achievementCount;
+                default -> null;
+            };
+        }
+    }
+    
     public TycoonPlaceholders(Plugin plugin, 
                               EconomyService economyService,
                               JobService jobService,
@@ -75,6 +149,11 @@ public class TycoonPlaceholders extends PlaceholderExpansion {
         this.playerDataManager = playerDataManager;
         this.titleService = titleService;
         this.logger = plugin.getLogger();
+        this.cacheMaxAgeMillis = plugin.getConfig().getLong("placeholders.cacheMaxAgeMillis", 5000L);
+    }
+    
+    public void setLeaderboardService(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
     }
     
     @Override
@@ -99,14 +178,35 @@ public class TycoonPlaceholders extends PlaceholderExpansion {
     
     @Override
     public @Nullable String onRequest(OfflinePlayer offlinePlayer, @NotNull String params) {
+        // 상위 순위는 플레이어와 무관 (홀로그램 등에서 player 없이 호출됨)
+        if (params.startsWith("top_")) {
+            return handleTop(params.substring(4).toLowerCase());
+        }
+        
         if (offlinePlayer == null) {
             return "";
         }
         
+        if (params.startsWith("rank_")) {
+            if (leaderboardService == null) return "-";
+            LeaderboardMetric metric = LeaderboardMetric.fromId(params.substring(5));
+            if (metric == null) return null;
+            int rank = leaderboardService.getRank(metric, offlinePlayer.getUniqueId());
+            return rank > 0 ? String.valueOf(rank) : "-";
+        }
+        
         Player player = offlinePlayer.getPlayer();
+        String key = params.toLowerCase();
         
         try {
-            switch (params.toLowerCase()) {
+            if (player != null && Snapshot.KEYS.contains(key)) {
+                Snapshot snapshot = getSnapshot(player);
+                if (snapshot != null) {
+                    return snapshot.get(key);
+                }
+            }
+            
+            switch (key) {
                 // ========== 경제 ==========
                 case "money", "bd" -> {
                     return String.valueOf(economyService.getMoney(offlinePlayer.getUniqueId()));
@@ -187,8 +287,7 @@ public class TycoonPlaceholders extends PlaceholderExpansion {
                 case "codex_count" -> {
                     if (player != null) {
                         PlayerTycoonData data = playerDataManager.get(player);
-                        Set<String> unlocked = data.getUnlockedCodex();
-                        return String.valueOf(unlocked != null ? unlocked.size() : 0);
+                        return String.valueOf(data.getCodexCount());
                     }
                     return "0";
                 }
@@ -229,6 +328,129 @@ public class TycoonPlaceholders extends PlaceholderExpansion {
         }
     }
     
+    // ========== 값 캐시 ==========
+    
+    /**
+     * 캐시된 스냅샷 조회 (없거나 만료 시 재계산)
+     * 
+     * 재계산은 맵 잠금 밖에서 수행 (PlaceholderAPI 비동기 스레드에서 서비스 조회가 길어져도
+     * 다른 플레이어 조회를 막지 않음). 재계산 도중 변경 알림이 오면 결과는 반환만 하고 캐시하지 않는다.
+     * 
+     * @return 데이터가 로드되지 않은 플레이어면 null
+     */
+    private Snapshot getSnapshot(Player player) {
+        UUID uuid = player.getUniqueId();
+        Snapshot current = snapshots.get(uuid);
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+        
+        long generation = generations.getOrDefault(uuid, 0L);
+        Snapshot built = buildSnapshot(player);
+        if (built == null || generations.getOrDefault(uuid, 0L) != generation) {
+            return built;
+        }
+        
+        boolean installed = current == null
+                ? snapshots.putIfAbsent(uuid, built) == null
+                : snapshots.replace(uuid, current, built);
+        // 설치 직후 들어온 변경 알림의 remove가 먼저 끝났을 수 있으므로 다시 확인
+        if (installed && generations.getOrDefault(uuid, 0L) != generation) {
+            snapshots.remove(uuid, built);
+        }
+        return built;
+    }
+    
+    private boolean isExpired(Snapshot snapshot) {
+        return cacheMaxAgeMillis > 0 && System.currentTimeMillis() - snapshot.createdAt() >= cacheMaxAgeMillis;
+    }
+    
+    private Snapshot buildSnapshot(Player player) {
+        UUID uuid = player.getUniqueId();
+        // 캐시에 없는 데이터는 여기서 로드하지 않음 (기존 조회 경로로 처리)
+        PlayerTycoonData data = playerDataManager.getIfLoaded(uuid);
+        if (data == null) {
+            return null;
+        }
+        long money = economyService.getMoney(uuid);
+        long bottCoin = economyService.getBottCoin(uuid);
+        
+        String jobName = "없음";
+        String jobId = "NONE";
+        String jobLevel = "0";
+        String jobExp = "0";
+        String jobGrade = "0";
+        JobType jobType = jobService.getTier1Job(player);
+        if (jobType != null) {
+            jobName = jobType.getDisplayName();
+            jobId = jobType.name();
+            jobLevel = String.valueOf(jobService.getLevel(player, jobType));
+            jobExp = String.valueOf(data.getJobExp(jobType));
+            jobGrade = String.valueOf(data.getJobGrade(jobType));
+        }
+        
+        String titlePrefix = "";
+        if (titleService != null) {
+            Title title = titleService.getEquippedTitle(player);
+            titlePrefix = title != null ? title.getPrefix() : "";
+        }
+        String titleId = data.getEquippedTitle();
+        
+        Set<String> achievements = data.getUnlockedAchievements();
+        
+        return new Snapshot(
+                String.valueOf(money), NUMBER_FORMAT.format(money),
+                String.valueOf(bottCoin), NUMBER_FORMAT.format(bottCoin),
+                jobName, jobId, jobLevel, jobExp, jobGrade,
+                titlePrefix, titleId != null ? titleId : "",
+                String.valueOf(data.getCodexCount()),
+                String.valueOf(achievements != null ? achievements.size() : 0),
+                System.currentTimeMillis());
+    }
+    
+    /**
+     * 데이터 변경 알림 - 해당 플레이어 스냅샷 폐기 (다음 조회 시 재계산)
+     */
+    @Override
+    public void onPlayerChange(UUID uuid, PlayerChangeListener.Kind kind) {
+        generations.merge(uuid, 1L, Long::sum);
+        snapshots.remove(uuid);
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        generations.merge(uuid, 1L, Long::sum);
+        snapshots.remove(uuid);
+    }
+    
+    /**
+     * top_<지표>_<n>_<name|value|value_formatted> 처리
+     */
+    private String handleTop(String rest) {
+        if (leaderboardService == null) return "";
+        
+        String[] parts = rest.split("_", 3);
+        if (parts.length < 3) return null;
+        
+        LeaderboardMetric metric = LeaderboardMetric.fromId(parts[0]);
+        if (metric == null) return null;
+        int rank;
+        try {
+            rank = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        
+        LeaderboardService.Entry entry = leaderboardService.getEntry(metric, rank);
+        return switch (parts[2]) {
+            case "name" -> entry != null ? entry.name() : "-";
+            case "value" -> entry != null ? String.valueOf(entry.value()) : "0";
+            case "value_formatted" -> entry != null ? metric.format(entry.value()) : "-";
+            default -> null;
+        };
+    }
+    
     /**
      * PlaceholderAPI에 등록
      */
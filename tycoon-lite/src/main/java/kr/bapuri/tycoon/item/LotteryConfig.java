@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.item;
 
+import kr.bapuri.tycoon.common.AliasSampler;
 import kr.bapuri.tycoon.enhance.enchant.CustomEnchant;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Registry;
@@ -39,11 +40,13 @@ public class LotteryConfig {
     
     // 기본 뽑기 설정
     private final List<TierConfig> basicTiers = new ArrayList<>();
-    private double basicTotalWeight = 0;
     
     // 특수 뽑기 설정
     private final List<TierConfig> specialTiers = new ArrayList<>();
-    private double specialTotalWeight = 0;
+    
+    // 등급 선택 테이블 (로드 시 구성, O(1) 선택)
+    private volatile AliasSampler<TierConfig> basicSampler = AliasSampler.empty();
+    private volatile AliasSampler<TierConfig> specialSampler = AliasSampler.empty();
     
     public LotteryConfig(JavaPlugin plugin) {
         this.plugin = plugin;
@@ -58,26 +61,25 @@ public class LotteryConfig {
     public void loadConfig() {
         basicTiers.clear();
         specialTiers.clear();
-        basicTotalWeight = 0;
-        specialTotalWeight = 0;
         
         ConfigurationSection lotterySection = plugin.getConfig().getConfigurationSection("lottery");
         if (lotterySection == null) {
             logger.warning("[LotteryConfig] lottery 섹션이 없습니다. 기본값 사용");
             loadDefaultConfig();
+            rebuildSamplers();
             return;
         }
         
         // basic 로드
         ConfigurationSection basicSection = lotterySection.getConfigurationSection("basic.tiers");
         if (basicSection != null) {
-            basicTotalWeight = loadTiers(basicSection, basicTiers, "basic");
+            loadTiers(basicSection, basicTiers, "basic");
         }
         
         // special 로드
         ConfigurationSection specialSection = lotterySection.getConfigurationSection("special.tiers");
         if (specialSection != null) {
-            specialTotalWeight = loadTiers(specialSection, specialTiers, "special");
+            loadTiers(specialSection, specialTiers, "special");
         }
         
         // fallback
@@ -87,6 +89,7 @@ public class LotteryConfig {
         if (specialTiers.isEmpty()) {
             loadDefaultSpecial();
         }
+        rebuildSamplers();
         
         logger.info("[LotteryConfig] 설정 로드: basic=" + basicTiers.size() + "등급, special=" + specialTiers.size() + "등급");
     }
@@ -95,9 +98,7 @@ public class LotteryConfig {
      * 등급 설정 로드
      * [버그수정] getDouble 사용하여 소수점 가중치 지원
      */
-    private double loadTiers(ConfigurationSection section, List<TierConfig> tierList, String type) {
-        double totalWeight = 0;
-        
+    private void loadTiers(ConfigurationSection section, List<TierConfig> tierList, String type) {
         for (String tierName : section.getKeys(false)) {
             ConfigurationSection tierSection = section.getConfigurationSection(tierName);
             if (tierSection == null) continue;
@@ -116,12 +117,9 @@ public class LotteryConfig {
             
             if (!enchants.isEmpty()) {
                 tierList.add(new TierConfig(tierName, weight, enchants));
-                totalWeight += weight;
                 logger.info("[LotteryConfig] " + type + " 등급 " + tierName + ": weight=" + weight + ", enchants=" + enchants.size());
             }
         }
-        
-        return totalWeight;
     }
     
     /**
@@ -205,42 +203,37 @@ public class LotteryConfig {
      * 기본 뽑기에서 랜덤 인챈트 선택
      */
     public EnchantEntry rollBasicEnchant() {
-        return rollEnchant(basicTiers, basicTotalWeight);
+        return rollEnchant(basicSampler);
     }
     
     /**
      * 특수 뽑기에서 랜덤 인챈트 선택
      */
     public EnchantEntry rollSpecialEnchant() {
-        return rollEnchant(specialTiers, specialTotalWeight);
+        return rollEnchant(specialSampler);
+    }
+    
+    /**
+     * 등급 선택 테이블 재구성 (가중치는 double - 소수점 지원)
+     */
+    private void rebuildSamplers() {
+        basicSampler = AliasSampler.of(basicTiers, tier -> tier.weight);
+        specialSampler = AliasSampler.of(specialTiers, tier -> tier.weight);
     }
     
     /**
      * 가중치 기반 랜덤 선택
-     * [버그수정] double 사용하여 소수점 가중치 지원
      */
-    private EnchantEntry rollEnchant(List<TierConfig> tiers, double totalWeight) {
-        if (tiers.isEmpty() || totalWeight <= 0) {
+    private EnchantEntry rollEnchant(AliasSampler<TierConfig> sampler) {
+        TierConfig tier = sampler.sample();
+        if (tier == null) {
             // fallback: 기본 UNBREAKING 3
             return new EnchantEntry(Enchantment.DURABILITY, 3);
         }
         
-        // [버그수정] nextDouble 사용
-        double roll = ThreadLocalRandom.current().nextDouble() * totalWeight;
-        double cumulative = 0;
-        
-        for (TierConfig tier : tiers) {
-            cumulative += tier.weight;
-            if (roll < cumulative) {
-                // 해당 등급에서 랜덤 인챈트 선택
-                List<EnchantEntry> enchants = tier.enchants;
-                return enchants.get(ThreadLocalRandom.current().nextInt(enchants.size()));
-            }
-        }
-        
-        // fallback
-        TierConfig lastTier = tiers.get(tiers.size() - 1);
-        return lastTier.enchants.get(0);
+        // 해당 등급에서 랜덤 인챈트 선택
+        List<EnchantEntry> enchants = tier.enchants;
+        return enchants.get(ThreadLocalRandom.current().nextInt(enchants.size()));
     }
     
     /**
@@ -277,7 +270,6 @@ public class LotteryConfig {
             new EnchantEntry(Enchantment.DIG_SPEED, 1)
         )));
         
-        basicTotalWeight = 100;
         logger.info("[LotteryConfig] 기본 basic 설정 로드됨 (4등급)");
     }
     
@@ -300,7 +292,6 @@ public class LotteryConfig {
             new EnchantEntry(Enchantment.DIG_SPEED, 5)
         )));
         
-        specialTotalWeight = 100;
         logger.info("[LotteryConfig] 기본 special 설정 로드됨 (3등급)");
     }
     
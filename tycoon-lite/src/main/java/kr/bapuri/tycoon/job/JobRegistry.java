@@ -204,6 +204,26 @@ public class JobRegistry {
         return null;
     }
     
+    // ===== 배치 EXP =====
+    
+    /**
+     * 특정 플레이어의 대기 경험치를 모든 직업에 반영 (퇴장 시)
+     */
+    public void flushPendingExp(UUID uuid) {
+        for (AbstractJobExpService service : expServices.values()) {
+            service.flushPendingExp(uuid);
+        }
+    }
+    
+    /**
+     * 모든 대기 경험치 반영 (플러그인 종료 시)
+     */
+    public void flushAllPendingExp() {
+        for (AbstractJobExpService service : expServices.values()) {
+            service.flushPendingExp();
+        }
+    }
+    
     // ===== 설정 리로드 =====
     
     /**
@@ -4,6 +4,7 @@ import kr.bapuri.tycoon.TycoonPlugin;
 import kr.bapuri.tycoon.job.common.AbstractJobExpService;
 import kr.bapuri.tycoon.job.common.AbstractJobGradeService;
 import kr.bapuri.tycoon.job.common.UnlockCondition;
+import kr.bapuri.tycoon.player.PlayerChangeListener;
 import kr.bapuri.tycoon.player.PlayerDataManager;
 import kr.bapuri.tycoon.player.PlayerTycoonData;
 import org.bukkit.entity.Player;
@@ -32,6 +33,9 @@ public class JobService {
     private final JobsConfigLoader configLoader;
     private final JobRegistry registry;
     
+    // 순위표 (직업 부여/제거/관리자 레벨 변경 시 갱신 표시)
+    private kr.bapuri.tycoon.leaderboard.LeaderboardService leaderboardService;
+    
     public JobService(JavaPlugin plugin, 
                       PlayerDataManager dataManager,
                       JobsConfigLoader configLoader,
@@ -43,6 +47,10 @@ public class JobService {
         this.registry = registry;
     }
     
+    public void setLeaderboardService(kr.bapuri.tycoon.leaderboard.LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+    
     // ===== 직업 선택/해금 =====
     
     /**
@@ -380,6 +388,7 @@ public class JobService {
             data.clearTier2Job();
         }
         data.markDirty();
+        markStatsChanged(uuid);
         return true;
     }
     
@@ -389,7 +398,9 @@ public class JobService {
     public boolean setLevelAdmin(UUID uuid, JobType jobType, int level) {
         AbstractJobExpService expService = registry.getExpService(jobType);
         if (expService == null) return false;
-        return expService.setLevel(uuid, level);
+        boolean result = expService.setLevel(uuid, level);
+        markStatsChanged(uuid);
+        return result;
     }
     
     /**
@@ -398,7 +409,9 @@ public class JobService {
     public boolean setExpAdmin(UUID uuid, JobType jobType, long exp) {
         AbstractJobExpService expService = registry.getExpService(jobType);
         if (expService == null) return false;
-        return expService.setExp(uuid, exp);
+        boolean result = expService.setExp(uuid, exp);
+        markStatsChanged(uuid);
+        return result;
     }
     
     // ===== 내부 메서드 =====
@@ -417,6 +430,14 @@ public class JobService {
         data.setJobLevel(jobType, 1);
         data.setJobExp(jobType, 0);
         setJobGrade(data, jobType, 1);
+        markStatsChanged(data.getUuid());
+    }
+    
+    private void markStatsChanged(UUID uuid) {
+        if (leaderboardService != null) {
+            leaderboardService.markDirty(uuid);
+        }
+        dataManager.notifyChange(uuid, PlayerChangeListener.Kind.JOB);
     }
     
     /**
@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.job;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import kr.bapuri.tycoon.job.common.unlock.CodexCountCondition;
 import kr.bapuri.tycoon.job.common.unlock.MoneyCondition;
 import kr.bapuri.tycoon.job.common.UnlockCondition;
@@ -9,10 +10,6 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -24,6 +21,9 @@ import java.util.logging.Logger;
  * - 직업별 설정 파싱
  * - 해금 조건 파싱 (UnlockCondition 생성)
  * - 가격 정책 로드
+ * 
+ * 로드/리로드는 새 YamlConfiguration과 글로벌 설정을 Snapshot 하나로 묶어 참조만 교체한다.
+ * (조회 중에 파일 설정과 글로벌 플래그가 서로 다른 버전이 되지 않도록)
  */
 public class JobsConfigLoader {
     
@@ -31,12 +31,17 @@ public class JobsConfigLoader {
     private final Logger logger;
     private final File configFile;
     private final PlayerDataManager dataManager;
-    private YamlConfiguration config;
     
-    // 캐시된 설정
-    private boolean tier2JobsEnabled = false;
-    private boolean expFromActionsEnabled = true;
-    private boolean expFromSalesEnabled = true;
+    // 현재 설정 (load() 시 통째로 교체)
+    private volatile Snapshot snapshot = new Snapshot(new YamlConfiguration(), false, true, true);
+    
+    /**
+     * jobs.yml 스냅샷 (발행 후 수정하지 않음)
+     */
+    private record Snapshot(YamlConfiguration config,
+                            boolean tier2JobsEnabled,
+                            boolean expFromActionsEnabled,
+                            boolean expFromSalesEnabled) {}
     
     public JobsConfigLoader(JavaPlugin plugin, PlayerDataManager dataManager) {
         this.plugin = plugin;
@@ -53,21 +58,16 @@ public class JobsConfigLoader {
             plugin.saveResource("jobs.yml", false);
         }
         
-        config = YamlConfiguration.loadConfiguration(configFile);
+        YamlConfiguration config = YamlPrefetcher.load(configFile);
         
         // 기본값 병합 (리소스)
-        try (InputStream is = plugin.getResource("jobs.yml")) {
-            if (is != null) {
-                YamlConfiguration defaults = YamlConfiguration.loadConfiguration(
-                        new InputStreamReader(is, StandardCharsets.UTF_8));
-                config.setDefaults(defaults);
-            }
-        } catch (IOException e) {
-            logger.warning("[JobsConfigLoader] 기본 설정 로드 실패: " + e.getMessage());
+        YamlConfiguration defaults = YamlPrefetcher.loadResource(plugin, "jobs.yml");
+        if (defaults != null) {
+            config.setDefaults(defaults);
         }
         
-        // 글로벌 설정 로드
-        loadGlobalSettings();
+        // 글로벌 설정 로드 후 교체
+        snapshot = loadGlobalSettings(config);
         
         logger.info("[JobsConfigLoader] jobs.yml 로드 완료");
     }
@@ -82,30 +82,31 @@ public class JobsConfigLoader {
     /**
      * 글로벌 설정 로드
      */
-    private void loadGlobalSettings() {
+    private Snapshot loadGlobalSettings(YamlConfiguration config) {
         ConfigurationSection global = config.getConfigurationSection("global");
         if (global == null) {
             logger.warning("[JobsConfigLoader] global 섹션이 없습니다. 기본값 사용.");
-            return;
+            return new Snapshot(config, false, true, true);
         }
         
-        tier2JobsEnabled = global.getBoolean("tier2_jobs_enabled", false);
-        expFromActionsEnabled = global.getBoolean("exp_from_actions", true);
-        expFromSalesEnabled = global.getBoolean("exp_from_sales", true);
+        return new Snapshot(config,
+                global.getBoolean("tier2_jobs_enabled", false),
+                global.getBoolean("exp_from_actions", true),
+                global.getBoolean("exp_from_sales", true));
     }
     
     // ===== 글로벌 설정 조회 =====
     
     public boolean isTier2JobsEnabled() {
-        return tier2JobsEnabled;
+        return snapshot.tier2JobsEnabled();
     }
     
     public boolean isExpFromActionsEnabled() {
-        return expFromActionsEnabled;
+        return snapshot.expFromActionsEnabled();
     }
     
     public boolean isExpFromSalesEnabled() {
-        return expFromSalesEnabled;
+        return snapshot.expFromSalesEnabled();
     }
     
     // ===== 직업별 설정 조회 =====
@@ -116,7 +117,7 @@ public class JobsConfigLoader {
      */
     public ConfigurationSection getJobSection(JobType jobType) {
         String key = jobType.getConfigKey();
-        return config.getConfigurationSection(key);
+        return snapshot.config().getConfigurationSection(key);
     }
     
     /**
@@ -215,18 +216,18 @@ public class JobsConfigLoader {
      * JobExpCalculator.loadFromConfig()에 전달용
      */
     public ConfigurationSection getExpFormulaSection() {
-        return config.getConfigurationSection("exp_formula");
+        return snapshot.config().getConfigurationSection("exp_formula");
     }
     
     /**
      * 경험치 공식 기본값 가져오기 (레거시 호환)
      */
     public int getExpFormulaBase() {
-        return config.getInt("exp_formula.base", 100);
+        return snapshot.config().getInt("exp_formula.base", 100);
     }
     
     public double getExpFormulaMultiplier() {
-        return config.getDouble("exp_formula.multiplier", 1.15);
+        return snapshot.config().getDouble("exp_formula.multiplier", 1.15);
     }
     
     // ===== 가격 정책 설정 =====
@@ -235,21 +236,21 @@ public class JobsConfigLoader {
      * 직업 없는 플레이어 판매 배율
      */
     public double getNoJobSellMultiplier() {
-        return config.getDouble("pricing_policy.no_job_sell_multiplier", 0.7);
+        return snapshot.config().getDouble("pricing_policy.no_job_sell_multiplier", 0.7);
     }
     
     /**
      * 직업 없는 플레이어 구매 배율
      */
     public double getNoJobBuyMultiplier() {
-        return config.getDouble("pricing_policy.no_job_buy_multiplier", 1.3);
+        return snapshot.config().getDouble("pricing_policy.no_job_buy_multiplier", 1.3);
     }
     
     /**
      * 레벨당 가격 보너스 (%)
      */
     public double getLevelBonusPercent() {
-        return config.getDouble("pricing_policy.level_bonus_percent", 0.5);
+        return snapshot.config().getDouble("pricing_policy.level_bonus_percent", 0.5);
     }
     
     // ===== 아이템별 경험치 설정 =====
@@ -300,6 +301,6 @@ public class JobsConfigLoader {
      * 설정 파일 직접 접근
      */
     public YamlConfiguration getConfig() {
-        return config;
+        return snapshot.config();
     }
 }
@@ -2,6 +2,7 @@ package kr.bapuri.tycoon.job.common;
 
 import kr.bapuri.tycoon.TycoonPlugin;
 import kr.bapuri.tycoon.job.JobType;
+import kr.bapuri.tycoon.player.PlayerChangeListener;
 import kr.bapuri.tycoon.player.PlayerDataManager;
 import kr.bapuri.tycoon.player.PlayerTycoonData;
 import org.bukkit.Bukkit;
@@ -9,6 +10,8 @@ import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.logging.Logger;
@@ -42,6 +45,10 @@ public abstract class AbstractJobExpService {
     // [Phase 8] 직업 변경 콜백 (모드 연동용) - static으로 모든 인스턴스가 공유
     private static java.util.function.Consumer<Player> jobChangeCallback;
     
+    // [배치 EXP] 틱 내 누적 경험치 (배율 적용 후) - 메인 스레드 전용
+    private final Map<UUID, Long> pendingExp = new HashMap<>();
+    private boolean flushScheduled = false;
+    
     public AbstractJobExpService(JavaPlugin plugin, 
                                   PlayerDataManager dataManager, 
                                   JobType jobType) {
@@ -69,6 +76,7 @@ public abstract class AbstractJobExpService {
      * 직업 변경 알림 (콜백 호출)
      */
     protected void notifyJobChange(UUID uuid) {
+        dataManager.notifyChange(uuid, PlayerChangeListener.Kind.JOB);
         if (jobChangeCallback != null) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null && player.isOnline()) {
@@ -201,23 +209,40 @@ public abstract class AbstractJobExpService {
         if (data == null) return 0;
         if (!data.hasJob(jobType)) return 0;
         
+        // 같은 플레이어의 대기 중인 배치가 있으면 함께 반영 (적용 순서 보장)
+        Long pending = pendingExp.remove(uuid);
+        long total = applyXpMultiplier(uuid, amount) + (pending != null ? pending : 0L);
+        
+        return applyExp(uuid, data, total);
+    }
+    
+    /**
+     * 배율 적용 후 경험치 계산
+     */
+    private long applyXpMultiplier(UUID uuid, long amount) {
         // [Phase 승급효과] 등급별 XP 배율 적용
         double xpMultiplier = getXpMultiplier(uuid);
         long actualAmount = (long) (amount * xpMultiplier);
         if (actualAmount <= 0) actualAmount = amount; // 최소 원래 값 보장
-        
+        return actualAmount;
+    }
+    
+    /**
+     * 배율 적용이 끝난 경험치를 한 번에 반영
+     * 레벨 계산, 레벨업 메시지, 업적, 모드 알림은 호출당 한 번만 발생
+     * 
+     * @return 레벨업 발생 시 새 레벨, 아니면 0
+     */
+    private int applyExp(UUID uuid, PlayerTycoonData data, long actualAmount) {
         int oldLevel = data.getJobLevel(jobType);
         long oldExp = data.getJobExp(jobType);
         
-        // 경험치 추가 (배율 적용된 값)
-        long newExp = JobExpCalculator.addExp(oldExp, actualAmount, jobType);
-        data.setJobExp(jobType, newExp);
+        // 경험치 추가 + 레벨 계산 (현재 레벨 힌트로 빠른 경로, 여러 레벨 상승도 한 번에 처리)
+        JobExpCalculator.LevelResult result = JobExpCalculator.addExp(oldLevel, oldExp, actualAmount, jobType);
+        data.setJobExp(jobType, result.newExp());
+        int newLevel = result.newLevel();
         
-        // 레벨 계산
-        int maxLevel = JobExpCalculator.getMaxLevel(jobType);
-        int newLevel = JobExpCalculator.calculateLevel(newExp, maxLevel);
-        
-        if (newLevel > oldLevel) {
+        if (result.leveledUp()) {
             data.setJobLevel(jobType, newLevel);
             data.markDirty();
             
@@ -250,6 +275,79 @@ public abstract class AbstractJobExpService {
         return addExp(player.getUniqueId(), amount);
     }
     
+    // ================================================================================
+    // [배치 EXP] 틱 단위 경험치 누적
+    // ================================================================================
+    
+    /**
+     * 경험치 적립 (다음 틱에 일괄 반영)
+     * 
+     * <p>채굴/수확/낚시처럼 한 틱에 여러 번 발생하는 행동 XP용입니다.
+     * 배율은 적립 시점의 등급으로 즉시 적용하고, 같은 틱의 적립분은 합산되어
+     * 다음 틱에 레벨 계산/레벨업 알림/모드 패킷이 한 번만 발생합니다.</p>
+     * 
+     * <p>반환값(레벨업 여부)이 필요한 경로는 {@link #addExp(UUID, long)}를 사용하세요.
+     * 메인 스레드 밖에서 호출되면 즉시 반영합니다.</p>
+     * 
+     * @param uuid 플레이어 UUID
+     * @param amount 추가할 경험치 (배율 적용 전)
+     */
+    public final void queueExp(UUID uuid, long amount) {
+        if (amount <= 0 || uuid == null) return;
+        if (!Bukkit.isPrimaryThread()) {
+            addExp(uuid, amount);
+            return;
+        }
+        
+        PlayerTycoonData data = getDataSafe(uuid);
+        if (data == null || !data.hasJob(jobType)) return;
+        
+        pendingExp.merge(uuid, applyXpMultiplier(uuid, amount), Long::sum);
+        
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flushPendingExp);
+        }
+    }
+    
+    public final void queueExp(Player player, long amount) {
+        if (player == null) return;
+        queueExp(player.getUniqueId(), amount);
+    }
+    
+    /**
+     * 대기 중인 모든 경험치 반영 (틱 종료 / 플러그인 종료 시)
+     */
+    public final void flushPendingExp() {
+        flushScheduled = false;
+        if (pendingExp.isEmpty()) return;
+        
+        Map<UUID, Long> batch = new HashMap<>(pendingExp);
+        pendingExp.clear();
+        
+        for (Map.Entry<UUID, Long> entry : batch.entrySet()) {
+            applyPending(entry.getKey(), entry.getValue());
+        }
+    }
+    
+    /**
+     * 특정 플레이어의 대기 경험치 반영 (퇴장 시 언로드 전에 호출)
+     */
+    public final void flushPendingExp(UUID uuid) {
+        if (uuid == null) return;
+        Long pending = pendingExp.remove(uuid);
+        if (pending != null) {
+            applyPending(uuid, pending);
+        }
+    }
+    
+    private void applyPending(UUID uuid, long actualAmount) {
+        if (actualAmount <= 0) return;
+        PlayerTycoonData data = getDataSafe(uuid);
+        if (data == null || !data.hasJob(jobType)) return;
+        applyExp(uuid, data, actualAmount);
+    }
+    
     /**
      * 경험치 설정 (관리자용)
      */
@@ -257,13 +355,13 @@ public abstract class AbstractJobExpService {
         PlayerTycoonData data = getDataSafe(uuid);
         if (data == null) return false;
         if (!data.hasJob(jobType)) return false;
+        pendingExp.remove(uuid); // 관리자 설정값 우선
         
         long clampedExp = JobExpCalculator.clampExp(exp);
         data.setJobExp(jobType, clampedExp);
         
         // 레벨도 갱신
-        int maxLevel = JobExpCalculator.getMaxLevel(jobType);
-        int newLevel = JobExpCalculator.calculateLevel(clampedExp, maxLevel);
+        int newLevel = JobExpCalculator.calculateLevel(clampedExp, data.getJobLevel(jobType), jobType);
         data.setJobLevel(jobType, newLevel);
         
         data.markDirty();
@@ -277,6 +375,7 @@ public abstract class AbstractJobExpService {
         PlayerTycoonData data = getDataSafe(uuid);
         if (data == null) return false;
         if (!data.hasJob(jobType)) return false;
+        pendingExp.remove(uuid); // 관리자 설정값 우선
         
         int clampedLevel = JobExpCalculator.clampLevel(level, jobType);
         data.setJobLevel(jobType, clampedLevel);
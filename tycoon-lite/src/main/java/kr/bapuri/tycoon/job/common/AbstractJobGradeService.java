@@ -3,6 +3,7 @@ package kr.bapuri.tycoon.job.common;
 import kr.bapuri.tycoon.economy.EconomyService;
 import kr.bapuri.tycoon.job.JobGrade;
 import kr.bapuri.tycoon.job.JobType;
+import kr.bapuri.tycoon.player.PlayerChangeListener;
 import kr.bapuri.tycoon.player.PlayerDataManager;
 import kr.bapuri.tycoon.player.PlayerTycoonData;
 import org.bukkit.entity.Player;
@@ -251,6 +252,7 @@ public abstract class AbstractJobGradeService {
             case HERBALIST -> data.setHerbalistGrade(gradeValue);
             case ENGINEER -> data.setEngineerGrade(gradeValue);
         }
+        dataManager.notifyChange(data.getUuid(), PlayerChangeListener.Kind.JOB);
     }
     
     // ===== 정보 표시 =====
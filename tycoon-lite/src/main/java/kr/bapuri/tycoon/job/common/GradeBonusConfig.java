@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.job.common;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import kr.bapuri.tycoon.job.JobGrade;
 import kr.bapuri.tycoon.job.JobType;
 import org.bukkit.configuration.ConfigurationSection;
@@ -54,7 +55,7 @@ public class GradeBonusConfig {
             return;
         }
         
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(jobsFile);
+        YamlConfiguration config = YamlPrefetcher.load(jobsFile);
         ConfigurationSection bonusSection = config.getConfigurationSection("gradeBonus");
         
         if (bonusSection == null) {
@@ -4,7 +4,9 @@ import kr.bapuri.tycoon.job.JobType;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 /**
@@ -19,6 +21,11 @@ import java.util.logging.Logger;
  * Phase 4.E 변경: 초반 2배 느리게
  * - 레거시: base=50, mult=5.0 → Lv1→2: 55 XP
  * - 변경후: base=100, mult=10.0 → Lv1→2: 110 XP (약 2배)
+ * 
+ * 누적 경험치 테이블:
+ * - 직업별 불변 long[] (prefix sum), 설정 로드 시 새 스냅샷을 만들어 한 번에 교체
+ * - 읽기 스레드는 volatile 참조 하나만 읽으므로 구간 파라미터와 테이블이 섞이지 않음
+ * - 레벨 조회는 이진 탐색 O(log n), "같은 레벨 유지"는 O(1) 빠른 경로
  */
 public class JobExpCalculator {
     
@@ -34,51 +41,26 @@ public class JobExpCalculator {
     public static final long MAX_EXP = 1_000_000_000L;
     
     // ===== 구간별 파라미터 (Phase 4.E: 초반 2배 느리게) =====
-    
     // 구간 1: Level 1~20 (레거시: 50/5.0 → 변경: 100/10.0)
-    private static int SEGMENT1_END = 20;
-    private static double SEGMENT1_BASE = 100;
-    private static double SEGMENT1_MULT = 10.0;
-    
     // 구간 2: Level 21~40 (레거시: 100/15.0 → 변경: 200/25.0)
-    private static int SEGMENT2_END = 40;
-    private static double SEGMENT2_BASE = 200;
-    private static double SEGMENT2_MULT = 25.0;
-    
     // 구간 3: Level 41~80 (레거시: 200/30.0 → 변경: 400/50.0)
-    private static int SEGMENT3_END = 80;
-    private static double SEGMENT3_BASE = 400;
-    private static double SEGMENT3_MULT = 50.0;
-    
     // 구간 4: Level 81~100 (레거시: 500/50.0 → 변경: 800/80.0)
-    private static double SEGMENT4_BASE = 800;
-    private static double SEGMENT4_MULT = 80.0;
+    private static final ExpSegment[] DEFAULT_SEGMENTS = {
+        new ExpSegment(1, 20, 100, 10.0),
+        new ExpSegment(21, 40, 200, 25.0),
+        new ExpSegment(41, 80, 400, 50.0),
+        new ExpSegment(81, MAX_LEVEL_TIER1, 800, 80.0)
+    };
     
-    // ===== 캐싱된 누적 경험치 테이블 =====
-    private static long[] CUMULATIVE_EXP_TABLE;
-    
-    private static boolean initialized = false;
-    
-    static {
-        // 기본값으로 초기화
-        rebuildExpTable();
-    }
+    // ===== 캐싱된 누적 경험치 테이블 (불변 스냅샷) =====
+    private static volatile ExpTables tables = ExpTables.build(DEFAULT_SEGMENTS);
     
     /**
      * 경험치 테이블 재구축
      * 설정 변경 후 호출해야 함
      */
     public static void rebuildExpTable() {
-        CUMULATIVE_EXP_TABLE = new long[MAX_LEVEL_TIER1 + 1];
-        CUMULATIVE_EXP_TABLE[0] = 0;
-        CUMULATIVE_EXP_TABLE[1] = 0;
-        
-        long cumulative = 0;
-        for (int level = 2; level <= MAX_LEVEL_TIER1; level++) {
-            cumulative += calculateExpForLevelUpInternal(level - 1);
-            CUMULATIVE_EXP_TABLE[level] = cumulative;
-        }
-        initialized = true;
+        tables = ExpTables.build(tables.segments);
     }
     
     /**
@@ -123,40 +105,25 @@ public class JobExpCalculator {
             }
         }
         
-        // 4개 구간 적용
-        if (loadedSegments.size() >= 1) {
-            ExpSegment s = loadedSegments.get(0);
-            SEGMENT1_END = s.maxLevel;
-            SEGMENT1_BASE = s.base;
-            SEGMENT1_MULT = s.multiplier;
-        }
-        if (loadedSegments.size() >= 2) {
-            ExpSegment s = loadedSegments.get(1);
-            SEGMENT2_END = s.maxLevel;
-            SEGMENT2_BASE = s.base;
-            SEGMENT2_MULT = s.multiplier;
-        }
-        if (loadedSegments.size() >= 3) {
-            ExpSegment s = loadedSegments.get(2);
-            SEGMENT3_END = s.maxLevel;
-            SEGMENT3_BASE = s.base;
-            SEGMENT3_MULT = s.multiplier;
-        }
-        if (loadedSegments.size() >= 4) {
-            ExpSegment s = loadedSegments.get(3);
-            SEGMENT4_BASE = s.base;
-            SEGMENT4_MULT = s.multiplier;
+        // 4개 구간 적용 (설정에 없는 구간은 현재 값 유지)
+        ExpSegment[] current = tables.segments;
+        ExpSegment[] merged = current.clone();
+        for (int i = 0; i < merged.length && i < loadedSegments.size(); i++) {
+            ExpSegment s = loadedSegments.get(i);
+            // 마지막 구간은 끝 레벨 없이 최대 레벨까지 적용
+            int end = (i == merged.length - 1) ? MAX_LEVEL_TIER1 : s.maxLevel;
+            merged[i] = new ExpSegment(s.minLevel, end, s.base, s.multiplier);
         }
         
-        // 테이블 재구축
-        rebuildExpTable();
+        // 테이블 재구축 후 한 번에 교체
+        tables = ExpTables.build(merged);
         
         if (logger != null) {
             logger.info("[JobExpCalculator] 설정 로드 완료 - " + loadedSegments.size() + "개 구간");
-            logger.info(String.format("  Lv1-20: base=%.0f, mult=%.1f", SEGMENT1_BASE, SEGMENT1_MULT));
-            logger.info(String.format("  Lv21-40: base=%.0f, mult=%.1f", SEGMENT2_BASE, SEGMENT2_MULT));
-            logger.info(String.format("  Lv41-80: base=%.0f, mult=%.1f", SEGMENT3_BASE, SEGMENT3_MULT));
-            logger.info(String.format("  Lv81-100: base=%.0f, mult=%.1f", SEGMENT4_BASE, SEGMENT4_MULT));
+            logger.info(String.format("  Lv1-20: base=%.0f, mult=%.1f", merged[0].base, merged[0].multiplier));
+            logger.info(String.format("  Lv21-40: base=%.0f, mult=%.1f", merged[1].base, merged[1].multiplier));
+            logger.info(String.format("  Lv41-80: base=%.0f, mult=%.1f", merged[2].base, merged[2].multiplier));
+            logger.info(String.format("  Lv81-100: base=%.0f, mult=%.1f", merged[3].base, merged[3].multiplier));
         }
     }
     
@@ -165,6 +132,37 @@ public class JobExpCalculator {
      */
     private record ExpSegment(int minLevel, int maxLevel, double base, double multiplier) {}
     
+    /**
+     * 경험치 테이블 스냅샷 (불변)
+     * 
+     * @param segments 구간 파라미터 (구간 1~4)
+     * @param cumulative 누적 경험치 테이블 (index = 레벨, Tier 1 기준)
+     * @param byJob 직업별 테이블 (최대 레벨까지만 포함)
+     */
+    private record ExpTables(ExpSegment[] segments, long[] cumulative, Map<JobType, long[]> byJob) {
+        
+        static ExpTables build(ExpSegment[] segments) {
+            long[] cumulative = new long[MAX_LEVEL_TIER1 + 1];
+            long sum = 0;
+            for (int level = 2; level <= MAX_LEVEL_TIER1; level++) {
+                sum += expForLevelUp(segments, level - 1);
+                cumulative[level] = sum;
+            }
+            
+            // Tier별 최대 레벨까지 잘라서 직업별 테이블 생성 (같은 Tier는 배열 공유)
+            long[] tier2 = java.util.Arrays.copyOf(cumulative, MAX_LEVEL_TIER2 + 1);
+            Map<JobType, long[]> byJob = new EnumMap<>(JobType.class);
+            for (JobType type : JobType.values()) {
+                byJob.put(type, type.isTier1() ? cumulative : tier2);
+            }
+            return new ExpTables(segments, cumulative, byJob);
+        }
+        
+        long[] forJob(JobType jobType) {
+            return jobType == null ? cumulative : byJob.get(jobType);
+        }
+    }
+    
     // ===== 핵심 메서드 =====
     
     /**
@@ -174,34 +172,26 @@ public class JobExpCalculator {
      * @return 다음 레벨까지 필요한 경험치
      */
     public static long getExpForLevelUp(int level) {
-        return calculateExpForLevelUpInternal(level);
+        return expForLevelUp(tables.segments, level);
     }
     
     /**
      * 내부 계산 메서드 (테이블 빌드용)
      */
-    private static long calculateExpForLevelUpInternal(int level) {
+    private static long expForLevelUp(ExpSegment[] segments, int level) {
         if (level < 1) return 0;
         if (level >= MAX_LEVEL_TIER1) return 0; // 100렙은 레벨업 없음
         
-        double base;
-        double mult;
-        
-        if (level <= SEGMENT1_END) {
-            base = SEGMENT1_BASE;
-            mult = SEGMENT1_MULT;
-        } else if (level <= SEGMENT2_END) {
-            base = SEGMENT2_BASE;
-            mult = SEGMENT2_MULT;
-        } else if (level <= SEGMENT3_END) {
-            base = SEGMENT3_BASE;
-            mult = SEGMENT3_MULT;
-        } else {
-            base = SEGMENT4_BASE;
-            mult = SEGMENT4_MULT;
+        // 구간 1~3은 끝 레벨로 판정, 나머지는 마지막 구간
+        ExpSegment segment = segments[segments.length - 1];
+        for (int i = 0; i < segments.length - 1; i++) {
+            if (level <= segments[i].maxLevel) {
+                segment = segments[i];
+                break;
+            }
         }
         
-        return (long) (base + (level * level * mult));
+        return (long) (segment.base + (level * level * segment.multiplier));
     }
     
     /**
@@ -211,9 +201,24 @@ public class JobExpCalculator {
      * @return 해당 레벨에 도달하기 위한 총 경험치
      */
     public static long getCumulativeExpForLevel(int level) {
+        return cumulativeAt(tables.cumulative, level);
+    }
+    
+    /**
+     * 특정 레벨에 도달하기 위해 필요한 누적 경험치 (직업별 최대 레벨 적용)
+     * 
+     * @param level 목표 레벨
+     * @param jobType 직업 타입 (null이면 Tier 1 기준)
+     * @return 해당 레벨에 도달하기 위한 총 경험치
+     */
+    public static long getCumulativeExpForLevel(int level, JobType jobType) {
+        return cumulativeAt(tables.forJob(jobType), level);
+    }
+    
+    private static long cumulativeAt(long[] table, int level) {
         if (level <= 1) return 0;
-        if (level > MAX_LEVEL_TIER1) return CUMULATIVE_EXP_TABLE[MAX_LEVEL_TIER1];
-        return CUMULATIVE_EXP_TABLE[level];
+        if (level >= table.length) return table[table.length - 1];
+        return table[level];
     }
     
     /**
@@ -235,23 +240,55 @@ public class JobExpCalculator {
      */
     public static int calculateLevel(long currentExp, int maxLevel) {
         if (currentExp <= 0) return 1;
+        return searchLevel(tables.cumulative, currentExp, 1, Math.min(maxLevel, MAX_LEVEL_TIER1));
+    }
+    
+    /**
+     * 현재 경험치로 달성한 레벨 계산 (현재 레벨 힌트 사용)
+     * 
+     * <p>대부분의 경험치 획득은 레벨이 그대로이므로 현재 레벨 구간을 먼저 확인하고,
+     * 벗어났을 때만 이진 탐색합니다.</p>
+     * 
+     * @param currentExp 현재 누적 경험치
+     * @param currentLevel 이전 레벨 (힌트)
+     * @param jobType 직업 타입 (null이면 Tier 1 기준)
+     * @return 달성한 레벨
+     */
+    public static int calculateLevel(long currentExp, int currentLevel, JobType jobType) {
+        if (currentExp <= 0) return 1;
         
-        int effectiveMax = Math.min(maxLevel, MAX_LEVEL_TIER1);
+        long[] table = tables.forJob(jobType);
+        int maxLevel = table.length - 1;
+        int level = Math.max(1, Math.min(currentLevel, maxLevel));
         
-        // 이진 탐색으로 레벨 찾기
-        int low = 1;
-        int high = effectiveMax;
+        // 빠른 경로: 여전히 같은 레벨
+        if (table[level] <= currentExp && (level == maxLevel || currentExp < table[level + 1])) {
+            return level;
+        }
+        
+        // 경험치가 늘었으면 현재 레벨 위쪽만, 줄었으면 아래쪽만 탐색
+        if (table[level] <= currentExp) {
+            return searchLevel(table, currentExp, level + 1, maxLevel);
+        }
+        return searchLevel(table, currentExp, 1, level - 1);
+    }
+    
+    /**
+     * [low, high] 범위에서 table[level] <= exp 를 만족하는 최대 레벨 (이진 탐색)
+     */
+    private static int searchLevel(long[] table, long exp, int low, int high) {
+        high = Math.min(high, table.length - 1);
+        if (low > high) return Math.max(1, high);
         
         while (low < high) {
-            int mid = (low + high + 1) / 2;
-            if (getCumulativeExpForLevel(mid) <= currentExp) {
+            int mid = (low + high + 1) >>> 1;
+            if (table[mid] <= exp) {
                 low = mid;
             } else {
                 high = mid - 1;
             }
         }
-        
-        return Math.min(low, effectiveMax);
+        return low;
     }
     
     /**
@@ -364,14 +401,43 @@ public class JobExpCalculator {
     public static long addExp(long currentExp, long addExp, JobType jobType) {
         if (addExp <= 0) return currentExp;
         
-        long newExp = clampExp(currentExp + addExp);
-        
-        // 최대 레벨의 최대 경험치로 제한
-        int maxLevel = getMaxLevel(jobType);
-        long maxExp = getCumulativeExpForLevel(maxLevel);
-        
         // 최대 레벨 도달 후에도 경험치는 계속 쌓이도록 함
         // 하지만 MAX_EXP를 초과하지 않도록 함
-        return Math.min(newExp, MAX_EXP);
+        return clampExp(currentExp + addExp);
+    }
+    
+    /**
+     * 경험치 추가 + 레벨 계산을 한 번에 처리 (대량 판매 등 여러 레벨 상승 포함)
+     * 
+     * @param currentLevel 현재 레벨
+     * @param currentExp 현재 누적 경험치
+     * @param addExp 추가 경험치
+     * @param jobType 직업 타입
+     * @return 새 경험치/레벨 결과
+     */
+    public static LevelResult addExp(int currentLevel, long currentExp, long addExp, JobType jobType) {
+        long newExp = addExp(currentExp, addExp, jobType);
+        int newLevel = calculateLevel(newExp, currentLevel, jobType);
+        return new LevelResult(currentLevel, newLevel, newExp);
+    }
+    
+    /**
+     * 경험치 추가 결과
+     * 
+     * @param oldLevel 이전 레벨
+     * @param newLevel 새 레벨
+     * @param newExp 새 누적 경험치
+     */
+    public record LevelResult(int oldLevel, int newLevel, long newExp) {
+        
+        /** 레벨업 여부 */
+        public boolean leveledUp() {
+            return newLevel > oldLevel;
+        }
+        
+        /** 상승한 레벨 수 */
+        public int levelsGained() {
+            return Math.max(0, newLevel - oldLevel);
+        }
     }
 }
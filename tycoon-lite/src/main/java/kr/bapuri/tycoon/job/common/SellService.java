@@ -2,6 +2,7 @@ package kr.bapuri.tycoon.job.common;
 
 import kr.bapuri.tycoon.economy.EconomyService;
 import kr.bapuri.tycoon.job.JobType;
+import kr.bapuri.tycoon.player.PlayerChangeListener;
 import kr.bapuri.tycoon.player.PlayerDataManager;
 import kr.bapuri.tycoon.player.PlayerTycoonData;
 import org.bukkit.configuration.ConfigurationSection;
@@ -78,6 +79,9 @@ public class SellService implements SellPolicy {
      * 직업 변경 알림 (콜백 호출)
      */
     private void notifyJobChange(Player player) {
+        if (player != null) {
+            dataManager.notifyChange(player.getUniqueId(), PlayerChangeListener.Kind.JOB);
+        }
         if (jobChangeCallback != null && player != null && player.isOnline()) {
             jobChangeCallback.accept(player);
         }
@@ -96,7 +100,7 @@ public class SellService implements SellPolicy {
         
         // jobs.yml에서 pricing_policy 로드
         org.bukkit.configuration.file.YamlConfiguration jobsConfig = 
-            org.bukkit.configuration.file.YamlConfiguration.loadConfiguration(jobsFile);
+            kr.bapuri.tycoon.bootstrap.YamlPrefetcher.load(jobsFile);
         
         // global 섹션
         ConfigurationSection globalConfig = jobsConfig.getConfigurationSection("global");
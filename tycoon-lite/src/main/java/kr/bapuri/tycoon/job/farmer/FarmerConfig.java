@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.job.farmer;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import kr.bapuri.tycoon.job.JobGrade;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
@@ -75,7 +76,7 @@ public class FarmerConfig {
             return;
         }
         
-        YamlConfiguration jobsConfig = YamlConfiguration.loadConfiguration(jobsFile);
+        YamlConfiguration jobsConfig = YamlPrefetcher.load(jobsFile);
         ConfigurationSection farmerSection = jobsConfig.getConfigurationSection("farmer");
         
         if (farmerSection == null) {
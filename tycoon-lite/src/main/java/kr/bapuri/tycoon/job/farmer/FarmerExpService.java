@@ -43,7 +43,7 @@ public class FarmerExpService extends AbstractJobExpService {
         if (xpPerCrop <= 0) return 0;
         
         long totalXp = xpPerCrop * count;
-        addExp(player, totalXp);
+        queueExp(player, totalXp);
         
         // 수확량 기록
         recordHarvested(player.getUniqueId(), cropMaterial, count);
@@ -1,8 +1,11 @@
 package kr.bapuri.tycoon.job.fisher;
 
+import kr.bapuri.tycoon.common.AliasSampler;
 import kr.bapuri.tycoon.world.WorldType;
 
-import java.util.Random;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * FishRarityDistribution - 물고기 희귀도 결정 시스템
@@ -10,11 +13,31 @@ import java.util.Random;
  * Phase 4.D:
  * - Town/Wild 환경에 따라 다른 확률 테이블 사용
  * - Wild에서 더 높은 희귀도 물고기 등장
+ *
+ * (월드 타입, 천장 구간)별 alias 테이블을 미리 만들어 두고 낚시마다 O(1)로 뽑는다.
+ * FisherConfig가 리로드되면 다음 roll에서 테이블을 다시 만든다.
+ *
+ * 확률 해석은 기존과 동일:
+ * - LEGENDARY → EPIC → RARE → UNCOMMON 순으로 % 적용 (합이 100을 넘으면 뒤쪽이 잘림)
+ * - 남은 확률은 모두 COMMON (config의 common 값은 표시용)
  */
 public class FishRarityDistribution {
     
+    // 높은 등급부터 누적 (기존 rollTown/rollWild 순서)
+    private static final FishRarity[] ROLL_ORDER = {
+        FishRarity.LEGENDARY, FishRarity.EPIC, FishRarity.RARE, FishRarity.UNCOMMON
+    };
+
     private final FisherConfig config;
-    private final Random random = new Random();
+
+    private volatile Tables tables;
+
+    /**
+     * 천장 구간별 테이블 (normal: 일반, guaranteed: 희귀 이상 보장)
+     */
+    private record Tables(int revision,
+                          Map<WorldType, AliasSampler<FishRarity>> normal,
+                          Map<WorldType, AliasSampler<FishRarity>> guaranteed) {}
     
     public FishRarityDistribution(FisherConfig config) {
         this.config = config;
@@ -27,49 +50,64 @@ public class FishRarityDistribution {
      * @return 결정된 희귀도
      */
     public FishRarity roll(WorldType worldType) {
-        double roll = random.nextDouble() * 100.0;
-        
-        if (worldType == WorldType.WILD) {
-            return rollWild(roll);
-        } else {
-            return rollTown(roll);
-        }
+        return roll(worldType, false);
     }
     
-    private FishRarity rollTown(double roll) {
-        double cumulative = 0;
-        
-        cumulative += config.getTownChance(FishRarity.LEGENDARY);
-        if (roll < cumulative) return FishRarity.LEGENDARY;
-        
-        cumulative += config.getTownChance(FishRarity.EPIC);
-        if (roll < cumulative) return FishRarity.EPIC;
-        
-        cumulative += config.getTownChance(FishRarity.RARE);
-        if (roll < cumulative) return FishRarity.RARE;
-        
-        cumulative += config.getTownChance(FishRarity.UNCOMMON);
-        if (roll < cumulative) return FishRarity.UNCOMMON;
-        
-        return FishRarity.COMMON;
+    /**
+     * 환경 + 천장 구간에 따라 희귀도 결정
+     *
+     * @param worldType Town 또는 Wild
+     * @param guaranteeRare PitySystem.shouldGuaranteeRare() 결과 (RARE 이상만 등장)
+     */
+    public FishRarity roll(WorldType worldType, boolean guaranteeRare) {
+        Tables current = currentTables();
+        Map<WorldType, AliasSampler<FishRarity>> bucket = guaranteeRare ? current.guaranteed() : current.normal();
+        FishRarity rarity = bucket.get(worldType == null ? WorldType.TOWN : worldType).sample();
+        return rarity != null ? rarity : (guaranteeRare ? FishRarity.RARE : FishRarity.COMMON);
     }
     
-    private FishRarity rollWild(double roll) {
-        double cumulative = 0;
-        
-        cumulative += config.getWildChance(FishRarity.LEGENDARY);
-        if (roll < cumulative) return FishRarity.LEGENDARY;
-        
-        cumulative += config.getWildChance(FishRarity.EPIC);
-        if (roll < cumulative) return FishRarity.EPIC;
-        
-        cumulative += config.getWildChance(FishRarity.RARE);
-        if (roll < cumulative) return FishRarity.RARE;
+    private Tables currentTables() {
+        Tables current = tables;
+        int revision = config.getRevision();
+        if (current == null || current.revision() != revision) {
+            current = buildTables(revision);
+            tables = current;
+        }
+        return current;
+    }
+
+    private Tables buildTables(int revision) {
+        Map<WorldType, AliasSampler<FishRarity>> normal = new EnumMap<>(WorldType.class);
+        Map<WorldType, AliasSampler<FishRarity>> guaranteed = new EnumMap<>(WorldType.class);
         
-        cumulative += config.getWildChance(FishRarity.UNCOMMON);
-        if (roll < cumulative) return FishRarity.UNCOMMON;
+        for (WorldType worldType : WorldType.values()) {
+            double[] effective = effectiveChances(worldType);
+            List<FishRarity> all = List.of(FishRarity.values());
+            normal.put(worldType, AliasSampler.of(all, rarity -> effective[rarity.ordinal()]));
+            guaranteed.put(worldType, AliasSampler.of(all,
+                    rarity -> rarity.ordinal() >= FishRarity.RARE.ordinal() ? effective[rarity.ordinal()] : 0));
+        }
+        return new Tables(revision, normal, guaranteed);
+    }
+
+    /**
+     * 실제 등장 확률 (%) - 누적 100 초과분 잘림, 나머지는 COMMON
+     */
+    private double[] effectiveChances(WorldType worldType) {
+        double[] effective = new double[FishRarity.values().length];
+        double cumulative = 0;
+        for (FishRarity rarity : ROLL_ORDER) {
+            double chance = Math.max(0, chanceOf(worldType, rarity));
+            double applied = Math.min(chance, Math.max(0, 100.0 - cumulative));
+            effective[rarity.ordinal()] = applied;
+            cumulative += applied;
+        }
+        effective[FishRarity.COMMON.ordinal()] = Math.max(0, 100.0 - cumulative);
+        return effective;
+    }
         
-        return FishRarity.COMMON;
+    private double chanceOf(WorldType worldType, FishRarity rarity) {
+        return worldType == WorldType.WILD ? config.getWildChance(rarity) : config.getTownChance(rarity);
     }
     
     /**
@@ -81,9 +119,7 @@ public class FishRarityDistribution {
         sb.append(" 희귀도 분포:\n");
         
         for (FishRarity rarity : FishRarity.values()) {
-            double chance = worldType == WorldType.WILD 
-                    ? config.getWildChance(rarity) 
-                    : config.getTownChance(rarity);
+            double chance = chanceOf(worldType, rarity);
             sb.append(String.format("  %s: %.1f%%\n", rarity.getColoredName(), chance));
         }
         
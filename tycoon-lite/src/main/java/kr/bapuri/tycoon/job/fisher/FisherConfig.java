@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.job.fisher;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import kr.bapuri.tycoon.job.JobGrade;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
@@ -54,6 +55,9 @@ public class FisherConfig {
     private boolean pityEnabled = false;
     private int pityRareThreshold = 50;
     
+    // 로드할 때마다 증가 (FishRarityDistribution 테이블 재구성 판단용)
+    private volatile int revision = 0;
+    
     public FisherConfig(JavaPlugin plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
@@ -75,6 +79,7 @@ public class FisherConfig {
         gradeRequirements.clear();
         expRewards.clear();
         basePrices.clear();
+        revision++;
         
         File jobsFile = new File(plugin.getDataFolder(), "jobs.yml");
         if (!jobsFile.exists()) {
@@ -83,7 +88,7 @@ public class FisherConfig {
             return;
         }
         
-        YamlConfiguration jobsConfig = YamlConfiguration.loadConfiguration(jobsFile);
+        YamlConfiguration jobsConfig = YamlPrefetcher.load(jobsFile);
         ConfigurationSection fisherSection = jobsConfig.getConfigurationSection("fisher");
         
         if (fisherSection == null) {
@@ -270,6 +275,13 @@ public class FisherConfig {
         return pityRareThreshold;
     }
     
+    /**
+     * 설정 로드 횟수 (값이 바뀌면 파생 테이블을 다시 만들어야 함)
+     */
+    public int getRevision() {
+        return revision;
+    }
+    
     // ===== Inner Classes =====
     
     /**
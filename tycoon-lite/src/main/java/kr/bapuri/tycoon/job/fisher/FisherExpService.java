@@ -50,7 +50,7 @@ public class FisherExpService extends AbstractJobExpService {
         long totalXp = (long) (baseXp * rarityMultiplier * count);
         
         if (totalXp > 0) {
-            addExp(player, totalXp);
+            queueExp(player, totalXp);
             recordFished(player.getUniqueId(), fishMaterial, count);
         }
         
@@ -142,7 +142,7 @@ public class FisherListener implements Listener {
         if (!FishLootTable.isFish(material)) {
             // 물고기가 아니면 기본 XP만 부여 (쓰레기, 보물 등)
             if (FishLootTable.isFishable(material)) {
-                expService.addExp(player, 5L);  // 기본 5 XP
+                expService.queueExp(player, 5L);  // 기본 5 XP
             }
             return;
         }
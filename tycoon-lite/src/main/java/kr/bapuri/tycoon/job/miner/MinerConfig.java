@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.job.miner;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import kr.bapuri.tycoon.job.JobGrade;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
@@ -41,6 +42,7 @@ public class MinerConfig {
     private int oxidationCheckIntervalMinutes = 5;
     private double oxidationChance = 0.10;  // 10%
     private int farmPreventionRadius = 4;
+    private int oxidationTickBudgetMs = 2;
     
     // ===== 정제소 설정 (stub) =====
     private boolean refineryEnabled = false;
@@ -75,7 +77,7 @@ public class MinerConfig {
             return;
         }
         
-        YamlConfiguration jobsConfig = YamlConfiguration.loadConfiguration(jobsFile);
+        YamlConfiguration jobsConfig = YamlPrefetcher.load(jobsFile);
         ConfigurationSection minerSection = jobsConfig.getConfigurationSection("miner");
         
         if (minerSection == null) {
@@ -173,6 +175,7 @@ public class MinerConfig {
         oxidationCheckIntervalMinutes = section.getInt("check_interval_minutes", 5);
         oxidationChance = section.getDouble("oxidation_chance", 0.10);
         farmPreventionRadius = section.getInt("farm_prevention_radius", 4);
+        oxidationTickBudgetMs = Math.max(1, section.getInt("tick_budget_ms", 2));
     }
     
     /**
@@ -299,6 +302,10 @@ public class MinerConfig {
         return farmPreventionRadius;
     }
     
+    public int getOxidationTickBudgetMs() {
+        return oxidationTickBudgetMs;
+    }
+    
     // ===== 정제소 설정 Getters =====
     
     public boolean isRefineryEnabled() {
@@ -43,7 +43,7 @@ public class MinerExpService extends AbstractJobExpService {
         if (xpPerOre <= 0) return 0;
         
         long totalXp = xpPerOre * count;
-        addExp(player, totalXp);
+        queueExp(player, totalXp);
         
         // 채굴량 기록
         recordMined(player.getUniqueId(), oreMaterial, count);
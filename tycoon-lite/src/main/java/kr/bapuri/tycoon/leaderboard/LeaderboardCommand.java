@@ -0,0 +1,144 @@
+package kr.bapuri.tycoon.leaderboard;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LeaderboardCommand - 순위표 명령어
+ *
+ * 사용법:
+ * - /leaderboard                  - 지표 목록
+ * - /leaderboard <지표> [페이지]   - 순위표 (본인 순위 포함)
+ * - /leaderboard rebuild          - 플레이어 파일로 재구축 (관리자)
+ *
+ * 지표: bd, bc, earned, job, job2, codex, achievement
+ * 별칭: /lb, /ranking, /순위, /랭킹
+ */
+public class LeaderboardCommand implements CommandExecutor, TabCompleter {
+
+    private static final String ADMIN_PERMISSION = "tycoon.admin.leaderboard";
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardCommand(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (args.length == 0) {
+            showMetrics(sender, label);
+            return true;
+        }
+
+        if (args[0].equalsIgnoreCase("rebuild")) {
+            if (!sender.hasPermission(ADMIN_PERMISSION)) {
+                sender.sendMessage("§c권한이 없습니다.");
+                return true;
+            }
+            if (leaderboardService.rebuild()) {
+                sender.sendMessage("§a[순위] 순위표 재구축을 시작했습니다. (완료 시 콘솔 로그)");
+            } else {
+                sender.sendMessage("§e[순위] 이미 재구축 중입니다.");
+            }
+            return true;
+        }
+
+        LeaderboardMetric metric = LeaderboardMetric.fromId(args[0]);
+        if (metric == null) {
+            sender.sendMessage("§c알 수 없는 지표: " + args[0]);
+            showMetrics(sender, label);
+            return true;
+        }
+
+        int page = 1;
+        if (args.length >= 2) {
+            try {
+                page = Math.max(1, Integer.parseInt(args[1]));
+            } catch (NumberFormatException e) {
+                sender.sendMessage("§c페이지는 숫자로 입력하세요.");
+                return true;
+            }
+        }
+
+        showPage(sender, metric, page);
+        return true;
+    }
+
+    private void showMetrics(CommandSender sender, String label) {
+        sender.sendMessage("");
+        sender.sendMessage("§e§l[ 순위표 ]");
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            sender.sendMessage("  §f/" + label + " " + metric.getId() + " §7- " + metric.getDisplayName()
+                    + " §8(" + leaderboardService.getSize(metric) + "명)");
+        }
+        sender.sendMessage("");
+    }
+
+    private void showPage(CommandSender sender, LeaderboardMetric metric, int page) {
+        int pageSize = leaderboardService.getPageSize();
+        int total = leaderboardService.getSize(metric);
+        int maxPage = Math.max(1, (total + pageSize - 1) / pageSize);
+        page = Math.min(page, maxPage);
+
+        sender.sendMessage("");
+        sender.sendMessage("§e§l[ " + metric.getDisplayName() + " 순위 ] §7(" + page + "/" + maxPage + ")");
+        if (leaderboardService.isSeeding()) {
+            sender.sendMessage("§7  순위표를 구축하는 중입니다. 잠시 후 다시 확인하세요.");
+        }
+
+        List<LeaderboardService.Entry> entries =
+                leaderboardService.getRange(metric, (page - 1) * pageSize + 1, pageSize);
+        if (entries.isEmpty()) {
+            sender.sendMessage("§7  순위에 오른 플레이어가 없습니다.");
+        }
+        for (LeaderboardService.Entry entry : entries) {
+            sender.sendMessage("  " + rankColor(entry.rank()) + entry.rank() + ". §f" + entry.name()
+                    + " §7- §f" + metric.format(entry.value()));
+        }
+
+        if (sender instanceof Player player) {
+            int myRank = leaderboardService.getRank(metric, player.getUniqueId());
+            sender.sendMessage("");
+            if (myRank > 0) {
+                long myValue = leaderboardService.getValue(metric, player.getUniqueId());
+                sender.sendMessage("  §7내 순위: §e" + myRank + "위 §7(" + metric.format(myValue) + ")");
+            } else {
+                sender.sendMessage("  §7내 순위: §8순위 없음");
+            }
+        }
+        sender.sendMessage("");
+    }
+
+    private String rankColor(int rank) {
+        return switch (rank) {
+            case 1 -> "§6§l";
+            case 2 -> "§f§l";
+            case 3 -> "§c§l";
+            default -> "§7";
+        };
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        List<String> completions = new ArrayList<>();
+        if (args.length == 1) {
+            String partial = args[0].toLowerCase();
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                if (metric.getId().startsWith(partial)) {
+                    completions.add(metric.getId());
+                }
+            }
+            if (sender.hasPermission(ADMIN_PERMISSION) && "rebuild".startsWith(partial)) {
+                completions.add("rebuild");
+            }
+        }
+        return completions;
+    }
+}
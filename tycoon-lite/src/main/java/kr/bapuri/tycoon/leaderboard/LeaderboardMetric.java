@@ -0,0 +1,109 @@
+package kr.bapuri.tycoon.leaderboard;
+
+import kr.bapuri.tycoon.player.PlayerDataManager;
+import kr.bapuri.tycoon.player.PlayerTycoonData;
+
+/**
+ * LeaderboardMetric - 순위표 지표
+ *
+ * id는 명령어/플레이스홀더/모드 패킷에서 공통으로 사용한다.
+ * (예: /leaderboard bd, %tycoon_rank_codex%, {"metric": "job"})
+ *
+ * 주의: 순서(ordinal)는 leaderboard.dat 컬럼 순서이므로 새 지표는 끝에 추가
+ */
+public enum LeaderboardMetric {
+
+    BD("bd", "BD 보유량", "BD"),
+    BOTTCOIN("bc", "BottCoin 보유량", "BC"),
+    LIFETIME_EARNED("earned", "누적 수입", "BD"),
+    TIER1_JOB_LEVEL("job", "1차 직업 레벨", "Lv"),
+    TIER2_JOB_LEVEL("job2", "2차 직업 레벨", "Lv"),
+    CODEX("codex", "도감 등록 수", "개"),
+    ACHIEVEMENT("achievement", "업적 해금 수", "개");
+
+    private static final LeaderboardMetric[] VALUES = values();
+
+    private final String id;
+    private final String displayName;
+    private final String unit;
+
+    LeaderboardMetric(String id, String displayName, String unit) {
+        this.id = id;
+        this.displayName = displayName;
+        this.unit = unit;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * 표시용 값 (예: "1,234 BD", "Lv.35")
+     */
+    public String format(long value) {
+        if (this == TIER1_JOB_LEVEL || this == TIER2_JOB_LEVEL) {
+            return "Lv." + value;
+        }
+        return String.format("%,d", value) + " " + unit;
+    }
+
+    /**
+     * 캐시된 플레이어 데이터에서 값 추출
+     */
+    long extract(PlayerTycoonData data) {
+        return switch (this) {
+            case BD -> data.getMoney();
+            case BOTTCOIN -> data.getBottCoin();
+            case LIFETIME_EARNED -> data.getLifetimeEarned();
+            case TIER1_JOB_LEVEL -> data.getTier1Job() != null ? data.getTier1JobLevel() : 0;
+            case TIER2_JOB_LEVEL -> data.getTier2Job() != null ? data.getTier2JobLevel() : 0;
+            case CODEX -> data.getCodexCount();
+            case ACHIEVEMENT -> data.getUnlockedAchievements().size();
+        };
+    }
+
+    /**
+     * 디스크 요약에서 값 추출 (초기 구축용)
+     */
+    long extract(PlayerDataManager.PlayerStatsSummary summary) {
+        return switch (this) {
+            case BD -> summary.money();
+            case BOTTCOIN -> summary.bottCoin();
+            case LIFETIME_EARNED -> summary.lifetimeEarned();
+            case TIER1_JOB_LEVEL -> summary.tier1JobLevel();
+            case TIER2_JOB_LEVEL -> summary.tier2JobLevel();
+            case CODEX -> summary.codexCount();
+            case ACHIEVEMENT -> summary.achievementCount();
+        };
+    }
+
+    /**
+     * id 또는 enum 이름으로 조회
+     * @return 없으면 null
+     */
+    public static LeaderboardMetric fromId(String id) {
+        if (id == null) return null;
+        for (LeaderboardMetric metric : VALUES) {
+            if (metric.id.equalsIgnoreCase(id) || metric.name().equalsIgnoreCase(id)) {
+                return metric;
+            }
+        }
+        return null;
+    }
+
+    static LeaderboardMetric byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    static int count() {
+        return VALUES.length;
+    }
+}
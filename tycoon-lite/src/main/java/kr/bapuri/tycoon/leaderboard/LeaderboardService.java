@@ -0,0 +1,418 @@
+package kr.bapuri.tycoon.leaderboard;
+
+import kr.bapuri.tycoon.player.PlayerDataManager;
+import kr.bapuri.tycoon.player.PlayerTycoonData;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * LeaderboardService - 실시간 순위표
+ *
+ * 지표(LeaderboardMetric)마다 RankIndex를 두고 증분 갱신한다.
+ * - 순위/상위 k명 조회: O(log n) (+ k)
+ * - 시작 시 leaderboard.dat 요약에서 복원, 없으면 플레이어 파일을 비동기로 한 번 스캔
+ * - 경제/직업/도감/업적 변경 시 markDirty() → flushIntervalTicks마다 캐시된 데이터로 반영
+ *   (오프라인 관리자 수정처럼 곧바로 언로드되는 경우는 update()로 즉시 반영)
+ * - 접속/퇴장 시 전체 값 재계산 (퇴장은 데이터 언로드 전에 처리)
+ *
+ * 0 이하 값은 순위에서 제외 (직업 없음, 도감 0개 등).
+ * 갱신은 메인 스레드, 조회는 어느 스레드에서나 가능.
+ */
+public class LeaderboardService implements Listener {
+
+    private static final int MAGIC = 0x4C424431; // "LBD1"
+    private static final String FILE_NAME = "leaderboard.dat";
+
+    private final JavaPlugin plugin;
+    private final Logger logger;
+    private final PlayerDataManager dataManager;
+    private final File file;
+    private final Object writeLock = new Object();
+
+    private final long flushIntervalTicks;
+    private final long saveIntervalTicks;
+    private final int pageSize;
+
+    // 지표별 인덱스 + 플레이어별 현재 값 (초기 구축 완료 시 통째로 교체)
+    private volatile RankIndex[] indexes = newIndexes();
+    private volatile Map<UUID, long[]> values = new ConcurrentHashMap<>();
+    private volatile Map<UUID, String> names = new ConcurrentHashMap<>();
+
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private volatile boolean changed = false;
+    private volatile boolean seeding = false;
+
+    private BukkitTask flushTask;
+    private BukkitTask saveTask;
+
+    public LeaderboardService(JavaPlugin plugin, PlayerDataManager dataManager) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        this.dataManager = dataManager;
+        this.file = new File(plugin.getDataFolder(), FILE_NAME);
+
+        this.flushIntervalTicks = Math.max(1, plugin.getConfig().getInt("leaderboard.flushIntervalTicks", 20));
+        this.saveIntervalTicks = Math.max(1, plugin.getConfig().getInt("leaderboard.saveIntervalMinutes", 5)) * 20L * 60;
+        this.pageSize = Math.max(1, plugin.getConfig().getInt("leaderboard.pageSize", 10));
+    }
+
+    // ========== 생명주기 ==========
+
+    /**
+     * 요약 로드 (없으면 비동기 구축) 및 반영/저장 작업 시작
+     */
+    public void start() {
+        if (load()) {
+            refreshLoadedPlayers();
+        } else {
+            rebuild();
+        }
+
+        flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flushDirty,
+                flushIntervalTicks, flushIntervalTicks);
+        saveTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+            if (changed && !seeding) {
+                save();
+            }
+        }, saveIntervalTicks, saveIntervalTicks);
+    }
+
+    /**
+     * 종료 (대기 중인 변경 반영 후 동기 저장)
+     */
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        if (saveTask != null) {
+            saveTask.cancel();
+            saveTask = null;
+        }
+        flushDirty();
+        if (!seeding) {
+            save();
+        }
+    }
+
+    /**
+     * 플레이어 파일 전체를 다시 스캔해 순위표 재구축 (비동기)
+     *
+     * @return 이미 구축 중이면 false
+     */
+    public boolean rebuild() {
+        if (seeding) return false;
+        seeding = true;
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            long start = System.currentTimeMillis();
+            RankIndex[] seedIndexes = newIndexes();
+            Map<UUID, long[]> seedValues = new ConcurrentHashMap<>();
+            Map<UUID, String> seedNames = new ConcurrentHashMap<>();
+            int metricCount = LeaderboardMetric.count();
+
+            // 캐시된(온라인) 플레이어는 null → 교체 직후 refreshLoadedPlayers()로 반영
+            for (UUID playerId : dataManager.getAllPlayerIds()) {
+                PlayerDataManager.PlayerStatsSummary summary = dataManager.readStatsSummary(playerId);
+                if (summary == null) continue;
+
+                long[] row = new long[metricCount];
+                for (int i = 0; i < metricCount; i++) {
+                    row[i] = LeaderboardMetric.byOrdinal(i).extract(summary);
+                }
+                if (put(seedIndexes, seedValues, playerId, null, row)) {
+                    if (!summary.playerName().isEmpty()) {
+                        seedNames.put(playerId, summary.playerName());
+                    }
+                }
+            }
+            long elapsed = System.currentTimeMillis() - start;
+
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                install(seedIndexes, seedValues, seedNames);
+                refreshLoadedPlayers();
+                changed = true;
+                seeding = false;
+                logger.info("[Leaderboard] 순위표 구축 완료 (" + seedValues.size() + "명, " + elapsed + "ms)");
+            });
+        });
+        return true;
+    }
+
+    public boolean isSeeding() {
+        return seeding;
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 변경 표시 (다음 반영 주기에 캐시된 데이터로 재계산)
+     * 어느 스레드에서나 호출 가능
+     */
+    public void markDirty(UUID uuid) {
+        if (uuid != null) {
+            dirtyPlayers.add(uuid);
+        }
+    }
+
+    /**
+     * 즉시 반영 (메인 스레드)
+     */
+    public void update(PlayerTycoonData data) {
+        if (data == null) return;
+        UUID uuid = data.getUuid();
+        dirtyPlayers.remove(uuid);
+
+        String name = data.getPlayerName();
+        if (name != null && !name.isEmpty()) {
+            names.put(uuid, name);
+        }
+
+        int metricCount = LeaderboardMetric.count();
+        long[] row = new long[metricCount];
+        for (int i = 0; i < metricCount; i++) {
+            row[i] = LeaderboardMetric.byOrdinal(i).extract(data);
+        }
+
+        Map<UUID, long[]> current = values;
+        if (put(indexes, current, uuid, current.get(uuid), row)) {
+            changed = true;
+        }
+    }
+
+    private void flushDirty() {
+        if (dirtyPlayers.isEmpty()) return;
+        for (UUID uuid : dirtyPlayers.toArray(new UUID[0])) {
+            dirtyPlayers.remove(uuid);
+            update(dataManager.getIfLoaded(uuid));
+        }
+    }
+
+    private void refreshLoadedPlayers() {
+        for (UUID uuid : dataManager.getCachedPlayerIds()) {
+            update(dataManager.getIfLoaded(uuid));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        update(dataManager.getIfLoaded(event.getPlayer().getUniqueId()));
+    }
+
+    /**
+     * PlayerSessionListener(MONITOR)가 언로드하기 전에 마지막 값 반영
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        update(dataManager.getIfLoaded(event.getPlayer().getUniqueId()));
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * @return 1부터 시작하는 순위 (순위 밖이면 0)
+     */
+    public int getRank(LeaderboardMetric metric, UUID uuid) {
+        return indexes[metric.ordinal()].rank(uuid);
+    }
+
+    /**
+     * 순위표 기준 값 (순위 밖이면 0)
+     */
+    public long getValue(LeaderboardMetric metric, UUID uuid) {
+        long[] row = values.get(uuid);
+        return row != null ? row[metric.ordinal()] : 0L;
+    }
+
+    /**
+     * 순위에 오른 인원 수
+     */
+    public int getSize(LeaderboardMetric metric) {
+        return indexes[metric.ordinal()].size();
+    }
+
+    /**
+     * 순위 구간 조회
+     *
+     * @param fromRank 시작 순위 (1부터)
+     * @param limit 최대 개수
+     */
+    public List<Entry> getRange(LeaderboardMetric metric, int fromRank, int limit) {
+        List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, 100)));
+        Map<UUID, String> nameMap = names;
+        indexes[metric.ordinal()].range(fromRank, limit, (rank, uuid, value) ->
+                entries.add(new Entry(rank, uuid, nameOf(nameMap, uuid), value)));
+        return entries;
+    }
+
+    /**
+     * 특정 순위 항목
+     * @return 없으면 null
+     */
+    public Entry getEntry(LeaderboardMetric metric, int rank) {
+        List<Entry> entries = getRange(metric, rank, 1);
+        return entries.isEmpty() ? null : entries.get(0);
+    }
+
+    public String getName(UUID uuid) {
+        return nameOf(names, uuid);
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 순위표 항목
+     */
+    public record Entry(int rank, UUID uuid, String name, long value) {}
+
+    // ========== 저장/로드 ==========
+
+    /**
+     * 요약 로드
+     * @return 읽었으면 true (파일 없음/형식 불일치/오류 시 false → rebuild 필요)
+     */
+    private boolean load() {
+        if (!file.exists()) return false;
+
+        RankIndex[] loadedIndexes = newIndexes();
+        Map<UUID, long[]> loadedValues = new ConcurrentHashMap<>();
+        Map<UUID, String> loadedNames = new ConcurrentHashMap<>();
+        int metricCount = LeaderboardMetric.count();
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("잘못된 파일 형식");
+            }
+            if (in.readInt() != metricCount) {
+                logger.info("[Leaderboard] 지표 구성이 바뀌어 순위표를 다시 구축합니다.");
+                return false;
+            }
+            int count = in.readInt();
+            for (int n = 0; n < count; n++) {
+                UUID uuid = new UUID(in.readLong(), in.readLong());
+                String name = in.readUTF();
+                long[] row = new long[metricCount];
+                for (int i = 0; i < metricCount; i++) {
+                    row[i] = in.readLong();
+                }
+                put(loadedIndexes, loadedValues, uuid, null, row);
+                if (!name.isEmpty()) {
+                    loadedNames.put(uuid, name);
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "[Leaderboard] 요약 로드 실패 - 다시 구축합니다.", e);
+            return false;
+        }
+
+        install(loadedIndexes, loadedValues, loadedNames);
+        logger.info("[Leaderboard] 요약 로드 완료 (" + loadedValues.size() + "명)");
+        return true;
+    }
+
+    /**
+     * 동기 저장 (temp → rename)
+     */
+    private void save() {
+        changed = false;
+        Map<UUID, long[]> snapshot = new HashMap<>(values);
+        Map<UUID, String> nameMap = names;
+        int metricCount = LeaderboardMetric.count();
+
+        synchronized (writeLock) {
+            File tempFile = new File(file.getParentFile(), FILE_NAME + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(metricCount);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<UUID, long[]> e : snapshot.entrySet()) {
+                    out.writeLong(e.getKey().getMostSignificantBits());
+                    out.writeLong(e.getKey().getLeastSignificantBits());
+                    out.writeUTF(nameMap.getOrDefault(e.getKey(), ""));
+                    for (long value : e.getValue()) {
+                        out.writeLong(value);
+                    }
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[Leaderboard] 요약 저장 실패", e);
+                changed = true;
+                return;
+            }
+            try {
+                Files.move(tempFile.toPath(), file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[Leaderboard] 요약 파일 교체 실패", e);
+            }
+        }
+    }
+
+    // ========== 내부 ==========
+
+    private static RankIndex[] newIndexes() {
+        RankIndex[] created = new RankIndex[LeaderboardMetric.count()];
+        for (int i = 0; i < created.length; i++) {
+            created[i] = new RankIndex();
+        }
+        return created;
+    }
+
+    /**
+     * 값 반영 (바뀐 지표만 인덱스 갱신)
+     * @return 변경이 있었으면 true
+     */
+    private static boolean put(RankIndex[] targetIndexes, Map<UUID, long[]> targetValues,
+                               UUID uuid, long[] previous, long[] row) {
+        boolean any = false;
+        boolean modified = false;
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] > 0) any = true;
+            if (previous != null && previous[i] == row[i]) continue;
+            if (row[i] > 0) {
+                targetIndexes[i].update(uuid, row[i]);
+            } else {
+                targetIndexes[i].remove(uuid);
+            }
+            modified = true;
+        }
+
+        if (any) {
+            targetValues.put(uuid, row);
+        } else if (previous != null) {
+            targetValues.remove(uuid);
+        }
+        return modified && (any || previous != null);
+    }
+
+    private void install(RankIndex[] newIndexes, Map<UUID, long[]> newValues, Map<UUID, String> newNames) {
+        this.indexes = newIndexes;
+        this.values = newValues;
+        this.names = newNames;
+    }
+
+    private static String nameOf(Map<UUID, String> nameMap, UUID uuid) {
+        String name = nameMap.get(uuid);
+        if (name != null) return name;
+        Player online = Bukkit.getPlayer(uuid);
+        return online != null ? online.getName() : uuid.toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,214 @@
+package kr.bapuri.tycoon.leaderboard;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * RankIndex - 순위 인덱스 (span 포함 skip list)
+ *
+ * 정렬: 값 내림차순, 같은 값이면 UUID 오름차순 (동점도 순위가 고정됨)
+ * - update/remove/rank: O(log n) 기대값
+ * - 순위 k부터 m명 조회: O(log n + m)
+ *
+ * 각 링크에 건너뛰는 노드 수(span)를 저장해 순위를 누적 계산한다.
+ * 갱신은 메인 스레드, 조회는 PlaceholderAPI 비동기 스레드에서도 올 수 있어 메서드 단위로 동기화.
+ */
+final class RankIndex {
+
+    private static final int MAX_LEVEL = 24;
+
+    private final Node head = new Node(null, 0L, MAX_LEVEL);
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private int level = 1;
+    private int size = 0;
+
+    // ========== 갱신 ==========
+
+    /**
+     * 값 설정 (기존 항목이면 재배치)
+     */
+    synchronized void update(UUID id, long value) {
+        Node existing = nodes.get(id);
+        if (existing != null) {
+            if (existing.value == value) return;
+            delete(existing);
+        }
+        nodes.put(id, insert(id, value));
+    }
+
+    synchronized boolean remove(UUID id) {
+        Node node = nodes.remove(id);
+        if (node == null) return false;
+        delete(node);
+        return true;
+    }
+
+    // ========== 조회 ==========
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return 1부터 시작하는 순위 (없으면 0)
+     */
+    synchronized int rank(UUID id) {
+        Node target = nodes.get(id);
+        if (target == null) return 0;
+
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && (x.next[i] == target || precedes(x.next[i], target.value, target.id))) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x == target) return rank;
+        }
+        return 0;
+    }
+
+    /**
+     * @return 값 (없으면 null)
+     */
+    synchronized Long valueOf(UUID id) {
+        Node node = nodes.get(id);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * 순위 구간 조회
+     *
+     * @param fromRank 시작 순위 (1부터)
+     * @param limit 최대 개수
+     * @param consumer (순위, UUID, 값)
+     */
+    synchronized void range(int fromRank, int limit, EntryConsumer consumer) {
+        if (fromRank < 1 || fromRank > size || limit <= 0) return;
+
+        Node x = nodeAt(fromRank);
+        int rank = fromRank;
+        while (x != null && limit-- > 0) {
+            consumer.accept(rank++, x.id, x.value);
+            x = x.next[0];
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int rank, UUID id, long value);
+    }
+
+    // ========== 내부 ==========
+
+    /**
+     * a가 (value, id)보다 앞 순위인지
+     */
+    private static boolean precedes(Node a, long value, UUID id) {
+        if (a.value != value) return a.value > value;
+        return a.id.compareTo(id) < 0;
+    }
+
+    private Node nodeAt(int rank) {
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) return x;
+        }
+        return null;
+    }
+
+    private Node insert(UUID id, long value) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while (x.next[i] != null && precedes(x.next[i], value, id)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(id, value, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+        return node;
+    }
+
+    private void delete(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && precedes(x.next[i], node.value, node.id)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    /**
+     * 레벨 확률 1/4 (Redis zset과 동일)
+     */
+    private static int randomLevel() {
+        int lvl = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (lvl < MAX_LEVEL && random.nextInt(4) == 0) {
+            lvl++;
+        }
+        return lvl;
+    }
+
+    private static final class Node {
+        final UUID id;
+        final long value;
+        final Node[] next;
+        final int[] span;
+
+        Node(UUID id, long value, int level) {
+            this.id = id;
+            this.value = value;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
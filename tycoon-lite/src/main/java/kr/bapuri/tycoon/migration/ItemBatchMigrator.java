@@ -0,0 +1,561 @@
+package kr.bapuri.tycoon.migration;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.ItemFrame;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ItemBatchMigrator - 월드 전체 일괄 아이템 마이그레이션
+ *
+ * 상자를 열 때까지 기다리는 온라인 마이그레이션은 아무도 열지 않는 상자를 영영 처리하지 못하므로,
+ * 저장된 청크를 백그라운드로 순회하며 컨테이너/엔티티 아이템을 한꺼번에 변환한다.
+ *
+ * 파이프라인:
+ * 1. 스캐너 (비동기 스레드): 각 월드의 region/r.X.Z.mca 헤더(4KB)만 읽어 저장된 청크 좌표 수집
+ *    - 읽기 전용, 청크 데이터는 건드리지 않음
+ * 2. 로더 (메인 틱): 최대 maxInFlight개 청크를 getChunkAtAsync로 동시에 로드
+ *    (실제 디스크 I/O와 역직렬화는 Paper 청크 워커 스레드에서 병렬 처리)
+ *    - 엔티티 대기 중인 청크도 처리가 끝날 때까지 maxInFlight에 포함
+ * 3. 변환 (메인 스레드): 로드된 청크의 컨테이너, 인벤토리 엔티티, 아이템 액자, 떨어진 아이템에
+ *    ItemMigrationService.migrateItem 적용 → 서버가 평소처럼 청크를 저장
+ *    - 엔티티가 아직 로드되지 않은 청크는 티켓으로 유지하고 EntitiesLoadEvent에서 처리
+ *
+ * 체크포인트 (migration_checkpoint.yml):
+ * - 완료한 region 파일 목록 + 매핑 서명 → 재시작 시 이어서 진행
+ * - CMD/PDC 매핑이나 대상 월드가 바뀌면 (서명 불일치) 처음부터 다시 순회
+ * - 완료 시 실제로 순회한 월드 목록을 기록 (그 월드만 상자 열기 마이그레이션 생략)
+ * - 로드에 실패한 청크가 있는 region은 완료로 기록하지 않음 → 그 월드는 완료 목록에서 제외, 재시작 시 재시도
+ * - 저장은 전용 스레드 하나에서 순서대로 (주기 저장과 종료 저장이 겹치지 않음)
+ *
+ * 플레이어 인벤토리/엔더상자는 API로 오프라인 접근이 불가하므로 접속 시 마이그레이션으로 처리한다.
+ * 모든 메서드는 메인 스레드에서 호출 (스캐너 제외).
+ */
+public class ItemBatchMigrator implements Listener {
+
+    private static final Pattern REGION_FILE = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+    private static final int REGION_HEADER_BYTES = 4096;
+    private static final int CHECKPOINT_SAVE_INTERVAL_TICKS = 20 * 30;
+
+    private final JavaPlugin plugin;
+    private final Logger logger;
+    private final ItemMigrationService migrationService;
+    private final File checkpointFile;
+
+    private final List<String> worldNames;
+    private final int maxInFlight;
+    private final long reportIntervalMillis;
+
+    // 스캐너 → 메인 (완료 시 scanFinished)
+    private final Queue<RegionJob> scannedRegions = new ConcurrentLinkedQueue<>();
+    private volatile boolean scanFinished = false;
+    private volatile int regionsTotal = 0;
+
+    // ========== 메인 스레드 상태 ==========
+
+    private final Set<String> completedRegions = new HashSet<>();
+    private final Set<String> targetWorlds = new HashSet<>();
+    private final Set<String> completedWorlds = new HashSet<>();
+    private final Set<String> failedWorlds = new HashSet<>();
+    private final Map<ChunkRef, RegionJob> awaitingEntities = new HashMap<>();
+    private RegionJob currentRegion;
+    private int inFlight = 0;
+    private boolean checkpointDirty = false;
+    private boolean completed = false;
+    private volatile boolean running = false; // 스캐너 중단 확인용
+
+    private BukkitTask driverTask;
+    private BukkitTask checkpointTask;
+    private final ExecutorService checkpointWriter;
+
+    // 통계
+    private long startedAt;
+    private long lastReportAt;
+    private long chunksProcessed;
+    private long chunksAtLastReport;
+    private long containersMigrated;
+    private long itemsMigrated;
+
+    public ItemBatchMigrator(JavaPlugin plugin, ItemMigrationService migrationService) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        this.migrationService = migrationService;
+        this.checkpointFile = new File(plugin.getDataFolder(), "migration_checkpoint.yml");
+
+        var config = plugin.getConfig();
+        this.worldNames = config.getStringList("migration.batch.worlds");
+        this.maxInFlight = Math.max(1, config.getInt("migration.batch.max_in_flight", 8));
+        this.reportIntervalMillis = Math.max(5, config.getLong("migration.batch.report_interval_seconds", 30)) * 1000L;
+        this.checkpointWriter = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Tycoon-MigrationCheckpoint");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // ========== 생명주기 ==========
+
+    /**
+     * 일괄 마이그레이션 시작 (체크포인트에서 이어서)
+     */
+    public void start() {
+        if (running) return;
+
+        loadCheckpoint();
+        if (completed) {
+            logger.info("[ItemMigration] 일괄 마이그레이션은 이미 완료됨 (" + checkpointFile.getName() + ")");
+            return;
+        }
+
+        List<WorldTarget> targets = collectTargets();
+        if (targets.isEmpty()) {
+            logger.warning("[ItemMigration] 일괄 마이그레이션 대상 월드 없음");
+            return;
+        }
+
+        targetWorlds.clear();
+        for (WorldTarget target : targets) {
+            targetWorlds.add(target.worldName());
+        }
+
+        running = true;
+        startedAt = System.currentTimeMillis();
+        lastReportAt = startedAt;
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+
+        Set<String> skip = new HashSet<>(completedRegions);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> scanRegions(targets, skip));
+        driverTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drive, 1L, 1L);
+        checkpointTask = Bukkit.getScheduler().runTaskTimer(plugin, this::saveCheckpointAsync,
+                CHECKPOINT_SAVE_INTERVAL_TICKS, CHECKPOINT_SAVE_INTERVAL_TICKS);
+
+        logger.info("[ItemMigration] 일괄 마이그레이션 시작 - 월드 " + targets.size() + "개, 완료된 영역 "
+                + completedRegions.size() + "개 건너뜀, 동시 로드 " + maxInFlight);
+    }
+
+    /**
+     * 중지 (진행 상황은 체크포인트에 저장되어 다음 시작 시 이어짐)
+     */
+    public void shutdown() {
+        if (driverTask != null) {
+            driverTask.cancel();
+            driverTask = null;
+        }
+        if (checkpointTask != null) {
+            checkpointTask.cancel();
+            checkpointTask = null;
+        }
+        if (running) {
+            HandlerList.unregisterAll(this);
+            for (ChunkRef ref : awaitingEntities.keySet()) {
+                releaseTicket(ref);
+            }
+            inFlight -= awaitingEntities.size();
+            awaitingEntities.clear();
+            saveCheckpointNow(buildCheckpoint());
+            running = false;
+        }
+    }
+
+    /**
+     * 모든 대상 영역 처리 완료 여부
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * 해당 월드를 일괄 모드로 끝까지 순회했는지 (상자 열기 마이그레이션 생략 판단용)
+     *
+     * 대상 필터에서 빠진 월드, 시작 후 로드된 월드는 false
+     */
+    public boolean isWorldCompleted(String worldName) {
+        return completedWorlds.contains(worldName);
+    }
+
+    /**
+     * 진행 상황 요약
+     */
+    public String getStatus() {
+        if (completed) return "일괄 마이그레이션 완료";
+        if (!running) return "일괄 마이그레이션 대기";
+        double seconds = Math.max(1, System.currentTimeMillis() - startedAt) / 1000.0;
+        return String.format("영역 %d/%d%s, 청크 %,d (%.1f/s), 컨테이너 %,d, 아이템 %,d",
+                completedRegions.size(), regionsTotal, scanFinished ? "" : "+",
+                chunksProcessed, chunksProcessed / seconds, containersMigrated, itemsMigrated);
+    }
+
+    // ========== 1. 스캔 (비동기) ==========
+
+    private List<WorldTarget> collectTargets() {
+        List<WorldTarget> targets = new ArrayList<>();
+        for (World world : Bukkit.getWorlds()) {
+            if (!worldNames.isEmpty() && !worldNames.contains(world.getName())) continue;
+            File regionDir = switch (world.getEnvironment()) {
+                case NETHER -> new File(world.getWorldFolder(), "DIM-1/region");
+                case THE_END -> new File(world.getWorldFolder(), "DIM1/region");
+                default -> new File(world.getWorldFolder(), "region");
+            };
+            if (regionDir.isDirectory()) {
+                targets.add(new WorldTarget(world.getUID(), world.getName(), regionDir));
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * region 파일 헤더에서 저장된 청크 좌표 수집 (비동기 스레드)
+     */
+    private void scanRegions(List<WorldTarget> targets, Set<String> skip) {
+        byte[] header = new byte[REGION_HEADER_BYTES];
+        for (WorldTarget target : targets) {
+            File[] files = target.regionDir().listFiles();
+            if (files == null) continue;
+            Arrays.sort(files);
+
+            for (File file : files) {
+                if (!running) return;
+                Matcher m = REGION_FILE.matcher(file.getName());
+                if (!m.matches()) continue;
+
+                String regionId = target.worldName() + "/" + file.getName();
+                if (skip.contains(regionId)) continue;
+
+                int regionX = Integer.parseInt(m.group(1));
+                int regionZ = Integer.parseInt(m.group(2));
+                long[] chunks;
+                try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+                    if (raf.length() < REGION_HEADER_BYTES) {
+                        chunks = new long[0];
+                    } else {
+                        raf.readFully(header);
+                        chunks = readChunkLocations(header, regionX, regionZ);
+                    }
+                } catch (IOException e) {
+                    logger.warning("[ItemMigration] region 헤더 읽기 실패: " + regionId + " - " + e.getMessage());
+                    continue;
+                }
+
+                scannedRegions.add(new RegionJob(regionId, target.worldId(), target.worldName(), chunks));
+                regionsTotal++;
+            }
+        }
+        scanFinished = true;
+    }
+
+    /**
+     * 위치 테이블(1024 x 4바이트)에서 0이 아닌 항목 = 저장된 청크
+     */
+    private static long[] readChunkLocations(byte[] header, int regionX, int regionZ) {
+        long[] found = new long[1024];
+        int count = 0;
+        for (int i = 0; i < 1024; i++) {
+            int p = i * 4;
+            int location = ((header[p] & 0xFF) << 24) | ((header[p + 1] & 0xFF) << 16)
+                    | ((header[p + 2] & 0xFF) << 8) | (header[p + 3] & 0xFF);
+            if (location == 0) continue;
+            int chunkX = (regionX << 5) + (i & 31);
+            int chunkZ = (regionZ << 5) + (i >> 5);
+            found[count++] = Chunk.getChunkKey(chunkX, chunkZ);
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    // ========== 2. 로드 (메인 틱) ==========
+
+    private void drive() {
+        while (inFlight < maxInFlight) {
+            if (currentRegion == null || currentRegion.cursor >= currentRegion.chunks.length) {
+                currentRegion = scannedRegions.poll();
+                if (currentRegion == null) break;
+                if (currentRegion.chunks.length == 0) {
+                    completeRegion(currentRegion);
+                    currentRegion = null;
+                    continue;
+                }
+            }
+            launch(currentRegion, currentRegion.chunks[currentRegion.cursor++]);
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - lastReportAt >= reportIntervalMillis) {
+            reportThroughput(now);
+        }
+
+        if (scanFinished && inFlight == 0 && awaitingEntities.isEmpty()
+                && currentRegion == null && scannedRegions.isEmpty()) {
+            finish();
+        }
+    }
+
+    private void launch(RegionJob region, long chunkKey) {
+        World world = Bukkit.getWorld(region.worldId);
+        if (world == null) {
+            region.done++;
+            region.failed++;
+            checkRegionDone(region);
+            return;
+        }
+
+        // inFlight는 엔티티 처리까지 끝나야 감소 (finishChunk)
+
+        int chunkX = (int) chunkKey;
+        int chunkZ = (int) (chunkKey >> 32);
+        inFlight++;
+        world.getChunkAtAsync(chunkX, chunkZ, false).whenComplete((chunk, error) ->
+            // Paper은 메인 스레드에서 완료시키지만, 예외 경로 대비 메인으로 재진입
+            runOnMain(() -> {
+                if (!running) {
+                    inFlight--;
+                    return;
+                }
+                if (error != null || chunk == null) {
+                    finishChunk(region, false);
+                    return;
+                }
+                processChunk(region, chunk);
+            }));
+    }
+
+    // ========== 3. 변환 (메인 스레드) ==========
+
+    private void processChunk(RegionJob region, Chunk chunk) {
+        for (BlockState state : chunk.getTileEntities(false)) {
+            if (state instanceof Container container) {
+                countContainer(migrationService.migrateInventory(container.getInventory()));
+            }
+        }
+
+        if (chunk.isEntitiesLoaded()) {
+            migrateEntities(chunk.getEntities());
+            finishChunk(region, true);
+        } else {
+            // 엔티티는 별도로 비동기 로드됨 → 로드될 때까지 청크 유지 (inFlight 유지)
+            chunk.addPluginChunkTicket(plugin);
+            awaitingEntities.put(new ChunkRef(region.worldId, chunk.getChunkKey()), region);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        ChunkRef ref = new ChunkRef(chunk.getWorld().getUID(), chunk.getChunkKey());
+        RegionJob region = awaitingEntities.remove(ref);
+        if (region == null) return;
+
+        migrateEntities(event.getEntities());
+        releaseTicket(ref);
+        finishChunk(region, true);
+    }
+
+    private void finishChunk(RegionJob region, boolean processed) {
+        inFlight--;
+        region.done++;
+        if (processed) {
+            chunksProcessed++;
+        } else {
+            region.failed++;
+        }
+        checkRegionDone(region);
+    }
+
+    private void migrateEntities(Collection<? extends Entity> entities) {
+        for (Entity entity : entities) {
+            if (entity instanceof Player) continue; // 접속 시 마이그레이션
+            if (entity instanceof InventoryHolder holder) {
+                countContainer(migrationService.migrateInventory(holder.getInventory()));
+            } else if (entity instanceof ItemFrame frame) {
+                ItemStack item = frame.getItem();
+                if (migrationService.migrateItem(item)) {
+                    frame.setItem(item, false);
+                    countContainer(1);
+                }
+            } else if (entity instanceof Item drop) {
+                ItemStack item = drop.getItemStack();
+                if (migrationService.migrateItem(item)) {
+                    drop.setItemStack(item);
+                    countContainer(1);
+                }
+            }
+        }
+    }
+
+    private void countContainer(int migrated) {
+        if (migrated > 0) {
+            containersMigrated++;
+            itemsMigrated += migrated;
+        }
+    }
+
+    // ========== 진행/체크포인트 ==========
+
+    private void checkRegionDone(RegionJob region) {
+        if (region.cursor >= region.chunks.length && region.done >= region.chunks.length) {
+            if (region.failed > 0) {
+                // 완료로 기록하지 않음 → 다음 시작 시 region 전체 재시도
+                failedWorlds.add(region.worldName);
+                logger.warning("[ItemMigration] 청크 로드 실패 " + region.failed + "개 - " + region.regionId
+                        + " 는 다음 시작 시 다시 처리합니다.");
+                return;
+            }
+            completeRegion(region);
+        }
+    }
+
+    private void completeRegion(RegionJob region) {
+        completedRegions.add(region.regionId);
+        checkpointDirty = true;
+    }
+
+    private void finish() {
+        reportThroughput(System.currentTimeMillis());
+        completed = failedWorlds.isEmpty();
+        for (String worldName : targetWorlds) {
+            if (!failedWorlds.contains(worldName)) {
+                completedWorlds.add(worldName);
+            }
+        }
+        shutdown();
+        if (!completed) {
+            logger.warning("[ItemMigration] 일괄 마이그레이션 일부 실패 - 월드 " + failedWorlds
+                    + "는 상자 열기 마이그레이션을 유지하고 다음 시작 시 재시도합니다.");
+            return;
+        }
+        logger.info("[ItemMigration] 일괄 마이그레이션 완료 - 순회한 월드 " + completedWorlds + "의 상자 열기 마이그레이션은 생략됩니다.");
+    }
+
+    private void reportThroughput(long now) {
+        double interval = Math.max(1, now - lastReportAt) / 1000.0;
+        double rate = (chunksProcessed - chunksAtLastReport) / interval;
+        logger.info("[ItemMigration] 일괄 진행: " + getStatus() + String.format(" | 최근 %.1f 청크/s", rate));
+        lastReportAt = now;
+        chunksAtLastReport = chunksProcessed;
+    }
+
+    private void loadCheckpoint() {
+        completedRegions.clear();
+        completedWorlds.clear();
+        completed = false;
+        if (!checkpointFile.exists()) return;
+
+        YamlConfiguration yaml = YamlConfiguration.loadConfiguration(checkpointFile);
+        String signature = yaml.getString("signature", "");
+        if (!signature.equals(migrationService.getMappingSignature())) {
+            logger.info("[ItemMigration] 매핑이 변경되어 체크포인트를 초기화합니다.");
+            return;
+        }
+        completedRegions.addAll(yaml.getStringList("completedRegions"));
+        completed = yaml.getBoolean("completed", false);
+        completedWorlds.addAll(yaml.getStringList("completedWorlds"));
+    }
+
+    private YamlConfiguration buildCheckpoint() {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.set("signature", migrationService.getMappingSignature());
+        yaml.set("completed", completed);
+        yaml.set("completedWorlds", new ArrayList<>(completedWorlds));
+        yaml.set("completedRegions", new ArrayList<>(completedRegions));
+        yaml.set("stats.chunks", chunksProcessed);
+        yaml.set("stats.containers", containersMigrated);
+        yaml.set("stats.items", itemsMigrated);
+        return yaml;
+    }
+
+    private void saveCheckpointAsync() {
+        if (!checkpointDirty) return;
+        checkpointDirty = false;
+        YamlConfiguration yaml = buildCheckpoint();
+        checkpointWriter.execute(() -> saveCheckpoint(yaml));
+    }
+
+    /**
+     * 동기 저장 - 대기 중인 비동기 저장이 끝난 뒤 같은 스레드에서 기록
+     */
+    private void saveCheckpointNow(YamlConfiguration yaml) {
+        try {
+            checkpointWriter.submit(() -> saveCheckpoint(yaml)).get(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "[ItemMigration] 체크포인트 저장 대기 실패", e);
+        }
+    }
+
+    private void saveCheckpoint(YamlConfiguration yaml) {
+        try {
+            yaml.save(checkpointFile);
+        } catch (IOException e) {
+            logger.warning("[ItemMigration] 체크포인트 저장 실패: " + e.getMessage());
+        }
+    }
+
+    // ========== 내부 ==========
+
+    private void releaseTicket(ChunkRef ref) {
+        World world = Bukkit.getWorld(ref.worldId());
+        if (world == null) return;
+        world.removePluginChunkTicket((int) ref.chunkKey(), (int) (ref.chunkKey() >> 32), plugin);
+    }
+
+    private void runOnMain(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+
+    private record WorldTarget(UUID worldId, String worldName, File regionDir) {
+    }
+
+    private record ChunkRef(UUID worldId, long chunkKey) {
+    }
+
+    /**
+     * region 파일 1개 분량 작업 (cursor/done은 메인 스레드 전용)
+     */
+    private static final class RegionJob {
+        final String regionId;
+        final UUID worldId;
+        final String worldName;
+        final long[] chunks;
+        int cursor;
+        int done;
+        int failed;
+
+        RegionJob(String regionId, UUID worldId, String worldName, long[] chunks) {
+            this.regionId = regionId;
+            this.worldId = worldId;
+            this.worldName = worldName;
+            this.chunks = chunks;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package kr.bapuri.tycoon.migration;
 
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
 import org.bukkit.block.Container;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -11,6 +12,7 @@ import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BlockStateMeta;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
@@ -18,6 +20,8 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.logging.Logger;
 
 /**
@@ -29,8 +33,13 @@ import java.util.logging.Logger;
  *   <li>상자 열 때 내용물 자동 마이그레이션</li>
  *   <li>CustomModelData 값 변환</li>
  *   <li>PDC NamespacedKey 변환 (tycoonlite → tycoon)</li>
+ *   <li>일괄 모드: 저장된 청크 전체를 백그라운드로 순회 ({@link ItemBatchMigrator})</li>
  * </ul>
  * 
+ * 일괄 모드로 끝까지 순회한 월드에서는 상자 열기 마이그레이션을 생략한다.
+ * 대상에서 빠진 월드, 나중에 로드된 월드는 계속 열 때 처리하고,
+ * 플레이어 인벤토리/엔더상자는 오프라인 접근이 불가하므로 접속 시 처리한다.
+ * 
  * <h2>안전성</h2>
  * <ul>
  *   <li>서버가 NBT를 정상적으로 로드한 후 처리</li>
@@ -55,6 +64,9 @@ public class ItemMigrationService implements Listener {
     // 통계
     private int migratedItemCount = 0;
     private int migratedContainerCount = 0;
+    
+    // 일괄 마이그레이션 (migration.batch.enabled)
+    private ItemBatchMigrator batchMigrator;
 
     public ItemMigrationService(JavaPlugin plugin) {
         this.plugin = plugin;
@@ -81,8 +93,23 @@ public class ItemMigrationService implements Listener {
         // 리스너 등록
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
         
+        // 일괄 마이그레이션 (연결 월드 로드 이후 시작)
+        if (plugin.getConfig().getBoolean("migration.batch.enabled", false)) {
+            batchMigrator = new ItemBatchMigrator(plugin, this);
+            plugin.getServer().getScheduler().runTaskLater(plugin, batchMigrator::start, 100L);
+        }
+        
         logger.info("[ItemMigration] 초기화 완료 - CMD 매핑: " + cmdMigrationMap.size() + "개");
     }
+    
+    /**
+     * 종료 - 일괄 마이그레이션 진행 상황 저장
+     */
+    public void shutdown() {
+        if (batchMigrator != null) {
+            batchMigrator.shutdown();
+        }
+    }
 
     /**
      * CMD 매핑 로드
@@ -134,7 +161,9 @@ public class ItemMigrationService implements Listener {
         Player player = event.getPlayer();
         
         // 비동기로 처리하지 않음 (인벤토리 수정은 메인 스레드에서)
+        // 플레이어 데이터는 일괄 모드 대상이 아니므로 항상 처리
         int migrated = migrateInventory(player.getInventory());
+        migrated += migrateInventory(player.getEnderChest());
         
         if (migrated > 0) {
             logger.info("[ItemMigration] " + player.getName() + " 인벤토리 마이그레이션: " + migrated + "개 아이템");
@@ -152,6 +181,12 @@ public class ItemMigrationService implements Listener {
         
         Inventory inv = event.getInventory();
         
+        // 일괄 모드로 이 월드를 끝까지 처리했으면 생략
+        if (batchMigrator != null && inv.getLocation() != null
+                && batchMigrator.isWorldCompleted(inv.getLocation().getWorld().getName())) {
+            return;
+        }
+        
         // 컨테이너인지 확인
         if (inv.getHolder() instanceof Container) {
             int migrated = migrateInventory(inv);
@@ -179,11 +214,43 @@ public class ItemMigrationService implements Listener {
             if (migrateItem(item)) {
                 migrated++;
             }
+            
+            // 셜커 상자 등 아이템 안에 저장된 내용물
+            int nested = migrateNestedContents(item);
+            if (nested > 0) {
+                inventory.setItem(i, item);
+                migrated += nested;
+            }
         }
         
         return migrated;
     }
 
+    /**
+     * 셜커 상자 아이템의 내용물 마이그레이션
+     * 
+     * @return 마이그레이션된 아이템 수
+     */
+    private int migrateNestedContents(ItemStack item) {
+        // 메타 복사는 셜커 상자에만 (일반 슬롯마다 getItemMeta() 복사 방지)
+        if (!Tag.SHULKER_BOXES.isTagged(item.getType()) || !item.hasItemMeta()) {
+            return 0;
+        }
+        if (!(item.getItemMeta() instanceof BlockStateMeta meta) || !meta.hasBlockState()) {
+            return 0;
+        }
+        if (!(meta.getBlockState() instanceof Container container)) {
+            return 0;
+        }
+        
+        int migrated = migrateInventory(container.getSnapshotInventory());
+        if (migrated > 0) {
+            meta.setBlockState(container);
+            item.setItemMeta(meta);
+        }
+        return migrated;
+    }
+
     /**
      * 단일 아이템 마이그레이션
      * 
@@ -209,7 +276,7 @@ public class ItemMigrationService implements Listener {
                 // setType 후 meta를 다시 가져와야 함
                 meta = item.getItemMeta();
                 changed = true;
-                logger.info("[ItemMigration] Material 변환: " + oldMaterial + " → " + newMaterial + " (CMD: " + cmd + ")");
+                logger.fine("[ItemMigration] Material 변환: " + oldMaterial + " → " + newMaterial + " (CMD: " + cmd + ")");
             }
         }
         
@@ -221,7 +288,7 @@ public class ItemMigrationService implements Listener {
             if (newCmd != null && newCmd != currentCmd) {
                 meta.setCustomModelData(newCmd);
                 changed = true;
-                logger.info("[ItemMigration] CMD 변환: " + currentCmd + " → " + newCmd);
+                logger.fine("[ItemMigration] CMD 변환: " + currentCmd + " → " + newCmd);
             }
         }
         
@@ -317,12 +384,24 @@ public class ItemMigrationService implements Listener {
         cmdMigrationMap.put(oldCmd, newCmd);
     }
 
+    /**
+     * 매핑 서명 (일괄 마이그레이션 체크포인트 유효성 확인용)
+     */
+    public String getMappingSignature() {
+        return "pdc=" + migratePdcKeys + ";cmd=" + new TreeMap<>(cmdMigrationMap)
+            + ";worlds=" + new TreeSet<>(plugin.getConfig().getStringList("migration.batch.worlds"));
+    }
+
     /**
      * 통계 반환
      */
     public String getStats() {
-        return String.format("마이그레이션 통계: 아이템 %d개, 컨테이너 %d개", 
+        String stats = String.format("마이그레이션 통계: 아이템 %d개, 컨테이너 %d개", 
             migratedItemCount, migratedContainerCount);
+        if (batchMigrator != null) {
+            stats += " / " + batchMigrator.getStatus();
+        }
+        return stats;
     }
 
     /**
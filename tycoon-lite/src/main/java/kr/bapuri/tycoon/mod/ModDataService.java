@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import kr.bapuri.tycoon.bootstrap.ServiceRegistry;
+import kr.bapuri.tycoon.codex.CodexProgress;
 import kr.bapuri.tycoon.codex.CodexRegistry;
 import kr.bapuri.tycoon.codex.CodexRule;
 import kr.bapuri.tycoon.codex.CodexService;
@@ -50,6 +51,7 @@ import java.util.logging.Logger;
  *   <li>PLOT_UPDATE - 땅 정보 (Lands 연동)</li>
  *   <li>CODEX_DATA - 도감 요약</li>
  *   <li>CODEX_CATEGORY_DATA - 도감 카테고리 상세</li>
+ *   <li>CODEX_CATALOG_MANIFEST - 도감 카탈로그 해시 (클라이언트 캐시용)</li>
  * </ul>
  * 
  * @see ModRequestHandler 클라이언트 요청 처리
@@ -545,22 +547,17 @@ public class ModDataService {
         PlayerTycoonData data = dataManager.get(player.getUniqueId());
         if (data == null) return;
         
-        Set<String> registered = data.getUnlockedCodex();
         int totalItems = codexRegistry.getTotalCount();
-        int collectedCount = registered.size();
+        int collectedCount = data.getCodexCount();
         
-        // 카테고리별 집계 (카테고리 순서 사용)
+        // 카테고리별 집계 (카테고리 순서 사용, 플레이어별 집계 캐시)
+        CodexProgress progress = codexService.getProgress(data);
         Map<String, int[]> categoryStats = new LinkedHashMap<>(); // [collected, total]
         for (String category : codexRegistry.getCategoryOrder()) {
             List<CodexRule> rules = codexRegistry.getByCategory(category);
             if (rules == null) continue;
             
-            int regCount = 0;
-            for (CodexRule rule : rules) {
-                if (registered.contains(rule.getMaterial().name())) {
-                    regCount++;
-                }
-            }
+            int regCount = progress.getCategoryCount(codexRegistry.getCategoryIndex(category));
             categoryStats.put(category, new int[]{regCount, rules.size()});
         }
         
@@ -587,7 +584,7 @@ public class ModDataService {
         codexData.add("categories", categories);
         
         // [Phase 4] 다음 마일스톤 정보
-        JsonObject nextMilestone = buildNextMilestone(data, collectedCount);
+        JsonObject nextMilestone = buildNextMilestone(data, progress, collectedCount);
         if (nextMilestone != null) {
             codexData.add("nextMilestone", nextMilestone);
         }
@@ -599,49 +596,94 @@ public class ModDataService {
     /**
      * [Phase 4] 다음 마일스톤 정보 생성
      */
-    private JsonObject buildNextMilestone(PlayerTycoonData data, int collectedCount) {
+    private JsonObject buildNextMilestone(PlayerTycoonData data, CodexProgress progress,
+                                          int collectedCount) {
         if (codexRegistry == null) return null;
         
-        Map<Integer, kr.bapuri.tycoon.codex.CodexRegistry.MilestoneReward> milestones = codexRegistry.getMilestones();
-        if (milestones == null || milestones.isEmpty()) return null;
+        // 아직 수령하지 않은 가장 낮은 마일스톤 (집계 캐시)
+        int target = progress.getNextMilestone(data);
+        if (target < 0) {
+            // 모든 마일스톤 달성
+            return null;
+        }
         
-        // 아직 달성하지 않은 가장 낮은 마일스톤 찾기
-        for (Map.Entry<Integer, kr.bapuri.tycoon.codex.CodexRegistry.MilestoneReward> entry : milestones.entrySet()) {
-            int target = entry.getKey();
-            
-            // 이미 수령했으면 스킵
-            if (data.hasClaimedCodexMilestone(target)) continue;
-            
-            // 아직 달성하지 않은 마일스톤 발견
-            kr.bapuri.tycoon.codex.CodexRegistry.MilestoneReward reward = entry.getValue();
-            
-            JsonObject milestone = new JsonObject();
-            milestone.addProperty("target", target);
-            milestone.addProperty("current", collectedCount);
-            milestone.addProperty("bottcoinReward", reward.getBottcoin());
-            milestone.addProperty("bdReward", reward.getBd());
-            
-            return milestone;
+        kr.bapuri.tycoon.codex.CodexRegistry.MilestoneReward reward = codexRegistry.getMilestones().get(target);
+        if (reward == null) return null;
+        
+        JsonObject milestone = new JsonObject();
+        milestone.addProperty("target", target);
+        milestone.addProperty("current", collectedCount);
+        milestone.addProperty("bottcoinReward", reward.getBottcoin());
+        milestone.addProperty("bdReward", reward.getBd());
+        
+        return milestone;
+    }
+    
+    /**
+     * 도감 카탈로그 해시 전송 (접속 시)
+     * 
+     * <p>클라이언트는 카테고리별 해시를 디스크 캐시와 비교하고,
+     * 일치하면 이후 요청에서 진행도만 받습니다.</p>
+     */
+    public void sendCodexCatalogManifest(Player player) {
+        if (!enabled || player == null || codexRegistry == null) return;
+        
+        JsonObject categories = new JsonObject();
+        for (Map.Entry<String, String> entry : codexRegistry.getCategoryHashes().entrySet()) {
+            categories.addProperty(entry.getKey(), entry.getValue());
         }
         
-        // 모든 마일스톤 달성
-        return null;
+        JsonObject manifest = new JsonObject();
+        manifest.addProperty("catalogHash", codexRegistry.getCatalogHash());
+        manifest.add("categories", categories);
+        
+        sendPacket(player, ModPacketTypes.CODEX_CATALOG_MANIFEST, manifest);
+        logger.fine("[ModDataService] CODEX_CATALOG_MANIFEST 전송: " + player.getName());
     }
     
     /**
      * 도감 카테고리 상세 전송 (요청 시) - 클라이언트 모드 스키마에 맞춤
      */
     public void sendCodexCategoryData(Player player, String category) {
+        sendCodexCategoryData(player, category, null);
+    }
+    
+    /**
+     * 도감 카테고리 상세 전송 (클라이언트 캐시 해시 포함)
+     * 
+     * <p>클라이언트가 보낸 해시가 현재 카탈로그 해시와 같으면 정적 정보(이름, 보상 등)를
+     * 생략하고 수집한 아이템 ID 목록만 전송합니다 (progressOnly).</p>
+     * 
+     * @param clientHash 클라이언트가 캐시한 카테고리 해시 (nullable)
+     */
+    public void sendCodexCategoryData(Player player, String category, String clientHash) {
         if (!enabled || player == null || codexService == null || codexRegistry == null) return;
         
         PlayerTycoonData data = dataManager.get(player.getUniqueId());
         if (data == null) return;
         
-        Set<String> registered = data.getUnlockedCodex();
         List<CodexRule> categoryRules = codexRegistry.getByCategory(category);
+        String catalogHash = codexRegistry.getCategoryHash(category);
         
         JsonObject categoryData = new JsonObject();
         categoryData.addProperty("category", category);
+        categoryData.addProperty("catalogHash", catalogHash);
+        
+        // 캐시 적중: 진행도만 전송
+        if (catalogHash != null && catalogHash.equals(clientHash)) {
+            com.google.gson.JsonArray collected = new com.google.gson.JsonArray();
+            for (CodexRule rule : categoryRules) {
+                String materialName = rule.getMaterial().name();
+                if (data.isCodexUnlocked(materialName)) {
+                    collected.add(materialName);
+                }
+            }
+            categoryData.addProperty("progressOnly", true);
+            categoryData.add("collected", collected);
+            
+            sendPacket(player, ModPacketTypes.CODEX_CATEGORY_DATA, categoryData);
+            return;
+        }
         
         // 클라이언트 스키마: id, name, category, collected, iconMaterial, reward, requiredCount
         com.google.gson.JsonArray items = new com.google.gson.JsonArray();
@@ -653,14 +695,11 @@ public class ModDataService {
                 item.addProperty("id", materialName);
                 item.addProperty("name", rule.getKoreanDisplayName());
                 item.addProperty("category", category);
-                item.addProperty("collected", registered.contains(materialName));
+                item.addProperty("collected", data.isCodexUnlocked(materialName));
                 item.addProperty("iconMaterial", materialName);  // 아이콘용
                 
                 // 보상 계산: override가 있으면 사용, 없으면 기본값
-                Long rewardOverride = rule.getRewardOverride();
-                long reward = rewardOverride != null ? rewardOverride : 
-                    (rule.isConsumeOnRegister() ? codexRegistry.getDefaultConsumeReward() : codexRegistry.getDefaultKeepReward());
-                item.addProperty("reward", reward);
+                item.addProperty("reward", codexRegistry.resolveReward(rule));
                 
                 item.addProperty("requiredCount", Math.max(rule.getRequiredCount(), 1));
                 items.add(item);
@@ -671,6 +710,128 @@ public class ModDataService {
         sendPacket(player, ModPacketTypes.CODEX_CATEGORY_DATA, categoryData);
     }
     
+    // ========================================================================
+    // 가격 이력 (차트)
+    // ========================================================================
+    
+    /** 가격 이력 패킷 최대 포인트 수 (32KB 제한 고려) */
+    private static final int PRICE_HISTORY_MAX_POINTS = 240;
+    
+    /**
+     * 동적 가격 이력 전송 (요청 시)
+     * 
+     * <p>조회는 이력 저장소 스레드에서 수행되고, 패킷 전송은 메인 스레드에서 합니다.
+     * 차트 그리기 편하도록 컬럼 배열 형태로 보냅니다.</p>
+     * 
+     * @param itemId 아이템 ID (Material 이름)
+     * @param resolutionId minute / hour / day
+     * @param count 요청 포인트 수 (최대 {@value #PRICE_HISTORY_MAX_POINTS})
+     */
+    public void sendPriceHistory(Player player, String itemId, String resolutionId, int count) {
+        if (!enabled || player == null || itemId == null || services == null) return;
+        
+        kr.bapuri.tycoon.shop.ShopService shopService = services.getShopService();
+        kr.bapuri.tycoon.shop.price.DynamicPriceTracker tracker = 
+                shopService != null ? shopService.getPriceTracker() : null;
+        if (tracker == null || tracker.getHistoryStore() == null || !tracker.isRegistered(itemId)) return;
+        
+        kr.bapuri.tycoon.shop.price.PriceHistoryStore.Resolution resolution = 
+                kr.bapuri.tycoon.shop.price.PriceHistoryStore.Resolution.fromId(resolutionId);
+        if (resolution == null) {
+            resolution = kr.bapuri.tycoon.shop.price.PriceHistoryStore.Resolution.HOUR;
+        }
+        int limit = Math.max(1, Math.min(PRICE_HISTORY_MAX_POINTS, count));
+        final kr.bapuri.tycoon.shop.price.PriceHistoryStore.Resolution res = resolution;
+        
+        tracker.getHistoryStore().queryRecent(itemId, res, limit).thenAccept(points -> {
+            com.google.gson.JsonArray time = new com.google.gson.JsonArray();
+            com.google.gson.JsonArray buy = new com.google.gson.JsonArray();
+            com.google.gson.JsonArray high = new com.google.gson.JsonArray();
+            com.google.gson.JsonArray low = new com.google.gson.JsonArray();
+            com.google.gson.JsonArray sell = new com.google.gson.JsonArray();
+            com.google.gson.JsonArray buyVolume = new com.google.gson.JsonArray();
+            com.google.gson.JsonArray sellVolume = new com.google.gson.JsonArray();
+            
+            for (kr.bapuri.tycoon.shop.price.PriceHistoryStore.PricePoint p : points) {
+                time.add(p.time());
+                buy.add(p.buyClose());
+                high.add(p.buyHigh());
+                low.add(p.buyLow());
+                sell.add(p.sellClose());
+                buyVolume.add(Math.round(p.buyVolume()));
+                sellVolume.add(Math.round(p.sellVolume()));
+            }
+            
+            JsonObject data = new JsonObject();
+            data.addProperty("item", itemId.toUpperCase());
+            data.addProperty("resolution", res.getId());
+            data.addProperty("bucketMillis", res.getBucketMillis());
+            data.add("time", time);
+            data.add("buy", buy);
+            data.add("buyHigh", high);
+            data.add("buyLow", low);
+            data.add("sell", sell);
+            data.add("buyVolume", buyVolume);
+            data.add("sellVolume", sellVolume);
+            
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                if (player.isOnline()) {
+                    sendPacket(player, ModPacketTypes.PRICE_HISTORY, data);
+                }
+            });
+        });
+    }
+    
+    // ========================================================================
+    // 순위표
+    // ========================================================================
+    
+    /** 순위표 패킷 최대 항목 수 */
+    private static final int LEADERBOARD_MAX_ENTRIES = 50;
+    
+    /**
+     * 순위표 구간 전송 (요청 시)
+     * 
+     * <p>요청한 플레이어의 순위/값도 함께 보냅니다 (순위 밖이면 myRank 0).</p>
+     * 
+     * @param metricId 지표 ID (bd, bc, earned, job, job2, codex, achievement)
+     * @param fromRank 시작 순위 (1부터)
+     * @param limit 항목 수 (최대 {@value #LEADERBOARD_MAX_ENTRIES})
+     */
+    public void sendLeaderboard(Player player, String metricId, int fromRank, int limit) {
+        if (!enabled || player == null || services == null) return;
+        
+        kr.bapuri.tycoon.leaderboard.LeaderboardService leaderboard = services.getLeaderboardService();
+        kr.bapuri.tycoon.leaderboard.LeaderboardMetric metric = 
+                kr.bapuri.tycoon.leaderboard.LeaderboardMetric.fromId(metricId);
+        if (leaderboard == null || metric == null) return;
+        
+        int from = Math.max(1, fromRank);
+        int count = Math.max(1, Math.min(LEADERBOARD_MAX_ENTRIES, limit));
+        
+        com.google.gson.JsonArray entries = new com.google.gson.JsonArray();
+        for (kr.bapuri.tycoon.leaderboard.LeaderboardService.Entry entry : leaderboard.getRange(metric, from, count)) {
+            JsonObject e = new JsonObject();
+            e.addProperty("rank", entry.rank());
+            e.addProperty("uuid", entry.uuid().toString());
+            e.addProperty("name", entry.name());
+            e.addProperty("value", entry.value());
+            entries.add(e);
+        }
+        
+        UUID uuid = player.getUniqueId();
+        JsonObject data = new JsonObject();
+        data.addProperty("metric", metric.getId());
+        data.addProperty("displayName", metric.getDisplayName());
+        data.addProperty("total", leaderboard.getSize(metric));
+        data.addProperty("from", from);
+        data.add("entries", entries);
+        data.addProperty("myRank", leaderboard.getRank(metric, uuid));
+        data.addProperty("myValue", leaderboard.getValue(metric, uuid));
+        
+        sendPacket(player, ModPacketTypes.LEADERBOARD_DATA, data);
+    }
+    
     // ========================================================================
     // 실시간 업데이트 패킷 (Phase 1에서 연동)
     // ========================================================================
@@ -60,6 +60,9 @@ public final class ModPacketTypes {
     /** 도감 카테고리 상세 (아이템 목록) */
     public static final String CODEX_CATEGORY_DATA = "CODEX_CATEGORY_DATA";
     
+    /** 도감 카탈로그 해시 목록 (접속 시, 클라이언트 캐시 검증용) */
+    public static final String CODEX_CATALOG_MANIFEST = "CODEX_CATALOG_MANIFEST";
+    
     // ========================================================================
     // 서버 → 클라이언트 패킷 (신규 - Phase 1에서 구현)
     // ========================================================================
@@ -79,6 +82,12 @@ public final class ModPacketTypes {
     /** 도감 아이템 등록 알림 (서버에서 등록 시) */
     public static final String CODEX_ITEM_REGISTERED = "CODEX_ITEM_REGISTERED";
     
+    /** 동적 가격 이력 (차트용, 요청 시) */
+    public static final String PRICE_HISTORY = "PRICE_HISTORY";
+    
+    /** 순위표 구간 (요청 시) */
+    public static final String LEADERBOARD_DATA = "LEADERBOARD_DATA";
+    
     // ========================================================================
     // 클라이언트 → 서버 패킷 (수신)
     // ========================================================================
@@ -104,6 +113,12 @@ public final class ModPacketTypes {
     /** 직업 승급 시도 (현재 LITE에서는 미지원) */
     public static final String TRIGGER_JOB_PROMOTION = "TRIGGER_JOB_PROMOTION";
     
+    /** 동적 가격 이력 요청 */
+    public static final String REQUEST_PRICE_HISTORY = "REQUEST_PRICE_HISTORY";
+    
+    /** 순위표 요청 */
+    public static final String REQUEST_LEADERBOARD = "REQUEST_LEADERBOARD";
+    
     // ========================================================================
     // 스키마 버전
     // ========================================================================
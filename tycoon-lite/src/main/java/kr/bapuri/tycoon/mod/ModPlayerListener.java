@@ -22,7 +22,7 @@ import java.util.logging.Logger;
  * 
  * <h2>감지 이벤트</h2>
  * <ul>
- *   <li>PlayerJoinEvent - 접속 시 PLAYER_PROFILE 전송</li>
+ *   <li>PlayerJoinEvent - 접속 시 PLAYER_PROFILE, CODEX_CATALOG_MANIFEST 전송</li>
  *   <li>PlayerChangedWorldEvent - 월드 이동 시 PLOT_UPDATE 전송</li>
  *   <li>EntityRegainHealthEvent - 체력 회복 시 VITAL_UPDATE 전송</li>
  *   <li>EntityDamageEvent - 피해 시 VITAL_UPDATE 전송</li>
@@ -90,6 +90,7 @@ public class ModPlayerListener implements Listener {
                     modDataService.sendPlayerProfile(player);
                     modDataService.sendVitalUpdate(player);
                     modDataService.sendCurrentPlotUpdate(player);
+                    modDataService.sendCodexCatalogManifest(player);
                     logger.fine("[ModPlayerListener] 접속 데이터 전송: " + player.getName());
                 }
             }
@@ -37,6 +37,8 @@ import java.util.logging.Logger;
  *   <li>REQUEST_JOB_DETAIL - 직업 상세 요청</li>
  *   <li>TRIGGER_JOB_PROMOTION - 직업 승급 시도</li>
  *   <li>REGISTER_CODEX_ITEM - 도감 아이템 등록</li>
+ *   <li>REQUEST_PRICE_HISTORY - 동적 가격 이력 요청</li>
+ *   <li>REQUEST_LEADERBOARD - 순위표 요청</li>
  * </ul>
  * 
  * @see ModDataService 데이터 전송 서비스
@@ -222,6 +224,10 @@ public class ModRequestHandler implements PluginMessageListener {
             handleJobDetailRequest(player);
         } else if (ModPacketTypes.TRIGGER_JOB_PROMOTION.equals(action)) {
             handleJobPromotion(player);
+        } else if (ModPacketTypes.REQUEST_PRICE_HISTORY.equals(action)) {
+            handlePriceHistoryRequest(player, params);
+        } else if (ModPacketTypes.REQUEST_LEADERBOARD.equals(action)) {
+            handleLeaderboardRequest(player, params);
         } else {
             logger.fine("[ModRequestHandler] 알 수 없는 액션: " + action);
         }
@@ -243,6 +249,24 @@ public class ModRequestHandler implements PluginMessageListener {
         }
     }
     
+    private void handlePriceHistoryRequest(Player player, JsonObject params) {
+        if (modDataService == null || params == null || !params.has("item")) return;
+        
+        String item = params.get("item").getAsString();
+        String resolution = params.has("resolution") ? params.get("resolution").getAsString() : "hour";
+        int count = params.has("count") ? params.get("count").getAsInt() : 48;
+        modDataService.sendPriceHistory(player, item, resolution, count);
+    }
+    
+    private void handleLeaderboardRequest(Player player, JsonObject params) {
+        if (modDataService == null || params == null || !params.has("metric")) return;
+        
+        String metric = params.get("metric").getAsString();
+        int from = params.has("from") ? params.get("from").getAsInt() : 1;
+        int limit = params.has("limit") ? params.get("limit").getAsInt() : 10;
+        modDataService.sendLeaderboard(player, metric, from, limit);
+    }
+    
     // ========================================================================
     // 도감 요청 핸들러
     // ========================================================================
@@ -262,7 +286,10 @@ public class ModRequestHandler implements PluginMessageListener {
         }
         
         String category = params.get("category").getAsString();
-        modDataService.sendCodexCategoryData(player, category);
+        // 클라이언트 캐시 해시 (일치하면 진행도만 전송)
+        String catalogHash = params.has("catalogHash") && !params.get("catalogHash").isJsonNull()
+            ? params.get("catalogHash").getAsString() : null;
+        modDataService.sendCodexCategoryData(player, category, catalogHash);
     }
     
     /**
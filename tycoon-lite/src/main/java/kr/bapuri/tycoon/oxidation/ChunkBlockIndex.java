@@ -0,0 +1,203 @@
+package kr.bapuri.tycoon.oxidation;
+
+/**
+ * ChunkBlockIndex - 청크 키 → 블록 키 집합 (primitive long 맵)
+ *
+ * 산화 대기 블록을 청크 단위로 묶어 로드된 청크만 처리하기 위한 인덱스.
+ * Long 박싱 없이 open addressing (선형 탐사 + backward shift 삭제) 사용.
+ * 메인 스레드 전용 (동기화 없음).
+ */
+final class ChunkBlockIndex {
+
+    private long[] keys;
+    private LongSet[] sets;     // null = 빈 슬롯
+    private int size;
+    private int blockCount;
+
+    ChunkBlockIndex() {
+        keys = new long[64];
+        sets = new LongSet[64];
+    }
+
+    /**
+     * 블록 추가
+     * @return 새로 추가되었으면 true
+     */
+    boolean add(long chunkKey, long blockKey) {
+        int i = slot(keys, sets, chunkKey);
+        LongSet set = sets[i];
+        if (set == null) {
+            set = new LongSet();
+            keys[i] = chunkKey;
+            sets[i] = set;
+            if (++size * 4 > sets.length * 3) {
+                resize(sets.length << 1);
+            }
+        }
+        if (set.add(blockKey)) {
+            blockCount++;
+            return true;
+        }
+        return false;
+    }
+
+    LongSet get(long chunkKey) {
+        return sets[slot(keys, sets, chunkKey)];
+    }
+
+    boolean containsChunk(long chunkKey) {
+        return get(chunkKey) != null;
+    }
+
+    /**
+     * 블록 제거 (청크 집합이 비면 청크도 제거)
+     */
+    boolean remove(long chunkKey, long blockKey) {
+        int i = slot(keys, sets, chunkKey);
+        LongSet set = sets[i];
+        if (set == null || !set.remove(blockKey)) {
+            return false;
+        }
+        blockCount--;
+        if (set.size() == 0) {
+            removeAt(i);
+        }
+        return true;
+    }
+
+    int chunkCount() {
+        return size;
+    }
+
+    int blockCount() {
+        return blockCount;
+    }
+
+    // ========== 내부 ==========
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int slot(long[] keys, Object[] values, long key) {
+        int mask = values.length - 1;
+        int i = hash(key) & mask;
+        while (values[i] != null && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        LongSet[] oldSets = sets;
+        keys = new long[capacity];
+        sets = new LongSet[capacity];
+        for (int i = 0; i < oldSets.length; i++) {
+            if (oldSets[i] != null) {
+                int j = slot(keys, sets, oldKeys[i]);
+                keys[j] = oldKeys[i];
+                sets[j] = oldSets[i];
+            }
+        }
+    }
+
+    private void removeAt(int i) {
+        int mask = sets.length - 1;
+        sets[i] = null;
+        size--;
+        // backward shift: 탐사 체인이 끊기지 않도록 뒤 항목을 당겨 옴
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (sets[j] == null) return;
+            int home = hash(keys[j]) & mask;
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                sets[i] = sets[j];
+                sets[j] = null;
+                i = j;
+            }
+        }
+    }
+
+    /**
+     * primitive long 집합 (open addressing, 사용 여부는 별도 플래그 배열)
+     */
+    static final class LongSet {
+        private long[] table = new long[8];
+        private boolean[] used = new boolean[8];
+        private int size;
+
+        boolean add(long key) {
+            int i = indexOf(key);
+            if (used[i]) return false;
+            used[i] = true;
+            table[i] = key;
+            if (++size * 4 > used.length * 3) {
+                long[] oldTable = table;
+                boolean[] oldUsed = used;
+                table = new long[oldTable.length << 1];
+                used = new boolean[oldUsed.length << 1];
+                for (int k = 0; k < oldUsed.length; k++) {
+                    if (oldUsed[k]) {
+                        int j = indexOf(oldTable[k]);
+                        used[j] = true;
+                        table[j] = oldTable[k];
+                    }
+                }
+            }
+            return true;
+        }
+
+        boolean remove(long key) {
+            int i = indexOf(key);
+            if (!used[i]) return false;
+            used[i] = false;
+            size--;
+            int mask = used.length - 1;
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                if (!used[j]) return true;
+                int home = hash(table[j]) & mask;
+                if (((j - home) & mask) >= ((j - i) & mask)) {
+                    table[i] = table[j];
+                    used[i] = true;
+                    used[j] = false;
+                    i = j;
+                }
+            }
+        }
+
+        boolean contains(long key) {
+            return used[indexOf(key)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * 현재 원소 복사본 (순회 중 제거용)
+         */
+        long[] toArray() {
+            long[] out = new long[size];
+            int n = 0;
+            for (int i = 0; i < used.length; i++) {
+                if (used[i]) out[n++] = table[i];
+            }
+            return out;
+        }
+
+        private int indexOf(long key) {
+            int mask = used.length - 1;
+            int i = hash(key) & mask;
+            while (used[i] && table[i] != key) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package kr.bapuri.tycoon.oxidation;
 
 import kr.bapuri.tycoon.job.miner.MinerConfig;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
@@ -10,6 +11,9 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 
@@ -28,6 +32,11 @@ import java.util.logging.Logger;
  * - 산화는 물/비에 의해 가속/감속되지 않음
  * - 각 구리 블록은 설정된 주기마다 확률로 '산화 대기' 상태 진입
  * - 반경 N블록 내 더 낮은 산화 단계 존재 시 산화 중단 (팜 억제)
+ * 
+ * 처리 구조:
+ * - 산화 대기 블록은 월드별 청크 인덱스에 저장 (청크 키 → 블록 키 집합)
+ * - 청크 로드/언로드 이벤트로 '로드된 대기 청크' 목록 유지 → 로드된 청크만 처리
+ * - 주기마다 한 사이클을 시작하고, 틱당 시간 예산 내에서 나누어 처리
  */
 public class CopperOxidationHandler implements Listener {
 
@@ -85,10 +94,16 @@ public class CopperOxidationHandler implements Listener {
         NEXT_OXIDATION_STAGE.put(Material.WEATHERED_CUT_COPPER_SLAB, Material.OXIDIZED_CUT_COPPER_SLAB);
     }
 
-    // 산화 대기 블록 추적
-    private final Set<Long> oxidationPendingBlocks = Collections.synchronizedSet(new HashSet<>());
+    // 산화 대기 블록 추적 (월드 UID → 상태, 메인 스레드 전용)
+    private final Map<UUID, WorldPending> pendingByWorld = new HashMap<>();
     
     private BukkitTask oxidationTask;
+    
+    // 진행 중인 처리 사이클
+    private final ArrayDeque<ChunkWork> cycleQueue = new ArrayDeque<>();
+    private BukkitTask cycleTask;
+    private int cycleProcessed;
+    private int cycleOxidized;
 
     public CopperOxidationHandler(JavaPlugin plugin, MinerConfig config) {
         this.plugin = plugin;
@@ -130,6 +145,7 @@ public class CopperOxidationHandler implements Listener {
             oxidationTask.cancel();
             oxidationTask = null;
         }
+        stopCycle();
     }
     
     /**
@@ -164,70 +180,162 @@ public class CopperOxidationHandler implements Listener {
         // 커스텀 산화 체크
         if (canOxidize(block)) {
             // 산화 대기 상태로 등록
-            long key = blockKey(block);
-            oxidationPendingBlocks.add(key);
+            addPending(block);
+        }
+    }
+    
+    // ========== 청크 로드 상태 추적 ==========
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        WorldPending state = pendingByWorld.get(event.getWorld().getUID());
+        if (state == null) return;
+        
+        long chunkKey = event.getChunk().getChunkKey();
+        if (state.index.containsChunk(chunkKey)) {
+            state.loadedChunks.add(chunkKey);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        WorldPending state = pendingByWorld.get(event.getWorld().getUID());
+        if (state != null) {
+            state.loadedChunks.remove(event.getChunk().getChunkKey());
         }
     }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        // 월드 리셋 등으로 언로드되면 대기 블록도 무효
+        pendingByWorld.remove(event.getWorld().getUID());
+    }
+
+    // ========== 주기적 산화 처리 ==========
 
     /**
-     * 주기적 산화 처리
+     * 주기적 산화 처리 - 로드된 대기 청크로 사이클 시작
+     * 실제 처리는 processCycleTick()에서 틱 예산 단위로 진행
      */
     private void processOxidation() {
         if (!config.isOxidationEnabled()) {
             return;
         }
+        if (cycleTask != null) {
+            logger.fine("[CopperOxidation] 이전 사이클 진행 중 - 이번 주기 스킵");
+            return;
+        }
         
-        int processed = 0;
-        int oxidized = 0;
+        for (Map.Entry<UUID, WorldPending> entry : pendingByWorld.entrySet()) {
+            UUID worldId = entry.getKey();
+            for (long chunkKey : entry.getValue().loadedChunks.toArray()) {
+                cycleQueue.add(new ChunkWork(worldId, chunkKey));
+            }
+        }
+        if (cycleQueue.isEmpty()) {
+            return;
+        }
         
+        cycleProcessed = 0;
+        cycleOxidized = 0;
+        cycleTask = Bukkit.getScheduler().runTaskTimer(plugin, this::processCycleTick, 1L, 1L);
+    }
+    
+    /**
+     * 틱당 예산만큼 청크 처리 (청크 내 블록 단위로도 중단/재개)
+     */
+    private void processCycleTick() {
+        long deadline = System.nanoTime() + config.getOxidationTickBudgetMs() * 1_000_000L;
         double oxidationChance = config.getOxidationChance();
         
-        // 산화 대기 블록 처리
-        Iterator<Long> iterator = oxidationPendingBlocks.iterator();
-        List<Long> toRemove = new ArrayList<>();
-        List<Block> toOxidize = new ArrayList<>();
-        
-        while (iterator.hasNext()) {
-            Long key = iterator.next();
-            Block block = blockFromKey(key);
+        ChunkWork work;
+        while ((work = cycleQueue.peekFirst()) != null) {
+            WorldPending state = pendingByWorld.get(work.worldId);
+            World world = Bukkit.getWorld(work.worldId);
+            int cx = (int) work.chunkKey;
+            int cz = (int) (work.chunkKey >> 32);
             
-            if (block == null || !block.getChunk().isLoaded()) {
-                toRemove.add(key);
+            // 그 사이 언로드된 청크는 다음 로드 때 처리
+            if (state == null || world == null || !world.isChunkLoaded(cx, cz)) {
+                cycleQueue.pollFirst();
                 continue;
             }
             
-            if (!isCopperBlock(block.getType())) {
-                toRemove.add(key);
-                continue;
+            if (work.blocks == null) {
+                ChunkBlockIndex.LongSet set = state.index.get(work.chunkKey);
+                work.blocks = set != null ? set.toArray() : new long[0];
             }
             
-            processed++;
-            
-            // 설정된 확률로 체크
-            if (ThreadLocalRandom.current().nextDouble() > oxidationChance) {
-                continue;
+            while (work.cursor < work.blocks.length) {
+                long blockKey = work.blocks[work.cursor++];
+                processPendingBlock(state, world, work.chunkKey, blockKey, oxidationChance);
+                
+                if ((work.cursor & 15) == 0 && System.nanoTime() >= deadline) {
+                    return;
+                }
             }
             
-            // 산화 가능 여부 체크
-            if (canOxidize(block)) {
-                toOxidize.add(block);
+            cycleQueue.pollFirst();
+            if (!state.index.containsChunk(work.chunkKey)) {
+                state.loadedChunks.remove(work.chunkKey);
             }
-            
-            toRemove.add(key);
+            if (System.nanoTime() >= deadline) {
+                return;
+            }
+        }
+        
+        if (cycleOxidized > 0) {
+            logger.info("[CopperOxidation] 산화 처리: " + cycleOxidized + "/" + cycleProcessed + " 블록");
+        }
+        stopCycle();
+    }
+    
+    /**
+     * 대기 블록 1개 처리 (기존 규칙 그대로: 확률 실패 시 대기 유지)
+     */
+    private void processPendingBlock(WorldPending state, World world, long chunkKey, long blockKey,
+                                     double oxidationChance) {
+        int x = Block.getBlockKeyX(blockKey);
+        int y = Block.getBlockKeyY(blockKey);
+        int z = Block.getBlockKeyZ(blockKey);
+        Block block = world.getBlockAt(x, y, z);
+        
+        if (!isCopperBlock(block.getType())) {
+            state.index.remove(chunkKey, blockKey);
+            return;
         }
         
-        // 제거
-        oxidationPendingBlocks.removeAll(toRemove);
+        cycleProcessed++;
         
-        // 산화 실행 (메인 스레드에서)
-        for (Block block : toOxidize) {
+        // 설정된 확률로 체크
+        if (ThreadLocalRandom.current().nextDouble() > oxidationChance) {
+            return;
+        }
+        
+        // 팜 억제 반경이 걸치는 청크가 모두 로드되어 있어야 판정 (동기 청크 로드 방지)
+        int radius = config.getFarmPreventionRadius();
+        if (!world.isChunkLoaded((x - radius) >> 4, (z - radius) >> 4)
+                || !world.isChunkLoaded((x + radius) >> 4, (z + radius) >> 4)
+                || !world.isChunkLoaded((x - radius) >> 4, (z + radius) >> 4)
+                || !world.isChunkLoaded((x + radius) >> 4, (z - radius) >> 4)) {
+            return;
+        }
+        
+        // 산화 가능 여부 체크 후 실행
+        if (canOxidize(block)) {
             oxidizeBlock(block);
-            oxidized++;
+            cycleOxidized++;
         }
         
-        if (oxidized > 0) {
-            logger.info("[CopperOxidation] 산화 처리: " + oxidized + "/" + processed + " 블록");
+        state.index.remove(chunkKey, blockKey);
+    }
+    
+    private void stopCycle() {
+        if (cycleTask != null) {
+            cycleTask.cancel();
+            cycleTask = null;
         }
+        cycleQueue.clear();
     }
 
     /**
@@ -348,28 +456,28 @@ public class CopperOxidationHandler implements Listener {
         return COPPER_OXIDATION_STAGE.containsKey(material);
     }
 
-    // ========== 블록 키 유틸리티 ==========
+    // ========== 대기 블록 인덱스 ==========
 
-    private long blockKey(Block block) {
-        return ((long) block.getX() & 0x3FFFFFF) << 38 |
-               ((long) block.getZ() & 0x3FFFFFF) << 12 |
-               ((long) block.getY() & 0xFFF);
+    /**
+     * 산화 대기 등록 (블록이 속한 청크는 이벤트 시점에 로드되어 있음)
+     */
+    private void addPending(Block block) {
+        World world = block.getWorld();
+        WorldPending state = pendingByWorld.computeIfAbsent(world.getUID(), id -> new WorldPending());
+        long chunkKey = Chunk.getChunkKey(block.getX() >> 4, block.getZ() >> 4);
+        state.index.add(chunkKey, block.getBlockKey());
+        state.loadedChunks.add(chunkKey);
     }
-
-    private Block blockFromKey(long key) {
-        int x = (int) (key >> 38);
-        int z = (int) ((key >> 12) & 0x3FFFFFF);
-        int y = (int) (key & 0xFFF);
-        
-        // Sign extension
-        if (x >= 0x2000000) x -= 0x4000000;
-        if (z >= 0x2000000) z -= 0x4000000;
-        
-        // 기본 월드에서 찾기 (TODO: 월드 정보도 저장 필요)
-        World world = Bukkit.getWorlds().get(0);
-        if (world == null) return null;
-        
-        return world.getBlockAt(x, y, z);
+    
+    /**
+     * 전체 대기 블록 수
+     */
+    public int getPendingCount() {
+        int total = 0;
+        for (WorldPending state : pendingByWorld.values()) {
+            total += state.index.blockCount();
+        }
+        return total;
     }
 
     /**
@@ -377,7 +485,7 @@ public class CopperOxidationHandler implements Listener {
      */
     public void registerForOxidation(Block block) {
         if (config.isOxidationEnabled() && isCopperBlock(block.getType())) {
-            oxidationPendingBlocks.add(blockKey(block));
+            addPending(block);
         }
     }
     
@@ -391,4 +499,30 @@ public class CopperOxidationHandler implements Listener {
                 config.getOxidationChance() * 100,
                 config.getFarmPreventionRadius());
     }
+
+    // ========== 내부 클래스 ==========
+    
+    /**
+     * 월드별 대기 상태
+     */
+    private static final class WorldPending {
+        final ChunkBlockIndex index = new ChunkBlockIndex();
+        // 대기 블록이 있으면서 현재 로드된 청크
+        final ChunkBlockIndex.LongSet loadedChunks = new ChunkBlockIndex.LongSet();
+    }
+    
+    /**
+     * 사이클 작업 단위 (청크 1개, 블록 커서로 틱 사이 재개)
+     */
+    private static final class ChunkWork {
+        final UUID worldId;
+        final long chunkKey;
+        long[] blocks;
+        int cursor;
+        
+        ChunkWork(UUID worldId, long chunkKey) {
+            this.worldId = worldId;
+            this.chunkKey = chunkKey;
+        }
+    }
 }
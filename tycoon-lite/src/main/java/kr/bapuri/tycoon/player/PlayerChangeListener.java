@@ -0,0 +1,29 @@
+package kr.bapuri.tycoon.player;
+
+import java.util.UUID;
+
+/**
+ * PlayerChangeListener - 플레이어 데이터 변경 알림 수신자
+ *
+ * PlayerDataManager.addChangeListener()로 등록하고,
+ * 각 서비스가 데이터를 바꾼 직후 PlayerDataManager.notifyChange()로 알린다.
+ *
+ * 주의: 비동기 스레드에서도 호출될 수 있으므로 구현은 가볍고 스레드 안전해야 한다.
+ * (캐시 무효화 정도만 수행하고 무거운 재계산은 조회 시점으로 미룬다)
+ */
+@FunctionalInterface
+public interface PlayerChangeListener {
+
+    /**
+     * 변경 종류
+     */
+    enum Kind {
+        ECONOMY,
+        JOB,
+        TITLE,
+        CODEX,
+        ACHIEVEMENT
+    }
+
+    void onPlayerChange(UUID uuid, Kind kind);
+}
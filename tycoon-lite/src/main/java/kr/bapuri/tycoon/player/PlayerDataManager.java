@@ -1,6 +1,7 @@
 package kr.bapuri.tycoon.player;
 
 import kr.bapuri.tycoon.admin.AdminService;
+import kr.bapuri.tycoon.codex.CodexBits;
 import kr.bapuri.tycoon.job.JobType;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -49,6 +50,9 @@ public class PlayerDataManager {
     
     // [Phase 2] 백업 매니저
     private BackupManager backupManager;
+    
+    // 데이터 변경 알림 수신자 (플레이스홀더 캐시 등)
+    private final List<PlayerChangeListener> changeListeners = new java.util.concurrent.CopyOnWriteArrayList<>();
 
     public PlayerDataManager(Plugin plugin) {
         this.plugin = plugin;
@@ -262,6 +266,14 @@ public class PlayerDataManager {
         return dataMap.containsKey(uuid);
     }
 
+    /**
+     * 캐시에 있는 데이터만 가져오기 (파일 로드 없음)
+     * @return 캐시에 없으면 null
+     */
+    public PlayerTycoonData getIfLoaded(UUID uuid) {
+        return dataMap.get(uuid);
+    }
+
     // ========== 오프라인 플레이어 전용 ==========
 
     /**
@@ -277,6 +289,94 @@ public class PlayerDataManager {
         return loadOrCreate(uuid);
     }
 
+    /**
+     * 디스크에서 세금 계산용 요약만 읽기 (읽기 전용)
+     *
+     * - 캐시(dataMap)에 추가하지 않음, 마이그레이션/저장 없음
+     * - 캐시에 로드된 플레이어는 디스크가 최신이 아니므로 null 반환
+     * - 비동기 스레드에서 호출 가능
+     *
+     * @return 요약 (파일 없음/로드됨/파싱 실패 시 null)
+     */
+    public PlayerSummary readSummary(UUID uuid) {
+        if (dataMap.containsKey(uuid)) {
+            return null;
+        }
+        File file = new File(dataFolder, uuid.toString() + ".yml");
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            YamlConfiguration c = YamlConfiguration.loadConfiguration(file);
+            if (c.getKeys(false).isEmpty()) {
+                return null;
+            }
+            return new PlayerSummary(uuid,
+                    c.getString("playerName", ""),
+                    c.getLong("economy.bd", c.getLong("money", 0L)),
+                    c.getLong("tax.intervalIncome", 0L),
+                    c.getLong("tax.lastOnlineTime", 0L));
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "[PlayerDataManager] 요약 읽기 실패: " + uuid, e);
+            return null;
+        }
+    }
+
+    /**
+     * 디스크 기준 플레이어 요약 (세금 계산 등 읽기 전용 용도)
+     */
+    public record PlayerSummary(UUID uuid, String playerName, long money,
+                                long intervalIncome, long lastOnlineTime) {}
+
+    /**
+     * 디스크에서 순위표용 통계 요약만 읽기 (읽기 전용)
+     *
+     * - readSummary()와 같은 규칙 (캐시된 플레이어는 null, 비동기 호출 가능)
+     * - 직업이 없으면 해당 티어 레벨은 0
+     *
+     * @return 요약 (파일 없음/로드됨/파싱 실패 시 null)
+     */
+    public PlayerStatsSummary readStatsSummary(UUID uuid) {
+        if (dataMap.containsKey(uuid)) {
+            return null;
+        }
+        File file = new File(dataFolder, uuid.toString() + ".yml");
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            YamlConfiguration c = YamlConfiguration.loadConfiguration(file);
+            if (c.getKeys(false).isEmpty()) {
+                return null;
+            }
+            List<String> codex = c.getStringList("codex.unlocked");
+            if (codex.isEmpty()) {
+                codex = c.getStringList("unlockedCodex");
+            }
+            String tier1JobId = c.getString("jobs.tier1.id");
+            String tier2JobId = c.getString("jobs.tier2.id");
+            return new PlayerStatsSummary(uuid,
+                    c.getString("playerName", ""),
+                    c.getLong("economy.bd", c.getLong("money", 0L)),
+                    c.getLong("economy.bottCoin", c.getLong("bottCoin", 0L)),
+                    c.getLong("economy.lifetimeEarned", 0L),
+                    tier1JobId != null && !tier1JobId.isEmpty() ? c.getInt("jobs.tier1.level", 1) : 0,
+                    tier2JobId != null && !tier2JobId.isEmpty() ? c.getInt("jobs.tier2.level", 1) : 0,
+                    codex.size(),
+                    c.getStringList("achievements.unlocked").size());
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "[PlayerDataManager] 통계 요약 읽기 실패: " + uuid, e);
+            return null;
+        }
+    }
+
+    /**
+     * 디스크 기준 순위표 통계 요약
+     */
+    public record PlayerStatsSummary(UUID uuid, String playerName, long money, long bottCoin,
+                                     long lifetimeEarned, int tier1JobLevel, int tier2JobLevel,
+                                     int codexCount, int achievementCount) {}
+
     /**
      * 오프라인 플레이어 데이터 저장 후 메모리에서 제거
      */
@@ -293,6 +393,29 @@ public class PlayerDataManager {
         }
     }
 
+    // ========== 변경 알림 ==========
+
+    /**
+     * 데이터 변경 알림 수신자 등록
+     */
+    public void addChangeListener(PlayerChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * 데이터 변경 알림 (서비스에서 값 변경 직후 호출, 스레드 무관)
+     */
+    public void notifyChange(UUID uuid, PlayerChangeListener.Kind kind) {
+        if (uuid == null) return;
+        for (PlayerChangeListener listener : changeListeners) {
+            try {
+                listener.onPlayerChange(uuid, kind);
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "[PlayerDataManager] 변경 알림 처리 오류: " + kind, e);
+            }
+        }
+    }
+
     // ========== 라이프사이클 ==========
 
     /**
@@ -438,7 +561,7 @@ public class PlayerDataManager {
         final long lifetimeSpent = data.getLifetimeSpent();
         // [5.2 Fix] recentTxnIds 사용
         final List<String> recentTxnIds = data.getRecentTxnIds();
-        final Set<String> codex = new HashSet<>(data.getUnlockedCodex());
+        final long[] codexBits = data.getCodexSnapshot();
         final Map<String, Long> cooldowns = new HashMap<>(data.getCooldowns());
         final Map<String, Integer> ticketConsumed = new HashMap<>(data.getTicketConsumed());
         
@@ -518,7 +641,7 @@ public class PlayerDataManager {
             c.set("economy.lastTxnId", recentTxnIds.isEmpty() ? "" : recentTxnIds.get(recentTxnIds.size() - 1));
             
             // 도감 데이터 (v2)
-            c.set("codex.unlocked", new ArrayList<>(codex));
+            c.set("codex.unlocked", CodexBits.toNames(codexBits));
             
             // 쿨다운 저장
             long now = System.currentTimeMillis();
@@ -712,7 +835,7 @@ public class PlayerDataManager {
         if (unlocked.isEmpty()) {
             unlocked = c.getStringList("unlockedCodex");
         }
-        data.getUnlockedCodex().addAll(unlocked);
+        data.loadUnlockedCodex(unlocked);
         
         // 도감 마일스톤/카테고리 보상
         List<Integer> milestones = c.getIntegerList("codex.claimedMilestones");
@@ -861,7 +984,7 @@ public class PlayerDataManager {
             if (unlocked.isEmpty()) {
                 unlocked = c.getStringList("unlockedCodex");
             }
-            data.getUnlockedCodex().addAll(unlocked);
+            data.loadUnlockedCodex(unlocked);
             
             // [Stage-11 FIX] 도감 마일스톤/카테고리 보상 수령 상태 로드
             List<Integer> milestones = c.getIntegerList("codex.claimedMilestones");
@@ -1101,7 +1224,7 @@ public class PlayerDataManager {
         c.set("economy.lastTxnId", recentTxnIds.isEmpty() ? "" : recentTxnIds.get(recentTxnIds.size() - 1));
         
         // 도감 데이터 (v2 구조)
-        c.set("codex.unlocked", new ArrayList<>(data.getUnlockedCodex()));
+        c.set("codex.unlocked", CodexBits.toNames(data.getCodexSnapshot()));
         
         // [Stage-11 FIX] 도감 마일스톤/카테고리 보상 수령 상태 저장
         c.set("codex.claimedMilestones", new ArrayList<>(data.getClaimedCodexMilestones()));
@@ -1297,6 +1420,7 @@ public class PlayerDataManager {
             data.setMoney(0);
             data.setBottCoin(0);
             // [DROP] clearGarnishDebt 제거됨 (Phase 1.5)
+            notifyChange(data.getUuid(), PlayerChangeListener.Kind.ECONOMY);
             count++;
         }
         
@@ -1,6 +1,7 @@
 package kr.bapuri.tycoon.player;
 
 import kr.bapuri.tycoon.TycoonPlugin;
+import kr.bapuri.tycoon.job.JobRegistry;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -8,7 +9,6 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.plugin.Plugin;
 
 import java.util.logging.Logger;
 
@@ -20,11 +20,11 @@ import java.util.logging.Logger;
  */
 public class PlayerSessionListener implements Listener {
 
-    private final Plugin plugin;
+    private final TycoonPlugin plugin;
     private final PlayerDataManager playerDataManager;
     private final Logger logger;
 
-    public PlayerSessionListener(Plugin plugin, PlayerDataManager playerDataManager) {
+    public PlayerSessionListener(TycoonPlugin plugin, PlayerDataManager playerDataManager) {
         this.plugin = plugin;
         this.playerDataManager = playerDataManager;
         this.logger = Logger.getLogger("TycoonLite.PlayerSession");
@@ -53,11 +53,18 @@ public class PlayerSessionListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
         
+        // 대기 중인 직업 경험치를 언로드 전에 반영
+        // (리스너가 직업 시스템보다 먼저 등록되므로 퇴장 시점에 조회)
+        JobRegistry jobRegistry = plugin.getServices() != null ? plugin.getServices().getJobRegistry() : null;
+        if (jobRegistry != null) {
+            jobRegistry.flushPendingExp(player.getUniqueId());
+        }
+        
         // 비동기로 저장 후 언로드
         playerDataManager.saveAndUnload(player.getUniqueId());
         
         // 세션 기반 효과 메시지 설정 정리
-        kr.bapuri.tycoon.TycoonPlugin.getInstance().clearEffectMsgSetting(player.getUniqueId());
+        plugin.clearEffectMsgSetting(player.getUniqueId());
         
         logger.info("[Quit] " + player.getName() + " 데이터 저장 완료");
     }
@@ -1,11 +1,15 @@
 package kr.bapuri.tycoon.player;
 
+import kr.bapuri.tycoon.codex.CodexBits;
+import kr.bapuri.tycoon.codex.CodexIndex;
+import kr.bapuri.tycoon.codex.CodexProgress;
 import kr.bapuri.tycoon.job.JobData;
 import kr.bapuri.tycoon.job.JobType;
 import org.bukkit.Location;
 import org.bukkit.Material;
 
 import java.util.HashMap;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -52,7 +56,10 @@ public class PlayerTycoonData {
     @Deprecated private String lastTxnId = "";  // 하위 호환용 (마이그레이션)
     
     // ===== 도감 =====
-    private final Set<String> unlockedCodex = new HashSet<>();
+    // CodexIndex 번호 기준 비트셋 (저장은 이름 목록)
+    private final CodexBits unlockedCodex = new CodexBits();
+    // 카테고리별 등록 수 집계 (저장 안 함, CodexService.getProgress()에서 생성)
+    private transient CodexProgress codexProgress;
     
     // [Stage-11] 도감 마일스톤/카테고리 보상
     private final Set<Integer> claimedCodexMilestones = new HashSet<>();  // 수령한 마일스톤 (10, 25, 50...)
@@ -493,20 +500,63 @@ public class PlayerTycoonData {
 
     // ===== 도감 (Codex) =====
     
+    /**
+     * 등록된 아이템 이름 (읽기 전용 복사본 - 표시/전송용)
+     * 등록 여부/개수는 isCodexUnlocked(), getCodexCount() 사용
+     */
     public Set<String> getUnlockedCodex() {
-        return unlockedCodex;
+        return new HashSet<>(CodexBits.toNames(unlockedCodex.snapshot()));
+    }
+
+    /**
+     * 저장용 비트 스냅샷 (CodexBits.toNames()로 이름 변환)
+     */
+    public long[] getCodexSnapshot() {
+        return unlockedCodex.snapshot();
+    }
+
+    /**
+     * 저장된 이름 목록 로드 (codex.unlocked)
+     */
+    public void loadUnlockedCodex(Collection<String> materialNames) {
+        for (String name : materialNames) {
+            unlockedCodex.set(CodexIndex.ordinalOf(name));
+        }
+        codexProgress = null;
+    }
+
+    public CodexProgress getCodexProgress() {
+        return codexProgress;
+    }
+
+    public void setCodexProgress(CodexProgress codexProgress) {
+        this.codexProgress = codexProgress;
     }
 
     public int getCodexCount() {
-        return unlockedCodex.size();
+        return unlockedCodex.cardinality();
+    }
+
+    /**
+     * 마스크(CodexRegistry 카테고리 마스크) 중 등록된 개수
+     */
+    public int countCodexIn(long[] mask) {
+        return unlockedCodex.countIn(mask);
+    }
+
+    /**
+     * 마스크 전체 등록 여부
+     */
+    public boolean hasAllCodex(long[] mask) {
+        return unlockedCodex.containsAll(mask);
     }
 
     public boolean isCodexUnlocked(Material mat) {
-        return unlockedCodex.contains(mat.name());
+        return isCodexUnlocked(mat.name());
     }
 
     public boolean isCodexUnlocked(String materialName) {
-        return unlockedCodex.contains(materialName);
+        return unlockedCodex.get(CodexIndex.find(materialName));
     }
 
     /**
@@ -514,14 +564,21 @@ public class PlayerTycoonData {
      * @return true if newly unlocked, false if already unlocked
      */
     public boolean unlockCodex(Material mat) {
-        return unlockedCodex.add(mat.name());
+        int ordinal = CodexIndex.ordinalOf(mat.name());
+        if (!unlockedCodex.set(ordinal)) {
+            return false;
+        }
+        if (codexProgress != null) {
+            codexProgress.onUnlocked(ordinal);
+        }
+        return true;
     }
 
     /**
      * 도감 등록 여부와 관계없이 강제 등록 (이미 등록되어 있어도 true 반환)
      */
     public void forceUnlockCodex(Material mat) {
-        unlockedCodex.add(mat.name());
+        unlockCodex(mat);
     }
 
     /**
@@ -529,16 +586,24 @@ public class PlayerTycoonData {
      * @return true if was unlocked, false if wasn't registered
      */
     public boolean lockCodex(Material mat) {
-        return unlockedCodex.remove(mat.name());
+        int ordinal = CodexIndex.find(mat.name());
+        if (!unlockedCodex.clear(ordinal)) {
+            return false;
+        }
+        if (codexProgress != null) {
+            codexProgress.onLocked(ordinal);
+        }
+        return true;
     }
 
     /**
      * 도감 전체 초기화 (등록 항목 + 마일스톤/카테고리 보상 수령 상태)
      */
     public void resetCodex() {
-        unlockedCodex.clear();
+        unlockedCodex.clearAll();
         claimedCodexMilestones.clear();
         claimedCodexCategories.clear();
+        codexProgress = null;
     }
 
     // ===== [Stage-11] 도감 마일스톤/카테고리 보상 =====
@@ -555,7 +620,13 @@ public class PlayerTycoonData {
      * @return true if newly claimed
      */
     public boolean claimCodexMilestone(int milestone) {
-        return claimedCodexMilestones.add(milestone);
+        if (!claimedCodexMilestones.add(milestone)) {
+            return false;
+        }
+        if (codexProgress != null) {
+            codexProgress.invalidateMilestone();
+        }
+        return true;
     }
     
     /**
@@ -609,6 +680,9 @@ public class PlayerTycoonData {
      */
     public void resetClaimedMilestones() {
         claimedCodexMilestones.clear();
+        if (codexProgress != null) {
+            codexProgress.invalidateMilestone();
+        }
     }
 
     // ===== [Stage-11] 칭호 시스템 =====
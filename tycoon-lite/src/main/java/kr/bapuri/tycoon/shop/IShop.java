@@ -90,6 +90,18 @@ public interface IShop {
         return getBuyPrice(item);  // 기본 구현: 레벨 보너스 없음
     }
     
+    /**
+     * 플레이어별 가격 구간 키 (GUI 템플릿 캐시용)
+     * 
+     * <p>같은 키를 가진 플레이어는 모든 아이템의 플레이어별 가격이 같아야 합니다.</p>
+     * 
+     * @param player 조회 대상
+     * @return 가격에 영향을 주는 값 (예: 직업 레벨), 플레이어와 무관하면 0
+     */
+    default int getPriceBonusKey(Player player) {
+        return 0;  // 기본 구현: 레벨 보너스 없음
+    }
+    
     /**
      * 구매 가능 여부 확인
      * 
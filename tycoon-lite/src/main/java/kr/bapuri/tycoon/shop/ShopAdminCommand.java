@@ -1,5 +1,7 @@
 package kr.bapuri.tycoon.shop;
 
+import kr.bapuri.tycoon.shop.price.DynamicPriceTracker;
+import kr.bapuri.tycoon.shop.price.PriceHistoryStore;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -7,6 +9,9 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -24,6 +29,7 @@ import java.util.stream.Collectors;
  *   <li>/shopadmin list - 상점 목록 보기</li>
  *   <li>/shopadmin reload - 설정 다시 로드</li>
  *   <li>/shopadmin info [shopId] - 상점 정보 보기</li>
+ *   <li>/shopadmin history &lt;item&gt; [minute|hour|day] [count] - 가격 이력 보기</li>
  * </ul>
  * 
  * <h2>권한</h2>
@@ -33,6 +39,10 @@ public class ShopAdminCommand implements CommandExecutor, TabCompleter {
     
     private static final Logger LOGGER = Logger.getLogger("Tycoon.ShopAdmin");
     private static final String PERMISSION = "tycoon.admin.shop";
+    private static final int HISTORY_DEFAULT_COUNT = 12;
+    private static final int HISTORY_MAX_COUNT = 48;
+    private static final DateTimeFormatter HISTORY_TIME_FORMAT = 
+            DateTimeFormatter.ofPattern("MM-dd HH:mm").withZone(ZoneId.systemDefault());
     
     private final ShopService shopService;
     
@@ -59,6 +69,7 @@ public class ShopAdminCommand implements CommandExecutor, TabCompleter {
             case "list" -> handleList(sender);
             case "reload" -> handleReload(sender);
             case "info" -> handleInfo(sender, args);
+            case "history" -> handleHistory(sender, args);
             default -> sendHelp(sender);
         }
         
@@ -190,12 +201,72 @@ public class ShopAdminCommand implements CommandExecutor, TabCompleter {
         }
     }
     
+    /**
+     * /shopadmin history <item> [minute|hour|day] [count]
+     */
+    private void handleHistory(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage("§c사용법: /shopadmin history <item> [minute|hour|day] [count]");
+            return;
+        }
+        
+        DynamicPriceTracker tracker = shopService.getPriceTracker();
+        PriceHistoryStore store = tracker != null ? tracker.getHistoryStore() : null;
+        if (store == null) {
+            sender.sendMessage("§c가격 이력이 비활성화되어 있습니다. (dynamicPrice.history.enabled)");
+            return;
+        }
+        
+        String itemId = args[1].toLowerCase();
+        if (!tracker.isRegistered(itemId)) {
+            sender.sendMessage("§c동적 가격 대상이 아닌 아이템: " + args[1]);
+            return;
+        }
+        
+        PriceHistoryStore.Resolution resolution = PriceHistoryStore.Resolution.HOUR;
+        if (args.length >= 3) {
+            resolution = PriceHistoryStore.Resolution.fromId(args[2]);
+            if (resolution == null) {
+                sender.sendMessage("§c해상도는 minute, hour, day 중 하나입니다.");
+                return;
+            }
+        }
+        
+        int count = HISTORY_DEFAULT_COUNT;
+        if (args.length >= 4) {
+            try {
+                count = Math.max(1, Math.min(HISTORY_MAX_COUNT, Integer.parseInt(args[3])));
+            } catch (NumberFormatException e) {
+                sender.sendMessage("§c숫자를 입력하세요: " + args[3]);
+                return;
+            }
+        }
+        
+        final PriceHistoryStore.Resolution res = resolution;
+        store.queryRecent(itemId, res, count).thenAccept(points -> 
+            Bukkit.getScheduler().runTask(shopService.getPlugin(), () -> {
+                sender.sendMessage("§e=== " + itemId + " 가격 이력 (" + res.getId() + ") ===");
+                if (points.isEmpty()) {
+                    sender.sendMessage("§7기록된 이력이 없습니다.");
+                    return;
+                }
+                sender.sendMessage("§7시각 | 구매가(고/저) | 판매가 | 거래량(구매/판매)");
+                for (PriceHistoryStore.PricePoint p : points) {
+                    sender.sendMessage(String.format("§f%s §7| §a%,d §8(%,d/%,d) §7| §6%,d §7| §f%.0f/%.0f",
+                            HISTORY_TIME_FORMAT.format(Instant.ofEpochMilli(p.time())),
+                            p.buyClose(), p.buyHigh(), p.buyLow(), p.sellClose(),
+                            p.buyVolume(), p.sellVolume()));
+                }
+            }));
+    }
+    
     private void sendHelp(CommandSender sender) {
         sender.sendMessage("§e=== /shopadmin 도움말 ===");
         sender.sendMessage("§f/shopadmin open <shopId> [player] §7- 상점 GUI 열기");
         sender.sendMessage("§f/shopadmin list §7- 상점 목록");
         sender.sendMessage("§f/shopadmin info <shopId> §7- 상점 정보");
         sender.sendMessage("§f/shopadmin reload §7- 설정 다시 로드");
+        sender.sendMessage("§f/shopadmin history <item> [minute|hour|day] [count] §7- 가격 이력");
     }
     
     @Override
@@ -207,7 +278,7 @@ public class ShopAdminCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
         
         if (args.length == 1) {
-            completions.addAll(Arrays.asList("open", "list", "info", "reload"));
+            completions.addAll(Arrays.asList("open", "list", "info", "reload", "history"));
         } else if (args.length == 2) {
             String sub = args[0].toLowerCase();
             if (sub.equals("open") || sub.equals("info")) {
@@ -216,6 +287,10 @@ public class ShopAdminCommand implements CommandExecutor, TabCompleter {
                         .map(IShop::getShopId)
                         .collect(Collectors.toList()));
             }
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("history")) {
+            for (PriceHistoryStore.Resolution r : PriceHistoryStore.Resolution.values()) {
+                completions.add(r.getId());
+            }
         } else if (args.length == 3 && args[0].equalsIgnoreCase("open")) {
             // 플레이어 이름 자동완성
             completions.addAll(Bukkit.getOnlinePlayers().stream()
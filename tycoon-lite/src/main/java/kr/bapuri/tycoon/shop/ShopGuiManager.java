@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.shop;
 
+import kr.bapuri.tycoon.shop.price.DynamicPriceTracker;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -36,6 +37,11 @@ import java.util.logging.Logger;
  * 
  * <h2>pendingActions 타임아웃</h2>
  * 30초 후 자동 정리로 메모리 누수 방지
+ * 
+ * <h2>표시 아이템 템플릿</h2>
+ * (상점, 아이템, 가격 보너스 구간)별로 완성된 ItemStack을 보관하고 가격 스냅샷 버전이
+ * 바뀌었을 때만 가격을 다시 계산한다. 표시 가격이 그대로면 기존 템플릿을 유지하므로
+ * 새로고침 시 직전 화면과 달라진 슬롯만 다시 전송된다.
  */
 public class ShopGuiManager implements Listener {
     
@@ -51,12 +57,18 @@ public class ShopGuiManager implements Listener {
     // 열린 상점 GUI 추적 (UUID -> ShopSession)
     private final Map<UUID, ShopSession> openSessions = new ConcurrentHashMap<>();
     
+    // 표시 아이템 템플릿 (메인 스레드 전용)
+    private static final int MAX_TEMPLATES = 4096;
+    private final Map<TemplateKey, DisplayTemplate> templates = new HashMap<>();
+    private final ItemStack helpItem;
+    
     // 정리 태스크
     private BukkitTask cleanupTask;
     
     public ShopGuiManager(Plugin plugin, ShopService shopService) {
         this.plugin = plugin;
         this.shopService = shopService;
+        this.helpItem = createHelpItem();
         
         // 이벤트 리스너 등록
         Bukkit.getPluginManager().registerEvents(this, plugin);
@@ -85,19 +97,22 @@ public class ShopGuiManager implements Listener {
         
         // 아이템 배치 [Fix] 플레이어별 레벨 보너스 가격 표시
         List<ShopItem> items = shop.getItems();
+        ShopSession session = new ShopSession(shop.getShopId(), items);
+        DynamicPriceTracker.PriceSnapshot prices = getPriceSnapshot();
+        int bonusKey = shop.getPriceBonusKey(player);
         int slot = 0;
         for (ShopItem shopItem : items) {
             if (slot >= GUI_SIZE - 9) break; // 마지막 줄은 도움말용
             
-            ItemStack display = createDisplayItem(player, shopItem, shop);
-            gui.setItem(slot++, display);
+            ItemStack display = getDisplayItem(player, shopItem, shop, prices, bonusKey);
+            gui.setItem(slot, display.clone());
+            session.shown[slot++] = display;
         }
         
         // 도움말 아이템 (마지막 줄)
-        gui.setItem(GUI_SIZE - 5, createHelpItem());
+        gui.setItem(GUI_SIZE - 5, helpItem.clone());
         
         // 세션 등록
-        ShopSession session = new ShopSession(shop.getShopId(), items);
         openSessions.put(player.getUniqueId(), session);
         
         // GUI 열기
@@ -106,11 +121,85 @@ public class ShopGuiManager implements Listener {
     }
     
     /**
-     * 표시용 아이템 생성
-     * [Fix] 플레이어 파라미터 추가 - 레벨 보너스 적용 가격 표시
+     * 현재 동적 가격 스냅샷 (동적 가격 미사용 시 null)
+     * 한 화면을 그리는 동안 같은 스냅샷을 사용해 갱신 주기가 섞이지 않게 함
+     */
+    private DynamicPriceTracker.PriceSnapshot getPriceSnapshot() {
+        DynamicPriceTracker tracker = shopService.getPriceTracker();
+        return tracker != null ? tracker.getSnapshot() : null;
+    }
+    
+    /**
+     * 표시용 아이템 조회 (템플릿 캐시)
+     * 
+     * 같은 가격 스냅샷 버전이면 캐시된 템플릿을 그대로 반환하고,
+     * 버전이 바뀌어도 표시 가격이 같으면 기존 템플릿 인스턴스를 유지한다.
+     */
+    private ItemStack getDisplayItem(Player player, ShopItem shopItem, IShop shop,
+                                     DynamicPriceTracker.PriceSnapshot prices, int bonusKey) {
+        long priceVersion = prices != null ? prices.getVersion() : -1L;
+        TemplateKey key = new TemplateKey(shop.getShopId(), shopItem.getMaterial(), bonusKey);
+        DisplayTemplate cached = templates.get(key);
+        if (cached != null && cached.priceVersion() == priceVersion) {
+            return cached.item();
+        }
+        
+        DisplayPrices displayPrices = computeDisplayPrices(player, shopItem, shop, prices);
+        ItemStack item = cached != null && cached.prices().equals(displayPrices)
+                ? cached.item()
+                : createDisplayItem(shopItem.getMaterial(), displayPrices);
+        
+        if (cached == null && templates.size() >= MAX_TEMPLATES) {
+            templates.clear();
+        }
+        templates.put(key, new DisplayTemplate(priceVersion, displayPrices, item));
+        return item;
+    }
+    
+    /**
+     * 표시 가격 계산
+     * [Fix] 플레이어별 레벨 보너스 적용 가격 + 비교용 기준가
      */
-    private ItemStack createDisplayItem(Player player, ShopItem shopItem, IShop shop) {
+    private DisplayPrices computeDisplayPrices(Player player, ShopItem shopItem, IShop shop,
+                                               DynamicPriceTracker.PriceSnapshot prices) {
         Material material = shopItem.getMaterial();
+        long buyPrice = -1;
+        long baseBuyPrice = -1;
+        long sellPrice = -1;
+        long baseSellPrice = -1;
+        
+        if (shopItem.canBuy()) {
+            // [Fix] 플레이어별 레벨 보너스 적용 가격 조회
+            buyPrice = shop.getBuyPrice(player, new ItemStack(material));
+            
+            // 기본 가격과 비교하여 보너스 표시
+            baseBuyPrice = shopItem.getBaseBuyPrice();
+            if (prices != null) {
+                long dynamic = prices.getBuyPrice(material.name());
+                if (dynamic > 0) baseBuyPrice = dynamic;
+            }
+        }
+        
+        if (shopItem.canSell()) {
+            // [Fix] 플레이어별 레벨 보너스 적용 가격 조회
+            sellPrice = shop.getSellPrice(player, new ItemStack(material));
+            
+            // 기본 가격과 비교하여 보너스 표시
+            baseSellPrice = shopItem.getBaseSellPrice();
+            if (prices != null) {
+                long dynamic = shopService.getPriceTracker().getSellPrice(prices, material.name());
+                if (dynamic > 0) baseSellPrice = dynamic;
+            }
+        }
+        
+        return new DisplayPrices(shopItem.canBuy(), buyPrice, baseBuyPrice,
+                shopItem.canSell(), sellPrice, baseSellPrice);
+    }
+    
+    /**
+     * 표시용 아이템 생성
+     */
+    private ItemStack createDisplayItem(Material material, DisplayPrices displayPrices) {
         ItemStack display = new ItemStack(material);
         ItemMeta meta = display.getItemMeta();
         
@@ -122,18 +211,9 @@ public class ShopGuiManager implements Listener {
             List<String> lore = new ArrayList<>();
             lore.add("");
             
-            if (shopItem.canBuy()) {
-                // [Fix] 플레이어별 레벨 보너스 적용 가격 조회
-                ItemStack tempBuyItem = new ItemStack(material);
-                long buyPrice = shop.getBuyPrice(player, tempBuyItem);
-                
-                // 기본 가격과 비교하여 보너스 표시
-                long baseBuyPrice = shopItem.getBaseBuyPrice();
-                if (shopService.getPriceTracker() != null) {
-                    long dynamic = shopService.getPriceTracker().getBuyPrice(material.name());
-                    if (dynamic > 0) baseBuyPrice = dynamic;
-                }
-                
+            if (displayPrices.canBuy()) {
+                long buyPrice = displayPrices.buyPrice();
+                long baseBuyPrice = displayPrices.baseBuyPrice();
                 if (buyPrice > baseBuyPrice) {
                     // 레벨 보너스가 적용된 경우
                     lore.add(String.format("§a구매가: §f%s BD §c(+%d%%)", 
@@ -146,18 +226,9 @@ public class ShopGuiManager implements Listener {
                 lore.add("§7구매 불가");
             }
             
-            if (shopItem.canSell()) {
-                // [Fix] 플레이어별 레벨 보너스 적용 가격 조회
-                ItemStack tempItem = new ItemStack(material);
-                long sellPrice = shop.getSellPrice(player, tempItem);
-                
-                // 기본 가격과 비교하여 보너스 표시
-                long basePrice = shopItem.getBaseSellPrice();
-                if (shopService.getPriceTracker() != null) {
-                    long dynamic = shopService.getPriceTracker().getSellPrice(material.name());
-                    if (dynamic > 0) basePrice = dynamic;
-                }
-                
+            if (displayPrices.canSell()) {
+                long sellPrice = displayPrices.sellPrice();
+                long basePrice = displayPrices.baseSellPrice();
                 if (sellPrice > basePrice) {
                     // 레벨 보너스가 적용된 경우
                     lore.add(String.format("§c판매가: §f%s BD §a(+%d%%)", 
@@ -471,16 +542,24 @@ public class ShopGuiManager implements Listener {
     /**
      * GUI 새로고침
      * [Fix] 플레이어별 레벨 보너스 가격 표시
+     * 
+     * 직전에 보낸 아이템과 달라진 슬롯만 다시 설정 (템플릿 재사용 시 참조 비교로 끝남)
      */
     private void refreshGui(Player player, ShopSession session) {
         IShop shop = shopService.getShop(session.shopId);
         if (shop == null) return;
         
         Inventory inv = player.getOpenInventory().getTopInventory();
+        DynamicPriceTracker.PriceSnapshot prices = getPriceSnapshot();
+        int bonusKey = shop.getPriceBonusKey(player);
         for (int i = 0; i < session.items.size() && i < GUI_SIZE - 9; i++) {
             ShopItem shopItem = session.items.get(i);
-            if (shopItem != null) {
-                inv.setItem(i, createDisplayItem(player, shopItem, shop));
+            if (shopItem == null) continue;
+            
+            ItemStack display = getDisplayItem(player, shopItem, shop, prices, bonusKey);
+            if (!Objects.equals(display, session.shown[i])) {
+                inv.setItem(i, display.clone());
+                session.shown[i] = display;
             }
         }
     }
@@ -503,6 +582,7 @@ public class ShopGuiManager implements Listener {
             }
         }
         openSessions.clear();
+        templates.clear(); // 상점 설정(고정 가격, 보너스율)이 바뀌었을 수 있음
         LOGGER.info("[ShopGuiManager] 모든 상점 GUI 닫힘 (리로드)");
     }
     
@@ -547,6 +627,7 @@ public class ShopGuiManager implements Listener {
             cleanupTask.cancel();
         }
         openSessions.clear();
+        templates.clear();
         LOGGER.info("[ShopGuiManager] 종료됨");
     }
     
@@ -556,6 +637,7 @@ public class ShopGuiManager implements Listener {
         final String shopId;
         final List<ShopItem> items;
         final long createdAt;
+        final ItemStack[] shown = new ItemStack[GUI_SIZE - 9]; // 슬롯별 마지막 전송 템플릿
         
         ShopSession(String shopId, List<ShopItem> items) {
             this.shopId = shopId;
@@ -563,4 +645,20 @@ public class ShopGuiManager implements Listener {
             this.createdAt = System.currentTimeMillis();
         }
     }
+    
+    /**
+     * 템플릿 키 - 보너스 구간이 같으면 플레이어가 달라도 표시 가격이 같음
+     */
+    private record TemplateKey(String shopId, Material material, int bonusKey) {
+    }
+    
+    /**
+     * 표시 가격 (구매/판매 불가면 해당 가격 -1)
+     */
+    private record DisplayPrices(boolean canBuy, long buyPrice, long baseBuyPrice,
+                                 boolean canSell, long sellPrice, long baseSellPrice) {
+    }
+    
+    private record DisplayTemplate(long priceVersion, DisplayPrices prices, ItemStack item) {
+    }
 }
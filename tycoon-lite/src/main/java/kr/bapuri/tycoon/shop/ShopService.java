@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.shop;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import kr.bapuri.tycoon.economy.EconomyService;
 import kr.bapuri.tycoon.shop.price.DynamicPriceTracker;
 import org.bukkit.configuration.ConfigurationSection;
@@ -56,7 +57,7 @@ public class ShopService {
     
     // 설정 파일
     private final File shopsFile;
-    private YamlConfiguration shopsConfig;
+    private volatile YamlConfiguration shopsConfig;
     
     public ShopService(Plugin plugin, EconomyService economyService) {
         this.plugin = plugin;
@@ -79,7 +80,7 @@ public class ShopService {
             // 기본 설정 파일 복사
             plugin.saveResource("shops.yml", false);
         }
-        shopsConfig = YamlConfiguration.loadConfiguration(shopsFile);
+        shopsConfig = YamlPrefetcher.load(shopsFile);
         logger.info("[ShopService] shops.yml 로드됨");
     }
     
@@ -384,13 +385,32 @@ public class ShopService {
      * @return 성공한 상점 수, 실패한 상점 수를 담은 배열 [success, failed]
      */
     public int[] reload() {
+        return reload(prepareReload());
+    }
+    
+    /**
+     * shops.yml 파싱만 수행 (비동기 스레드에서 호출 가능, 현재 설정에 영향 없음)
+     */
+    public YamlConfiguration prepareReload() {
+        return YamlPrefetcher.load(shopsFile);
+    }
+    
+    /**
+     * 미리 파싱한 shops.yml 적용 (메인 스레드)
+     * 
+     * <p>설정 참조를 교체한 뒤 각 상점이 자기 섹션을 다시 읽습니다.
+     * 상점 거래/GUI도 메인 스레드이므로 적용 도중의 상태를 보지 않습니다.</p>
+     * 
+     * @return 성공한 상점 수, 실패한 상점 수를 담은 배열 [success, failed]
+     */
+    public int[] reload(YamlConfiguration prepared) {
         // 열린 상점 GUI 모두 닫기 (오래된 가격 표시 방지)
         if (guiManager != null) {
             guiManager.closeAllShops();
         }
         
-        // 설정 파일 다시 로드
-        shopsConfig = YamlConfiguration.loadConfiguration(shopsFile);
+        // 설정 교체
+        shopsConfig = prepared;
         
         int successCount = 0;
         int failedCount = 0;
@@ -393,6 +393,17 @@ public abstract class JobShop extends AbstractShop {
         return Math.round(basePrice * multiplier);
     }
     
+    /**
+     * 레벨 보너스 구간 (직업 없음 = 0, 레벨 0과 배율 동일)
+     */
+    @Override
+    public int getPriceBonusKey(Player player) {
+        if (player == null || expService == null || !expService.hasJob(player)) {
+            return 0;
+        }
+        return expService.getLevel(player);
+    }
+    
     @Override
     public boolean canBuy(Player player, ItemStack item) {
         if (item == null) return false;
@@ -261,6 +261,14 @@ public abstract class MarketShop extends AbstractShop {
     
     // ========== IShop 구현 ==========
     
+    /**
+     * 레벨 보너스 구간 (보유 직업 최고 레벨)
+     */
+    @Override
+    public int getPriceBonusKey(Player player) {
+        return Math.max(0, getPlayerLevel(player));
+    }
+    
     @Override
     public long getBuyPrice(ItemStack item) {
         if (item == null) return -1;
@@ -10,6 +10,8 @@ import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 /**
@@ -33,6 +35,7 @@ import java.util.logging.Logger;
  * </pre>
  * 
  * @see ManipulationGuard
+ * @see PriceHistoryStore
  */
 public class DynamicPriceTracker {
     
@@ -45,8 +48,15 @@ public class DynamicPriceTracker {
     private double maxChangePerCycle = 0.10;    // 주기당 ±10% (dynamicPrice.maxChangePerUpdate)
     private double minSellSpread = 0.50;        // 역전 방지 (dynamicPrice.sellSpreadRatio)
     
+    /** 거래량 고정소수점 배율 (영향력 가중치 소수점 셋째 자리까지 보존) */
+    private static final long VOLUME_SCALE = 1000L;
+    
     private final Plugin plugin;
-    private final Map<String, ItemPriceData> priceData = new ConcurrentHashMap<>();
+    
+    // [동시성] 읽기: snapshot.get() 한 번 (wait-free)
+    //          쓰기: 등록/로드/갱신 결과 게시는 writeLock으로 직렬화 후 원자적 교체
+    private final AtomicReference<PriceSnapshot> snapshot = new AtomicReference<>(PriceSnapshot.EMPTY);
+    private final Object writeLock = new Object();
     private final Map<String, TradeVolume> currentCycleVolume = new ConcurrentHashMap<>();
     
     private int updateIntervalMinutes = 10;
@@ -55,14 +65,20 @@ public class DynamicPriceTracker {
     // 시장 조작 방지
     private ManipulationGuard manipulationGuard;
     
+    // 가격 이력 (비활성화 시 null)
+    private PriceHistoryStore historyStore;
+    
     // [TODO] 글로벌 인플레이션 배율 (EconomyMetricsService 연동)
-    private double globalSellMultiplier = 1.0;
+    private volatile double globalSellMultiplier = 1.0;
     
     public DynamicPriceTracker(Plugin plugin) {
         this.plugin = plugin;
         this.manipulationGuard = new ManipulationGuard(plugin);
         
         loadConfig();
+        if (plugin.getConfig().getBoolean("dynamicPrice.history.enabled", true)) {
+            this.historyStore = new PriceHistoryStore(plugin);
+        }
         logger.info("[DynamicPriceTracker] 초기화 완료 (주기: " + updateIntervalMinutes + "분)");
     }
     
@@ -99,13 +115,17 @@ public class DynamicPriceTracker {
     
     /**
      * 아이템 가격 데이터 등록
+     * 이미 등록된 아이템이면 기준가와 현재가를 초기값으로 되돌림 (리로드 후 load()로 복원)
      */
     public void registerItem(String itemId, long basePrice, long minPrice, long maxPrice) {
         String id = itemId.toLowerCase();
         long initialSellPrice = (long)(basePrice * minSellSpread);
-        ItemPriceData data = new ItemPriceData(id, basePrice, minPrice, maxPrice, initialSellPrice);
-        priceData.put(id, data);
-        currentCycleVolume.put(id, new TradeVolume());
+        ItemPriceData data = new ItemPriceData(id, basePrice, minPrice, maxPrice);
+        
+        synchronized (writeLock) {
+            snapshot.set(snapshot.get().withItem(data, basePrice, initialSellPrice));
+            currentCycleVolume.put(id, new TradeVolume());
+        }
         logger.fine("[DynamicPrice] 아이템 등록: " + itemId + " (base=" + basePrice + ")");
     }
     
@@ -113,7 +133,7 @@ public class DynamicPriceTracker {
      * 아이템 등록 여부
      */
     public boolean isRegistered(String itemId) {
-        return priceData.containsKey(itemId.toLowerCase());
+        return snapshot.get().indexOf(itemId.toLowerCase()) >= 0;
     }
     
     // ========== 거래 기록 ==========
@@ -156,13 +176,21 @@ public class DynamicPriceTracker {
     
     // ========== 가격 조회 ==========
     
+    /**
+     * 현재 가격 스냅샷 (불변)
+     * 
+     * <p>GUI 한 화면을 그릴 때 한 번 가져와서 재사용하면
+     * 모든 아이템이 같은 갱신 주기의 가격으로 표시됩니다.</p>
+     */
+    public PriceSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+    
     /**
      * 현재 구매가 조회 (플레이어가 NPC에서 살 때)
      */
     public long getBuyPrice(String itemId) {
-        ItemPriceData data = priceData.get(itemId.toLowerCase());
-        if (data == null) return -1L;
-        return data.currentBuyPrice;
+        return snapshot.get().getBuyPrice(itemId);
     }
     
     /**
@@ -170,11 +198,18 @@ public class DynamicPriceTracker {
      * [TODO] 글로벌 인플레이션 배율 적용
      */
     public long getSellPrice(String itemId) {
-        ItemPriceData data = priceData.get(itemId.toLowerCase());
-        if (data == null) return -1L;
+        return getSellPrice(snapshot.get(), itemId);
+    }
+    
+    /**
+     * 주어진 스냅샷 기준 판매가 조회 (글로벌 배율 적용)
+     */
+    public long getSellPrice(PriceSnapshot priceSnapshot, String itemId) {
+        long sellPrice = priceSnapshot.getSellPrice(itemId);
+        if (sellPrice < 0) return -1L;
         
         // 글로벌 인플레이션 배율 적용
-        long adjustedPrice = (long)(data.currentSellPrice * globalSellMultiplier);
+        long adjustedPrice = (long)(sellPrice * globalSellMultiplier);
         return Math.max(1, adjustedPrice);
     }
     
@@ -182,15 +217,23 @@ public class DynamicPriceTracker {
      * 기준가 조회
      */
     public long getBasePrice(String itemId) {
-        ItemPriceData data = priceData.get(itemId.toLowerCase());
-        if (data == null) return -1L;
-        return data.basePrice;
+        return snapshot.get().getBasePrice(itemId);
+    }
+    
+    /**
+     * 가격 이력 저장소 (비활성화 시 null)
+     */
+    public PriceHistoryStore getHistoryStore() {
+        return historyStore;
     }
     
     // ========== 가격 갱신 ==========
     
     /**
      * 주기적 가격 갱신 시작
+     * 
+     * <p>계산은 비동기 스레드에서 수행하고 결과 스냅샷만 원자적으로 교체합니다.
+     * 메인 스레드는 갱신 중에도 이전 스냅샷을 그대로 읽습니다.</p>
      */
     public void startUpdateTask() {
         if (updateTask != null) {
@@ -204,7 +247,7 @@ public class DynamicPriceTracker {
             public void run() {
                 updatePrices();
             }
-        }.runTaskTimer(plugin, intervalTicks, intervalTicks);
+        }.runTaskTimerAsynchronously(plugin, intervalTicks, intervalTicks);
         
         logger.info("[DynamicPrice] 가격 갱신 태스크 시작 (주기: " + updateIntervalMinutes + "분)");
     }
@@ -220,66 +263,90 @@ public class DynamicPriceTracker {
         if (manipulationGuard != null) {
             manipulationGuard.shutdown();
         }
+        if (historyStore != null) {
+            historyStore.shutdown();
+        }
     }
     
     /**
-     * 가격 갱신 로직
+     * 가격 갱신 로직 (비동기 스레드)
      */
     private void updatePrices() {
-        for (Map.Entry<String, ItemPriceData> entry : priceData.entrySet()) {
-            String itemId = entry.getKey();
-            ItemPriceData data = entry.getValue();
-            TradeVolume vol = currentCycleVolume.get(itemId);
-            
-            if (vol == null) continue;
-            
-            // 순 수요 계산 (동기화된 getter 사용)
-            double buyVol = vol.getBuyVolume();
-            double sellVol = vol.getSellVolume();
-            double netDemand = buyVol - sellVol;
-            double totalVolume = buyVol + sellVol;
-            double changeRatio = 0.0;
+        List<PriceHistoryStore.Sample> samples;
+        
+        synchronized (writeLock) {
+            PriceSnapshot current = snapshot.get();
+            int n = current.items.length;
+            long[] newBuy = new long[n];
+            long[] newSell = new long[n];
+            samples = historyStore != null ? new ArrayList<>(n) : null;
             
-            if (totalVolume > 0) {
-                double demandRatio = netDemand / totalVolume;
-                changeRatio = demandRatio * maxChangePerCycle;
+            for (int i = 0; i < n; i++) {
+                ItemPriceData data = current.items[i];
+                long currentBuy = current.buyPrices[i];
+                long currentSell = current.sellPrices[i];
+                TradeVolume vol = currentCycleVolume.get(data.itemId);
+                
+                if (vol == null) {
+                    newBuy[i] = currentBuy;
+                    newSell[i] = currentSell;
+                    continue;
+                }
+                
+                // 순 수요 계산 (이번 주기 거래량을 읽으면서 0으로 초기화)
+                double buyVol = vol.drainBuyVolume();
+                double sellVol = vol.drainSellVolume();
+                double netDemand = buyVol - sellVol;
+                double totalVolume = buyVol + sellVol;
+                double changeRatio = 0.0;
+                
+                if (totalVolume > 0) {
+                    double demandRatio = netDemand / totalVolume;
+                    changeRatio = demandRatio * maxChangePerCycle;
+                }
+                
+                // 구매가 조정
+                long targetBuyPrice = (long)(currentBuy * (1.0 + changeRatio));
+                
+                // 판매가 조정 (반대 방향)
+                long targetSellPrice = (long)(currentSell * (1.0 - changeRatio));
+                
+                // 스무딩 적용
+                long newBuyPrice = (long)(currentBuy * (1.0 - PRICE_SMOOTHING) + targetBuyPrice * PRICE_SMOOTHING);
+                long newSellPrice = (long)(currentSell * (1.0 - PRICE_SMOOTHING) + targetSellPrice * PRICE_SMOOTHING);
+                
+                // 범위 클램프
+                long buyMin = (long)(data.basePrice * (1.0 - maxPriceRange));
+                long buyMax = (long)(data.basePrice * (1.0 + maxPriceRange));
+                newBuyPrice = Math.max(buyMin, Math.min(buyMax, newBuyPrice));
+                newBuyPrice = Math.max(data.minPrice, Math.min(data.maxPrice, newBuyPrice));
+                
+                // 역전 방지
+                long maxSellPrice = (long)(newBuyPrice * minSellSpread);
+                newSellPrice = Math.min(newSellPrice, maxSellPrice);
+                newSellPrice = Math.max(1, newSellPrice);
+                
+                newBuy[i] = newBuyPrice;
+                newSell[i] = newSellPrice;
+                
+                if (samples != null) {
+                    samples.add(new PriceHistoryStore.Sample(data.itemId, newBuyPrice, newSellPrice, buyVol, sellVol));
+                }
+                
+                // 로깅
+                if (Math.abs(changeRatio) > 0.001) {
+                    logger.fine(String.format("[DynamicPrice] %s: buy=%d, sell=%d, change=%.2f%%",
+                            data.itemId, newBuyPrice, newSellPrice, changeRatio * 100));
+                }
             }
             
-            // 구매가 조정
-            long targetBuyPrice = (long)(data.currentBuyPrice * (1.0 + changeRatio));
-            
-            // 판매가 조정 (반대 방향)
-            long targetSellPrice = (long)(data.currentSellPrice * (1.0 - changeRatio));
-            
-            // 스무딩 적용
-            long newBuyPrice = (long)(data.currentBuyPrice * (1.0 - PRICE_SMOOTHING) + targetBuyPrice * PRICE_SMOOTHING);
-            long newSellPrice = (long)(data.currentSellPrice * (1.0 - PRICE_SMOOTHING) + targetSellPrice * PRICE_SMOOTHING);
-            
-            // 범위 클램프
-            long buyMin = (long)(data.basePrice * (1.0 - maxPriceRange));
-            long buyMax = (long)(data.basePrice * (1.0 + maxPriceRange));
-            newBuyPrice = Math.max(buyMin, Math.min(buyMax, newBuyPrice));
-            newBuyPrice = Math.max(data.minPrice, Math.min(data.maxPrice, newBuyPrice));
-            
-            // 역전 방지
-            long maxSellPrice = (long)(newBuyPrice * minSellSpread);
-            newSellPrice = Math.min(newSellPrice, maxSellPrice);
-            newSellPrice = Math.max(1, newSellPrice);
-            
-            // 적용
-            data.currentBuyPrice = newBuyPrice;
-            data.currentSellPrice = newSellPrice;
-            
-            // 로깅
-            if (Math.abs(changeRatio) > 0.001) {
-                logger.fine(String.format("[DynamicPrice] %s: buy=%d, sell=%d, change=%.2f%%",
-                        itemId, newBuyPrice, newSellPrice, changeRatio * 100));
-            }
+            // 한 번에 게시 (읽는 쪽은 이전 주기 또는 새 주기 중 하나만 봄)
+            snapshot.set(current.withPrices(newBuy, newSell));
         }
         
-        // 거래량 초기화
-        for (TradeVolume vol : currentCycleVolume.values()) {
-            vol.reset();
+        // 이력 기록 (비동기)
+        if (samples != null) {
+            historyStore.record(System.currentTimeMillis(), samples);
         }
         
         save();
@@ -287,22 +354,28 @@ public class DynamicPriceTracker {
     
     // ========== 저장/로드 ==========
     
+    /**
+     * 현재 스냅샷 저장
+     * 메인 스레드(saveAll)와 갱신 스레드에서 동시에 호출될 수 있어 파일 쓰기만 직렬화
+     */
     public void save() {
-        File dataFile = new File(plugin.getDataFolder(), "dynamic_prices.yml");
+        PriceSnapshot current = snapshot.get();
         YamlConfiguration config = new YamlConfiguration();
         
-        for (Map.Entry<String, ItemPriceData> entry : priceData.entrySet()) {
-            String path = "prices." + entry.getKey();
-            ItemPriceData data = entry.getValue();
-            config.set(path + ".currentBuyPrice", data.currentBuyPrice);
-            config.set(path + ".currentSellPrice", data.currentSellPrice);
+        for (int i = 0; i < current.items.length; i++) {
+            String path = "prices." + current.items[i].itemId;
+            config.set(path + ".currentBuyPrice", current.buyPrices[i]);
+            config.set(path + ".currentSellPrice", current.sellPrices[i]);
         }
         
-        try {
-            config.save(dataFile);
-            logger.fine("[DynamicPrice] 가격 데이터 저장 완료");
-        } catch (IOException e) {
-            logger.warning("[DynamicPrice] 저장 실패: " + e.getMessage());
+        File dataFile = new File(plugin.getDataFolder(), "dynamic_prices.yml");
+        synchronized (this) {
+            try {
+                config.save(dataFile);
+                logger.fine("[DynamicPrice] 가격 데이터 저장 완료");
+            } catch (IOException e) {
+                logger.warning("[DynamicPrice] 저장 실패: " + e.getMessage());
+            }
         }
     }
     
@@ -314,74 +387,162 @@ public class DynamicPriceTracker {
         ConfigurationSection pricesSection = config.getConfigurationSection("prices");
         if (pricesSection == null) return;
         
-        for (String itemId : pricesSection.getKeys(false)) {
-            ItemPriceData data = priceData.get(itemId.toLowerCase());
-            if (data != null) {
+        synchronized (writeLock) {
+            PriceSnapshot current = snapshot.get();
+            long[] buy = current.buyPrices.clone();
+            long[] sell = current.sellPrices.clone();
+            
+            for (String itemId : pricesSection.getKeys(false)) {
+                int idx = current.indexOf(itemId.toLowerCase());
+                if (idx < 0) continue;
+                
                 ConfigurationSection sec = pricesSection.getConfigurationSection(itemId);
                 if (sec != null) {
-                    data.currentBuyPrice = sec.getLong("currentBuyPrice", data.basePrice);
-                    data.currentSellPrice = sec.getLong("currentSellPrice", (long)(data.basePrice * minSellSpread));
-                    logger.fine("[DynamicPrice] 로드: " + itemId + " (buy=" + data.currentBuyPrice + ")");
+                    ItemPriceData data = current.items[idx];
+                    buy[idx] = sec.getLong("currentBuyPrice", data.basePrice);
+                    sell[idx] = sec.getLong("currentSellPrice", (long)(data.basePrice * minSellSpread));
+                    logger.fine("[DynamicPrice] 로드: " + itemId + " (buy=" + buy[idx] + ")");
                 }
             }
+            
+            snapshot.set(current.withPrices(buy, sell));
         }
     }
     
     // ========== 내부 클래스 ==========
     
     /**
-     * 아이템 가격 데이터
+     * 불변 가격 스냅샷
      * 
-     * [동시성] currentBuyPrice/currentSellPrice는 volatile로 선언
-     * - 메인 스레드: 가격 조회 (getBuyPrice, getSellPrice)
-     * - 타이머 스레드: 가격 갱신 (updatePrices)
+     * [동시성] 생성 후 변경되지 않으므로 어느 스레드에서든 잠금 없이 읽기 가능
+     * - 인덱스 맵은 아이템 등록 시에만 새로 만들고, 가격 갱신은 배열만 교체
+     * - version은 가격이 바뀔 때마다 증가 (GUI 캐시 무효화용)
+     */
+    public static final class PriceSnapshot {
+        static final PriceSnapshot EMPTY = new PriceSnapshot(0L, Map.of(), new ItemPriceData[0], new long[0], new long[0]);
+        
+        private final long version;
+        private final Map<String, Integer> index;
+        private final ItemPriceData[] items;
+        private final long[] buyPrices;
+        private final long[] sellPrices;
+        
+        private PriceSnapshot(long version, Map<String, Integer> index, ItemPriceData[] items,
+                              long[] buyPrices, long[] sellPrices) {
+            this.version = version;
+            this.index = index;
+            this.items = items;
+            this.buyPrices = buyPrices;
+            this.sellPrices = sellPrices;
+        }
+        
+        public long getVersion() {
+            return version;
+        }
+        
+        int indexOf(String id) {
+            Integer idx = index.get(id);
+            return idx != null ? idx : -1;
+        }
+        
+        /**
+         * 구매가 (미등록 시 -1)
+         */
+        public long getBuyPrice(String itemId) {
+            int idx = indexOf(itemId.toLowerCase());
+            return idx >= 0 ? buyPrices[idx] : -1L;
+        }
+        
+        /**
+         * 판매가 - 글로벌 배율 적용 전 (미등록 시 -1)
+         */
+        public long getSellPrice(String itemId) {
+            int idx = indexOf(itemId.toLowerCase());
+            return idx >= 0 ? sellPrices[idx] : -1L;
+        }
+        
+        /**
+         * 기준가 (미등록 시 -1)
+         */
+        public long getBasePrice(String itemId) {
+            int idx = indexOf(itemId.toLowerCase());
+            return idx >= 0 ? items[idx].basePrice : -1L;
+        }
+        
+        PriceSnapshot withPrices(long[] newBuy, long[] newSell) {
+            return new PriceSnapshot(version + 1, index, items, newBuy, newSell);
+        }
+        
+        PriceSnapshot withItem(ItemPriceData data, long buyPrice, long sellPrice) {
+            int idx = indexOf(data.itemId);
+            int n = items.length;
+            
+            if (idx >= 0) {
+                ItemPriceData[] newItems = items.clone();
+                long[] newBuy = buyPrices.clone();
+                long[] newSell = sellPrices.clone();
+                newItems[idx] = data;
+                newBuy[idx] = buyPrice;
+                newSell[idx] = sellPrice;
+                return new PriceSnapshot(version + 1, index, newItems, newBuy, newSell);
+            }
+            
+            Map<String, Integer> newIndex = new HashMap<>(index);
+            newIndex.put(data.itemId, n);
+            ItemPriceData[] newItems = Arrays.copyOf(items, n + 1);
+            long[] newBuy = Arrays.copyOf(buyPrices, n + 1);
+            long[] newSell = Arrays.copyOf(sellPrices, n + 1);
+            newItems[n] = data;
+            newBuy[n] = buyPrice;
+            newSell[n] = sellPrice;
+            return new PriceSnapshot(version + 1, Map.copyOf(newIndex), newItems, newBuy, newSell);
+        }
+    }
+    
+    /**
+     * 아이템 가격 설정 (불변)
      */
-    private static class ItemPriceData {
+    private static final class ItemPriceData {
         final String itemId;
         final long basePrice;
         final long minPrice;
         final long maxPrice;
-        volatile long currentBuyPrice;
-        volatile long currentSellPrice;
         
-        ItemPriceData(String itemId, long basePrice, long minPrice, long maxPrice, long initialSellPrice) {
+        ItemPriceData(String itemId, long basePrice, long minPrice, long maxPrice) {
             this.itemId = itemId;
             this.basePrice = basePrice;
             this.minPrice = minPrice;
             this.maxPrice = maxPrice;
-            this.currentBuyPrice = basePrice;
-            this.currentSellPrice = initialSellPrice;
         }
     }
     
     /**
      * 거래량 데이터
      * 
-     * [동시성] synchronized 메서드로 접근
+     * [동시성] LongAdder 스트라이핑 - 여러 스레드가 동시에 기록해도 경합 없음
+     * 거래량은 영향력 가중치(소수)가 곱해지므로 VOLUME_SCALE 고정소수점으로 누적
      */
     private static class TradeVolume {
-        private double buyVolume = 0;
-        private double sellVolume = 0;
-        
-        synchronized void addBuy(double amount) {
-            buyVolume += amount;
-        }
+        private final LongAdder buyVolume = new LongAdder();
+        private final LongAdder sellVolume = new LongAdder();
         
-        synchronized void addSell(double amount) {
-            sellVolume += amount;
+        void addBuy(double amount) {
+            buyVolume.add(Math.round(amount * VOLUME_SCALE));
         }
         
-        synchronized double getBuyVolume() {
-            return buyVolume;
+        void addSell(double amount) {
+            sellVolume.add(Math.round(amount * VOLUME_SCALE));
         }
         
-        synchronized double getSellVolume() {
-            return sellVolume;
+        /**
+         * 누적 구매량 반환 후 초기화 (동시 기록분은 다음 주기로 넘어감)
+         */
+        double drainBuyVolume() {
+            return buyVolume.sumThenReset() / (double) VOLUME_SCALE;
         }
         
-        synchronized void reset() {
-            buyVolume = 0;
-            sellVolume = 0;
+        double drainSellVolume() {
+            return sellVolume.sumThenReset() / (double) VOLUME_SCALE;
         }
     }
 }
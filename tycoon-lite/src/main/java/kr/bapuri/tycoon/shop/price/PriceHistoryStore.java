@@ -0,0 +1,525 @@
+package kr.bapuri.tycoon.shop.price;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * 가격 이력 시계열 저장소
+ *
+ * <p>DynamicPriceTracker의 갱신 주기마다 아이템별 가격/거래량 샘플을 받아
+ * 분/시간/일 단위로 다운샘플링하여 append-only 세그먼트 파일에 기록합니다.
+ * 가격 튜닝과 시세 조작 조사용 관리자 명령어, 모드 UI 차트에서 조회합니다.</p>
+ *
+ * <h2>파일 구조</h2>
+ * <pre>
+ * price_history/
+ *   items.txt                  - 아이템 ID 사전 (줄 번호 = 인덱스, append-only)
+ *   open.dat                   - 미완성 버킷 (1분마다/버킷 마감 시 갱신, 재시작 시 복원)
+ *   minute/{segmentStart}.dat  - 1일 단위 세그먼트
+ *   hour/{segmentStart}.dat    - 30일 단위 세그먼트
+ *   day/{segmentStart}.dat     - 365일 단위 세그먼트
+ * </pre>
+ *
+ * <h2>블록 포맷 (컬럼 단위)</h2>
+ * <pre>
+ * int magic, long bucketStart, int n,
+ * int[n] itemIndex,
+ * long[n] buyOpen, long[n] buyHigh, long[n] buyLow, long[n] buyClose, long[n] sellClose,
+ * double[n] buyVolume, double[n] sellVolume
+ * </pre>
+ *
+ * <h2>스레드 모델</h2>
+ * 모든 상태 변경과 파일 I/O는 전용 단일 스레드에서 실행됩니다.
+ * 호출자는 record()/query()만 사용하며 메인 스레드를 블로킹하지 않습니다.
+ *
+ * @see DynamicPriceTracker
+ */
+public class PriceHistoryStore {
+
+    private static final Logger logger = Logger.getLogger("Tycoon.PriceHistory");
+
+    private static final int BLOCK_MAGIC = 0x50484231; // "PHB1"
+    private static final int HEADER_BYTES = 4 + 8 + 4;
+    private static final int BYTES_PER_ENTRY = 4 + 5 * 8 + 2 * 8;
+    private static final long CLEANUP_INTERVAL_MILLIS = 60L * 60L * 1000L;
+    private static final long OPEN_FLUSH_INTERVAL_MILLIS = 60L * 1000L;
+
+    /**
+     * 다운샘플링 해상도
+     */
+    public enum Resolution {
+        MINUTE("minute", 60_000L, 86_400_000L, 3),
+        HOUR("hour", 3_600_000L, 30L * 86_400_000L, 60),
+        DAY("day", 86_400_000L, 365L * 86_400_000L, 730);
+
+        private final String id;
+        private final long bucketMillis;
+        private final long segmentMillis;
+        private final int defaultRetentionDays;
+
+        Resolution(String id, long bucketMillis, long segmentMillis, int defaultRetentionDays) {
+            this.id = id;
+            this.bucketMillis = bucketMillis;
+            this.segmentMillis = segmentMillis;
+            this.defaultRetentionDays = defaultRetentionDays;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public long getBucketMillis() {
+            return bucketMillis;
+        }
+
+        public static Resolution fromId(String id) {
+            if (id == null) return null;
+            for (Resolution r : values()) {
+                if (r.id.equalsIgnoreCase(id)) return r;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 갱신 주기 1회분 샘플 (아이템 1개)
+     */
+    public record Sample(String itemId, long buyPrice, long sellPrice, double buyVolume, double sellVolume) {}
+
+    /**
+     * 조회 결과 (버킷 1개)
+     */
+    public record PricePoint(long time, long buyOpen, long buyHigh, long buyLow, long buyClose,
+                             long sellClose, double buyVolume, double sellVolume) {}
+
+    private final File baseDir;
+    private final Map<Resolution, Long> retentionMillis = new EnumMap<>(Resolution.class);
+    private final ExecutorService io;
+
+    // ========== I/O 스레드 전용 상태 ==========
+    private final Map<String, Integer> itemIndex = new HashMap<>();
+    private final List<String> itemIds = new ArrayList<>();
+    private final Map<Resolution, OpenBucket> openBuckets = new EnumMap<>(Resolution.class);
+    private long lastCleanup = 0L;
+    private long lastOpenFlush = 0L;
+
+    public PriceHistoryStore(Plugin plugin) {
+        this.baseDir = new File(plugin.getDataFolder(), "price_history");
+
+        for (Resolution r : Resolution.values()) {
+            int days = plugin.getConfig().getInt("dynamicPrice.history.retentionDays." + r.id, r.defaultRetentionDays);
+            retentionMillis.put(r, Math.max(1, days) * 86_400_000L);
+            openBuckets.put(r, new OpenBucket());
+        }
+
+        this.io = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Tycoon-PriceHistory");
+            thread.setDaemon(true);
+            return thread;
+        });
+        io.execute(this::initialize);
+    }
+
+    // ========== 공개 API ==========
+
+    /**
+     * 갱신 주기 샘플 기록 (비동기)
+     *
+     * @param timestamp 샘플 시각 (epoch millis)
+     * @param samples 아이템별 샘플
+     */
+    public void record(long timestamp, List<Sample> samples) {
+        if (samples.isEmpty() || io.isShutdown()) return;
+        List<Sample> copy = List.copyOf(samples);
+        io.execute(() -> {
+            try {
+                append(timestamp, copy);
+            } catch (IOException e) {
+                logger.warning("[PriceHistory] 기록 실패: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 기간 조회 (비동기)
+     *
+     * <p>결과는 I/O 스레드에서 완료되므로 Bukkit API 사용 시 메인 스레드로 넘겨야 합니다.</p>
+     *
+     * @param itemId 아이템 ID (대소문자 무관)
+     * @param resolution 해상도
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (포함)
+     * @param limit 최대 포인트 수 (최신 기준, 0 이하면 제한 없음)
+     */
+    public CompletableFuture<List<PricePoint>> query(String itemId, Resolution resolution,
+                                                     long from, long to, int limit) {
+        if (io.isShutdown()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        String id = itemId.toLowerCase();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return read(id, resolution, from, to, limit);
+            } catch (IOException e) {
+                logger.warning("[PriceHistory] 조회 실패: " + e.getMessage());
+                return List.<PricePoint>of();
+            }
+        }, io);
+    }
+
+    /**
+     * 최근 N개 버킷 조회 (비동기)
+     */
+    public CompletableFuture<List<PricePoint>> queryRecent(String itemId, Resolution resolution, int count) {
+        long now = System.currentTimeMillis();
+        long from = now - resolution.bucketMillis * (long) count;
+        return query(itemId, resolution, from, now, count);
+    }
+
+    /**
+     * 종료 (미완성 버킷 보존 후 I/O 스레드 정지)
+     */
+    public void shutdown() {
+        if (io.isShutdown()) return;
+        io.execute(() -> {
+            try {
+                saveOpenBuckets();
+            } catch (IOException e) {
+                logger.warning("[PriceHistory] 미완성 버킷 저장 실패: " + e.getMessage());
+            }
+        });
+        io.shutdown();
+        try {
+            if (!io.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warning("[PriceHistory] 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== 초기화 ==========
+
+    private void initialize() {
+        try {
+            for (Resolution r : Resolution.values()) {
+                Files.createDirectories(new File(baseDir, r.id).toPath());
+            }
+            loadItemIndex();
+            loadOpenBuckets();
+            cleanup(System.currentTimeMillis());
+            logger.info("[PriceHistory] 초기화 완료 (아이템 " + itemIds.size() + "개)");
+        } catch (IOException | RuntimeException e) {
+            logger.warning("[PriceHistory] 초기화 실패: " + e.getMessage());
+        }
+    }
+
+    private void loadItemIndex() throws IOException {
+        File file = new File(baseDir, "items.txt");
+        if (!file.exists()) return;
+        for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+            // 빈 줄도 인덱스를 차지하므로 그대로 유지
+            itemIndex.putIfAbsent(line, itemIds.size());
+            itemIds.add(line);
+        }
+    }
+
+    private int indexOf(String itemId) throws IOException {
+        Integer idx = itemIndex.get(itemId);
+        if (idx != null) return idx;
+
+        int newIdx = itemIds.size();
+        try (Writer writer = new OutputStreamWriter(
+                new FileOutputStream(new File(baseDir, "items.txt"), true), StandardCharsets.UTF_8)) {
+            writer.write(itemId);
+            writer.write('\n');
+        }
+        itemIds.add(itemId);
+        itemIndex.put(itemId, newIdx);
+        return newIdx;
+    }
+
+    // ========== 기록 ==========
+
+    private void append(long timestamp, List<Sample> samples) throws IOException {
+        boolean rolled = false;
+        for (Resolution r : Resolution.values()) {
+            long bucket = Math.floorDiv(timestamp, r.bucketMillis) * r.bucketMillis;
+            OpenBucket open = openBuckets.get(r);
+
+            if (open.start != bucket) {
+                if (!open.entries.isEmpty()) {
+                    writeBlock(segmentFile(r, open.start), open.start, open.entries);
+                    rolled = true;
+                }
+                open.reset(bucket);
+            }
+
+            for (Sample sample : samples) {
+                int idx = indexOf(sample.itemId().toLowerCase());
+                open.entries.computeIfAbsent(idx, k -> new Accumulator(sample.buyPrice())).add(sample);
+            }
+        }
+
+        // 크래시 시 시간/일 버킷 손실 방지 - 마감된 버킷은 open.dat에서 바로 빠지도록 함께 갱신
+        if (rolled || timestamp - lastOpenFlush >= OPEN_FLUSH_INTERVAL_MILLIS) {
+            try {
+                saveOpenBuckets();
+                lastOpenFlush = timestamp;
+            } catch (IOException e) {
+                logger.warning("[PriceHistory] 미완성 버킷 저장 실패: " + e.getMessage());
+            }
+        }
+
+        if (timestamp - lastCleanup >= CLEANUP_INTERVAL_MILLIS) {
+            cleanup(timestamp);
+        }
+    }
+
+    private File segmentFile(Resolution r, long bucketStart) {
+        long segment = Math.floorDiv(bucketStart, r.segmentMillis) * r.segmentMillis;
+        return new File(new File(baseDir, r.id), segment + ".dat");
+    }
+
+    /**
+     * 블록 1개를 한 번의 write로 추가 (중간 종료 시 꼬리만 잘림)
+     */
+    private static void writeBlock(File file, long bucketStart, Map<Integer, Accumulator> entries) throws IOException {
+        try (OutputStream out = new FileOutputStream(file, true)) {
+            out.write(encodeBlock(bucketStart, entries).array());
+        }
+    }
+
+    private static ByteBuffer encodeBlock(long bucketStart, Map<Integer, Accumulator> entries) {
+        int n = entries.size();
+        int[] indexes = new int[n];
+        Accumulator[] accs = new Accumulator[n];
+        int i = 0;
+        for (Map.Entry<Integer, Accumulator> e : entries.entrySet()) {
+            indexes[i] = e.getKey();
+            accs[i] = e.getValue();
+            i++;
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES + n * BYTES_PER_ENTRY);
+        buf.putInt(BLOCK_MAGIC).putLong(bucketStart).putInt(n);
+        for (int idx : indexes) buf.putInt(idx);
+        for (Accumulator a : accs) buf.putLong(a.buyOpen);
+        for (Accumulator a : accs) buf.putLong(a.buyHigh);
+        for (Accumulator a : accs) buf.putLong(a.buyLow);
+        for (Accumulator a : accs) buf.putLong(a.buyClose);
+        for (Accumulator a : accs) buf.putLong(a.sellClose);
+        for (Accumulator a : accs) buf.putDouble(a.buyVolume);
+        for (Accumulator a : accs) buf.putDouble(a.sellVolume);
+        return buf;
+    }
+
+    // ========== 조회 ==========
+
+    private List<PricePoint> read(String itemId, Resolution r, long from, long to, int limit) throws IOException {
+        Integer idx = itemIndex.get(itemId);
+        if (idx == null) return List.of();
+
+        List<PricePoint> points = new ArrayList<>();
+        long firstSegment = Math.floorDiv(Math.floorDiv(from, r.bucketMillis) * r.bucketMillis, r.segmentMillis) * r.segmentMillis;
+
+        for (long segment = firstSegment; segment <= to; segment += r.segmentMillis) {
+            File file = new File(new File(baseDir, r.id), segment + ".dat");
+            if (file.exists()) {
+                scanSegment(file, idx, from, to, points);
+            }
+        }
+
+        // 아직 닫히지 않은 버킷 포함
+        OpenBucket open = openBuckets.get(r);
+        Accumulator current = open.entries.get(idx);
+        if (current != null && open.start >= from && open.start <= to) {
+            points.add(current.toPoint(open.start));
+        }
+
+        points.sort(Comparator.comparingLong(PricePoint::time));
+        if (limit > 0 && points.size() > limit) {
+            return new ArrayList<>(points.subList(points.size() - limit, points.size()));
+        }
+        return points;
+    }
+
+    private static void scanSegment(File file, int idx, long from, long to, List<PricePoint> out) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+
+        while (buf.remaining() >= HEADER_BYTES) {
+            int blockStart = buf.position();
+            if (buf.getInt() != BLOCK_MAGIC) {
+                logger.warning("[PriceHistory] 손상된 블록: " + file.getName() + " @" + blockStart);
+                return;
+            }
+            long bucketStart = buf.getLong();
+            int n = buf.getInt();
+            int bodyBytes = n * BYTES_PER_ENTRY;
+            if (n < 0 || buf.remaining() < bodyBytes) {
+                return; // 기록 중 종료된 꼬리 블록
+            }
+            int bodyStart = buf.position();
+
+            if (bucketStart >= from && bucketStart <= to) {
+                int pos = findIndex(buf, bodyStart, n, idx);
+                if (pos >= 0) {
+                    int longBase = bodyStart + n * 4;
+                    int doubleBase = longBase + 5 * n * 8;
+                    out.add(new PricePoint(bucketStart,
+                            buf.getLong(longBase + pos * 8),
+                            buf.getLong(longBase + (n + pos) * 8),
+                            buf.getLong(longBase + (2 * n + pos) * 8),
+                            buf.getLong(longBase + (3 * n + pos) * 8),
+                            buf.getLong(longBase + (4 * n + pos) * 8),
+                            buf.getDouble(doubleBase + pos * 8),
+                            buf.getDouble(doubleBase + (n + pos) * 8)));
+                }
+            }
+
+            buf.position(bodyStart + bodyBytes);
+        }
+    }
+
+    private static int findIndex(ByteBuffer buf, int bodyStart, int n, int idx) {
+        for (int i = 0; i < n; i++) {
+            if (buf.getInt(bodyStart + i * 4) == idx) return i;
+        }
+        return -1;
+    }
+
+    // ========== 보존 기간 ==========
+
+    private void cleanup(long now) {
+        lastCleanup = now;
+        for (Resolution r : Resolution.values()) {
+            File[] files = new File(baseDir, r.id).listFiles((dir, name) -> name.endsWith(".dat"));
+            if (files == null) continue;
+
+            long cutoff = now - retentionMillis.get(r);
+            for (File file : files) {
+                try {
+                    long segment = Long.parseLong(file.getName().substring(0, file.getName().length() - 4));
+                    if (segment + r.segmentMillis < cutoff && file.delete()) {
+                        logger.fine("[PriceHistory] 보존 기간 만료 삭제: " + r.id + "/" + file.getName());
+                    }
+                } catch (NumberFormatException ignored) {
+                    // 알 수 없는 파일은 건드리지 않음
+                }
+            }
+        }
+    }
+
+    // ========== 미완성 버킷 보존 ==========
+
+    private void saveOpenBuckets() throws IOException {
+        File file = new File(baseDir, "open.dat");
+        File tmp = new File(baseDir, "open.dat.tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            for (Resolution r : Resolution.values()) {
+                OpenBucket open = openBuckets.get(r);
+                if (open.entries.isEmpty()) continue;
+                out.writeByte(r.ordinal());
+                out.write(encodeBlock(open.start, open.entries).array());
+            }
+        }
+        Files.move(tmp.toPath(), file.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void loadOpenBuckets() throws IOException {
+        File file = new File(baseDir, "open.dat");
+        if (!file.exists()) return;
+
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        Resolution[] resolutions = Resolution.values();
+        while (buf.remaining() >= 1 + HEADER_BYTES) {
+            int ordinal = buf.get();
+            if (ordinal < 0 || ordinal >= resolutions.length) {
+                logger.warning("[PriceHistory] open.dat 손상 (해상도 " + ordinal + ") - 이후 버킷 무시");
+                break;
+            }
+            Resolution r = resolutions[ordinal];
+            if (buf.getInt() != BLOCK_MAGIC) {
+                logger.warning("[PriceHistory] open.dat 손상 (블록 헤더) - 이후 버킷 무시");
+                break;
+            }
+            long bucketStart = buf.getLong();
+            int n = buf.getInt();
+            if (n < 0 || buf.remaining() < (long) n * BYTES_PER_ENTRY) {
+                logger.warning("[PriceHistory] open.dat 잘림 (" + r.id + ") - 이후 버킷 무시");
+                break;
+            }
+
+            int bodyStart = buf.position();
+            int longBase = bodyStart + n * 4;
+            int doubleBase = longBase + 5 * n * 8;
+            OpenBucket open = openBuckets.get(r);
+            open.reset(bucketStart);
+            for (int i = 0; i < n; i++) {
+                Accumulator a = new Accumulator(buf.getLong(longBase + i * 8));
+                a.buyHigh = buf.getLong(longBase + (n + i) * 8);
+                a.buyLow = buf.getLong(longBase + (2 * n + i) * 8);
+                a.buyClose = buf.getLong(longBase + (3 * n + i) * 8);
+                a.sellClose = buf.getLong(longBase + (4 * n + i) * 8);
+                a.buyVolume = buf.getDouble(doubleBase + i * 8);
+                a.sellVolume = buf.getDouble(doubleBase + (n + i) * 8);
+                open.entries.put(buf.getInt(bodyStart + i * 4), a);
+            }
+            buf.position(bodyStart + n * BYTES_PER_ENTRY);
+        }
+    }
+
+    // ========== 내부 클래스 ==========
+
+    private static class OpenBucket {
+        long start = Long.MIN_VALUE;
+        final Map<Integer, Accumulator> entries = new HashMap<>();
+
+        void reset(long newStart) {
+            start = newStart;
+            entries.clear();
+        }
+    }
+
+    /**
+     * 버킷 내 OHLC + 거래량 누적
+     */
+    private static class Accumulator {
+        final long buyOpen;
+        long buyHigh;
+        long buyLow;
+        long buyClose;
+        long sellClose;
+        double buyVolume;
+        double sellVolume;
+
+        Accumulator(long buyOpen) {
+            this.buyOpen = buyOpen;
+            this.buyHigh = buyOpen;
+            this.buyLow = buyOpen;
+        }
+
+        void add(Sample sample) {
+            buyHigh = Math.max(buyHigh, sample.buyPrice());
+            buyLow = Math.min(buyLow, sample.buyPrice());
+            buyClose = sample.buyPrice();
+            sellClose = sample.sellPrice();
+            buyVolume += sample.buyVolume();
+            sellVolume += sample.sellVolume();
+        }
+
+        PricePoint toPoint(long time) {
+            return new PricePoint(time, buyOpen, buyHigh, buyLow, buyClose, sellClose, buyVolume, sellVolume);
+        }
+    }
+}
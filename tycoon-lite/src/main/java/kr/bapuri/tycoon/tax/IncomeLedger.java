@@ -0,0 +1,427 @@
+package kr.bapuri.tycoon.tax;
+
+import kr.bapuri.tycoon.player.PlayerDataManager;
+import kr.bapuri.tycoon.player.PlayerTycoonData;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * IncomeLedger - 세금 주기별 소득 장부
+ *
+ * EconomyService.deposit()에서 기록하고 TaxScheduler가 징수 시 rotate()
+ * - 주기 ID → (UUID → 소득) 원시 long 맵 (박싱 없음)
+ * - rotate(): 열린 주기를 봉인하고 새 주기 시작 → 징수 대상은 봉인된 주기에 소득이 있는 플레이어뿐
+ * - complete(): 징수 항목이 저장된 뒤 봉인된 주기 제거
+ * - income_ledger.dat에 주기적으로 저장 (완료되지 않은 봉인 주기는 다음 rotate()에 합산)
+ *
+ * 스레드 안전: 모든 변경은 lock으로 보호, 파일 쓰기는 lock 밖에서 수행
+ */
+public class IncomeLedger {
+
+    private static final int MAGIC = 0x494C4731; // "ILG1"
+    private static final String FILE_NAME = "income_ledger.dat";
+    private static final long SAVE_PERIOD_TICKS = 20L * 60; // 1분
+
+    private final JavaPlugin plugin;
+    private final Logger logger;
+    private final File file;
+    private final Object lock = new Object();
+    private final Object writeLock = new Object();
+
+    // 주기 ID → 소득 맵 (openIntervalId가 현재 기록 중인 주기)
+    private final TreeMap<Long, UuidLongMap> intervals = new TreeMap<>();
+    private long openIntervalId;
+    private boolean dirty;
+
+    private BukkitTask saveTask;
+
+    public IncomeLedger(JavaPlugin plugin) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        this.file = new File(plugin.getDataFolder(), FILE_NAME);
+    }
+
+    // ===== 라이프사이클 =====
+
+    /**
+     * 장부 로드
+     *
+     * @return 저장된 장부를 읽었으면 true, 새로 시작했으면 false (seedFromPlayerData 필요)
+     */
+    public boolean load() {
+        synchronized (lock) {
+            intervals.clear();
+            if (file.exists()) {
+                try (DataInputStream in = new DataInputStream(
+                        new BufferedInputStream(new FileInputStream(file)))) {
+                    if (in.readInt() != MAGIC) {
+                        throw new IOException("잘못된 파일 형식");
+                    }
+                    openIntervalId = in.readLong();
+                    int intervalCount = in.readInt();
+                    for (int i = 0; i < intervalCount; i++) {
+                        long intervalId = in.readLong();
+                        int size = in.readInt();
+                        UuidLongMap map = new UuidLongMap(size);
+                        for (int j = 0; j < size; j++) {
+                            map.add(in.readLong(), in.readLong(), in.readLong());
+                        }
+                        intervals.put(intervalId, map);
+                    }
+                    intervals.computeIfAbsent(openIntervalId, id -> new UuidLongMap(16));
+                    logger.info("[IncomeLedger] 로드 완료 (주기: " + openIntervalId +
+                               ", 미징수 주기: " + (intervals.size() - 1) +
+                               ", 소득자: " + intervals.get(openIntervalId).size() + "명)");
+                    return true;
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "[IncomeLedger] 장부 로드 실패 - 새로 시작합니다.", e);
+                    intervals.clear();
+                }
+            }
+            openIntervalId = 1;
+            intervals.put(openIntervalId, new UuidLongMap(16));
+            dirty = true;
+            return false;
+        }
+    }
+
+    /**
+     * 주기 저장 작업 시작
+     */
+    public void start() {
+        stopSaveTask();
+        saveTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+            if (isDirty()) {
+                save();
+            }
+        }, SAVE_PERIOD_TICKS, SAVE_PERIOD_TICKS);
+    }
+
+    /**
+     * 종료 (동기 저장)
+     */
+    public void shutdown() {
+        stopSaveTask();
+        save();
+    }
+
+    private void stopSaveTask() {
+        if (saveTask != null && !saveTask.isCancelled()) {
+            saveTask.cancel();
+        }
+        saveTask = null;
+    }
+
+    /**
+     * [마이그레이션] 장부 도입 이전의 간격 소득을 열린 주기로 이관 (비동기)
+     *
+     * - 캐시에 로드된 플레이어: 메모리의 PlayerTycoonData에서 즉시 이관 (메인 스레드)
+     * - 나머지: 플레이어 파일의 tax.intervalIncome을 한 번만 읽음 (캐시에 로드하지 않음)
+     *
+     * EconomyService에 장부를 연결하기 전에 호출해야 입금이 중복 기록되지 않음
+     */
+    public void seedFromPlayerData(PlayerDataManager playerDataManager) {
+        Set<UUID> loadedIds = playerDataManager.getCachedPlayerIds();
+        int loadedSeeded = 0;
+        for (UUID playerId : loadedIds) {
+            PlayerTycoonData data = playerDataManager.getIfLoaded(playerId);
+            if (data != null && data.getIntervalIncome() > 0) {
+                record(playerId, data.getIntervalIncome());
+                loadedSeeded++;
+            }
+        }
+        final int seededFromMemory = loadedSeeded;
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            int seeded = seededFromMemory;
+            for (UUID playerId : playerDataManager.getAllPlayerIds()) {
+                if (loadedIds.contains(playerId)) {
+                    continue;
+                }
+                PlayerDataManager.PlayerSummary summary = playerDataManager.readSummary(playerId);
+                if (summary != null && summary.intervalIncome() > 0) {
+                    record(playerId, summary.intervalIncome());
+                    seeded++;
+                }
+            }
+            save();
+            logger.info("[IncomeLedger] 기존 간격 소득 이관 완료 (" + seeded + "명)");
+        });
+    }
+
+    // ===== 기록 / 회전 =====
+
+    /**
+     * 소득 기록 (열린 주기에 누적)
+     */
+    public void record(UUID playerId, long amount) {
+        if (playerId == null || amount <= 0) {
+            return;
+        }
+        synchronized (lock) {
+            intervals.get(openIntervalId).add(playerId, amount);
+            dirty = true;
+        }
+    }
+
+    /**
+     * 열린 주기의 현재 소득 (징수 전 예상치)
+     */
+    public long getOpenIncome(UUID playerId) {
+        synchronized (lock) {
+            return intervals.get(openIntervalId).get(playerId);
+        }
+    }
+
+    /**
+     * 열린 주기를 봉인하고 새 주기 시작
+     *
+     * 이전에 봉인되었지만 complete()되지 않은 주기도 합산하여 반환
+     *
+     * @return 봉인된 주기들의 플레이어별 소득 합계
+     */
+    public SealedIncome rotate() {
+        synchronized (lock) {
+            List<Long> sealedIds = new ArrayList<>(intervals.keySet());
+            UuidLongMap merged;
+            if (intervals.size() == 1) {
+                merged = intervals.get(openIntervalId).copy();
+            } else {
+                merged = new UuidLongMap(intervals.get(openIntervalId).size() * 2);
+                for (UuidLongMap map : intervals.values()) {
+                    map.forEach(merged::add);
+                }
+            }
+
+            openIntervalId++;
+            intervals.put(openIntervalId, new UuidLongMap(Math.max(16, merged.size())));
+            dirty = true;
+            return new SealedIncome(sealedIds, merged);
+        }
+    }
+
+    /**
+     * 징수 완료된 주기 제거 + 이월 소득을 열린 주기에 기록
+     *
+     * 봉인 주기 제거와 이월을 한 번에 반영하므로 저장 시점에 따라 이월분이 중복되지 않음
+     *
+     * @param carryOver 다음 주기로 넘길 소득 (면제, 요약 읽기 실패 등)
+     */
+    public void complete(List<Long> intervalIds, Map<UUID, Long> carryOver) {
+        synchronized (lock) {
+            for (Long intervalId : intervalIds) {
+                if (intervalId != openIntervalId) {
+                    intervals.remove(intervalId);
+                }
+            }
+            UuidLongMap open = intervals.get(openIntervalId);
+            carryOver.forEach((playerId, amount) -> {
+                if (amount > 0) {
+                    open.add(playerId, amount);
+                }
+            });
+            dirty = true;
+        }
+        save();
+    }
+
+    private boolean isDirty() {
+        synchronized (lock) {
+            return dirty;
+        }
+    }
+
+    // ===== 저장 =====
+
+    /**
+     * 동기 저장 (temp → rename)
+     */
+    public void save() {
+        long openId;
+        List<Map.Entry<Long, UuidLongMap>> snapshot = new ArrayList<>();
+        synchronized (lock) {
+            openId = openIntervalId;
+            for (Map.Entry<Long, UuidLongMap> e : intervals.entrySet()) {
+                snapshot.add(Map.entry(e.getKey(), e.getValue().copy()));
+            }
+            dirty = false;
+        }
+
+        synchronized (writeLock) {
+            File tempFile = new File(file.getParentFile(), FILE_NAME + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeLong(openId);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<Long, UuidLongMap> e : snapshot) {
+                    out.writeLong(e.getKey());
+                    out.writeInt(e.getValue().size());
+                    e.getValue().forEachRaw((msb, lsb, value) -> {
+                        out.writeLong(msb);
+                        out.writeLong(lsb);
+                        out.writeLong(value);
+                    });
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[IncomeLedger] 장부 저장 실패", e);
+                synchronized (lock) {
+                    dirty = true;
+                }
+                return;
+            }
+            try {
+                Files.move(tempFile.toPath(), file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[IncomeLedger] 장부 파일 교체 실패", e);
+            }
+        }
+    }
+
+    // ===== 내부 클래스 =====
+
+    /**
+     * rotate() 결과
+     */
+    public static final class SealedIncome {
+        private final List<Long> intervalIds;
+        private final UuidLongMap incomes;
+
+        SealedIncome(List<Long> intervalIds, UuidLongMap incomes) {
+            this.intervalIds = Collections.unmodifiableList(intervalIds);
+            this.incomes = incomes;
+        }
+
+        public List<Long> getIntervalIds() { return intervalIds; }
+        public UuidLongMap getIncomes() { return incomes; }
+    }
+
+    @FunctionalInterface
+    public interface UuidLongConsumer {
+        void accept(UUID playerId, long value);
+    }
+
+    @FunctionalInterface
+    private interface RawEntryWriter {
+        void accept(long msb, long lsb, long value) throws IOException;
+    }
+
+    /**
+     * UUID → long 오픈 어드레싱 해시맵 (선형 탐사, 삭제 없음)
+     *
+     * UUID를 두 개의 long으로 저장하여 엔트리당 객체 할당 없음
+     */
+    public static final class UuidLongMap {
+        private long[] msbs;
+        private long[] lsbs;
+        private long[] values;
+        private boolean[] used;
+        private int size;
+
+        UuidLongMap(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            msbs = new long[capacity];
+            lsbs = new long[capacity];
+            values = new long[capacity];
+            used = new boolean[capacity];
+            size = 0;
+        }
+
+        private static int hash(long msb, long lsb) {
+            long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private int indexOf(long msb, long lsb) {
+            int mask = used.length - 1;
+            int i = hash(msb, lsb) & mask;
+            while (used[i] && (msbs[i] != msb || lsbs[i] != lsb)) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        void add(UUID playerId, long amount) {
+            add(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(), amount);
+        }
+
+        void add(long msb, long lsb, long amount) {
+            int i = indexOf(msb, lsb);
+            if (used[i]) {
+                values[i] += amount;
+                return;
+            }
+            used[i] = true;
+            msbs[i] = msb;
+            lsbs[i] = lsb;
+            values[i] = amount;
+            if (++size * 4 > used.length * 3) {
+                rehash();
+            }
+        }
+
+        private void rehash() {
+            long[] oldMsbs = msbs;
+            long[] oldLsbs = lsbs;
+            long[] oldValues = values;
+            boolean[] oldUsed = used;
+            allocate(oldUsed.length << 1);
+            for (int i = 0; i < oldUsed.length; i++) {
+                if (oldUsed[i]) {
+                    add(oldMsbs[i], oldLsbs[i], oldValues[i]);
+                }
+            }
+        }
+
+        /**
+         * 소득 조회 (없으면 0)
+         */
+        public long get(UUID playerId) {
+            int i = indexOf(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+            return used[i] ? values[i] : 0L;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void forEach(UuidLongConsumer consumer) {
+            for (int i = 0; i < used.length; i++) {
+                if (used[i]) {
+                    consumer.accept(new UUID(msbs[i], lsbs[i]), values[i]);
+                }
+            }
+        }
+
+        private void forEachRaw(RawEntryWriter writer) throws IOException {
+            for (int i = 0; i < used.length; i++) {
+                if (used[i]) {
+                    writer.accept(msbs[i], lsbs[i], values[i]);
+                }
+            }
+        }
+
+        UuidLongMap copy() {
+            UuidLongMap copy = new UuidLongMap(16);
+            copy.msbs = msbs.clone();
+            copy.lsbs = lsbs.clone();
+            copy.values = values.clone();
+            copy.used = used.clone();
+            copy.size = size;
+            return copy;
+        }
+    }
+}
@@ -35,7 +35,8 @@ public class IncomeTaxService {
     /**
      * [v2] 3시간 간격 소득세 + 보유세 계산
      * 
-     * TaxScheduler에서 3시간마다 호출
+     * 단일 플레이어 즉시 계산용 (데이터가 캐시에 로드됨)
+     * TaxScheduler는 computeIntervalTax()로 스냅샷 기반 계산
      * 
      * @param playerId 플레이어 UUID
      * @param vipService VIP 확인 서비스
@@ -47,23 +48,54 @@ public class IncomeTaxService {
             return IntervalTaxResult.empty();
         }
 
+        // 비활성화/미접속 면제 시 VIP 조회 생략
+        if (!config.isIncomeTaxEnabled()) {
+            return IntervalTaxResult.disabled();
+        }
+        if (isExemptByInactivity(data.getLastOnlineTime())) {
+            return IntervalTaxResult.exemptInactive();
+        }
+
+        boolean isVip = vipService != null && vipService.isVip(playerId);
+        IntervalTaxResult result = computeIntervalTax(
+                data.getIntervalIncome(), data.getMoney(), data.getLastOnlineTime(), isVip);
+
+        // 간격 소득 리셋 (면제 시 유지)
+        if (!result.isExempt()) {
+            data.resetIntervalIncome();
+        }
+        return result;
+    }
+
+    /**
+     * 스냅샷 값만으로 간격 세금 계산 (데이터 변경 없음)
+     * 
+     * 플레이어 데이터에 접근하지 않으므로 비동기 스레드에서 호출 가능
+     * TaxScheduler의 병렬 계산 단계에서 사용
+     * 
+     * @param intervalIncome 간격 소득
+     * @param currentBalance 현재 잔액
+     * @param lastOnlineTime 마지막 접속 시간
+     * @param isVip VIP 여부
+     * @return 세금 계산 결과
+     */
+    public IntervalTaxResult computeIntervalTax(long intervalIncome, long currentBalance,
+                                                long lastOnlineTime, boolean isVip) {
         // 소득세 비활성화 시
         if (!config.isIncomeTaxEnabled()) {
             return IntervalTaxResult.disabled();
         }
 
         // 12시간 미접속 면제 체크
-        if (isExemptByInactivity(data)) {
+        if (isExemptByInactivity(lastOnlineTime)) {
             return IntervalTaxResult.exemptInactive();
         }
 
         // 1. 소득세 계산 (3시간 간격 수입 기반)
-        long intervalIncome = data.getIntervalIncome();
         double earnedRate = config.getEarnedTaxRate(intervalIncome);
         long earnedTax = Math.round(intervalIncome * earnedRate);
 
         // 2. 보유세 계산 (현재 잔액 기반)
-        long currentBalance = data.getMoney();
         double wealthRate = config.getWealthTaxRate(currentBalance);
         long wealthTax = Math.round(currentBalance * wealthRate);
 
@@ -71,14 +103,10 @@ public class IncomeTaxService {
         long originalTotal = totalTax;
 
         // 3. VIP 할인 적용
-        boolean isVip = vipService != null && vipService.isVip(playerId);
         if (isVip && totalTax > 0) {
             totalTax = config.applyVipDiscount(totalTax);
         }
 
-        // 4. 간격 소득 리셋
-        data.resetIntervalIncome();
-
         return new IntervalTaxResult(
             intervalIncome, 
             currentBalance,
@@ -93,10 +121,9 @@ public class IncomeTaxService {
     }
 
     /**
-     * [v2] 12시간 미접속 면제 체크
+     * [v2] 12시간 미접속 면제 체크 (스냅샷 값 기준)
      */
-    private boolean isExemptByInactivity(PlayerTycoonData data) {
-        long lastOnline = data.getLastOnlineTime();
+    public boolean isExemptByInactivity(long lastOnline) {
         if (lastOnline <= 0) {
             return false; // 데이터 없음 - 면제 안함
         }
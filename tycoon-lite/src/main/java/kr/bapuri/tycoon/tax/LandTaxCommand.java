@@ -218,9 +218,11 @@ public class LandTaxCommand implements CommandExecutor, TabCompleter {
     }
 
     private void handleCollect(CommandSender sender, String[] args) {
-        sender.sendMessage("§e세금 징수를 시작합니다...");
-        taxScheduler.forceCollection();
-        sender.sendMessage("§a세금 징수가 완료되었습니다.");
+        if (!taxScheduler.forceCollection()) {
+            sender.sendMessage("§c이미 세금 징수가 진행 중입니다. (" + taxScheduler.getCollectionProgress() + ")");
+            return;
+        }
+        sender.sendMessage("§e세금 징수를 시작합니다. 틱 단위로 나누어 처리되며 완료 시 콘솔에 기록됩니다.");
     }
 
     private void handleInfo(CommandSender sender, String[] args) {
@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.tax;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import kr.bapuri.tycoon.job.JobType;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -8,9 +9,6 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -32,9 +30,11 @@ public class TaxConfig {
     // ===== 전역 설정 =====
     private boolean enabled;
     private Set<UUID> adminUuids;
+    private int collectionTickBudgetMs;
 
     // ===== 소득세 설정 (v2: 소득세/보유세 분리) =====
     private boolean incomeTaxEnabled;
+    private boolean scheduledIncomeTaxEnabled;       // [v4] 주기 징수 (간격 소득세 + 보유세)
     private List<TaxBracket> incomeTaxBrackets;      // 하위 호환용 (deprecated)
     private List<TaxBracket> earnedTaxBrackets;      // [v2] 소득세 구간
     private List<TaxBracket> wealthTaxBrackets;      // [v2] 보유세 구간
@@ -76,13 +76,11 @@ public class TaxConfig {
     public void load() {
         saveDefaultConfig();
         configFile = new File(plugin.getDataFolder(), "tax.yml");
-        config = YamlConfiguration.loadConfiguration(configFile);
+        config = YamlPrefetcher.load(configFile);
 
         // 기본값 병합
-        InputStream defaultStream = plugin.getResource("tax.yml");
-        if (defaultStream != null) {
-            YamlConfiguration defaultConfig = YamlConfiguration.loadConfiguration(
-                    new InputStreamReader(defaultStream, StandardCharsets.UTF_8));
+        YamlConfiguration defaultConfig = YamlPrefetcher.loadResource(plugin, "tax.yml");
+        if (defaultConfig != null) {
             config.setDefaults(defaultConfig);
         }
 
@@ -121,6 +119,7 @@ public class TaxConfig {
 
     private void loadGlobalSettings() {
         enabled = config.getBoolean("tax.enabled", true);
+        collectionTickBudgetMs = Math.max(1, config.getInt("tax.collection.tickBudgetMs", 5));
 
         adminUuids.clear();
         List<String> uuidStrings = config.getStringList("tax.adminUuids");
@@ -135,6 +134,7 @@ public class TaxConfig {
 
     private void loadIncomeTaxSettings() {
         incomeTaxEnabled = config.getBoolean("incomeTax.enabled", true);
+        scheduledIncomeTaxEnabled = config.getBoolean("incomeTax.scheduledCollection", false);
 
         // [v2] 소득세 구간 (earnedBrackets)
         earnedTaxBrackets.clear();
@@ -265,11 +265,25 @@ public class TaxConfig {
         return Collections.unmodifiableSet(adminUuids);
     }
 
+    /**
+     * 틱당 징수 적용 예산 (밀리초)
+     */
+    public int getCollectionTickBudgetMs() {
+        return collectionTickBudgetMs;
+    }
+
     // 소득세
     public boolean isIncomeTaxEnabled() {
         return enabled && incomeTaxEnabled;
     }
 
+    /**
+     * [v4] TaxScheduler 주기 징수 (간격 소득세 + 보유세) 활성화 여부
+     */
+    public boolean isScheduledIncomeTaxEnabled() {
+        return isIncomeTaxEnabled() && scheduledIncomeTaxEnabled;
+    }
+
     public List<TaxBracket> getIncomeTaxBrackets() {
         return Collections.unmodifiableList(incomeTaxBrackets);
     }
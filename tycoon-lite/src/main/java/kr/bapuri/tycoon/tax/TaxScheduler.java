@@ -5,13 +5,23 @@ import kr.bapuri.tycoon.integration.LandsIntegration;
 import kr.bapuri.tycoon.player.PlayerDataManager;
 import kr.bapuri.tycoon.player.PlayerTycoonData;
 import org.bukkit.Bukkit;
-import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * TaxScheduler - 주기적 세금 징수 스케줄러
@@ -22,9 +32,22 @@ import java.util.logging.Logger;
  * - [v2] 토지세 징수 (마을 소유자)
  * - [v2] VIP 할인 적용
  * - 징수 결과 로깅 및 알림
+ * 
+ * [v3] 단계별 징수 파이프라인:
+ * 1. (메인) 캐시된 플레이어 스냅샷
+ * 2. (비동기) 오프라인 플레이어는 디스크 요약만 읽고, 세금/VIP를 병렬 계산
+ * 3. (메인) 틱 예산(tax.collection.tickBudgetMs) 단위로 출금 분할 적용
+ * - 오프라인 플레이어는 적용 직후 저장+언로드 (캐시에 남기지 않음)
+ * - 진행 상황을 tax_collection.yml에 기록, 서버 크래시 후 재시작 시 이어서 징수
+ * 
+ * [v4] IncomeLedger 연동: 징수 시 장부를 회전하여 소득자 파일만 읽음
  */
 public class TaxScheduler {
 
+    private static final String PROGRESS_FILE = "tax_collection.yml";
+    private static final long PROGRESS_SAVE_INTERVAL_MS = 1000L;
+    private static final long RESUME_DELAY_TICKS = 20L * 10;
+
     private final JavaPlugin plugin;
     private final Logger logger;
     private final TaxConfig config;
@@ -39,6 +62,15 @@ public class TaxScheduler {
     private BukkitTask schedulerTask;
     private long lastCollectionTime = 0;
 
+    // [v3] 진행 중인 징수 (메인 스레드에서만 변경)
+    private final File progressFile;
+    private final ExecutorService progressWriter;
+    private CollectionRun activeRun;
+    private BukkitTask sliceTask;
+
+    // [v4] 간격 소득 장부 (없으면 플레이어 파일 전체 스캔으로 폴백)
+    private IncomeLedger incomeLedger;
+
     // [v2] 새 생성자 (IncomeTaxService, VipService, EconomyService 추가)
     public TaxScheduler(JavaPlugin plugin, TaxConfig config, LandTaxService landTaxService,
                         IncomeTaxService incomeTaxService, VipService vipService, 
@@ -55,6 +87,12 @@ public class TaxScheduler {
         this.villagerRegistry = villagerRegistry;
         this.landsIntegration = landsIntegration;
         this.playerDataManager = playerDataManager;
+        this.progressFile = new File(plugin.getDataFolder(), PROGRESS_FILE);
+        this.progressWriter = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Tycoon-TaxProgress");
+            t.setDaemon(true);
+            return t;
+        });
     }
 
     // 하위 호환용 생성자
@@ -66,11 +104,19 @@ public class TaxScheduler {
              villagerRegistry, landsIntegration, playerDataManager);
     }
 
+    /**
+     * [v4] 간격 소득 장부 설정
+     */
+    public void setIncomeLedger(IncomeLedger incomeLedger) {
+        this.incomeLedger = incomeLedger;
+    }
+
     /**
      * 스케줄러 시작
      */
     public void start() {
-        if (!config.isLandTaxEnabled()) {
+        boolean incomeTaxScheduled = config.isIncomeTaxEnabled() && incomeTaxService != null;
+        if (!config.isLandTaxEnabled() && !incomeTaxScheduled) {
             logger.info("[TaxScheduler] 토지세가 비활성화되어 스케줄러를 시작하지 않습니다.");
             return;
         }
@@ -87,10 +133,15 @@ public class TaxScheduler {
 
         logger.info("[TaxScheduler] 스케줄러 시작됨 (주기: " + config.getPeriodHours() + "시간, " + 
                    periodTicks + " ticks)");
+
+        // [v3] 중단된 징수 재개
+        resumeInterruptedRun();
     }
 
     /**
      * 스케줄러 중지
+     * 
+     * 진행 중인 징수는 현재 위치를 저장하고 중단 (다음 start()에서 재개)
      */
     public void stop() {
         if (schedulerTask != null && !schedulerTask.isCancelled()) {
@@ -98,136 +149,480 @@ public class TaxScheduler {
             schedulerTask = null;
             logger.info("[TaxScheduler] 스케줄러 중지됨");
         }
+
+        CollectionRun run = activeRun;
+        if (run != null) {
+            cancelSliceTask();
+            activeRun = null;
+            if (run.entries != null) {
+                Future<?> pending = writeProgressAsync(run);
+                try {
+                    pending.get(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "[TaxScheduler] 징수 진행 상황 저장 실패", e);
+                }
+                logger.info("[TaxScheduler] 진행 중인 징수 중단 - 재시작 시 이어서 징수합니다. (" +
+                           run.describeProgress() + ")");
+            }
+        }
     }
 
     /**
-     * [v2] 세금 징수 실행 (소득세 + 보유세 + 토지세)
+     * [v3] 세금 징수 시작 (소득세 + 보유세 + 토지세)
+     * 
+     * 실제 출금은 startSlicing() 이후 틱마다 분할 적용됨
      */
     private void runCollection() {
+        if (activeRun != null) {
+            logger.warning("[TaxScheduler] 이전 징수가 아직 진행 중이라 이번 주기를 건너뜁니다. (" +
+                          activeRun.describeProgress() + ")");
+            return;
+        }
+
         logger.info("[TaxScheduler] 세금 징수 시작...");
         lastCollectionTime = System.currentTimeMillis();
 
-        // 통계
-        int incomeTaxSuccess = 0;
-        int incomeTaxExempt = 0;
-        long incomeTaxTotal = 0;
-        
-        int landTaxSuccess = 0;
-        int landTaxFail = 0;
-        int landTaxExempt = 0;
-        long landTaxTotal = 0;
-
-        // ===== 1. 소득세 + 보유세 징수 (모든 활동 플레이어) =====
-        if (config.isIncomeTaxEnabled() && incomeTaxService != null) {
-            Set<UUID> allPlayers = collectAllActivePlayers();
-            
-            for (UUID playerId : allPlayers) {
-                IncomeTaxService.IntervalTaxResult result = 
-                    incomeTaxService.calculateIntervalTax(playerId, vipService);
-                
-                if (result.isExempt()) {
-                    incomeTaxExempt++;
-                    notifyIncomeTaxExempt(playerId, result);
-                    continue;
+        CollectionRun run = new CollectionRun(lastCollectionTime);
+        activeRun = run;
+
+        if (!config.isIncomeTaxEnabled() || incomeTaxService == null) {
+            run.entries = Collections.emptyList();
+            beginLandPhase(run);
+            startSlicing(run, 1L);
+            return;
+        }
+
+        // ===== 1단계 (메인): 소득 장부 회전 + 캐시된 플레이어 스냅샷 =====
+        // 장부가 있으면 봉인된 주기의 소득이 기준 (이후 입금은 새 주기로)
+        IncomeLedger.SealedIncome sealed = incomeLedger != null ? incomeLedger.rotate() : null;
+
+        // 온라인 플레이어 + 캐시에 남아 있는 플레이어 중 소득이 있는 플레이어
+        List<PlayerDataManager.PlayerSummary> liveSnapshots = new ArrayList<>();
+        Set<UUID> cachedIds = playerDataManager.getCachedPlayerIds();
+        for (UUID playerId : cachedIds) {
+            PlayerTycoonData data = playerDataManager.get(playerId);
+            long intervalIncome = sealed != null
+                    ? sealed.getIncomes().get(playerId)
+                    : data.getIntervalIncome();
+            if (intervalIncome > 0 || playerDataManager.isOnline(playerId)) {
+                liveSnapshots.add(new PlayerDataManager.PlayerSummary(playerId, data.getPlayerName(),
+                        data.getMoney(), intervalIncome, data.getLastOnlineTime()));
+            }
+        }
+
+        // ===== 2단계 (비동기): 오프라인 요약 읽기 + 병렬 세금 계산 =====
+        // 이월 소득은 complete()에서 봉인 주기 제거와 함께 기록 (중간 저장으로 인한 중복 방지)
+        Map<UUID, Long> carryOver = new ConcurrentHashMap<>();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<TaxEntry> entries;
+            try {
+                entries = computeEntries(liveSnapshots, cachedIds, sealed, carryOver);
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, "[TaxScheduler] 세금 계산 실패 - 이번 징수를 취소합니다.", e);
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (activeRun == run) {
+                        activeRun = null;
+                    }
+                });
+                return;
+            }
+
+            // ===== 3단계 (메인): 분할 적용 =====
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (activeRun != run) {
+                    return; // 계산 중 stop() 호출됨
                 }
-                
-                long taxAmount = result.getTotalTax();
-                if (taxAmount <= 0) {
-                    continue;
+                run.entries = entries;
+                logger.info("[TaxScheduler] 소득세 계산 완료 - 대상: " + entries.size() + "명 (" +
+                           (System.currentTimeMillis() - run.runId) + "ms)");
+                writeProgressAsync(run);
+                if (sealed != null) {
+                    // 면제 소득은 다음 주기로 이월 (applyIncomeTax에서는 기록하지 않으므로 재개 시 중복 없음)
+                    for (TaxEntry entry : entries) {
+                        if (entry.result.isExempt()) {
+                            carryOver.merge(entry.playerId, entry.intervalIncome, Long::sum);
+                        }
+                    }
+                    // 징수 항목이 진행 파일에 기록된 뒤 봉인 주기 제거 (같은 쓰기 스레드에서 순서 보장)
+                    List<Long> sealedIds = sealed.getIntervalIds();
+                    progressWriter.execute(() -> incomeLedger.complete(sealedIds, carryOver));
+                }
+                startSlicing(run, 1L);
+            });
+        });
+    }
+
+    /**
+     * [v3] 징수 대상 세금 계산 (비동기 스레드)
+     * 
+     * 캐시에 없는 플레이어는 디스크 요약만 읽으므로 캐시에 로드되지 않음
+     * 장부가 있으면 봉인된 주기의 소득자 파일만 읽음 (전체 스캔 없음)
+     * 요약을 읽지 못한 소득자의 소득은 carryOver에 담아 다음 주기로 이월
+     */
+    private List<TaxEntry> computeEntries(List<PlayerDataManager.PlayerSummary> liveSnapshots,
+                                          Set<UUID> cachedIds, IncomeLedger.SealedIncome sealed,
+                                          Map<UUID, Long> carryOver) {
+        List<PlayerDataManager.PlayerSummary> targets = new ArrayList<>(liveSnapshots);
+
+        if (sealed != null) {
+            sealed.getIncomes().forEach((playerId, income) -> {
+                if (income <= 0 || cachedIds.contains(playerId)) {
+                    return;
                 }
-                
-                // 징수 실행
-                boolean success = economyService.withdraw(playerId, taxAmount,
-                        "INCOME_TAX", "소득세+보유세 (소득:" + result.getEarnedTax() + 
-                                     ", 보유:" + result.getWealthTax() + ")");
-                
-                if (success) {
-                    incomeTaxSuccess++;
-                    incomeTaxTotal += taxAmount;
-                    notifyIncomeTax(playerId, result);
+                PlayerDataManager.PlayerSummary summary = playerDataManager.readSummary(playerId);
+                if (summary != null) {
+                    targets.add(new PlayerDataManager.PlayerSummary(playerId, summary.playerName(),
+                            summary.money(), income, summary.lastOnlineTime()));
+                } else {
+                    if (!playerDataManager.isLoaded(playerId)) {
+                        // 파일 없음/읽기 실패 - 버리지 않고 다음 주기로 이월
+                        logger.warning("[TaxScheduler] 플레이어 요약을 읽지 못해 소득을 이월합니다: " +
+                                      playerId + " (" + income + " BD)");
+                    }
+                    // 스냅샷 이후 접속한 플레이어도 다음 주기로 이월
+                    carryOver.merge(playerId, income, Long::sum);
                 }
+            });
+        } else {
+            targets.addAll(scanOfflineEarners(cachedIds));
+        }
+
+        // VIP 조회(오프라인은 LuckPerms 로드)가 포함되므로 병렬 처리
+        return targets.parallelStream()
+                .map(this::computeEntry)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 장부 없이 실행될 때의 폴백: 모든 플레이어 파일에서 간격 소득 확인
+     */
+    private List<PlayerDataManager.PlayerSummary> scanOfflineEarners(Set<UUID> cachedIds) {
+        List<PlayerDataManager.PlayerSummary> earners = new ArrayList<>();
+        for (UUID playerId : playerDataManager.getAllPlayerIds()) {
+            if (cachedIds.contains(playerId)) {
+                continue;
+            }
+            PlayerDataManager.PlayerSummary summary = playerDataManager.readSummary(playerId);
+            if (summary != null && summary.intervalIncome() > 0) {
+                earners.add(summary);
             }
-            
-            logger.info("[TaxScheduler] 소득세 징수 - 성공: " + incomeTaxSuccess + 
-                       ", 면제: " + incomeTaxExempt + 
-                       ", 총액: " + String.format("%,d", incomeTaxTotal) + " BD");
         }
+        return earners;
+    }
 
-        // ===== 2. 토지세 징수 (마을 소유자) =====
-        if (config.isLandTaxEnabled()) {
-            Set<UUID> landOwners = collectLandOwners();
-            
-            for (UUID playerId : landOwners) {
-                LandTaxService.TaxCollectionResult result = collectLandTaxWithVip(playerId);
-                
-                switch (result.getStatus()) {
-                    case SUCCESS:
-                        landTaxSuccess++;
-                        landTaxTotal += result.getTaxAmount();
-                        notifyLandTax(playerId, result);
-                        break;
-                    case FAILED:
-                    case FAILED_FROZEN:
-                        landTaxFail++;
-                        notifyLandTaxFailed(playerId, result);
-                        break;
-                    case EXEMPT_INACTIVE:
-                    case EXEMPT_NO_INCOME:
-                        landTaxExempt++;
-                        break;
-                    default:
-                        break;
+    private TaxEntry computeEntry(PlayerDataManager.PlayerSummary summary) {
+        IncomeTaxService.IntervalTaxResult result;
+        if (incomeTaxService.isExemptByInactivity(summary.lastOnlineTime())) {
+            result = IncomeTaxService.IntervalTaxResult.exemptInactive();
+        } else {
+            boolean isVip = vipService != null && vipService.isVip(summary.uuid());
+            result = incomeTaxService.computeIntervalTax(summary.intervalIncome(), summary.money(),
+                    summary.lastOnlineTime(), isVip);
+        }
+        if (result.isExempt()
+                && result.getExemptReason() != IncomeTaxService.IntervalTaxResult.ExemptReason.INACTIVE) {
+            return null;
+        }
+        return new TaxEntry(summary.uuid(), summary.intervalIncome(), result);
+    }
+
+    /**
+     * [v3] 토지세 단계 진입 (메인 스레드)
+     */
+    private void beginLandPhase(CollectionRun run) {
+        run.phase = Phase.LAND;
+        run.landOwners = config.isLandTaxEnabled()
+                ? new ArrayList<>(collectLandOwners())
+                : Collections.emptyList();
+        run.nextQuartile = 1;
+        writeProgressAsync(run);
+    }
+
+    // ===== [v3] 분할 적용 =====
+
+    private void startSlicing(CollectionRun run, long delayTicks) {
+        cancelSliceTask();
+        sliceTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> tickSlice(run), delayTicks, 1L);
+    }
+
+    private void cancelSliceTask() {
+        if (sliceTask != null && !sliceTask.isCancelled()) {
+            sliceTask.cancel();
+        }
+        sliceTask = null;
+    }
+
+    /**
+     * 한 틱 분량 적용 (틱 예산 초과 시 다음 틱으로)
+     */
+    private void tickSlice(CollectionRun run) {
+        if (activeRun != run) {
+            cancelSliceTask();
+            return;
+        }
+
+        long deadline = System.nanoTime() + config.getCollectionTickBudgetMs() * 1_000_000L;
+        do {
+            if (run.phase == Phase.INCOME) {
+                if (run.incomeCursor >= run.entries.size()) {
+                    logIncomeSummary(run);
+                    beginLandPhase(run);
+                    continue;
+                }
+                applyIncomeTax(run, run.entries.get(run.incomeCursor));
+                run.incomeCursor++;
+            } else {
+                if (run.landCursor >= run.landOwners.size()) {
+                    finishRun(run);
+                    return;
                 }
+                applyLandTax(run, run.landOwners.get(run.landCursor));
+                run.landCursor++;
             }
-            
-            logger.info("[TaxScheduler] 토지세 징수 - 성공: " + landTaxSuccess + 
-                       ", 실패: " + landTaxFail + 
-                       ", 면제: " + landTaxExempt + 
-                       ", 총액: " + String.format("%,d", landTaxTotal) + " BD");
+        } while (System.nanoTime() < deadline);
+
+        logQuartileProgress(run);
+
+        long now = System.currentTimeMillis();
+        if (now - run.lastProgressSave >= PROGRESS_SAVE_INTERVAL_MS) {
+            writeProgressAsync(run);
+        }
+    }
+
+    /**
+     * 소득세 + 보유세 1명 적용
+     */
+    private void applyIncomeTax(CollectionRun run, TaxEntry entry) {
+        UUID playerId = entry.playerId;
+        IncomeTaxService.IntervalTaxResult result = entry.result;
+
+        if (result.isExempt()) {
+            run.incomeExempt++;
+            // 면제 시 간격 소득 유지 (장부 이월은 계산 단계에서 complete()로 한 번만 기록)
+            notifyIncomeTaxExempt(playerId, result);
+            return;
+        }
+
+        boolean wasLoaded = playerDataManager.isLoaded(playerId);
+        try {
+            PlayerTycoonData data = playerDataManager.get(playerId);
+            String txnId = "TAX-" + run.runId + "-" + playerId;
+            if (data.isTxnProcessed(txnId)) {
+                return; // 재개 시 이미 적용된 항목
+            }
+
+            // 스냅샷 이후 추가된 소득은 다음 주기로 이월
+            long carriedIncome = data.getIntervalIncome() - entry.intervalIncome;
+            data.resetIntervalIncome();
+            data.addIntervalIncome(carriedIncome);
+
+            long taxAmount = result.getTotalTax();
+            if (taxAmount <= 0) {
+                return;
+            }
+
+            boolean success = economyService.withdrawIdempotent(playerId, taxAmount, txnId,
+                    "INCOME_TAX", "소득세+보유세 (소득:" + result.getEarnedTax() + 
+                                 ", 보유:" + result.getWealthTax() + ")");
+            if (success) {
+                run.incomeSuccess++;
+                run.incomeTotal += taxAmount;
+                notifyIncomeTax(playerId, result);
+            }
+        } finally {
+            releaseIfDetached(playerId, wasLoaded);
         }
+    }
 
+    /**
+     * 토지세 1명 적용
+     */
+    private void applyLandTax(CollectionRun run, UUID playerId) {
+        if (run.resumed && isLandTaxPaidSince(playerId, run.runId)) {
+            return; // 크래시 직전에 이미 징수된 소유자
+        }
+
+        boolean wasLoaded = playerDataManager.isLoaded(playerId);
+        try {
+            LandTaxService.TaxCollectionResult result = collectLandTaxWithVip(playerId);
+
+            switch (result.getStatus()) {
+                case SUCCESS:
+                    run.landSuccess++;
+                    run.landTotal += result.getTaxAmount();
+                    notifyLandTax(playerId, result);
+                    break;
+                case FAILED:
+                case FAILED_FROZEN:
+                    run.landFail++;
+                    notifyLandTaxFailed(playerId, result);
+                    break;
+                case EXEMPT_INACTIVE:
+                case EXEMPT_NO_INCOME:
+                    run.landExempt++;
+                    break;
+                default:
+                    break;
+            }
+        } finally {
+            releaseIfDetached(playerId, wasLoaded);
+        }
+    }
+
+    /**
+     * 징수를 위해 임시 로드된 오프라인 플레이어는 저장 후 언로드
+     */
+    private void releaseIfDetached(UUID playerId, boolean wasLoaded) {
+        if (!wasLoaded && !playerDataManager.isOnline(playerId)) {
+            playerDataManager.saveAndUnload(playerId);
+        }
+    }
+
+    /**
+     * 재개된 징수에서 해당 소유자의 마을이 이미 납부되었는지 확인
+     */
+    private boolean isLandTaxPaidSince(UUID ownerId, long since) {
+        for (VillagerRegistry.LandTaxData data : villagerRegistry.getAllLandData()) {
+            if (ownerId.equals(data.getOwnerUuid()) && data.getLastPaid() >= since) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void finishRun(CollectionRun run) {
+        cancelSliceTask();
+        activeRun = null;
+
+        logger.info("[TaxScheduler] 토지세 징수 - 성공: " + run.landSuccess + 
+                   ", 실패: " + run.landFail + 
+                   ", 면제: " + run.landExempt + 
+                   ", 총액: " + String.format("%,d", run.landTotal) + " BD");
         logger.info("[TaxScheduler] 세금 징수 완료 - 총합: " + 
-                   String.format("%,d", incomeTaxTotal + landTaxTotal) + " BD");
+                   String.format("%,d", run.incomeTotal + run.landTotal) + " BD (" +
+                   (System.currentTimeMillis() - run.runId) + "ms)");
+
+        progressWriter.execute(() -> {
+            if (progressFile.exists() && !progressFile.delete()) {
+                logger.warning("[TaxScheduler] 진행 파일 삭제 실패: " + progressFile.getName());
+            }
+        });
     }
 
+    private void logIncomeSummary(CollectionRun run) {
+        if (!config.isIncomeTaxEnabled() || incomeTaxService == null) {
+            return;
+        }
+        logger.info("[TaxScheduler] 소득세 징수 - 성공: " + run.incomeSuccess + 
+                   ", 면제: " + run.incomeExempt + 
+                   ", 총액: " + String.format("%,d", run.incomeTotal) + " BD");
+    }
+
+    private void logQuartileProgress(CollectionRun run) {
+        int total = run.phase == Phase.INCOME ? run.entries.size() : run.landOwners.size();
+        int done = run.phase == Phase.INCOME ? run.incomeCursor : run.landCursor;
+        if (total < 100 || run.nextQuartile > 3) {
+            return; // 적은 인원은 완료 로그로 충분
+        }
+        if (done * 4L >= (long) total * run.nextQuartile) {
+            logger.info("[TaxScheduler] " + (run.phase == Phase.INCOME ? "소득세" : "토지세") +
+                       " 징수 진행 중: " + (run.nextQuartile * 25) + "% (" + done + "/" + total + ")");
+            run.nextQuartile++;
+        }
+    }
+
+    // ===== [v3] 진행 상황 저장 / 재개 =====
+
     /**
-     * [v2] VIP 적용 토지세 징수
+     * 진행 상황 비동기 저장 (메인에서 값만 복사, 직렬화/쓰기는 전용 스레드)
      */
-    private LandTaxService.TaxCollectionResult collectLandTaxWithVip(UUID playerId) {
-        // [v2] VipService 전달하여 VIP 할인 적용
-        return landTaxService.collectTax(playerId, vipService);
+    private Future<?> writeProgressAsync(CollectionRun run) {
+        run.lastProgressSave = System.currentTimeMillis();
+
+        long runId = run.runId;
+        Phase phase = run.phase;
+        int incomeCursor = run.incomeCursor;
+        int landCursor = run.landCursor;
+        List<TaxEntry> entries = run.entries;
+        List<UUID> landOwners = run.landOwners;
+        long[] stats = run.statsSnapshot();
+
+        return progressWriter.submit(() -> {
+            YamlConfiguration yaml = new YamlConfiguration();
+            yaml.set("runId", runId);
+            yaml.set("phase", phase.name());
+            yaml.set("income.cursor", incomeCursor);
+            yaml.set("income.entries", entries.stream().map(TaxEntry::serialize).collect(Collectors.toList()));
+            yaml.set("land.cursor", landCursor);
+            if (landOwners != null) {
+                yaml.set("land.owners", landOwners.stream().map(UUID::toString).collect(Collectors.toList()));
+            }
+            yaml.set("stats", Arrays.stream(stats).boxed().collect(Collectors.toList()));
+
+            File tempFile = new File(progressFile.getParentFile(), PROGRESS_FILE + ".tmp");
+            try {
+                yaml.save(tempFile);
+                Files.move(tempFile.toPath(), progressFile.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "[TaxScheduler] 진행 상황 저장 실패", e);
+            }
+        });
     }
 
     /**
-     * [v2] 모든 활동 플레이어 수집 (소득세 대상)
-     * - 온라인 플레이어
-     * - 오프라인이지만 intervalIncome > 0인 플레이어
+     * 서버 크래시/종료로 중단된 징수 재개
      */
-    private Set<UUID> collectAllActivePlayers() {
-        Set<UUID> players = new HashSet<>();
-        
-        // 온라인 플레이어
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            players.add(player.getUniqueId());
+    private void resumeInterruptedRun() {
+        if (!progressFile.exists()) {
+            return;
         }
-        
-        // 오프라인 플레이어 중 intervalIncome이 있는 플레이어
-        // (PlayerDataManager에서 모든 저장된 데이터 조회)
-        for (UUID playerId : playerDataManager.getAllPlayerIds()) {
-            PlayerTycoonData data = playerDataManager.get(playerId);
-            if (data != null && data.getIntervalIncome() > 0) {
-                players.add(playerId);
+
+        CollectionRun run;
+        try {
+            YamlConfiguration yaml = YamlConfiguration.loadConfiguration(progressFile);
+            run = new CollectionRun(yaml.getLong("runId"));
+            run.resumed = true;
+            run.phase = Phase.valueOf(yaml.getString("phase", Phase.INCOME.name()));
+            run.incomeCursor = yaml.getInt("income.cursor");
+            run.entries = new ArrayList<>();
+            for (String line : yaml.getStringList("income.entries")) {
+                run.entries.add(TaxEntry.parse(line));
             }
+            run.landCursor = yaml.getInt("land.cursor");
+            if (run.phase == Phase.LAND) {
+                run.landOwners = new ArrayList<>();
+                for (String owner : yaml.getStringList("land.owners")) {
+                    run.landOwners.add(UUID.fromString(owner));
+                }
+            }
+            run.restoreStats(yaml.getLongList("stats"));
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "[TaxScheduler] 진행 파일 손상 - 중단된 징수를 폐기합니다.", e);
+            progressFile.delete();
+            return;
         }
-        
-        return players;
+
+        activeRun = run;
+        lastCollectionTime = run.runId;
+        logger.info("[TaxScheduler] 중단된 징수를 재개합니다. (" + run.describeProgress() + ")");
+        startSlicing(run, RESUME_DELAY_TICKS);
+    }
+
+    /**
+     * [v2] VIP 적용 토지세 징수
+     */
+    private LandTaxService.TaxCollectionResult collectLandTaxWithVip(UUID playerId) {
+        // [v2] VipService 전달하여 VIP 할인 적용
+        return landTaxService.collectTax(playerId, vipService);
     }
 
     /**
      * 마을 소유자 UUID 목록 수집
      */
     private Set<UUID> collectLandOwners() {
-        Set<UUID> owners = new HashSet<>();
+        Set<UUID> owners = new LinkedHashSet<>();
 
         // 온라인 플레이어의 마을 소유자
         for (Player player : Bukkit.getOnlinePlayers()) {
@@ -348,9 +743,15 @@ public class TaxScheduler {
 
     /**
      * 수동 징수 (관리자용)
+     * 
+     * @return 징수를 시작했으면 true, 이미 진행 중이면 false
      */
-    public void forceCollection() {
+    public boolean forceCollection() {
+        if (activeRun != null) {
+            return false;
+        }
         runCollection();
+        return true;
     }
 
     /**
@@ -360,6 +761,21 @@ public class TaxScheduler {
         return landTaxService.collectTax(playerId);
     }
 
+    /**
+     * [v3] 징수 진행 중 여부
+     */
+    public boolean isCollecting() {
+        return activeRun != null;
+    }
+
+    /**
+     * [v3] 진행 중인 징수 상태 (진행 중이 아니면 null)
+     */
+    public String getCollectionProgress() {
+        CollectionRun run = activeRun;
+        return run != null ? run.describeProgress() : null;
+    }
+
     /**
      * 마지막 징수 시간 조회
      */
@@ -377,4 +793,110 @@ public class TaxScheduler {
         long elapsed = System.currentTimeMillis() - lastCollectionTime;
         return Math.max(0, config.getPeriodMillis() - elapsed);
     }
+
+    // ===== [v3] 내부 클래스 =====
+
+    private enum Phase {
+        INCOME,
+        LAND
+    }
+
+    /**
+     * 한 번의 징수 실행 상태 (메인 스레드 전용)
+     */
+    private static class CollectionRun {
+        final long runId;                 // 시작 시각 (txnId 접두사 겸용)
+        boolean resumed;
+        Phase phase = Phase.INCOME;
+        List<TaxEntry> entries;           // 2단계 완료 전 null
+        int incomeCursor;
+        List<UUID> landOwners;            // 토지세 단계 진입 전 null
+        int landCursor;
+        int nextQuartile = 1;
+        long lastProgressSave;
+
+        int incomeSuccess;
+        int incomeExempt;
+        long incomeTotal;
+        int landSuccess;
+        int landFail;
+        int landExempt;
+        long landTotal;
+
+        CollectionRun(long runId) {
+            this.runId = runId;
+        }
+
+        long[] statsSnapshot() {
+            return new long[] { incomeSuccess, incomeExempt, incomeTotal,
+                                landSuccess, landFail, landExempt, landTotal };
+        }
+
+        void restoreStats(List<Long> stats) {
+            if (stats.size() < 7) {
+                return;
+            }
+            incomeSuccess = stats.get(0).intValue();
+            incomeExempt = stats.get(1).intValue();
+            incomeTotal = stats.get(2);
+            landSuccess = stats.get(3).intValue();
+            landFail = stats.get(4).intValue();
+            landExempt = stats.get(5).intValue();
+            landTotal = stats.get(6);
+        }
+
+        String describeProgress() {
+            if (entries == null) {
+                return "세금 계산 중";
+            }
+            if (phase == Phase.INCOME) {
+                return "소득세 " + incomeCursor + "/" + entries.size();
+            }
+            return "토지세 " + landCursor + "/" + landOwners.size();
+        }
+    }
+
+    /**
+     * 계산된 소득세 항목 (진행 파일 직렬화 지원)
+     */
+    private static class TaxEntry {
+        final UUID playerId;
+        final long intervalIncome;        // 계산 시점 간격 소득 (이후 소득은 이월)
+        final IncomeTaxService.IntervalTaxResult result;
+
+        TaxEntry(UUID playerId, long intervalIncome, IncomeTaxService.IntervalTaxResult result) {
+            this.playerId = playerId;
+            this.intervalIncome = intervalIncome;
+            this.result = result;
+        }
+
+        String serialize() {
+            if (result.isExempt()) {
+                return playerId + ";" + intervalIncome + ";EXEMPT";
+            }
+            return playerId + ";" + intervalIncome + ";" + result.getCurrentBalance() + ";" +
+                   result.getEarnedTax() + ";" + result.getWealthTax() + ";" + result.getTotalTax() + ";" +
+                   result.getEarnedRate() + ";" + result.getWealthRate() + ";" +
+                   result.isVip() + ";" + result.getVipDiscount();
+        }
+
+        static TaxEntry parse(String line) {
+            String[] parts = line.split(";");
+            UUID playerId = UUID.fromString(parts[0]);
+            long intervalIncome = Long.parseLong(parts[1]);
+            if ("EXEMPT".equals(parts[2])) {
+                return new TaxEntry(playerId, intervalIncome, IncomeTaxService.IntervalTaxResult.exemptInactive());
+            }
+            return new TaxEntry(playerId, intervalIncome, new IncomeTaxService.IntervalTaxResult(
+                    intervalIncome,
+                    Long.parseLong(parts[2]),
+                    Long.parseLong(parts[3]),
+                    Long.parseLong(parts[4]),
+                    Long.parseLong(parts[5]),
+                    Double.parseDouble(parts[6]),
+                    Double.parseDouble(parts[7]),
+                    Boolean.parseBoolean(parts[8]),
+                    Long.parseLong(parts[9])));
+        }
+    }
 }
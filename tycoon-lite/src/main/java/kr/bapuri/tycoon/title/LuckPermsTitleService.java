@@ -1,5 +1,6 @@
 package kr.bapuri.tycoon.title;
 
+import kr.bapuri.tycoon.player.PlayerChangeListener;
 import kr.bapuri.tycoon.player.PlayerDataManager;
 import kr.bapuri.tycoon.player.PlayerTycoonData;
 import net.luckperms.api.LuckPerms;
@@ -141,6 +142,7 @@ public class LuckPermsTitleService {
         
         // 새 칭호 장착
         data.setEquippedTitle(titleId);
+        dataManager.notifyChange(player.getUniqueId(), PlayerChangeListener.Kind.TITLE);
         addToLuckPermsGroup(player, titleId);
         
         player.sendMessage("§a칭호 " + title.getColoredDisplayName() + " §a장착!");
@@ -164,6 +166,7 @@ public class LuckPermsTitleService {
         }
         
         data.setEquippedTitle(null);
+        dataManager.notifyChange(player.getUniqueId(), PlayerChangeListener.Kind.TITLE);
         player.sendMessage("§7칭호를 해제했습니다.");
     }
     
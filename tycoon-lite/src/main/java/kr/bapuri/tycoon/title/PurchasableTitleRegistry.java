@@ -1,13 +1,11 @@
 package kr.bapuri.tycoon.title;
 
+import kr.bapuri.tycoon.bootstrap.YamlPrefetcher;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -47,13 +45,11 @@ public class PurchasableTitleRegistry {
             plugin.saveResource("purchasable_titles.yml", false);
         }
         
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(titlesFile);
+        YamlConfiguration config = YamlPrefetcher.load(titlesFile);
         
         // 기본값 로드 (jar 내부)
-        InputStream defaultStream = plugin.getResource("purchasable_titles.yml");
-        if (defaultStream != null) {
-            YamlConfiguration defaults = YamlConfiguration.loadConfiguration(
-                new InputStreamReader(defaultStream, StandardCharsets.UTF_8));
+        YamlConfiguration defaults = YamlPrefetcher.loadResource(plugin, "purchasable_titles.yml");
+        if (defaults != null) {
             config.setDefaults(defaults);
         }
         
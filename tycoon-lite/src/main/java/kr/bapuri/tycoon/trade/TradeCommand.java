@@ -1,16 +1,20 @@
 package kr.bapuri.tycoon.trade;
 
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -22,16 +26,19 @@ import java.util.stream.Collectors;
  * - /trade deny - 거래 거절
  * - /trade cancel - 거래 취소
  * - /trade confirm - 거래 확정
- * - /trade history - 거래 기록 보기
+ * - /trade history [페이지] - 거래 기록 보기
+ * - /trade history <플레이어> [상대] [페이지] - 거래 기록 조사 (관리자)
  * 
  * [Phase 8 버그수정] TradeGui 의존성 추가 - 수락 시 GUI 열기
  */
 public class TradeCommand implements CommandExecutor, TabCompleter {
 
+    private final Plugin plugin;
     private final TradeService tradeService;
     private TradeGui tradeGui;
     
-    public TradeCommand(TradeService tradeService) {
+    public TradeCommand(Plugin plugin, TradeService tradeService) {
+        this.plugin = plugin;
         this.tradeService = tradeService;
     }
     
@@ -44,6 +51,8 @@ public class TradeCommand implements CommandExecutor, TabCompleter {
     }
     
     private static final String USE_PERMISSION = "tycoon.trade.use";
+    private static final String ADMIN_PERMISSION = "tycoon.admin.trade";
+    private static final int HISTORY_PAGE_SIZE = 10;
     
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
@@ -105,7 +114,7 @@ public class TradeCommand implements CommandExecutor, TabCompleter {
                 tradeService.completeTrade(player);
             }
             case "history", "기록" -> {
-                showHistory(player);
+                handleHistory(player, args);
             }
             case "help", "도움말" -> {
                 sendUsage(player);
@@ -147,27 +156,90 @@ public class TradeCommand implements CommandExecutor, TabCompleter {
         player.sendMessage("§e/trade cancel §7- 거래 취소");
         player.sendMessage("§e/trade confirm §7- 거래 확정 토글");
         player.sendMessage("§e/trade complete §7- 거래 완료");
-        player.sendMessage("§e/trade history §7- 거래 기록 보기");
+        player.sendMessage("§e/trade history [페이지] §7- 거래 기록 보기");
+        if (player.hasPermission(ADMIN_PERMISSION)) {
+            player.sendMessage("§e/trade history <플레이어> [상대] [페이지] §7- 거래 기록 조사");
+        }
     }
     
-    private void showHistory(Player player) {
-        List<TradeHistoryEntry> history = tradeService.getHistoryManager()
-                .getPlayerHistory(player.getUniqueId(), 10);
+    /**
+     * /trade history [페이지]
+     * /trade history <플레이어> [상대] [페이지] (관리자)
+     */
+    private void handleHistory(Player player, String[] args) {
+        UUID targetId = player.getUniqueId();
+        String targetName = player.getName();
+        UUID counterpartId = null;
+        String counterpartName = null;
+        int page = 1;
+
+        // 페이지는 마지막 인자에서만 읽음 (숫자 이름의 플레이어는 페이지로 보지 않음)
+        List<String> rest = new ArrayList<>(Arrays.asList(args).subList(1, args.length));
+        if (!rest.isEmpty() && isPageArgument(rest.get(rest.size() - 1), rest.size())) {
+            page = Math.max(1, Integer.parseInt(rest.remove(rest.size() - 1)));
+        }
+        if (!rest.isEmpty()) {
+            if (!player.hasPermission(ADMIN_PERMISSION)) {
+                player.sendMessage("§c권한이 없습니다.");
+                return;
+            }
+            // 접속한 적 있는 플레이어만 (이름 → UUID 조회로 메인 스레드를 막지 않음)
+            OfflinePlayer target = Bukkit.getOfflinePlayerIfCached(rest.get(0));
+            if (target == null) {
+                player.sendMessage("§c[거래] 플레이어 '" + rest.get(0) + "'을(를) 찾을 수 없습니다.");
+                return;
+            }
+            targetId = target.getUniqueId();
+            targetName = target.getName() != null ? target.getName() : rest.get(0);
+            if (rest.size() > 1) {
+                OfflinePlayer counterpart = Bukkit.getOfflinePlayerIfCached(rest.get(1));
+                if (counterpart == null) {
+                    player.sendMessage("§c[거래] 플레이어 '" + rest.get(1) + "'을(를) 찾을 수 없습니다.");
+                    return;
+                }
+                counterpartId = counterpart.getUniqueId();
+                counterpartName = counterpart.getName() != null ? counterpart.getName() : rest.get(1);
+            }
+        }
+
+        final UUID viewId = targetId;
+        final String viewName = targetName;
+        final String viewCounterpart = counterpartName;
+        final boolean self = viewId.equals(player.getUniqueId());
+        tradeService.getHistoryManager()
+                .queryPlayerHistory(viewId, counterpartId, page - 1, HISTORY_PAGE_SIZE)
+                .whenComplete((result, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (!player.isOnline()) {
+                        return;
+                    }
+                    if (error != null) {
+                        player.sendMessage("§c[거래] 거래 기록을 불러오지 못했습니다.");
+                        return;
+                    }
+                    showHistory(player, viewId, self ? null : viewName, viewCounterpart, result);
+                }));
+    }
+
+    private void showHistory(Player player, UUID viewId, String viewName, String counterpartName,
+                             TradeHistoryManager.HistoryPage result) {
+        List<TradeHistoryEntry> history = result.getEntries();
         
         if (history.isEmpty()) {
             player.sendMessage("§7[거래] 거래 기록이 없습니다.");
             return;
         }
         
-        player.sendMessage("§6[최근 거래 기록]");
+        player.sendMessage("§6[" + (viewName != null ? viewName + "의 " : "최근 ") + "거래 기록] §7(" +
+                (result.getPage() + 1) + "/" + result.getTotalPages() + " 페이지, 총 " +
+                result.getTotalCount() + "건)");
         
-        SimpleDateFormat sdf = new SimpleDateFormat("MM/dd HH:mm");
+        SimpleDateFormat sdf = new SimpleDateFormat(viewName != null ? "yy/MM/dd HH:mm" : "MM/dd HH:mm");
         
         for (TradeHistoryEntry entry : history) {
-            String otherName = entry.getOtherPlayerName(player.getUniqueId());
+            String otherName = entry.getOtherPlayerName(viewId);
             String timeStr = sdf.format(new Date(entry.getTimestamp()));
             
-            boolean isPlayer1 = entry.getPlayer1Id().equals(player.getUniqueId());
+            boolean isPlayer1 = entry.getPlayer1Id().equals(viewId);
             long myBd = isPlayer1 ? entry.getPlayer1Bd() : entry.getPlayer2Bd();
             long myBc = isPlayer1 ? entry.getPlayer1Bc() : entry.getPlayer2Bc();
             List<String> myItems = isPlayer1 ? entry.getPlayer1ItemDescriptions() : entry.getPlayer2ItemDescriptions();
@@ -179,6 +251,42 @@ public class TradeCommand implements CommandExecutor, TabCompleter {
             player.sendMessage("§7" + timeStr + " §e" + otherName);
             player.sendMessage("  §c→ 줌: §f" + formatTradeContent(myBd, myBc, myItems));
             player.sendMessage("  §a← 받음: §f" + formatTradeContent(otherBd, otherBc, otherItems));
+            if (viewName != null) {
+                player.sendMessage("  §8거래 ID: " + entry.getTradeId());
+            }
+        }
+        
+        if (result.getPage() + 1 < result.getTotalPages()) {
+            StringBuilder next = new StringBuilder("/trade history ");
+            if (viewName != null || counterpartName != null) {
+                next.append(viewName != null ? viewName : player.getName()).append(' ');
+            }
+            if (counterpartName != null) {
+                next.append(counterpartName).append(' ');
+            }
+            next.append(result.getPage() + 2);
+            player.sendMessage("§7다음 페이지: §e" + next);
+        }
+    }
+    
+    /**
+     * 마지막 인자가 페이지 번호인지 판단
+     * - <플레이어> [상대] [페이지] 세 개가 모두 있으면 항상 페이지
+     * - 그 외에는 같은 이름의 플레이어가 서버에 접속한 적이 없을 때만 페이지
+     */
+    private boolean isPageArgument(String value, int argCount) {
+        if (!isNumber(value)) {
+            return false;
+        }
+        return argCount >= 3 || Bukkit.getOfflinePlayerIfCached(value) == null;
+    }
+    
+    private boolean isNumber(String value) {
+        try {
+            Integer.parseInt(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
         }
     }
     
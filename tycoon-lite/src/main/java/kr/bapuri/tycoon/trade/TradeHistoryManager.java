@@ -4,159 +4,675 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.Plugin;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 /**
  * TradeHistoryManager - 거래 기록 저장/조회
- * 
- * 파일 기반 영구 저장 (data/trade_history.yml)
+ *
+ * [v2] 세그먼트 기반 추가 전용 로그 (data/trade_log/trades-<id>.log)
+ * - 거래 1건 = 레코드 1개 추가 (파일 전체 재작성 없음)
+ * - 레코드: [길이][CRC32][본문], 비정상 종료로 잘린 꼬리는 로드 시 잘라냄
+ * - 세그먼트 크기/기간 초과 시 회전, 보존 기간이 지난 세그먼트 삭제
+ * - 플레이어별 오프셋 인덱스로 페이지 조회 (파일 스캔 없음)
+ * - 쓰기/조회/회전은 전용 스레드에서 순차 처리 (메인 스레드 I/O 없음)
+ * - 기존 trade_history.yml은 최초 실행 시 로그로 이관
  */
 public class TradeHistoryManager {
 
+    private static final int SEGMENT_MAGIC = 0x54524C31; // "TRL1"
+    private static final int SEGMENT_HEADER_BYTES = 4 + 8; // magic + 생성 시각
+    private static final int RECORD_HEADER_BYTES = 4 + 4;  // 길이 + CRC32
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+    private static final String SEGMENT_PREFIX = "trades-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    // 위치 = (세그먼트 ID << 40) | 오프셋
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+    private static final long SEGMENT_MAX_AGE_MS = TimeUnit.DAYS.toMillis(1);
+    private static final long RETENTION_CHECK_HOURS = 1;
+
     private final Plugin plugin;
     private final Logger logger;
-    private final File historyFile;
-    
-    private final List<TradeHistoryEntry> recentHistory = new ArrayList<>();
+    private final File logDir;
+    private final File legacyFile;
+    private final long segmentMaxBytes;
+    private final long retentionMillis;
+    private final ScheduledExecutorService executor;
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+
+    // 최근 기록 메모리 캐시 (최신순)
+    private final Deque<TradeHistoryEntry> recentHistory = new ArrayDeque<>();
     private static final int MAX_MEMORY_CACHE = 500;
-    
+
+    // ===== 아래 상태는 executor 스레드 전용 =====
+    private final TreeMap<Integer, SegmentInfo> segments = new TreeMap<>();
+    private final Map<UUID, PositionList> playerIndex = new HashMap<>();
+    private final PositionList globalIndex = new PositionList();
+    private FileChannel activeChannel;
+    private SegmentInfo activeSegment;
+
     public TradeHistoryManager(Plugin plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
-        
+
         File dataFolder = new File(plugin.getDataFolder(), "data");
-        if (!dataFolder.exists()) {
-            dataFolder.mkdirs();
+        this.logDir = new File(dataFolder, "trade_log");
+        if (!logDir.exists()) {
+            logDir.mkdirs();
         }
-        this.historyFile = new File(dataFolder, "trade_history.yml");
-        
-        loadHistory();
+        this.legacyFile = new File(dataFolder, "trade_history.yml");
+
+        this.segmentMaxBytes = Math.max(64L, plugin.getConfig().getLong("trade.history.segmentMaxKb", 4096)) * 1024L;
+        this.retentionMillis = TimeUnit.DAYS.toMillis(
+                Math.max(1, plugin.getConfig().getInt("trade.history.retentionDays", 180)));
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Tycoon-TradeLog");
+            t.setDaemon(true);
+            return t;
+        });
+
+        executor.execute(this::openLog);
+        executor.scheduleAtFixedRate(this::applyRetentionSafely,
+                RETENTION_CHECK_HOURS, RETENTION_CHECK_HOURS, TimeUnit.HOURS);
     }
-    
+
     public void saveTradeHistory(TradeHistoryEntry entry) {
-        recentHistory.add(0, entry);
-        
-        while (recentHistory.size() > MAX_MEMORY_CACHE) {
-            recentHistory.remove(recentHistory.size() - 1);
-        }
-        
-        saveToFile(entry);
-        
-        logger.info("[거래 기록] " + entry.getPlayer1Name() + " <-> " + entry.getPlayer2Name() + 
+        synchronized (recentHistory) {
+            recentHistory.addFirst(entry);
+            while (recentHistory.size() > MAX_MEMORY_CACHE) {
+                recentHistory.removeLast();
+            }
+        }
+
+        executor.execute(() -> {
+            try {
+                append(entry);
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "[TradeHistory] 기록 저장 실패: " + entry.getTradeId(), e);
+            }
+        });
+
+        logger.info("[거래 기록] " + entry.getPlayer1Name() + " <-> " + entry.getPlayer2Name() +
                     " | 거래 ID: " + entry.getTradeId());
     }
-    
+
+    /**
+     * 최근 기록 중 플레이어 거래 (메모리 캐시, 즉시 반환)
+     */
     public List<TradeHistoryEntry> getPlayerHistory(UUID playerId, int limit) {
-        return recentHistory.stream()
-                .filter(entry -> entry.isParticipant(playerId))
-                .limit(limit)
-                .collect(Collectors.toList());
+        synchronized (recentHistory) {
+            return recentHistory.stream()
+                    .filter(entry -> entry.isParticipant(playerId))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
     }
-    
+
     public List<TradeHistoryEntry> getRecentHistory(int limit) {
-        return recentHistory.stream()
-                .limit(limit)
-                .collect(Collectors.toList());
-    }
-    
-    private void loadHistory() {
-        if (!historyFile.exists()) {
-            logger.info("[TradeHistory] 기록 파일 없음, 새로 생성됩니다.");
-            return;
+        synchronized (recentHistory) {
+            return recentHistory.stream()
+                    .limit(limit)
+                    .collect(Collectors.toList());
         }
-        
-        try {
-            YamlConfiguration config = YamlConfiguration.loadConfiguration(historyFile);
-            ConfigurationSection tradesSection = config.getConfigurationSection("trades");
-            
-            if (tradesSection == null) {
-                return;
-            }
-            
-            List<String> tradeIds = new ArrayList<>(tradesSection.getKeys(false));
-            Collections.reverse(tradeIds);
-            
-            int loaded = 0;
-            for (String tradeIdStr : tradeIds) {
-                if (loaded >= MAX_MEMORY_CACHE) break;
-                
-                ConfigurationSection tradeSection = tradesSection.getConfigurationSection(tradeIdStr);
-                if (tradeSection == null) continue;
-                
+    }
+
+    // ===== 페이지 조회 (전체 로그 대상) =====
+
+    /**
+     * 플레이어 거래 기록 페이지 조회 (최신순)
+     *
+     * @param playerId 플레이어
+     * @param counterpartId 상대방 (null이면 전체)
+     * @param page 0부터 시작
+     * @param pageSize 페이지 크기
+     * @return 비동기 결과 (전용 스레드에서 완료됨)
+     */
+    public CompletableFuture<HistoryPage> queryPlayerHistory(UUID playerId, UUID counterpartId,
+                                                             int page, int pageSize) {
+        return ready.thenApplyAsync(v -> {
+            PositionList positions = playerIndex.get(playerId);
+            if (positions == null) {
+                return HistoryPage.empty(page, pageSize);
+            }
+            if (counterpartId != null) {
+                PositionList other = playerIndex.get(counterpartId);
+                if (other == null) {
+                    return HistoryPage.empty(page, pageSize);
+                }
+                positions = positions.intersect(other);
+            }
+            return readPage(positions, page, pageSize);
+        }, executor);
+    }
+
+    /**
+     * 전체 거래 기록 페이지 조회 (최신순, 관리자 조사용)
+     */
+    public CompletableFuture<HistoryPage> queryRecent(int page, int pageSize) {
+        return ready.thenApplyAsync(v -> readPage(globalIndex, page, pageSize), executor);
+    }
+
+    private HistoryPage readPage(PositionList positions, int page, int pageSize) {
+        int total = positions.size();
+        int from = total - 1 - page * pageSize;
+        List<TradeHistoryEntry> entries = new ArrayList<>();
+        try (SegmentReader reader = new SegmentReader()) {
+            for (int i = from; i >= 0 && i > from - pageSize; i--) {
                 try {
-                    TradeHistoryEntry entry = loadEntry(tradeSection);
+                    TradeHistoryEntry entry = reader.readAt(positions.get(i));
                     if (entry != null) {
-                        recentHistory.add(entry);
-                        loaded++;
+                        entries.add(entry);
                     }
-                } catch (Exception e) {
-                    logger.warning("[TradeHistory] 기록 로드 실패: " + tradeIdStr + " - " + e.getMessage());
+                } catch (IOException e) {
+                    logger.warning("[TradeHistory] 기록 읽기 실패 (pos=" + positions.get(i) + "): " + e.getMessage());
                 }
             }
-            
-            logger.info("[TradeHistory] " + loaded + "건의 거래 기록 로드됨");
-            
-        } catch (Exception e) {
-            logger.severe("[TradeHistory] 기록 파일 로드 실패: " + e.getMessage());
+        }
+        return new HistoryPage(entries, page, pageSize, total);
+    }
+
+    /**
+     * 종료 (대기 중인 쓰기 완료 후 파일 닫기)
+     */
+    public void shutdown() {
+        executor.execute(this::closeActive);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warning("[TradeHistory] 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
-    
-    private void saveToFile(TradeHistoryEntry entry) {
+
+    // ===== 로그 열기 / 인덱스 재구성 (executor 스레드) =====
+
+    private void openLog() {
         try {
-            YamlConfiguration config;
-            if (historyFile.exists()) {
-                config = YamlConfiguration.loadConfiguration(historyFile);
+            File[] files = logDir.listFiles((dir, name) ->
+                    name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+            if (files != null) {
+                for (File file : files) {
+                    String idPart = file.getName().substring(SEGMENT_PREFIX.length(),
+                            file.getName().length() - SEGMENT_SUFFIX.length());
+                    try {
+                        int id = Integer.parseInt(idPart);
+                        segments.put(id, new SegmentInfo(id, file));
+                    } catch (NumberFormatException ignored) {
+                        logger.warning("[TradeHistory] 알 수 없는 세그먼트 파일: " + file.getName());
+                    }
+                }
+            }
+
+            Set<UUID> knownTradeIds = legacyFile.exists() ? new HashSet<>() : null;
+            Iterator<SegmentInfo> it = segments.values().iterator();
+            while (it.hasNext()) {
+                SegmentInfo segment = it.next();
+                try {
+                    scanSegment(segment, knownTradeIds);
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "[TradeHistory] 세그먼트 제외: " + segment.file.getName(), e);
+                    it.remove();
+                }
+            }
+
+            if (segments.isEmpty()) {
+                openNewSegment();
             } else {
-                config = new YamlConfiguration();
-            }
-            
-            String path = "trades." + entry.getTradeId().toString();
-            
-            config.set(path + ".timestamp", entry.getTimestamp());
-            config.set(path + ".player1.uuid", entry.getPlayer1Id().toString());
-            config.set(path + ".player1.name", entry.getPlayer1Name());
-            config.set(path + ".player1.items", entry.getPlayer1ItemDescriptions());
-            config.set(path + ".player1.bd", entry.getPlayer1Bd());
-            config.set(path + ".player1.bc", entry.getPlayer1Bc());
-            
-            config.set(path + ".player2.uuid", entry.getPlayer2Id().toString());
-            config.set(path + ".player2.name", entry.getPlayer2Name());
-            config.set(path + ".player2.items", entry.getPlayer2ItemDescriptions());
-            config.set(path + ".player2.bd", entry.getPlayer2Bd());
-            config.set(path + ".player2.bc", entry.getPlayer2Bc());
-            
-            config.save(historyFile);
-            
+                SegmentInfo last = segments.lastEntry().getValue();
+                activeChannel = FileChannel.open(last.file.toPath(), StandardOpenOption.WRITE);
+                activeChannel.position(last.size);
+                activeSegment = last;
+            }
+
+            if (knownTradeIds != null) {
+                migrateLegacy(knownTradeIds);
+            }
+
+            applyRetention();
+            fillRecentCache();
+
+            logger.info("[TradeHistory] 거래 로그 로드 완료 (" + globalIndex.size() + "건, 세그먼트 " +
+                       segments.size() + "개, 플레이어 " + playerIndex.size() + "명)");
+            ready.complete(null);
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "[TradeHistory] 거래 로그 열기 실패", e);
+            ready.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 세그먼트 스캔: 인덱스 구성 + 손상된 꼬리 잘라내기
+     */
+    private void scanSegment(SegmentInfo segment, Set<UUID> tradeIdsOut) throws IOException {
+        long validEnd = SEGMENT_HEADER_BYTES;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(segment.file)))) {
+            if (in.readInt() != SEGMENT_MAGIC) {
+                throw new IOException("잘못된 세그먼트 헤더: " + segment.file.getName());
+            }
+            segment.createdAt = in.readLong();
+
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                int checksum;
+                byte[] payload;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD_BYTES) {
+                        break;
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                } catch (EOFException eof) {
+                    break;
+                }
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+
+                long position = toPosition(segment.id, validEnd);
+                indexRecord(position, ByteBuffer.wrap(payload), segment, tradeIdsOut);
+                validEnd += RECORD_HEADER_BYTES + length;
+            }
+        } catch (EOFException eof) {
+            // 헤더조차 없는 빈 세그먼트
+            segment.createdAt = System.currentTimeMillis();
+            validEnd = 0;
+        }
+
+        long fileLength = segment.file.length();
+        if (validEnd < fileLength) {
+            logger.warning("[TradeHistory] 손상된 꼬리 잘라냄: " + segment.file.getName() +
+                          " (" + (fileLength - validEnd) + " bytes)");
+            try (FileChannel channel = FileChannel.open(segment.file.toPath(), StandardOpenOption.WRITE)) {
+                channel.truncate(validEnd);
+            }
+        }
+        if (validEnd == 0) {
+            writeSegmentHeader(segment);
+            validEnd = SEGMENT_HEADER_BYTES;
+        }
+        segment.size = validEnd;
+    }
+
+    /**
+     * 레코드 본문 앞부분(참가자/시각/거래 ID)만 읽어 인덱스에 추가
+     */
+    private void indexRecord(long position, ByteBuffer payload, SegmentInfo segment, Set<UUID> tradeIdsOut) {
+        UUID player1Id = new UUID(payload.getLong(), payload.getLong());
+        UUID player2Id = new UUID(payload.getLong(), payload.getLong());
+        long timestamp = payload.getLong();
+
+        globalIndex.add(position);
+        playerIndex.computeIfAbsent(player1Id, k -> new PositionList()).add(position);
+        if (!player2Id.equals(player1Id)) {
+            playerIndex.computeIfAbsent(player2Id, k -> new PositionList()).add(position);
+        }
+        segment.lastTimestamp = Math.max(segment.lastTimestamp, timestamp);
+
+        if (tradeIdsOut != null) {
+            tradeIdsOut.add(new UUID(payload.getLong(), payload.getLong()));
+        }
+    }
+
+    private void fillRecentCache() throws IOException {
+        List<TradeHistoryEntry> loaded = new ArrayList<>();
+        try (SegmentReader reader = new SegmentReader()) {
+            for (int i = globalIndex.size() - 1; i >= 0 && loaded.size() < MAX_MEMORY_CACHE; i--) {
+                TradeHistoryEntry entry = reader.readAt(globalIndex.get(i));
+                if (entry != null) {
+                    loaded.add(entry);
+                }
+            }
+        }
+        synchronized (recentHistory) {
+            // 로드 중 추가된 새 거래가 앞에 오도록 뒤에 붙임
+            for (TradeHistoryEntry entry : loaded) {
+                if (recentHistory.size() >= MAX_MEMORY_CACHE) break;
+                recentHistory.addLast(entry);
+            }
+        }
+    }
+
+    // ===== 쓰기 / 회전 (executor 스레드) =====
+
+    private void append(TradeHistoryEntry entry) throws IOException {
+        if (activeChannel == null) {
+            throw new IOException("거래 로그가 열려 있지 않음");
+        }
+
+        byte[] payload = encode(entry);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        long now = System.currentTimeMillis();
+        long recordBytes = RECORD_HEADER_BYTES + payload.length;
+        boolean full = activeSegment.size > SEGMENT_HEADER_BYTES
+                && activeSegment.size + recordBytes > segmentMaxBytes;
+        boolean expired = now - activeSegment.createdAt > SEGMENT_MAX_AGE_MS;
+        if (full || expired) {
+            rotate();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) recordBytes);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        buffer.flip();
+
+        long offset = activeSegment.size;
+        while (buffer.hasRemaining()) {
+            activeChannel.write(buffer, offset + buffer.position());
+        }
+        activeSegment.size += recordBytes;
+
+        indexRecord(toPosition(activeSegment.id, offset), ByteBuffer.wrap(payload), activeSegment, null);
+    }
+
+    private void rotate() throws IOException {
+        closeActive();
+        openNewSegment();
+        applyRetention();
+    }
+
+    private void openNewSegment() throws IOException {
+        int id = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        File file = new File(logDir, String.format("%s%08d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        SegmentInfo segment = new SegmentInfo(id, file);
+        segment.createdAt = System.currentTimeMillis();
+        writeSegmentHeader(segment);
+        segment.size = SEGMENT_HEADER_BYTES;
+        segments.put(id, segment);
+
+        activeChannel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE);
+        activeSegment = segment;
+    }
+
+    private void writeSegmentHeader(SegmentInfo segment) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(segment.file))) {
+            out.writeInt(SEGMENT_MAGIC);
+            out.writeLong(segment.createdAt);
+        }
+    }
+
+    private void closeActive() {
+        if (activeChannel == null) {
+            return;
+        }
+        try {
+            activeChannel.force(true);
+            activeChannel.close();
         } catch (IOException e) {
-            logger.severe("[TradeHistory] 기록 저장 실패: " + e.getMessage());
+            logger.log(Level.WARNING, "[TradeHistory] 세그먼트 닫기 실패", e);
         }
+        activeChannel = null;
     }
-    
+
+    private void applyRetentionSafely() {
+        try {
+            applyRetention();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "[TradeHistory] 보존 기간 정리 실패", e);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 세그먼트 삭제 (활성 세그먼트 제외) + 인덱스 정리
+     */
+    private void applyRetention() {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        int removed = 0;
+        Iterator<SegmentInfo> it = segments.values().iterator();
+        while (it.hasNext()) {
+            SegmentInfo segment = it.next();
+            if (segment == activeSegment || segment.lastTimestamp >= cutoff) {
+                break; // 세그먼트는 시간순이므로 이후는 모두 보존 대상
+            }
+            if (segment.file.delete() || !segment.file.exists()) {
+                it.remove();
+                removed++;
+            }
+        }
+        if (removed == 0) {
+            return;
+        }
+
+        long minPosition = toPosition(segments.firstKey(), 0);
+        globalIndex.removeBelow(minPosition);
+        playerIndex.values().removeIf(list -> {
+            list.removeBelow(minPosition);
+            return list.size() == 0;
+        });
+        logger.info("[TradeHistory] 보존 기간 만료 세그먼트 " + removed + "개 삭제");
+    }
+
+    // ===== 레코드 인코딩 =====
+
+    private static long toPosition(int segmentId, long offset) {
+        return ((long) segmentId << OFFSET_BITS) | offset;
+    }
+
+    /**
+     * 본문 레이아웃: 참가자 UUID 2개 + 시각 + 거래 ID를 앞에 고정 배치 (인덱스 스캔용)
+     */
+    private static byte[] encode(TradeHistoryEntry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeUuid(out, entry.getPlayer1Id());
+        writeUuid(out, entry.getPlayer2Id());
+        out.writeLong(entry.getTimestamp());
+        writeUuid(out, entry.getTradeId());
+        out.writeUTF(nullToEmpty(entry.getPlayer1Name()));
+        out.writeUTF(nullToEmpty(entry.getPlayer2Name()));
+        out.writeLong(entry.getPlayer1Bd());
+        out.writeLong(entry.getPlayer1Bc());
+        out.writeLong(entry.getPlayer2Bd());
+        out.writeLong(entry.getPlayer2Bc());
+        writeStrings(out, entry.getPlayer1ItemDescriptions());
+        writeStrings(out, entry.getPlayer2ItemDescriptions());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static TradeHistoryEntry decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        UUID player1Id = readUuid(in);
+        UUID player2Id = readUuid(in);
+        long timestamp = in.readLong();
+        UUID tradeId = readUuid(in);
+        String player1Name = in.readUTF();
+        String player2Name = in.readUTF();
+        long player1Bd = in.readLong();
+        long player1Bc = in.readLong();
+        long player2Bd = in.readLong();
+        long player2Bc = in.readLong();
+        List<String> player1Items = readStrings(in);
+        List<String> player2Items = readStrings(in);
+        return new TradeHistoryEntry(
+                tradeId, timestamp,
+                player1Id, player2Id,
+                player1Name, player2Name,
+                player1Items, player1Bd, player1Bc,
+                player2Items, player2Bd, player2Bc
+        );
+    }
+
+    /**
+     * 조회 1회 동안 세그먼트별 읽기 채널을 하나씩만 열어 재사용 (쓰기 스레드 전용)
+     */
+    private final class SegmentReader implements Closeable {
+        private final Map<Integer, FileChannel> channels = new HashMap<>();
+
+        TradeHistoryEntry readAt(long position) throws IOException {
+            int segmentId = (int) (position >>> OFFSET_BITS);
+            SegmentInfo segment = segments.get(segmentId);
+            if (segment == null) {
+                return null; // 보존 기간 만료로 삭제됨
+            }
+            FileChannel channel = channels.get(segmentId);
+            if (channel == null) {
+                channel = FileChannel.open(segment.file.toPath(), StandardOpenOption.READ);
+                channels.put(segmentId, channel);
+            }
+            return readRecord(channel, position & OFFSET_MASK);
+        }
+
+        @Override
+        public void close() {
+            for (FileChannel channel : channels.values()) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // 읽기 전용 채널
+                }
+            }
+            channels.clear();
+        }
+    }
+
+    private static TradeHistoryEntry readRecord(FileChannel channel, long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        readFully(channel, header, offset);
+        header.flip();
+        int length = header.getInt();
+        int checksum = header.getInt();
+        if (length <= 0 || length > MAX_RECORD_BYTES) {
+            throw new IOException("잘못된 레코드 길이: " + length);
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(channel, payload, offset + RECORD_HEADER_BYTES);
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.array());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("CRC 불일치");
+        }
+        return decode(payload.array());
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        List<String> list = values != null ? values : Collections.emptyList();
+        out.writeShort(list.size());
+        for (String value : list) {
+            out.writeUTF(nullToEmpty(value));
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    // ===== 기존 YAML 이관 =====
+
+    /**
+     * trade_history.yml → 로그 이관 (이미 로그에 있는 거래 ID는 건너뜀)
+     */
+    private void migrateLegacy(Set<UUID> knownTradeIds) throws IOException {
+        List<TradeHistoryEntry> legacy = new ArrayList<>();
+        try {
+            YamlConfiguration config = YamlConfiguration.loadConfiguration(legacyFile);
+            ConfigurationSection tradesSection = config.getConfigurationSection("trades");
+            if (tradesSection != null) {
+                for (String tradeIdStr : tradesSection.getKeys(false)) {
+                    ConfigurationSection tradeSection = tradesSection.getConfigurationSection(tradeIdStr);
+                    if (tradeSection == null) continue;
+                    try {
+                        TradeHistoryEntry entry = loadEntry(tradeSection);
+                        if (entry != null && !knownTradeIds.contains(entry.getTradeId())) {
+                            legacy.add(entry);
+                        }
+                    } catch (Exception e) {
+                        logger.warning("[TradeHistory] 기록 로드 실패: " + tradeIdStr + " - " + e.getMessage());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.severe("[TradeHistory] 기록 파일 로드 실패: " + e.getMessage());
+            return;
+        }
+
+        legacy.sort(Comparator.comparingLong(TradeHistoryEntry::getTimestamp));
+        for (TradeHistoryEntry entry : legacy) {
+            append(entry);
+        }
+        activeChannel.force(true);
+
+        File migrated = new File(legacyFile.getParentFile(), legacyFile.getName() + ".migrated");
+        Files.move(legacyFile.toPath(), migrated.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        logger.info("[TradeHistory] 기존 거래 기록 " + legacy.size() + "건을 로그로 이관 (" +
+                   migrated.getName() + ")");
+    }
+
     private TradeHistoryEntry loadEntry(ConfigurationSection section) {
         UUID tradeId = UUID.fromString(section.getName());
         long timestamp = section.getLong("timestamp");
-        
+
         ConfigurationSection p1 = section.getConfigurationSection("player1");
         ConfigurationSection p2 = section.getConfigurationSection("player2");
-        
+
         if (p1 == null || p2 == null) return null;
-        
+
         UUID player1Id = UUID.fromString(p1.getString("uuid"));
         String player1Name = p1.getString("name");
         List<String> player1Items = p1.getStringList("items");
         long player1Bd = p1.getLong("bd");
         long player1Bc = p1.getLong("bc");
-        
+
         UUID player2Id = UUID.fromString(p2.getString("uuid"));
         String player2Name = p2.getString("name");
         List<String> player2Items = p2.getStringList("items");
         long player2Bd = p2.getLong("bd");
         long player2Bc = p2.getLong("bc");
-        
+
         return new TradeHistoryEntry(
                 tradeId, timestamp,
                 player1Id, player2Id,
@@ -165,4 +681,100 @@ public class TradeHistoryManager {
                 player2Items, player2Bd, player2Bc
         );
     }
+
+    // ===== 내부 클래스 =====
+
+    /**
+     * 페이지 조회 결과
+     */
+    public static class HistoryPage {
+        private final List<TradeHistoryEntry> entries;
+        private final int page;
+        private final int pageSize;
+        private final int totalCount;
+
+        public HistoryPage(List<TradeHistoryEntry> entries, int page, int pageSize, int totalCount) {
+            this.entries = entries;
+            this.page = page;
+            this.pageSize = pageSize;
+            this.totalCount = totalCount;
+        }
+
+        static HistoryPage empty(int page, int pageSize) {
+            return new HistoryPage(Collections.emptyList(), page, pageSize, 0);
+        }
+
+        public List<TradeHistoryEntry> getEntries() { return entries; }
+        public int getPage() { return page; }
+        public int getPageSize() { return pageSize; }
+        public int getTotalCount() { return totalCount; }
+        public int getTotalPages() { return Math.max(1, (totalCount + pageSize - 1) / pageSize); }
+    }
+
+    private static class SegmentInfo {
+        final int id;
+        final File file;
+        long createdAt;
+        long lastTimestamp;
+        long size;
+
+        SegmentInfo(int id, File file) {
+            this.id = id;
+            this.file = file;
+        }
+    }
+
+    /**
+     * 오름차순 위치 목록 (추가 전용, 앞부분 잘라내기 지원)
+     */
+    private static class PositionList {
+        private long[] values = new long[8];
+        private int size;
+
+        void add(long position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = position;
+        }
+
+        long get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void removeBelow(long minPosition) {
+            int cut = 0;
+            while (cut < size && values[cut] < minPosition) {
+                cut++;
+            }
+            if (cut > 0) {
+                System.arraycopy(values, cut, values, 0, size - cut);
+                size -= cut;
+            }
+        }
+
+        PositionList intersect(PositionList other) {
+            PositionList result = new PositionList();
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                long a = values[i];
+                long b = other.values[j];
+                if (a == b) {
+                    result.add(a);
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return result;
+        }
+    }
 }
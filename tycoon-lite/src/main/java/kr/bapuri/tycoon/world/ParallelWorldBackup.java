@@ -0,0 +1,354 @@
+package kr.bapuri.tycoon.world;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ParallelWorldBackup - 병렬 증분 월드 백업
+ *
+ * 구조 (backupFolder 아래):
+ *   store/ab/abcdef....gz          - 파일 내용 (SHA-256 주소, gzip)
+ *   wild_backup_<시각>.manifest    - 경로 → 해시 목록
+ *
+ * - 리전 파일 등 월드 파일을 스레드 풀에서 동시에 해시+압축
+ * - 이전 백업 manifest와 크기/수정 시각이 같으면 파일을 읽지 않고 해시 재사용
+ * - 내용이 같은 파일은 store에 한 번만 저장 (변경 없는 리전은 다시 쓰지 않음)
+ * - 백업 삭제 후 collectGarbage()로 참조되지 않는 blob 정리
+ */
+public class ParallelWorldBackup {
+
+    public static final String MANIFEST_SUFFIX = ".manifest";
+    private static final String MANIFEST_HEADER = "# TycoonLite world backup v1";
+    private static final String STORE_DIR = "store";
+    private static final long GC_MIN_AGE_MS = TimeUnit.HOURS.toMillis(1);
+
+    private final Path backupDir;
+    private final Path storeDir;
+    private final int threads;
+    private final Logger logger;
+
+    public ParallelWorldBackup(Path backupDir, int threads, Logger logger) {
+        this.backupDir = backupDir;
+        this.storeDir = backupDir.resolve(STORE_DIR);
+        this.threads = Math.max(1, threads);
+        this.logger = logger;
+    }
+
+    // ========== 백업 ==========
+
+    /**
+     * 병렬 백업 실행 (호출 스레드는 완료까지 대기)
+     *
+     * @param worldFolders 월드 이름 → 폴더
+     * @param manifestName 생성할 manifest 파일 이름
+     * @param progress 진행 상황 (다른 스레드에서 읽기 가능)
+     * @return 생성된 manifest 경로
+     */
+    public Path backup(Map<String, File> worldFolders, String manifestName, Progress progress)
+            throws IOException, InterruptedException {
+        Files.createDirectories(storeDir);
+
+        // 1. 대상 파일 수집
+        List<FileTask> tasks = new ArrayList<>();
+        for (Map.Entry<String, File> entry : worldFolders.entrySet()) {
+            Path worldDir = entry.getValue().toPath();
+            if (!Files.isDirectory(worldDir)) {
+                logger.warning("[WorldReset] 월드 폴더 없음 (스킵): " + entry.getKey() + " -> " + worldDir);
+                continue;
+            }
+            progress.worlds.incrementAndGet();
+            try (Stream<Path> walk = Files.walk(worldDir)) {
+                walk.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().equals("session.lock"))
+                    .forEach(path -> tasks.add(new FileTask(
+                            entry.getKey() + "/" + worldDir.relativize(path).toString().replace("\\", "/"),
+                            path)));
+            }
+        }
+        progress.total.set(tasks.size());
+        if (tasks.isEmpty()) {
+            throw new IOException("백업할 파일이 없습니다");
+        }
+
+        // 2. 이전 백업 기준 (크기/수정 시각 일치 시 해시 재사용)
+        Map<String, ManifestEntry> previous = loadLatestManifest();
+
+        // 3. 병렬 해시 + 압축
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Tycoon-WorldBackup");
+            t.setDaemon(true);
+            return t;
+        });
+        Map<String, ManifestEntry> results = new ConcurrentHashMap<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (FileTask task : tasks) {
+                futures.add(pool.submit(() -> {
+                    results.put(task.relativePath, storeFile(task, previous.get(task.relativePath), progress));
+                    progress.done.incrementAndGet();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    throw cause instanceof IOException io ? io : new IOException(cause);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // 4. manifest 기록 (temp → rename)
+        List<ManifestEntry> entries = new ArrayList<>(results.values());
+        entries.sort(Comparator.comparing(e -> e.path));
+        Path manifest = backupDir.resolve(manifestName);
+        Path temp = backupDir.resolve(manifestName + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(MANIFEST_HEADER);
+            writer.newLine();
+            for (ManifestEntry entry : entries) {
+                writer.write(entry.path + "\t" + entry.hash + "\t" + entry.size + "\t" + entry.modified);
+                writer.newLine();
+            }
+        }
+        Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return manifest;
+    }
+
+    /**
+     * 파일 1개 저장 (작업 스레드)
+     */
+    private ManifestEntry storeFile(FileTask task, ManifestEntry previous, Progress progress) throws IOException {
+        long size = Files.size(task.path);
+        long modified = Files.getLastModifiedTime(task.path).toMillis();
+
+        if (previous != null && previous.size == size && previous.modified == modified
+                && Files.exists(blobPath(previous.hash))) {
+            progress.reused.incrementAndGet();
+            return new ManifestEntry(task.relativePath, previous.hash, size, modified);
+        }
+
+        MessageDigest digest = newDigest();
+        Path temp = Files.createTempFile(storeDir, "blob-", ".tmp");
+        try {
+            try (InputStream in = new DigestInputStream(
+                        new BufferedInputStream(Files.newInputStream(task.path)), digest);
+                 OutputStream out = new GZIPOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(temp)), 64 * 1024) {
+                     { def.setLevel(Deflater.BEST_SPEED); }
+                 }) {
+                in.transferTo(out);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path blob = blobPath(hash);
+            if (Files.exists(blob)) {
+                // 내용이 같은 파일이 이미 저장됨 (수정 시각만 바뀐 리전 등)
+                progress.reused.incrementAndGet();
+            } else {
+                Files.createDirectories(blob.getParent());
+                try {
+                    Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ignored) {
+                    // 다른 스레드가 같은 내용을 먼저 저장
+                }
+                progress.bytesWritten.addAndGet(Files.size(blob));
+            }
+            return new ManifestEntry(task.relativePath, hash, size, modified);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // ========== 복구 ==========
+
+    /**
+     * manifest 기준 병렬 복구
+     *
+     * @param manifest manifest 경로
+     * @param targetRoot 월드 컨테이너 (월드 이름 폴더들의 부모)
+     */
+    public void restore(Path manifest, Path targetRoot) throws IOException, InterruptedException {
+        Map<String, ManifestEntry> entries = readManifest(manifest);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Tycoon-WorldRestore");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(entries.size());
+            for (ManifestEntry entry : entries.values()) {
+                futures.add(pool.submit(() -> {
+                    Path dest = targetRoot.resolve(entry.path).normalize();
+                    if (!dest.startsWith(targetRoot.normalize())) {
+                        throw new IOException("잘못된 경로: " + entry.path);
+                    }
+                    Files.createDirectories(dest.getParent());
+                    try (InputStream in = new GZIPInputStream(
+                            new BufferedInputStream(Files.newInputStream(blobPath(entry.hash))), 64 * 1024)) {
+                        Files.copy(in, dest, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    Files.setLastModifiedTime(dest, FileTime.fromMillis(entry.modified));
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    throw cause instanceof IOException io ? io : new IOException(cause);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // ========== 정리 ==========
+
+    /**
+     * 남아 있는 manifest 어디에서도 참조하지 않는 blob 삭제
+     *
+     * @return 삭제된 blob 수
+     */
+    public int collectGarbage() throws IOException {
+        if (!Files.isDirectory(storeDir)) {
+            return 0;
+        }
+
+        Set<String> referenced = new HashSet<>();
+        for (Path manifest : listManifests()) {
+            for (ManifestEntry entry : readManifest(manifest).values()) {
+                referenced.add(entry.hash);
+            }
+        }
+
+        long cutoff = System.currentTimeMillis() - GC_MIN_AGE_MS;
+        int[] deleted = {0};
+        try (Stream<Path> walk = Files.walk(storeDir)) {
+            walk.filter(Files::isRegularFile).forEach(path -> {
+                String name = path.getFileName().toString();
+                String hash = name.endsWith(".gz") ? name.substring(0, name.length() - 3) : null;
+                try {
+                    // 진행 중인 백업의 blob/임시 파일 보호
+                    if (Files.getLastModifiedTime(path).toMillis() > cutoff) {
+                        return;
+                    }
+                    if (hash == null || !referenced.contains(hash)) {
+                        Files.deleteIfExists(path);
+                        deleted[0]++;
+                    }
+                } catch (IOException e) {
+                    logger.warning("[WorldReset] blob 정리 실패: " + path.getFileName());
+                }
+            });
+        }
+        return deleted[0];
+    }
+
+    // ========== manifest ==========
+
+    public static boolean isManifest(Path path) {
+        return path.getFileName().toString().endsWith(MANIFEST_SUFFIX);
+    }
+
+    private List<Path> listManifests() throws IOException {
+        if (!Files.isDirectory(backupDir)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> list = Files.list(backupDir)) {
+            return list.filter(ParallelWorldBackup::isManifest).toList();
+        }
+    }
+
+    private Map<String, ManifestEntry> loadLatestManifest() {
+        try {
+            Optional<Path> latest = listManifests().stream()
+                    .max(Comparator.comparing(p -> p.getFileName().toString()));
+            if (latest.isPresent()) {
+                return readManifest(latest.get());
+            }
+        } catch (IOException e) {
+            logger.warning("[WorldReset] 이전 manifest 읽기 실패 (전체 백업 진행): " + e.getMessage());
+        }
+        return Collections.emptyMap();
+    }
+
+    private Map<String, ManifestEntry> readManifest(Path manifest) throws IOException {
+        Map<String, ManifestEntry> entries = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("\t");
+                if (parts.length < 4) {
+                    throw new IOException("손상된 manifest: " + manifest.getFileName());
+                }
+                entries.put(parts[0], new ManifestEntry(parts[0], parts[1],
+                        Long.parseLong(parts[2]), Long.parseLong(parts[3])));
+            }
+        }
+        return entries;
+    }
+
+    private Path blobPath(String hash) {
+        return storeDir.resolve(hash.substring(0, 2)).resolve(hash + ".gz");
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ========== 내부 클래스 ==========
+
+    /**
+     * 백업 진행 상황 (스레드 안전)
+     */
+    public static class Progress {
+        final AtomicInteger worlds = new AtomicInteger();
+        final AtomicInteger total = new AtomicInteger();
+        final AtomicInteger done = new AtomicInteger();
+        final AtomicInteger reused = new AtomicInteger();
+        final AtomicLong bytesWritten = new AtomicLong();
+
+        public int getWorlds() { return worlds.get(); }
+        public int getTotal() { return total.get(); }
+        public int getDone() { return done.get(); }
+        public int getReused() { return reused.get(); }
+        public long getBytesWritten() { return bytesWritten.get(); }
+
+        public int getPercent() {
+            int t = total.get();
+            return t == 0 ? 0 : (int) (done.get() * 100L / t);
+        }
+    }
+
+    private record FileTask(String relativePath, Path path) {}
+
+    private record ManifestEntry(String path, String hash, long size, long modified) {}
+}
@@ -0,0 +1,242 @@
+package kr.bapuri.tycoon.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * SafeSpawnPool - 미리 검증/로드된 야생 랜덤 스폰 위치 풀
+ *
+ * 동작:
+ * 1. 주기적으로 풀이 목표 개수보다 적으면 랜덤 후보 청크를 비동기 로드 (getChunkAtAsync)
+ * 2. 로드 완료 시 지면 안전성 검사 (액체/용암/선인장 등 제외, 머리 위 2칸 공기)
+ * 3. 통과한 위치는 플러그인 청크 티켓으로 로드 상태 유지 후 풀에 추가
+ * 4. 꺼낼 때 한 번 더 검사 (이미 로드된 청크라 동기 로드 없음)
+ *
+ * 월드가 리셋되면 (World UID 변경) 풀을 비우고 다시 채운다.
+ * 모든 메서드는 메인 스레드에서 호출.
+ */
+public class SafeSpawnPool {
+
+    // 꺼낸 위치의 청크 티켓 유지 시간 (텔레포트 후 플레이어 티켓이 이어받을 때까지)
+    private static final long TICKET_RELEASE_DELAY_TICKS = 200L;
+
+    private static final Set<Material> UNSAFE_GROUND = EnumSet.of(
+            Material.LAVA, Material.WATER, Material.MAGMA_BLOCK, Material.CACTUS,
+            Material.FIRE, Material.SOUL_FIRE, Material.CAMPFIRE, Material.SOUL_CAMPFIRE,
+            Material.POWDER_SNOW, Material.SWEET_BERRY_BUSH, Material.POINTED_DRIPSTONE,
+            Material.BUBBLE_COLUMN, Material.KELP, Material.SEAGRASS, Material.TALL_SEAGRASS);
+
+    private final Plugin plugin;
+    private final Logger logger;
+    private final Supplier<World> worldSupplier;
+
+    private final int targetSize;
+    private final int maxInFlight;
+    private final int radius;
+    private final long refillIntervalTicks;
+
+    private final Deque<Location> pool = new ArrayDeque<>();
+    private UUID poolWorldId;
+    private int inFlight = 0;
+    private long attempts = 0;
+    private long accepted = 0;
+
+    private BukkitTask refillTask;
+
+    public SafeSpawnPool(Plugin plugin, Logger logger, Supplier<World> worldSupplier,
+                         int targetSize, int maxInFlight, int radius, long refillIntervalTicks) {
+        this.plugin = plugin;
+        this.logger = logger;
+        this.worldSupplier = worldSupplier;
+        this.targetSize = Math.max(1, targetSize);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.radius = Math.max(16, radius);
+        this.refillIntervalTicks = Math.max(1L, refillIntervalTicks);
+    }
+
+    // ========== 생명주기 ==========
+
+    public void start() {
+        if (refillTask != null) return;
+        refillTask = Bukkit.getScheduler().runTaskTimer(plugin, this::refill, 20L, refillIntervalTicks);
+        logger.info("[WildSpawnManager] 랜덤 스폰 풀 시작 (목표 " + targetSize + "개, 반경 " + radius + ")");
+    }
+
+    public void shutdown() {
+        if (refillTask != null) {
+            refillTask.cancel();
+            refillTask = null;
+        }
+        clear();
+    }
+
+    /**
+     * 풀 비우기 (월드 리셋 시)
+     */
+    public void clear() {
+        World world = poolWorldId != null ? Bukkit.getWorld(poolWorldId) : null;
+        List<Location> entries = new ArrayList<>(pool);
+        pool.clear();
+        if (world != null) {
+            for (Location loc : entries) {
+                releaseTicket(world, loc);
+            }
+        }
+        poolWorldId = null;
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 검증된 랜덤 스폰 위치 꺼내기
+     * @return 위치 (풀이 비었거나 월드가 없으면 null)
+     */
+    public Location poll() {
+        World world = currentWorld();
+        if (world == null) return null;
+
+        Location loc;
+        while ((loc = pool.pollFirst()) != null) {
+            Location target = loc;
+            Bukkit.getScheduler().runTaskLater(plugin, () -> releaseTicket(world, target),
+                    TICKET_RELEASE_DELAY_TICKS);
+            // 청크 티켓으로 로드 상태 유지 중 → 재검사 비용 낮음
+            if (isSafe(world, target.getBlockX(), target.getBlockY() - 1, target.getBlockZ())) {
+                return target.clone();
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    public int getTargetSize() {
+        return targetSize;
+    }
+
+    // ========== 보충 ==========
+
+    private void refill() {
+        World world = currentWorld();
+        if (world == null) return;
+
+        int missing = targetSize - pool.size() - inFlight;
+        int toLaunch = Math.min(missing, maxInFlight - inFlight);
+        for (int i = 0; i < toLaunch; i++) {
+            launchCandidate(world);
+        }
+    }
+
+    private void launchCandidate(World world) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Location center = world.getSpawnLocation();
+        int x = center.getBlockX() + random.nextInt(-radius, radius + 1);
+        int z = center.getBlockZ() + random.nextInt(-radius, radius + 1);
+        if (!world.getWorldBorder().isInside(new Location(world, x, center.getY(), z))) {
+            return;
+        }
+
+        UUID worldId = world.getUID();
+        inFlight++;
+        attempts++;
+        world.getChunkAtAsync(x >> 4, z >> 4, true).whenComplete((chunk, error) ->
+            // Paper은 메인 스레드에서 완료시키지만, 예외 경로 대비 메인으로 재진입
+            runOnMain(() -> {
+                inFlight--;
+                if (error != null || chunk == null) return;
+                if (!worldId.equals(poolWorldId)) return; // 그 사이 월드 리셋됨
+                accept(chunk, x, z);
+            }));
+    }
+
+    private void accept(Chunk chunk, int x, int z) {
+        World world = chunk.getWorld();
+        Block ground = world.getHighestBlockAt(x, z);
+        if (!isSafe(world, ground.getX(), ground.getY(), ground.getZ())) {
+            return;
+        }
+        if (pool.size() >= targetSize) return;
+
+        chunk.addPluginChunkTicket(plugin);
+        pool.addLast(new Location(world, x + 0.5, ground.getY() + 1, z + 0.5));
+        accepted++;
+
+        if (pool.size() == targetSize) {
+            logger.fine("[WildSpawnManager] 랜덤 스폰 풀 가득 참 (시도 " + attempts + ", 채택 " + accepted + ")");
+        }
+    }
+
+    /**
+     * 지면 안전성 검사 (ground = 발 아래 블록)
+     */
+    private boolean isSafe(World world, int x, int groundY, int z) {
+        if (groundY <= world.getMinHeight() || groundY + 2 >= world.getMaxHeight()) {
+            return false;
+        }
+        Block ground = world.getBlockAt(x, groundY, z);
+        Material type = ground.getType();
+        if (!type.isSolid() || UNSAFE_GROUND.contains(type) || Tag.LEAVES.isTagged(type)) {
+            return false;
+        }
+        Block feet = ground.getRelative(0, 1, 0);
+        Block head = ground.getRelative(0, 2, 0);
+        return isPassable(feet) && isPassable(head);
+    }
+
+    private boolean isPassable(Block block) {
+        Material type = block.getType();
+        return !type.isSolid() && !block.isLiquid() && !UNSAFE_GROUND.contains(type);
+    }
+
+    // ========== 내부 ==========
+
+    /**
+     * 현재 야생 월드 (리셋으로 UID가 바뀌면 풀 초기화)
+     */
+    private World currentWorld() {
+        World world = worldSupplier.get();
+        if (world == null || world.getEnvironment() != World.Environment.NORMAL) {
+            return null;
+        }
+        if (!world.getUID().equals(poolWorldId)) {
+            clear();
+            poolWorldId = world.getUID();
+        }
+        return world;
+    }
+
+    private void releaseTicket(World world, Location loc) {
+        if (Bukkit.getWorld(world.getUID()) == null) return; // 이미 언로드 (리셋)
+        // 같은 청크에 다른 풀 항목이 남아 있으면 유지
+        int cx = loc.getBlockX() >> 4;
+        int cz = loc.getBlockZ() >> 4;
+        for (Location other : pool) {
+            if ((other.getBlockX() >> 4) == cx && (other.getBlockZ() >> 4) == cz) {
+                return;
+            }
+        }
+        world.removePluginChunkTicket(cx, cz, plugin);
+    }
+
+    private void runOnMain(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.util.logging.Logger;
  * 2. 플랫폼 위에 귀환 NPC 자동 스폰 (Citizens 연동)
  * 3. 다중 스폰 포인트 (5개, 분산)
  * 4. 스폰 좌표 저장 (data/wild-spawn.yml)
+ * 5. 랜덤 스폰 풀 (SafeSpawnPool) - 비동기 로드/검증된 위치로 분산 이동
  * 
  * 설정 위치: config.yml -> wildSpawn
  */
@@ -54,6 +55,14 @@ public class WildSpawnManager {
     // 월드별 스폰 포인트 목록
     private final Map<String, List<Location>> worldSpawnPoints = new HashMap<>();
     
+    // 랜덤 스폰 풀 설정
+    private boolean randomPoolEnabled = true;
+    private int randomPoolSize = 20;
+    private int randomPoolMaxInFlight = 4;
+    private int randomPoolRadius = 3000;
+    private long randomPoolRefillTicks = 20L;
+    private SafeSpawnPool spawnPool;
+    
     // WorldManager (Town 스폰 좌표 조회용)
     private WorldManager worldManager;
 
@@ -72,6 +81,26 @@ public class WildSpawnManager {
         this.worldManager = worldManager;
     }
     
+    /**
+     * 랜덤 스폰 풀 시작 (setWorldManager 이후 호출)
+     */
+    public void start() {
+        if (!randomPoolEnabled || worldManager == null || spawnPool != null) {
+            return;
+        }
+        spawnPool = new SafeSpawnPool(plugin, logger,
+                () -> worldManager.getWorld(WorldType.WILD).orElse(null),
+                randomPoolSize, randomPoolMaxInFlight, randomPoolRadius, randomPoolRefillTicks);
+        spawnPool.start();
+    }
+    
+    public void shutdown() {
+        if (spawnPool != null) {
+            spawnPool.shutdown();
+            spawnPool = null;
+        }
+    }
+    
     /**
      * config.yml에서 설정 로드
      */
@@ -91,6 +120,15 @@ public class WildSpawnManager {
                 minSpawnDistance = multiSection.getInt("minDistance", 500);
                 spreadRadius = multiSection.getInt("spreadRadius", 2000);
             }
+            
+            ConfigurationSection poolSection = section.getConfigurationSection("randomPool");
+            if (poolSection != null) {
+                randomPoolEnabled = poolSection.getBoolean("enabled", true);
+                randomPoolSize = poolSection.getInt("size", 20);
+                randomPoolMaxInFlight = poolSection.getInt("maxInFlight", 4);
+                randomPoolRadius = poolSection.getInt("radius", 3000);
+                randomPoolRefillTicks = poolSection.getLong("refillIntervalTicks", 20L);
+            }
         }
         
         logger.info("[WildSpawnManager] NPC 자동 생성: " + (npcEnabled ? "활성화" : "비활성화"));
@@ -571,6 +609,9 @@ public class WildSpawnManager {
      * 월드 리셋 시 해당 월드의 설정 초기화
      */
     public void resetWorld(String worldName) {
+        if (spawnPool != null) {
+            spawnPool.clear();
+        }
         if (setupWorlds.remove(worldName)) {
             removeExistingNpcs(worldName);
             worldSpawnPoints.remove(worldName);
@@ -588,11 +629,19 @@ public class WildSpawnManager {
     
     /**
      * 해당 월드의 랜덤 스폰 포인트 반환
+     * 랜덤 스폰 풀에 검증된 위치가 있으면 우선 사용 (동기 청크 로드 없음)
      */
     public Location getRandomSpawnPoint(String worldName) {
         World world = Bukkit.getWorld(worldName);
         if (world == null) return null;
         
+        if (spawnPool != null) {
+            Location pooled = spawnPool.poll();
+            if (pooled != null && world.equals(pooled.getWorld())) {
+                return pooled;
+            }
+        }
+        
         if (multipleSpawnsEnabled && worldSpawnPoints.containsKey(worldName)) {
             List<Location> points = worldSpawnPoints.get(worldName);
             if (points != null && !points.isEmpty()) {
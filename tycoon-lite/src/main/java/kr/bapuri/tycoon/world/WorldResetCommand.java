@@ -32,7 +32,7 @@ import java.util.zip.*;
  *   /worldreset restore       - 최신 백업에서 복구
  * 
  * 기능:
- * - 리셋 전 ZIP 백업 (비동기)
+ * - 리셋 전 백업 (비동기, parallel: 증분/병렬 저장 / zip: 단일 ZIP)
  * - 크래시 복구 (wild_reset_state.yml)
  * - WildSpawnManager 연동 (기반암 플랫폼 재설정)
  * - DeathChest 연동 (리셋 전 아이템 이관) - stub
@@ -56,6 +56,12 @@ public class WorldResetCommand implements CommandExecutor, TabCompleter {
     private boolean backupEnabled = true;
     private String backupFolder = "plugins/TycoonLite/backups/wild";
     private int keepBackups = 10;
+    private String backupMode = "parallel";   // parallel | zip
+    private int backupThreads = 2;
+    private int backupRetentionDays = 0;       // 0 = 기간 제한 없음
+    
+    // 백업 진행 알림 주기 (틱)
+    private static final long PROGRESS_INTERVAL_TICKS = 40L;
     
     // 상태 파일 (크래시 복구용)
     private static final String STATE_FILE = "plugins/TycoonLite/data/wild_reset_state.yml";
@@ -81,8 +87,14 @@ public class WorldResetCommand implements CommandExecutor, TabCompleter {
         backupEnabled = plugin.getConfig().getBoolean("wildReset.backupEnabled", true);
         backupFolder = plugin.getConfig().getString("wildReset.backupFolder", "plugins/TycoonLite/backups/wild");
         keepBackups = plugin.getConfig().getInt("wildReset.keepBackups", 10);
-        
-        logger.info("[WorldReset] 백업 설정 로드 (enabled=" + backupEnabled + ", keep=" + keepBackups + ")");
+        backupMode = plugin.getConfig().getString("wildReset.backupMode", "parallel").toLowerCase(Locale.ROOT);
+        int defaultThreads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        backupThreads = Math.max(1, plugin.getConfig().getInt("wildReset.backupThreads", defaultThreads));
+        backupRetentionDays = Math.max(0, plugin.getConfig().getInt("wildReset.backupRetentionDays", 0));
+        
+        logger.info("[WorldReset] 백업 설정 로드 (enabled=" + backupEnabled + ", mode=" + backupMode
+                + ", threads=" + backupThreads + ", keep=" + keepBackups
+                + ", retentionDays=" + backupRetentionDays + ")");
     }
     
     // ========== Setter Injection ==========
@@ -252,31 +264,18 @@ public class WorldResetCommand implements CommandExecutor, TabCompleter {
         // 백업 정보
         sender.sendMessage("");
         sender.sendMessage("§e=== 백업 정보 ===");
-        sender.sendMessage("§7백업 활성화: " + (backupEnabled ? "§a예" : "§c아니오"));
+        sender.sendMessage("§7백업 활성화: " + (backupEnabled ? "§a예" : "§c아니오")
+                + " §7(" + backupMode + ")");
         
         try {
             Path backupPath = Paths.get(backupFolder);
             if (Files.exists(backupPath)) {
-                // #9 수정: try-with-resources로 스트림 닫기
-                long backupCount;
-                try (var stream = Files.list(backupPath)) {
-                    backupCount = stream.filter(p -> p.toString().endsWith(".zip")).count();
-                }
-                sender.sendMessage("§7백업 수: §f" + backupCount + "/" + keepBackups + "개");
+                List<Path> backups = listBackups(backupPath);
+                sender.sendMessage("§7백업 수: §f" + backups.size() + "/" + keepBackups + "개");
                 
                 // 최신 백업
-                Optional<Path> latestBackup;
-                try (var stream = Files.list(backupPath)) {
-                    latestBackup = stream
-                        .filter(p -> p.toString().endsWith(".zip"))
-                        .max(Comparator.comparingLong(p -> {
-                            try { return Files.getLastModifiedTime(p).toMillis(); } 
-                            catch (IOException e) { return 0; }
-                        }));
-                }
-                
-                if (latestBackup.isPresent()) {
-                    sender.sendMessage("§7최신 백업: §f" + latestBackup.get().getFileName());
+                if (!backups.isEmpty()) {
+                    sender.sendMessage("§7최신 백업: §f" + backups.get(backups.size() - 1).getFileName());
                 }
             } else {
                 sender.sendMessage("§7백업 폴더: §c없음");
@@ -411,7 +410,7 @@ public class WorldResetCommand implements CommandExecutor, TabCompleter {
             }
             
             Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                boolean backupSuccess = createBackup(worldFolders);
+                boolean backupSuccess = createBackup(worldFolders, sender);
                 
                 Bukkit.getScheduler().runTask(plugin, () -> {
                     if (backupSuccess) {
@@ -466,12 +465,81 @@ public class WorldResetCommand implements CommandExecutor, TabCompleter {
     
     // ========== 백업 시스템 ==========
     
+    /**
+     * 백업 생성 (비동기에서 호출)
+     * 완료 후 오래된 백업 정리는 별도 비동기 작업으로 진행 (리셋 지연 방지)
+     */
+    private boolean createBackup(Map<String, File> worldFolders, CommandSender sender) {
+        boolean success = "zip".equals(backupMode)
+                ? createZipBackup(worldFolders)
+                : createParallelBackup(worldFolders, sender);
+        
+        if (success) {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, this::cleanupOldBackups);
+        }
+        return success;
+    }
+    
+    /**
+     * 병렬 증분 백업 생성
+     * - 파일 단위로 스레드 풀에서 해시+압축
+     * - 이전 백업과 같은 파일(리전)은 다시 쓰지 않음
+     * - 진행률은 메인 스레드에서 주기적으로 요청자에게 전송
+     */
+    private boolean createParallelBackup(Map<String, File> worldFolders, CommandSender sender) {
+        ParallelWorldBackup.Progress progress = new ParallelWorldBackup.Progress();
+        org.bukkit.scheduler.BukkitTask progressTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (progress.getTotal() > 0) {
+                sender.sendMessage("§7[야생 리셋] 백업 진행: §f" + progress.getPercent() + "% §7("
+                        + progress.getDone() + "/" + progress.getTotal() + ", 재사용 " + progress.getReused() + ")");
+            }
+        }, PROGRESS_INTERVAL_TICKS, PROGRESS_INTERVAL_TICKS);
+        
+        long start = System.currentTimeMillis();
+        try {
+            Path backupPath = Paths.get(backupFolder);
+            Files.createDirectories(backupPath);
+            
+            String manifestName = "wild_backup_" + KST_FORMATTER.format(Instant.now()) + ParallelWorldBackup.MANIFEST_SUFFIX;
+            logger.info("[WorldReset] 병렬 백업 시작 - 대상 월드: " + worldFolders.keySet()
+                    + " (스레드 " + backupThreads + "개)");
+            
+            ParallelWorldBackup engine = new ParallelWorldBackup(backupPath, backupThreads, logger);
+            Path manifest = engine.backup(worldFolders, manifestName, progress);
+            
+            if (progress.getWorlds() == 0) {
+                logger.severe("[WorldReset] 백업 실패: 포함된 월드가 없습니다!");
+                Files.deleteIfExists(manifest);
+                return false;
+            }
+            
+            long written = progress.getBytesWritten();
+            String sizeStr = written > 1024 * 1024
+                ? String.format("%.2f MB", written / (1024.0 * 1024.0))
+                : String.format("%.2f KB", written / 1024.0);
+            logger.info("[WorldReset] 백업 완료: " + manifest.getFileName()
+                    + " (월드 " + progress.getWorlds() + "개, 파일 " + progress.getTotal() + "개, 재사용 "
+                    + progress.getReused() + "개, 신규 " + sizeStr + ", "
+                    + (System.currentTimeMillis() - start) + "ms)");
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.severe("[WorldReset] 백업 중단됨");
+            return false;
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "[WorldReset] 백업 생성 실패", e);
+            return false;
+        } finally {
+            progressTask.cancel();
+        }
+    }
+    
     /**
      * ZIP 백업 생성
      * #8 수정: 임시 파일에 먼저 쓰고 완료 후 rename (불완전한 백업 방지)
      * #10 수정: 상세 로그 및 백업 검증 추가
      */
-    private boolean createBackup(Map<String, File> worldFolders) {
+    private boolean createZipBackup(Map<String, File> worldFolders) {
         Path tempFile = null;
         int totalFiles = 0;
         int includedWorlds = 0;
@@ -525,9 +593,6 @@ public class WorldResetCommand implements CommandExecutor, TabCompleter {
             logger.info("[WorldReset] 백업 완료: " + backupFile.getFileName() + 
                 " (월드 " + includedWorlds + "개, 파일 " + totalFiles + "개, " + sizeStr + ")");
             
-            // 오래된 백업 정리
-            cleanupOldBackups();
-            
             return true;
         } catch (Exception e) {
             logger.log(Level.SEVERE, "[WorldReset] 백업 생성 실패", e);
@@ -569,31 +634,55 @@ public class WorldResetCommand implements CommandExecutor, TabCompleter {
     }
     
     /**
-     * 오래된 백업 정리
+     * 백업 목록 (.zip / .manifest, 수정 시간 오름차순)
+     */
+    private List<Path> listBackups(Path backupPath) throws IOException {
+        List<Path> backups = new ArrayList<>();
+        try (var stream = Files.list(backupPath)) {
+            stream.filter(p -> p.toString().endsWith(".zip") || ParallelWorldBackup.isManifest(p))
+                  .forEach(backups::add);
+        }
+        backups.sort(Comparator.comparingLong(p -> {
+            try { return Files.getLastModifiedTime(p).toMillis(); } 
+            catch (IOException e) { return 0; }
+        }));
+        return backups;
+    }
+    
+    /**
+     * 오래된 백업 정리 (비동기에서 호출)
+     * - keepBackups 초과분 + backupRetentionDays 경과분 삭제 (최신 1개는 항상 유지)
+     * - 이후 어떤 manifest도 참조하지 않는 blob 정리
      */
     private void cleanupOldBackups() {
         try {
             Path backupPath = Paths.get(backupFolder);
             if (!Files.exists(backupPath)) return;
             
-            List<Path> backups = new ArrayList<>();
-            try (var stream = Files.list(backupPath)) {
-                stream.filter(p -> p.toString().endsWith(".zip"))
-                      .forEach(backups::add);
-            }
-            
-            // 수정 시간으로 정렬 (오래된 것 먼저)
-            backups.sort(Comparator.comparingLong(p -> {
-                try { return Files.getLastModifiedTime(p).toMillis(); } 
-                catch (IOException e) { return 0; }
-            }));
+            List<Path> backups = listBackups(backupPath);
+            long cutoff = backupRetentionDays > 0
+                    ? System.currentTimeMillis() - backupRetentionDays * 86_400_000L
+                    : Long.MIN_VALUE;
             
-            // 초과분 삭제
-            while (backups.size() > keepBackups) {
-                Path oldBackup = backups.remove(0);
+            int deleted = 0;
+            while (backups.size() > 1) {
+                Path oldBackup = backups.get(0);
+                boolean expired = Files.getLastModifiedTime(oldBackup).toMillis() < cutoff;
+                if (backups.size() <= keepBackups && !expired) {
+                    break;
+                }
+                backups.remove(0);
                 Files.deleteIfExists(oldBackup);
+                deleted++;
                 logger.info("[WorldReset] 오래된 백업 삭제: " + oldBackup.getFileName());
             }
+            
+            if (deleted > 0) {
+                int blobs = new ParallelWorldBackup(backupPath, backupThreads, logger).collectGarbage();
+                if (blobs > 0) {
+                    logger.info("[WorldReset] 미참조 백업 데이터 정리: " + blobs + "개");
+                }
+            }
         } catch (IOException e) {
             logger.warning("[WorldReset] 백업 정리 중 오류: " + e.getMessage());
         }
@@ -668,25 +757,25 @@ public class WorldResetCommand implements CommandExecutor, TabCompleter {
             }
             
             // 최신 백업 찾기
-            Optional<Path> latestBackup;
-            try (var stream = Files.list(backupPath)) {
-                latestBackup = stream
-                    .filter(p -> p.toString().endsWith(".zip"))
-                    .max(Comparator.comparingLong(p -> {
-                        try { return Files.getLastModifiedTime(p).toMillis(); } 
-                        catch (IOException e) { return 0; }
-                    }));
-            }
-            
-            if (latestBackup.isEmpty()) {
+            List<Path> backups = listBackups(backupPath);
+            if (backups.isEmpty()) {
                 logger.warning("[WorldReset] 복구할 백업 없음.");
                 return false;
             }
+            Path latestBackup = backups.get(backups.size() - 1);
             
-            logger.info("[WorldReset] 백업에서 복구: " + latestBackup.get().getFileName());
+            logger.info("[WorldReset] 백업에서 복구: " + latestBackup.getFileName());
+            
+            // 병렬 백업 (manifest)
+            if (ParallelWorldBackup.isManifest(latestBackup)) {
+                new ParallelWorldBackup(backupPath, backupThreads, logger)
+                        .restore(latestBackup, Bukkit.getWorldContainer().toPath());
+                logger.info("[WorldReset] 백업 파일 복구 완료!");
+                return true;
+            }
             
             // ZIP 압축 해제
-            try (ZipInputStream zis = new ZipInputStream(new FileInputStream(latestBackup.get().toFile()))) {
+            try (ZipInputStream zis = new ZipInputStream(new FileInputStream(latestBackup.toFile()))) {
                 ZipEntry entry;
                 while ((entry = zis.getNextEntry()) != null) {
                     Path destPath = Paths.get(Bukkit.getWorldContainer().getPath(), entry.getName());
@@ -702,6 +791,10 @@ public class WorldResetCommand implements CommandExecutor, TabCompleter {
             
             logger.info("[WorldReset] 백업 파일 복구 완료!");
             return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.severe("[WorldReset] 백업 복구 중단됨");
+            return false;
         } catch (IOException e) {
             logger.log(Level.SEVERE, "[WorldReset] 백업 복구 실패", e);
             return false;